@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.log;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TTConsoleAnnotator} writing console lines line by line.
+ * <p>
+ * Only lines without the {@code [TT]} prefix are written, because encoding a {@link TTConsoleNote} requires a running
+ * Jenkins instance. This covers the line decoding performed for every single console line.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TTConsoleAnnotatorBenchmark {
+
+    @Param({"80", "1000"})
+    private int lineLength;
+
+    private byte[] line;
+    private TTConsoleAnnotator annotator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder("Running ECU-TEST package ");
+        while (builder.length() < lineLength - 1) {
+            builder.append('x');
+        }
+        line = builder.append('\n').toString().getBytes(Charset.defaultCharset());
+        annotator = new TTConsoleAnnotator(NullOutputStream.NULL_OUTPUT_STREAM);
+    }
+
+    @Benchmark
+    public void eol() throws IOException {
+        annotator.write(line);
+    }
+}
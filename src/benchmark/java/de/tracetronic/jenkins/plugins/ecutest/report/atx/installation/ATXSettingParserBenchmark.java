@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx.installation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ATXSettingParser} on the ATX template configuration bundled with this plugin.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ATXSettingParserBenchmark {
+
+    private Document doc;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ParserConfigurationException, SAXException, IOException {
+        try (InputStream configFile = ATXConfig.class.getResourceAsStream("config.xml")) {
+            doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(configFile);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Benchmark
+    public Map<String, List<ATXSetting>> parseSettings() {
+        return ATXSettingParser.parseSettings(doc);
+    }
+}
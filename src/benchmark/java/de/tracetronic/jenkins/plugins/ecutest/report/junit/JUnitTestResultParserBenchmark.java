@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.junit;
+
+import hudson.FilePath;
+import hudson.model.TaskListener;
+import hudson.tasks.junit.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JUnitTestResultParser} on a large number of synthetic UNIT reports.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JUnitTestResultParserBenchmark {
+
+    @Param({"500"})
+    private int fileCount;
+
+    @Param({"20"})
+    private int testCaseCount;
+
+    private File reportDir;
+    private List<FilePath> reportFiles;
+    private JUnitTestResultParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        reportDir = Files.createTempDirectory("UNIT").toFile();
+        reportFiles = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            final File reportFile = new File(reportDir, String.format("junit-report-%d.xml", i));
+            writeReport(reportFile, i, testCaseCount);
+            reportFiles.add(new FilePath(reportFile));
+        }
+        parser = new JUnitTestResultParser();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        new FilePath(reportDir).deleteRecursive();
+    }
+
+    @Benchmark
+    public TestResult parseResult() throws IOException, InterruptedException {
+        return parser.parseResult(reportFiles, TaskListener.NULL);
+    }
+
+    /**
+     * Writes a JUnit report containing passed, failed and skipped test cases.
+     *
+     * @param file          the report file
+     * @param suite         the test suite number
+     * @param testCaseCount the number of test cases
+     * @throws IOException in case of an I/O error
+     */
+    private static void writeReport(final File file, final int suite, final int testCaseCount) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            writer.printf("<testsuite name=\"Package%d\" tests=\"%d\">%n", suite, testCaseCount);
+            for (int i = 0; i < testCaseCount; i++) {
+                writer.printf("  <testcase classname=\"Package%d\" name=\"TestCase%d\" time=\"0.1\">%n", suite, i);
+                if (i % 10 == 1) {
+                    writer.println("    <failure message=\"Expected value mismatch\">Details</failure>");
+                } else if (i % 10 == 2) {
+                    writer.println("    <skipped/>");
+                }
+                writer.println("  </testcase>");
+            }
+            writer.println("</testsuite>");
+        }
+    }
+}
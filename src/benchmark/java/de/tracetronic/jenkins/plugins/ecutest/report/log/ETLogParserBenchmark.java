@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.log;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
+import hudson.FilePath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ETLogParser} on synthetic ECU-TEST log files.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ETLogParserBenchmark {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @Param({"256"})
+    private int logSizeMb;
+
+    private File logFile;
+    private ETLogParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("ECU_TEST_OUT", ".log");
+        writeLog(logFile, logSizeMb * MEGABYTE);
+        parser = new ETLogParser(new FilePath(logFile));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile.toPath());
+    }
+
+    @Benchmark
+    public List<ETLogAnnotation> parse() {
+        return parser.parse();
+    }
+
+    @Benchmark
+    public int parseLogCount() {
+        return parser.parseLogCount(Severity.ERROR);
+    }
+
+    /**
+     * Writes a log file of the given size containing informational, warning and error messages.
+     *
+     * @param file the log file
+     * @param size the minimum file size in bytes
+     * @throws IOException in case of an I/O error
+     */
+    private static void writeLog(final File file, final long size) throws IOException {
+        long written = 0;
+        int count = 0;
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            while (written < size) {
+                final String message = String.format("2019-01-01 12:00:00.000 1234 MainThread %s:%n"
+                    + "    Message %d of the synthetic log file%n"
+                    + "    with a second line of details%n", getSeverity(count), count++);
+                writer.write(message);
+                written += message.length();
+            }
+        }
+    }
+
+    private static String getSeverity(final int count) {
+        if (count % 100 == 0) {
+            return "ERROR";
+        } else if (count % 10 == 0) {
+            return "WARNING";
+        }
+        return "INFO";
+    }
+}
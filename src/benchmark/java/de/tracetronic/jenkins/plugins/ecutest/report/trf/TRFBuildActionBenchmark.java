@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link TRFBuildAction#getDynamic(String)} lookup on a large tree of {@link TRFReport}s.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TRFBuildActionBenchmark {
+
+    @Param({"10"})
+    private int breadth;
+
+    @Param({"4"})
+    private int depth;
+
+    private TRFBuildAction action;
+    private String[] reportIds;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> ids = new ArrayList<>();
+        final List<TRFReport> reports = new ArrayList<>();
+        for (int i = 0; i < breadth; i++) {
+            reports.add(createReport(String.valueOf(i), depth, ids));
+        }
+        Collections.shuffle(ids);
+        reportIds = ids.toArray(new String[0]);
+        action = new TRFBuildAction(false);
+        action.addAll(reports);
+    }
+
+    @Benchmark
+    public AbstractTestReport getDynamic() {
+        index = (index + 1) % reportIds.length;
+        return action.getDynamic(reportIds[index]);
+    }
+
+    @Benchmark
+    public AbstractTestReport getDynamicMissing() {
+        return action.getDynamic("missing");
+    }
+
+    private TRFReport createReport(final String id, final int level, final List<String> ids) {
+        final TRFReport report = new TRFReport(id, "Report " + id, id + ".trf", 0);
+        ids.add(id);
+        if (level > 1) {
+            for (int i = 0; i < breadth; i++) {
+                report.addSubReport(createReport(id + "_" + i, level - 1, ids));
+            }
+        }
+        return report;
+    }
+}
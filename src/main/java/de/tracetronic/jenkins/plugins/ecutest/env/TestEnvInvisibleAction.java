@@ -26,6 +26,9 @@ public class TestEnvInvisibleAction extends InvisibleAction {
     private final String testTcf;
     private final String testReportDir;
     private final String testResult;
+    private final long testDuration;
+    private final String testInputHash;
+    private final String testHistoryKey;
     private final int timeout;
     /**
      * Instantiates a new {@link TestEnvInvisibleAction}.
@@ -49,6 +52,9 @@ public class TestEnvInvisibleAction extends InvisibleAction {
         testTcf = testClient.getTestConfig().getTcfFile();
         testReportDir = testClient.getTestReportDir();
         testResult = testClient.getTestResult();
+        testDuration = testClient.getTestDuration();
+        testInputHash = testClient.getTestInputHash();
+        testHistoryKey = testClient.getTestHistoryKey();
         timeout = testClient.getExecutionConfig().getParsedTimeout();
     }
 
@@ -88,6 +94,21 @@ public class TestEnvInvisibleAction extends InvisibleAction {
         return testResult;
     }
 
+    public long getTestDuration() {
+        return testDuration;
+    }
+
+    public String getTestInputHash() {
+        return testInputHash;
+    }
+
+    /**
+     * @return the key identifying the test in the test history, falls back to the test file for older builds
+     */
+    public String getTestHistoryKey() {
+        return testHistoryKey == null ? testFile : testHistoryKey;
+    }
+
     public int getTimeout() {
         return timeout;
     }
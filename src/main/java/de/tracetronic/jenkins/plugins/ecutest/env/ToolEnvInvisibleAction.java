@@ -6,7 +6,14 @@
 package de.tracetronic.jenkins.plugins.ecutest.env;
 
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import hudson.FilePath;
+import hudson.model.Computer;
 import hudson.model.InvisibleAction;
+import hudson.model.Run;
+
+import javax.annotation.CheckForNull;
+import java.util.List;
 
 /**
  * Helper invisible action which is used for exchanging information between {@link ETClient}s
@@ -26,6 +33,8 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
     private final boolean debug;
     private final String lastTbc;
     private final String lastTcf;
+    private final ETComContext comContext;
+    private final String nodeName;
 
     /**
      * Instantiates a new {@link ToolEnvInvisibleAction}.
@@ -35,7 +44,21 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
      * @param toolClient the tool client holding the relevant information
      */
     public ToolEnvInvisibleAction(final int toolId, final ETClient toolClient) {
+        this(toolId, toolClient, null);
+    }
+
+    /**
+     * Instantiates a new {@link ToolEnvInvisibleAction}.
+     *
+     * @param toolId     identifies this invisible action and is used as the suffix
+     *                   for the tool related build environment variables
+     * @param toolClient the tool client holding the relevant information
+     * @param nodeName   the name of the node the tool has been started on
+     */
+    public ToolEnvInvisibleAction(final int toolId, final ETClient toolClient,
+                                  @CheckForNull final String nodeName) {
         super();
+        this.nodeName = nodeName;
         this.toolId = toolId;
         toolName = toolClient.getToolName();
         toolVersion = toolClient.getVersion();
@@ -46,6 +69,41 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
         debug = toolClient.isDebug();
         lastTbc = toolClient.getLastTbc();
         lastTcf = toolClient.getLastTcf();
+        comContext = toolClient.getComContext();
+    }
+
+    /**
+     * Resolves the COM context of the ECU-TEST instance most recently started in the given run on the node of the
+     * given workspace. Instances started on other nodes, e.g. by parallel branches, are not taken into account.
+     *
+     * @param run       the run
+     * @param workspace the workspace identifying the node
+     * @return the COM context of the last started ECU-TEST instance on the node or the default context if none has
+     * been started there
+     */
+    public static ETComContext resolveComContext(final Run<?, ?> run, final FilePath workspace) {
+        final String currentNode = getNodeName(workspace);
+        final List<ToolEnvInvisibleAction> toolEnvActions = run.getActions(ToolEnvInvisibleAction.class);
+        for (int i = toolEnvActions.size() - 1; i >= 0; i--) {
+            final ToolEnvInvisibleAction toolEnvAction = toolEnvActions.get(i);
+            // Actions of older builds do not know their node and are applicable to any node
+            if (toolEnvAction.nodeName == null || toolEnvAction.nodeName.equals(currentNode)) {
+                return toolEnvAction.getComContext();
+            }
+        }
+        return ETComContext.getDefault();
+    }
+
+    /**
+     * Gets the name of the node the given workspace is located on.
+     *
+     * @param workspace the workspace
+     * @return the node name, empty for the master or {@code null} if the node is offline
+     */
+    @CheckForNull
+    public static String getNodeName(final FilePath workspace) {
+        final Computer computer = workspace.toComputer();
+        return computer == null ? null : computer.getName();
     }
 
     public int getToolId() {
@@ -87,4 +145,19 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
     public String getLastTcf() {
         return lastTcf;
     }
+
+    /**
+     * @return the name of the node the tool has been started on, {@code null} for builds of older versions
+     */
+    @CheckForNull
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    /**
+     * @return the COM context of the started ECU-TEST instance, the default context for builds of older versions
+     */
+    public ETComContext getComContext() {
+        return comContext == null ? ETComContext.getDefault() : comContext;
+    }
 }
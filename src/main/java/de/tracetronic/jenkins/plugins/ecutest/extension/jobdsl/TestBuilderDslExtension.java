@@ -12,6 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.test.ImportPackageBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.test.ImportProjectBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.test.TestFolderBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.test.TestFolderBuilder.ScanMode;
+import de.tracetronic.jenkins.plugins.ecutest.test.TestFolderBuilder.ScheduleMode;
 import de.tracetronic.jenkins.plugins.ecutest.test.TestPackageBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.test.TestProjectBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportPackageAttributeConfig;
@@ -64,6 +65,7 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
         builder.setTestConfig(context.testConfig);
         builder.setPackageConfig(context.packageConfig);
         builder.setExecutionConfig(context.executionConfig);
+        builder.setIncremental(context.incremental);
         return builder;
     }
 
@@ -128,6 +130,12 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
         final TestFolderBuilder builder = new TestFolderBuilder(testFolder.toString());
         builder.setScanMode(context.scanMode);
         builder.setRecursiveScan(context.recursiveScan);
+        builder.setIncludePattern(context.includePattern);
+        builder.setExcludePattern(context.excludePattern);
+        builder.setScheduleMode(context.scheduleMode);
+        builder.setIncremental(context.incremental);
+        builder.setShardCount(context.shardCount);
+        builder.setShardIndex(context.shardIndex);
         builder.setTestConfig(context.testConfig);
         builder.setPackageConfig(context.packageConfig);
         builder.setProjectConfig(context.projectConfig);
@@ -250,6 +258,7 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
     public class TestPackageContext extends AbstractTestContext {
 
         private PackageConfig packageConfig;
+        private boolean incremental;
 
         /**
          * Option defining the package configuration.
@@ -261,6 +270,15 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
             executeInContext(closure, context);
             packageConfig = new PackageConfig(context.runTest, context.runTraceAnalysis, context.parameters);
         }
+
+        /**
+         * Option defining whether to skip the package if unchanged since its last passing execution.
+         *
+         * @param value the value
+         */
+        public void incremental(final boolean value) {
+            incremental = value;
+        }
     }
 
     /**
@@ -457,6 +475,12 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
 
         private ScanMode scanMode = ScanMode.PACKAGES_AND_PROJECTS;
         private boolean recursiveScan;
+        private String includePattern;
+        private String excludePattern;
+        private ScheduleMode scheduleMode = ScheduleMode.SCANNER_ORDER;
+        private boolean incremental;
+        private int shardCount = 1;
+        private int shardIndex;
         private PackageConfig packageConfig;
         private ProjectConfig projectConfig;
 
@@ -478,6 +502,60 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
             recursiveScan = value;
         }
 
+        /**
+         * Option defining the comma-separated include glob patterns.
+         *
+         * @param value the value
+         */
+        public void includePattern(final CharSequence value) {
+            includePattern = value.toString();
+        }
+
+        /**
+         * Option defining the comma-separated exclude glob patterns.
+         *
+         * @param value the value
+         */
+        public void excludePattern(final CharSequence value) {
+            excludePattern = value.toString();
+        }
+
+        /**
+         * Option defining the schedule mode.
+         *
+         * @param value the value
+         */
+        public void scheduleMode(final CharSequence value) {
+            scheduleMode = ScheduleMode.valueOf(value.toString());
+        }
+
+        /**
+         * Option defining whether to skip packages if unchanged since their last passing execution.
+         *
+         * @param value the value
+         */
+        public void incremental(final boolean value) {
+            incremental = value;
+        }
+
+        /**
+         * Option defining the number of shards.
+         *
+         * @param value the value
+         */
+        public void shardCount(final int value) {
+            shardCount = value;
+        }
+
+        /**
+         * Option defining the zero-based index of the shard to execute.
+         *
+         * @param value the value
+         */
+        public void shardIndex(final int value) {
+            shardIndex = value;
+        }
+
         /**
          * Option defining the package configuration.
          *
@@ -17,6 +17,10 @@ import org.kohsuke.stapler.StaplerRequest;
 
 import javax.annotation.CheckForNull;
 import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Common base class for {@link AbstractATXAction} and {@link AbstractTRFAction}.
@@ -27,6 +31,13 @@ public abstract class AbstractReportAction extends AbstractRequestHandler implem
 
     private final boolean projectLevel;
 
+    /**
+     * Lazily built index of all reports by their id, rebuilt after loading the action.
+     *
+     * @since 2.7
+     */
+    private transient volatile Map<String, AbstractTestReport> reportIndex;
+
     /**
      * Instantiates a new {@link AbstractReportAction}.
      *
@@ -46,6 +57,55 @@ public abstract class AbstractReportAction extends AbstractRequestHandler implem
         return projectLevel;
     }
 
+    /**
+     * Gets the top-level reports of this action. Sub-reports are indexed recursively.
+     *
+     * @return the top-level reports, empty by default
+     */
+    protected List<? extends AbstractTestReport> getIndexedReports() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets the report or sub-report matching the given id by using the lazily built report index.
+     *
+     * @param id the report id
+     * @return the matching report or {@code null} if no proper report exists
+     */
+    @CheckForNull
+    protected AbstractTestReport getReportById(final String id) {
+        Map<String, AbstractTestReport> index = reportIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (final AbstractTestReport report : getIndexedReports()) {
+                indexReport(index, report);
+            }
+            reportIndex = index;
+        }
+        return index.get(id);
+    }
+
+    /**
+     * Invalidates the report index, i.e. after reports have been added.
+     */
+    protected void invalidateReportIndex() {
+        reportIndex = null;
+    }
+
+    /**
+     * Adds the given report and its sub-reports recursively to the report index.
+     * The first report found in depth-first order wins if ids are not unique.
+     *
+     * @param index  the report index
+     * @param report the report to add
+     */
+    private static void indexReport(final Map<String, AbstractTestReport> index, final AbstractTestReport report) {
+        index.putIfAbsent(report.getId(), report);
+        for (final AbstractTestReport subReport : report.getSubReports()) {
+            indexReport(index, subReport);
+        }
+    }
+
     @Override
     public Run<?, ?> getBuild(final StaplerRequest req) {
         final Run<?, ?> build = getAnchestorBuild(req);
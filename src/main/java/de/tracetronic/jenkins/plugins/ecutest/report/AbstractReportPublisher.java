@@ -15,9 +15,10 @@ import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.FilePath;
@@ -111,24 +112,18 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
     }
 
     /**
-     * Removes the report actions from all previous builds which published at project level.
+     * Removes the report actions from the previous build which published at project level.
      *
      * @param run   the run
      * @param clazz the report action class to remove
+     * @return {@code true} if the run may publish its reports at project level,
+     * {@code false} if a newer build already published them
      * @throws IOException signals that an I/O exception has occurred
+     * @see ProjectReportTracker
      */
-    @SuppressWarnings("deprecation")
-    public static void removePreviousReports(final Run<?, ?> run,
-                                             final Class<? extends AbstractReportAction> clazz) throws IOException {
-        Run<?, ?> prevBuild = run.getPreviousBuild();
-        while (prevBuild != null) {
-            final AbstractReportAction buildAction = prevBuild.getAction(clazz);
-            if (buildAction != null && buildAction.isProjectLevel()) {
-                prevBuild.getActions().remove(buildAction);
-                prevBuild.save();
-            }
-            prevBuild = prevBuild.getPreviousBuild();
-        }
+    public static boolean removePreviousReports(final Run<?, ?> run,
+                                                final Class<? extends AbstractReportAction> clazz) throws IOException {
+        return ProjectReportTracker.transferProjectReports(run, clazz);
     }
 
     /**
@@ -284,6 +279,29 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
     protected abstract void performReport(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener)
         throws InterruptedException, IOException, ETPluginException;
 
+    /**
+     * Returns whether this publisher requires an ECU-TEST instance. Publishers requiring ECU-TEST are never performed
+     * concurrently by the {@link DownStreamPublisher} as they share the same instance.
+     *
+     * @return {@code true} if ECU-TEST is required, {@code false} otherwise
+     */
+    protected boolean isToolRequired() {
+        return true;
+    }
+
+    /**
+     * Sets the build result which can only get worse. Synchronized on the given run as publishers might be
+     * performed concurrently by the {@link DownStreamPublisher}.
+     *
+     * @param run    the run
+     * @param result the result to set
+     */
+    protected static void updateBuildResult(final Run<?, ?> run, final Result result) {
+        synchronized (run) {
+            run.setResult(result);
+        }
+    }
+
     /**
      * Gets the logger instance.
      *
@@ -375,8 +393,79 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
         final String workspaceDir = getWorkspaceDir(run, workspace);
         final String settingsDir = getSettingsDir(run, workspace);
         final String expandedToolName = run.getEnvironment(listener).expand(installation.getName());
-        return new ETClient(expandedToolName, installPath, workspaceDir,
+        final ETClient etClient = new ETClient(expandedToolName, installPath, workspaceDir,
             settingsDir, StartETBuilder.DEFAULT_TIMEOUT, false);
+        etClient.setComContext(installation.getComContext());
+        return etClient;
+    }
+
+    /**
+     * Acquires an ECU-TEST instance for report generation. Either the already running instance is used or
+     * a new instance is started by the {@link ETInstanceService}, which might be shared with further publishers.
+     *
+     * @param toolName  the tool name
+     * @param run       the run
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return the lease of the instance, check {@link ETInstanceService.Lease#isStarted()} whether it is running
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException the interrupted exception
+     * @throws ETPluginException    in case of a COM exception
+     */
+    protected ETInstanceService.Lease acquireToolClient(final String toolName, final Run<?, ?> run,
+                                                        final FilePath workspace, final Launcher launcher,
+                                                        final TaskListener listener)
+        throws IOException, InterruptedException, ETPluginException {
+        final ETInstanceService service = ETInstanceService.getInstance();
+        if (isETRunning(launcher)) {
+            final ETInstanceService.Lease lease = service.acquireRunning(launcher.getChannel(), listener);
+            if (lease != null) {
+                return lease;
+            }
+        }
+        final ETClient etClient = getToolClient(toolName, run, workspace, launcher, listener);
+        final ETInstanceService.Lease lease = service.acquire(etClient, workspace, launcher, listener);
+        if (!lease.isStarted()) {
+            getLogger().logError(String.format("Starting %s failed.", toolName));
+        }
+        return lease;
+    }
+
+    /**
+     * Gets the COM context of an ECU-TEST instance acquired by {@link #acquireToolClient}. Already running instances
+     * are addressed by the COM settings of the ECU-TEST instance most recently started in the given run on the node
+     * of the given workspace.
+     *
+     * @param lease     the lease of the instance
+     * @param run       the run
+     * @param workspace the workspace
+     * @return the COM context of the instance
+     */
+    protected ETComContext getComContext(final ETInstanceService.Lease lease, final Run<?, ?> run,
+                                         final FilePath workspace) {
+        final ETClient etClient = lease.getClient();
+        return etClient == null ? ToolEnvInvisibleAction.resolveComContext(run, workspace)
+            : etClient.getComContext();
+    }
+
+    /**
+     * Releases an ECU-TEST instance acquired by {@link #acquireToolClient}.
+     *
+     * @param toolName  the tool name
+     * @param lease     the lease of the instance
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException the interrupted exception
+     */
+    protected void releaseToolClient(final String toolName, final ETInstanceService.Lease lease,
+                                     final FilePath workspace, final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        if (!ETInstanceService.getInstance().release(lease, workspace, launcher, listener)) {
+            getLogger().logError(String.format("Stopping %s failed.", toolName));
+        }
     }
 
     /**
@@ -404,9 +493,6 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
         } else {
             throw new ETPluginException("The selected ECU-TEST installation is not configured for this node!");
         }
-        // Set the COM settings for the current ECU-TEST instance
-        ETComProperty.getInstance().setProgId(installation.getProgId());
-        ETComProperty.getInstance().setTimeout(installation.getTimeout());
         return installation;
     }
 
@@ -604,12 +690,7 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
      * @throws InterruptedException the interrupted exception
      */
     protected long getDirectorySize(final FilePath directory) throws IOException, InterruptedException {
-        long size = 0;
-        final FilePath[] files = directory.list("**");
-        for (final FilePath file : files) {
-            size += file.length();
-        }
-        return size;
+        return ReportDirectory.scan(directory).getSize();
     }
 
     /**
@@ -16,6 +16,7 @@ import hudson.model.TaskListener;
 import hudson.tasks.BuildStepMonitor;
 import hudson.tasks.Publisher;
 import hudson.tasks.Recorder;
+import hudson.util.StreamTaskListener;
 import jenkins.tasks.SimpleBuildStep;
 import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
@@ -23,21 +24,43 @@ import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 
 import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Class holding the downstream configuration.
+ * <p>
+ * In parallel mode, publishers not requiring ECU-TEST are performed concurrently to each other and to the publishers
+ * requiring ECU-TEST, which are still performed in sequence as they share the same instance. The number of concurrent
+ * publishers is limited by the system property {@value #MAX_PARALLEL_PROPERTY}. The console output is buffered and
+ * written at once per publisher when finished.
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
 public class DownStreamPublisher extends Recorder implements SimpleBuildStep {
 
+    /**
+     * System property defining the maximum number of concurrently performed publishers in parallel mode.
+     */
+    public static final String MAX_PARALLEL_PROPERTY = "ecutest.downstream.maxParallel";
+    /**
+     * Default maximum number of concurrently performed publishers in parallel mode.
+     */
+    public static final int DEFAULT_MAX_PARALLEL = 4;
+
     @Nonnull
     private final String workspace;
     @Nonnull
     private List<AbstractReportPublisher> publishers = new ArrayList<>();
+    private boolean parallel;
 
     /**
      * Instantiates a new {@link DownStreamPublisher}.
@@ -74,21 +97,106 @@ public class DownStreamPublisher extends Recorder implements SimpleBuildStep {
         this.publishers = publishers == null ? new ArrayList<>() : publishers;
     }
 
+    /**
+     * @return specifies whether to perform independent publishers concurrently
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @param parallel specifies whether to perform independent publishers concurrently
+     */
+    @DataBoundSetter
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public void perform(@Nonnull final Run<?, ?> run, @Nonnull final FilePath workspace,
                         @Nonnull final Launcher launcher, @Nonnull final TaskListener listener)
         throws InterruptedException, IOException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo("Publishing downstream reports...");
+        final List<AbstractReportPublisher> validPublishers = new ArrayList<>();
         for (final AbstractReportPublisher publisher : getPublishers()) {
             if (publisher != null) {
                 publisher.setDownstream(true);
                 publisher.setWorkspace(getWorkspace());
+                validPublishers.add(publisher);
+            }
+        }
+        if (isParallel() && validPublishers.size() > 1) {
+            performParallel(validPublishers, run, workspace, launcher, listener);
+        } else {
+            for (final AbstractReportPublisher publisher : validPublishers) {
                 publisher.perform(run, workspace, launcher, listener);
             }
         }
     }
 
+    /**
+     * Performs the given publishers concurrently. All publishers requiring ECU-TEST are performed in sequence
+     * within a single lane, while each other publisher is performed in its own lane.
+     *
+     * @param publishers the publishers to perform
+     * @param run        the run
+     * @param workspace  the workspace
+     * @param launcher   the launcher
+     * @param listener   the listener
+     * @throws InterruptedException if the build gets interrupted
+     * @throws IOException          signals that an I/O exception has occurred in any of the publishers
+     */
+    private void performParallel(final List<AbstractReportPublisher> publishers, final Run<?, ?> run,
+                                 final FilePath workspace, final Launcher launcher, final TaskListener listener)
+        throws InterruptedException, IOException {
+        final List<List<AbstractReportPublisher>> lanes = new ArrayList<>();
+        final List<AbstractReportPublisher> toolLane = new ArrayList<>();
+        for (final AbstractReportPublisher publisher : publishers) {
+            if (publisher.isToolRequired()) {
+                toolLane.add(publisher);
+            } else {
+                lanes.add(Collections.singletonList(publisher));
+            }
+        }
+        if (!toolLane.isEmpty()) {
+            lanes.add(0, toolLane);
+        }
+
+        final int poolSize = Math.max(1, Math.min(lanes.size(),
+            Integer.getInteger(MAX_PARALLEL_PROPERTY, DEFAULT_MAX_PARALLEL)));
+        new TTConsoleLogger(listener).logInfo(String.format(
+            "- Performing %d publisher(s) in %d lane(s) with up to %d concurrent lane(s)...",
+            publishers.size(), lanes.size(), poolSize));
+        final ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (final List<AbstractReportPublisher> lane : lanes) {
+                futures.add(executor.submit(new PublisherLane(lane, run, workspace, launcher, listener)));
+            }
+            IOException failure = null;
+            for (final Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof InterruptedException) {
+                        throw (InterruptedException) cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (failure == null) {
+                        failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     public BuildStepMonitor getRequiredMonitorService() {
         return BuildStepMonitor.NONE;
@@ -99,6 +207,55 @@ public class DownStreamPublisher extends Recorder implements SimpleBuildStep {
         return (DescriptorImpl) super.getDescriptor();
     }
 
+    /**
+     * {@link Callable} performing the publishers of a single lane in sequence.
+     * The console output of each publisher is buffered and written at once after it has finished.
+     */
+    private static final class PublisherLane implements Callable<Void> {
+
+        private final List<AbstractReportPublisher> publishers;
+        private final Run<?, ?> run;
+        private final FilePath workspace;
+        private final Launcher launcher;
+        private final TaskListener listener;
+
+        /**
+         * Instantiates a new {@link PublisherLane}.
+         *
+         * @param publishers the publishers to perform in sequence
+         * @param run        the run
+         * @param workspace  the workspace
+         * @param launcher   the launcher
+         * @param listener   the listener
+         */
+        PublisherLane(final List<AbstractReportPublisher> publishers, final Run<?, ?> run,
+                      final FilePath workspace, final Launcher launcher, final TaskListener listener) {
+            this.publishers = publishers;
+            this.run = run;
+            this.workspace = workspace;
+            this.launcher = launcher;
+            this.listener = listener;
+        }
+
+        @Override
+        public Void call() throws InterruptedException, IOException {
+            for (final AbstractReportPublisher publisher : publishers) {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                final TaskListener bufferedListener = new StreamTaskListener(buffer, run.getCharset());
+                try {
+                    publisher.perform(run, workspace, launcher, bufferedListener);
+                } finally {
+                    bufferedListener.getLogger().flush();
+                    synchronized (listener) {
+                        listener.getLogger().write(buffer.toByteArray());
+                        listener.getLogger().flush();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * DescriptorImpl for {@link DownStreamPublisher}.
      */
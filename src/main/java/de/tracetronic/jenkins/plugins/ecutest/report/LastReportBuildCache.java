@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache holding the number of the last build with a specific report action per job.
+ * <p>
+ * The last report build of a job is determined once by walking backwards through its builds and is then kept
+ * up to date by the {@link RunListenerImpl}, so that project actions do not have to load previous builds
+ * on every page render.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class LastReportBuildCache {
+
+    /**
+     * Build number marking that no build with the report action exists.
+     */
+    private static final int NO_BUILD = 0;
+
+    private static final Map<Job<?, ?>, Map<Class<? extends Action>, Integer>> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<Job<?, ?>, Map<Class<? extends Action>, Integer>>());
+
+    /**
+     * Instantiates a new {@link LastReportBuildCache}.
+     */
+    private LastReportBuildCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the last build of the given project containing the given report action.
+     *
+     * @param project     the project
+     * @param actionClass the report action class
+     * @return the last build with the report action or {@code null} if no proper build exists
+     */
+    @CheckForNull
+    public static Run<?, ?> getLastReportBuild(final Job<?, ?> project, final Class<? extends Action> actionClass) {
+        final Map<Class<? extends Action>, Integer> jobCache = getJobCache(project);
+        final Integer number = jobCache.get(actionClass);
+        if (number != null) {
+            if (number == NO_BUILD) {
+                return null;
+            }
+            final Run<?, ?> build = project.getBuildByNumber(number);
+            if (build != null && build.getAction(actionClass) != null) {
+                return build;
+            }
+        }
+        final Run<?, ?> build = findLastReportBuild(project, actionClass);
+        jobCache.put(actionClass, build != null ? build.getNumber() : NO_BUILD);
+        return build;
+    }
+
+    /**
+     * Walks backwards through the builds of the given project and searches for the given report action.
+     *
+     * @param project     the project
+     * @param actionClass the report action class
+     * @return the last build with the report action or {@code null} if no proper build exists
+     */
+    @CheckForNull
+    private static Run<?, ?> findLastReportBuild(final Job<?, ?> project, final Class<? extends Action> actionClass) {
+        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
+            if (build.getAction(actionClass) != null) {
+                return build;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the cached build numbers of the given project by report action class.
+     *
+     * @param project the project
+     * @return the cached build numbers
+     */
+    private static Map<Class<? extends Action>, Integer> getJobCache(final Job<?, ?> project) {
+        synchronized (CACHE) {
+            Map<Class<? extends Action>, Integer> jobCache = CACHE.get(project);
+            if (jobCache == null) {
+                jobCache = new ConcurrentHashMap<>();
+                CACHE.put(project, jobCache);
+            }
+            return jobCache;
+        }
+    }
+
+    /**
+     * Listener updating the cache when builds with report actions are completed or deleted.
+     */
+    @Extension
+    public static final class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onCompleted(final Run<?, ?> run, @Nonnull final TaskListener listener) {
+            final Map<Class<? extends Action>, Integer> jobCache = CACHE.get(run.getParent());
+            if (jobCache != null) {
+                for (final AbstractReportAction action : run.getActions(AbstractReportAction.class)) {
+                    // Only update already resolved entries, otherwise they will be resolved on demand
+                    jobCache.computeIfPresent(action.getClass(),
+                        (actionClass, number) -> Math.max(number, run.getNumber()));
+                }
+            }
+        }
+
+        @Override
+        public void onDeleted(final Run<?, ?> run) {
+            final Map<Class<? extends Action>, Integer> jobCache = CACHE.get(run.getParent());
+            if (jobCache != null) {
+                for (final AbstractReportAction action : run.getActions(AbstractReportAction.class)) {
+                    jobCache.remove(action.getClass(), run.getNumber());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.XmlFile;
+import hudson.model.Job;
+import hudson.model.Run;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks the build holding the project level reports per report action type of a job.
+ * <p>
+ * Publishing reports at project level removes the report action of the previous holder only, instead of walking
+ * through the whole build history. The build numbers are persisted in {@value #STATE_FILE_NAME} within the job
+ * directory. If no state is available yet, e.g. after updating the plugin, the build history is walked once.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ProjectReportTracker {
+
+    /**
+     * File name of the persisted state within the job directory.
+     */
+    public static final String STATE_FILE_NAME = "ecutest-project-reports.xml";
+
+    /**
+     * Instantiates a new {@link ProjectReportTracker}.
+     */
+    private ProjectReportTracker() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Removes the report action from the build currently holding the project level reports
+     * and registers the given run as new holder. An older run finishing after a newer holder
+     * is rejected and must not publish its reports at project level, otherwise it would overwrite
+     * the archived reports of the newer holder.
+     *
+     * @param run   the run publishing the project level reports
+     * @param clazz the report action class to remove
+     * @return {@code true} if the run may publish its reports at project level,
+     * {@code false} if a newer build already holds the project level reports
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static synchronized boolean transferProjectReports(final Run<?, ?> run,
+                                                              final Class<? extends AbstractReportAction> clazz)
+        throws IOException {
+        final Job<?, ?> job = run.getParent();
+        final XmlFile stateFile = getStateFile(job);
+        final Map<String, Integer> holders = loadHolders(stateFile);
+        final Integer holder = holders.get(clazz.getName());
+        if (holder != null && holder > run.getNumber()) {
+            return false;
+        }
+        if (holder == null) {
+            for (Run<?, ?> prevBuild = run.getPreviousBuild(); prevBuild != null;
+                 prevBuild = prevBuild.getPreviousBuild()) {
+                removeProjectReports(prevBuild, clazz);
+            }
+        } else if (holder < run.getNumber()) {
+            final Run<?, ?> prevBuild = job.getBuildByNumber(holder);
+            if (prevBuild != null) {
+                removeProjectReports(prevBuild, clazz);
+            }
+        }
+        holders.put(clazz.getName(), run.getNumber());
+        stateFile.write(holders);
+        return true;
+    }
+
+    /**
+     * Removes the project level report action from the given build.
+     *
+     * @param build the build
+     * @param clazz the report action class to remove
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    @SuppressWarnings("deprecation")
+    private static void removeProjectReports(final Run<?, ?> build, final Class<? extends AbstractReportAction> clazz)
+        throws IOException {
+        final AbstractReportAction buildAction = build.getAction(clazz);
+        if (buildAction != null && buildAction.isProjectLevel()) {
+            build.getActions().remove(buildAction);
+            build.save();
+        }
+    }
+
+    /**
+     * Loads the build numbers of the project level report holders by report action class name.
+     *
+     * @param stateFile the state file
+     * @return the build numbers, empty if no state has been persisted yet
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer> loadHolders(final XmlFile stateFile) throws IOException {
+        if (stateFile.exists()) {
+            final Object holders = stateFile.read();
+            if (holders instanceof Map) {
+                return new HashMap<>((Map<String, Integer>) holders);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Gets the state file of the given job.
+     *
+     * @param job the job
+     * @return the state file
+     */
+    private static XmlFile getStateFile(final Job<?, ?> job) {
+        return new XmlFile(new File(job.getRootDir(), STATE_FILE_NAME));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.FilePath;
+import hudson.FilePath.FileCallable;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
+
+import javax.annotation.CheckForNull;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serializable snapshot of a report directory tree holding the names and sizes of all contained files.
+ * <p>
+ * The tree is built by walking the directory once on the node where it resides, so that report models can be
+ * created without further remote calls for each single file or sub-directory.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ReportDirectory implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final String path;
+    private final Map<String, Long> files = new TreeMap<>();
+    private final List<ReportDirectory> subDirs = new ArrayList<>();
+    private long size;
+
+    /**
+     * Instantiates a new {@link ReportDirectory}.
+     *
+     * @param name the directory name
+     * @param path the directory path relative to the scanned root directory, empty for the root itself
+     */
+    private ReportDirectory(final String name, final String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    /**
+     * Scans the given directory recursively within a single remote call.
+     * A non-existing directory results in an empty tree.
+     *
+     * @param directory the directory to scan
+     * @return the directory tree
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public static ReportDirectory scan(final FilePath directory) throws IOException, InterruptedException {
+        return directory.act(new ScanCallable());
+    }
+
+    /**
+     * @return the directory name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the directory path relative to the scanned root directory, empty for the root itself
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the path of the given file relative to the scanned root directory.
+     *
+     * @param fileName the file name
+     * @return the relative file path
+     */
+    public String getFilePath(final String fileName) {
+        return path.isEmpty() ? fileName : path + "/" + fileName;
+    }
+
+    /**
+     * @return the total size in bytes of all files within this directory and its sub-directories
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the names of the files directly contained in this directory in alphabetical order
+     */
+    public List<String> getFileNames() {
+        return new ArrayList<>(files.keySet());
+    }
+
+    /**
+     * Checks whether this directory directly contains the given file.
+     *
+     * @param fileName the file name
+     * @return {@code true} if the file exists, {@code false} otherwise
+     */
+    public boolean hasFile(final String fileName) {
+        return files.containsKey(fileName);
+    }
+
+    /**
+     * Gets the size of the given file.
+     *
+     * @param fileName the file name
+     * @return the file size in bytes or {@code 0} if the file does not exist
+     */
+    public long getFileSize(final String fileName) {
+        final Long fileSize = files.get(fileName);
+        return fileSize != null ? fileSize : 0L;
+    }
+
+    /**
+     * @return the sub-directories in alphabetical order
+     */
+    public List<ReportDirectory> getSubDirectories() {
+        return Collections.unmodifiableList(subDirs);
+    }
+
+    /**
+     * Gets the sub-directory with the given name.
+     *
+     * @param dirName the sub-directory name
+     * @return the sub-directory or {@code null} if not existing
+     */
+    @CheckForNull
+    public ReportDirectory getSubDirectory(final String dirName) {
+        for (final ReportDirectory subDir : subDirs) {
+            if (subDir.getName().equals(dirName)) {
+                return subDir;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walks the given directory recursively and adds all files and sub-directories.
+     *
+     * @param dir the directory to walk
+     */
+    private void walk(final File dir) {
+        final File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (final File child : children) {
+            if (child.isDirectory()) {
+                final ReportDirectory subDir = new ReportDirectory(child.getName(), getFilePath(child.getName()));
+                subDir.walk(child);
+                subDirs.add(subDir);
+                size += subDir.getSize();
+            } else if (child.isFile()) {
+                final long length = child.length();
+                files.put(child.getName(), length);
+                size += length;
+            }
+        }
+    }
+
+    /**
+     * {@link FileCallable} providing remote file access to scan the directory tree.
+     */
+    private static final class ScanCallable extends MasterToSlaveFileCallable<ReportDirectory> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ReportDirectory invoke(final File baseDir, final VirtualChannel channel) {
+            final ReportDirectory root = new ReportDirectory(baseDir.getName(), "");
+            root.walk(baseDir);
+            return root;
+        }
+    }
+}
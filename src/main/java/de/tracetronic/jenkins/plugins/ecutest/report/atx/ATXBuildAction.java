@@ -50,7 +50,9 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean add(final T report) {
-        return getATXReports().add(report);
+        final boolean added = getATXReports().add(report);
+        invalidateReportIndex();
+        return added;
     }
 
     /**
@@ -60,50 +62,25 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean addAll(final Collection<T> reports) {
-        return getATXReports().addAll(reports);
+        final boolean added = getATXReports().addAll(reports);
+        invalidateReportIndex();
+        return added;
     }
 
-    /**
-     * Returns {@link ATXReport} specified by the URL.
-     *
-     * @param token the URL token
-     * @return the {@link ATXReport} or {@code null} if no proper report exists
-     */
-    public T getDynamic(final String token) {
-        for (final T report : getATXReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final T potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+    @Override
+    protected List<T> getIndexedReports() {
+        return getATXReports();
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link ATXReport} matching the given token id.
+     * Returns {@link ATXReport} specified by the URL.
      *
-     * @param token  the token id
-     * @param report the report
+     * @param token the URL token
      * @return the {@link ATXReport} or {@code null} if no proper report exists
      */
     @SuppressWarnings("unchecked")
-    private T traverseSubReports(final String token, final T report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (T) subReport;
-            } else {
-                final T potentialReport = traverseSubReports(token, (T) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+    public T getDynamic(final String token) {
+        return (T) getReportById(token);
     }
 
     /**
@@ -16,10 +16,11 @@ import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXCustomS
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXSetting;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.pipeline.ATXPublishStep;
-import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.util.ATXUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.ATXValidator;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.CopyOnWrite;
 import hudson.DescriptorExtensionList;
 import hudson.EnvVars;
@@ -119,25 +120,21 @@ public class ATXPublisher extends AbstractReportPublisher {
         }
 
         boolean isPublished = false;
-        if (isETRunning(launcher)) {
-            isPublished = publishReports(atxInstallation, run, workspace, launcher, listener);
-        } else {
-            final String toolName = atxInstallation.getToolName();
-            final ETClient etClient = getToolClient(toolName, run, workspace, launcher, listener);
-            if (etClient.start(false, workspace, launcher, listener)) {
-                isPublished = publishReports(atxInstallation, run, workspace, launcher, listener);
-            } else {
-                logger.logError(String.format("Starting %s failed.", toolName));
-            }
-            if (!etClient.stop(true, workspace, launcher, listener)) {
-                logger.logError(String.format("Stopping %s failed.", toolName));
+        final String toolName = atxInstallation.getToolName();
+        final ETInstanceService.Lease lease = acquireToolClient(toolName, run, workspace, launcher, listener);
+        try {
+            if (lease.isStarted()) {
+                isPublished = publishReports(atxInstallation, getComContext(lease, run, workspace), run, workspace,
+                    launcher, listener);
             }
+        } finally {
+            releaseToolClient(toolName, lease, workspace, launcher, listener);
         }
 
         if (isPublished) {
             logger.logInfo("ATX reports published successfully.");
         } else {
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         }
     }
 
@@ -146,6 +143,7 @@ public class ATXPublisher extends AbstractReportPublisher {
      * on whether ATX upload is enabled also starting the upload.
      *
      * @param installation the installation
+     * @param comContext   the COM context of the ECU-TEST instance
      * @param run          the run
      * @param workspace    the workspace
      * @param launcher     the launcher
@@ -154,8 +152,9 @@ public class ATXPublisher extends AbstractReportPublisher {
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private boolean publishReports(final ATXInstallation installation, final Run<?, ?> run, final FilePath workspace,
-                                   final Launcher launcher, final TaskListener listener)
+    private boolean publishReports(final ATXInstallation installation, final ETComContext comContext,
+                                   final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                   final TaskListener listener)
         throws IOException, InterruptedException {
         final TTConsoleLogger logger = getLogger();
         final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
@@ -164,6 +163,7 @@ public class ATXPublisher extends AbstractReportPublisher {
         if (isUploadEnabled && isServerReachable) {
             logger.logInfo("- Generating and uploading ATX reports...");
             final ATXReportUploader uploader = new ATXReportUploader(installation);
+            uploader.setComContext(comContext);
             return uploader.upload(reportDirs, isAllowMissing(), run, launcher, listener);
         } else {
             logger.logInfo("- Generating ATX reports...");
@@ -173,6 +173,7 @@ public class ATXPublisher extends AbstractReportPublisher {
             final FilePath archiveTarget = getArchiveTarget(run);
 
             final ATXReportGenerator generator = new ATXReportGenerator(installation);
+            generator.setComContext(comContext);
             return generator.generate(archiveTarget, reportDirs, isAllowMissing(), isArchiving(), isKeepAll(), run,
                 launcher, listener);
         }
@@ -7,13 +7,15 @@ package de.tracetronic.jenkins.plugins.ecutest.report.atx;
 
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportDirectory;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -87,13 +89,16 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
         // Generate ATX reports
         final boolean isGenerated = launcher.getChannel().call(
             new GenerateReportCallable(getInstallation().getConfig(), reportFiles, run.getEnvironment(listener),
-                listener));
+                getComContext(), listener));
 
         if (isArchiving) {
             // Removing old artifacts at project level
             if (!reportFiles.isEmpty() && !keepAll) {
+                if (!AbstractReportPublisher.removePreviousReports(run, ATXBuildAction.class)) {
+                    logger.logInfo("Skipped archiving ATX reports, a newer build already published them.");
+                    return isGenerated;
+                }
                 archiveTarget.deleteRecursive();
-                AbstractReportPublisher.removePreviousReports(run, ATXBuildAction.class);
             }
             if (isGenerated && !reportFiles.isEmpty()) {
                 final List<ATXZipReport> atxReports = new ArrayList<>();
@@ -125,6 +130,7 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
 
     /**
      * Creates the main report and adds the sub-reports by traversing them recursively.
+     * The archived report directory is scanned at once before building the report models.
      *
      * @param atxReports       the ATX reports
      * @param archiveTargetDir the archive target directory
@@ -133,18 +139,17 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
      */
     private void traverseReports(final List<ATXZipReport> atxReports, final FilePath archiveTargetDir)
         throws IOException, InterruptedException {
-        final FilePath[] zipFiles = archiveTargetDir.list(String.format("%s/%s.zip", ATX_TEMPLATE_NAME,
-            archiveTargetDir.getName()));
-        if (zipFiles.length == 1) {
-            final FilePath zipFile = zipFiles[0];
-            final String relFilePath = archiveTargetDir.getParent().toURI().relativize(zipFile.toURI())
-                .getPath();
+        final ReportDirectory reportDir = ReportDirectory.scan(archiveTargetDir);
+        final ReportDirectory templateDir = reportDir.getSubDirectory(ATX_TEMPLATE_NAME);
+        final String zipFile = reportDir.getName() + ".zip";
+        if (templateDir != null && templateDir.hasFile(zipFile)) {
+            final String relFilePath = reportDir.getName() + "/" + templateDir.getFilePath(zipFile);
             final ATXZipReport atxReport = new ATXZipReport(AbstractReportPublisher.randomId(),
-                zipFile.getBaseName(), relFilePath, zipFile.length());
+                reportDir.getName(), relFilePath, templateDir.getFileSize(zipFile));
             atxReports.add(atxReport);
 
             // Search for sub-reports
-            traverseSubReports(atxReport, archiveTargetDir.getParent(), archiveTargetDir);
+            traverseSubReports(atxReport, reportDir.getName(), reportDir);
         }
     }
 
@@ -153,27 +158,24 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
      * Includes the report files generated during separate sub-project execution.
      *
      * @param atxReport        the ATX report
-     * @param testReportDir    the main test report directory
-     * @param subTestReportDir the sub test report directory
-     * @throws IOException          signals that an I/O exception has occurred
-     * @throws InterruptedException if the build gets interrupted
+     * @param testReportName   the name of the main test report directory
+     * @param subTestReportDir the scanned sub test report directory
      */
-    private void traverseSubReports(final ATXZipReport atxReport, final FilePath testReportDir,
-                                    final FilePath subTestReportDir) throws IOException, InterruptedException {
-        for (final FilePath subDir : subTestReportDir.listDirectories()) {
-            final FilePath[] reportFiles = subDir.list(String.format("%s/%s.zip", ATX_TEMPLATE_NAME,
-                subDir.getName()));
-            if (reportFiles.length == 1) {
+    private void traverseSubReports(final ATXZipReport atxReport, final String testReportName,
+                                    final ReportDirectory subTestReportDir) {
+        for (final ReportDirectory subDir : subTestReportDir.getSubDirectories()) {
+            final ReportDirectory templateDir = subDir.getSubDirectory(ATX_TEMPLATE_NAME);
+            final String zipFile = subDir.getName() + ".zip";
+            if (templateDir != null && templateDir.hasFile(zipFile)) {
                 // Prepare ATX report information for sub-report
-                final FilePath reportFile = reportFiles[0];
-                final String fileName = reportFile.getBaseName().replaceFirst("^Report\\s", "");
-                final String relFilePath = testReportDir.toURI().relativize(reportFile.toURI()).getPath();
+                final String fileName = subDir.getName().replaceFirst("^Report\\s", "");
+                final String relFilePath = testReportName + "/" + templateDir.getFilePath(zipFile);
                 final ATXZipReport subReport = new ATXZipReport(AbstractReportPublisher.randomId(),
-                    fileName, relFilePath, reportFile.length());
+                    fileName, relFilePath, templateDir.getFileSize(zipFile));
                 atxReport.addSubReport(subReport);
 
                 // Search for sub-reports
-                traverseSubReports(subReport, testReportDir, subDir);
+                traverseSubReports(subReport, testReportName, subDir);
             }
         }
     }
@@ -208,11 +210,12 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
          * @param config      the ATX configuration
          * @param reportFiles the list of TRF files
          * @param envVars     the environment variables
+         * @param comContext  the COM context
          * @param listener    the listener
          */
         GenerateReportCallable(final ATXConfig config, final List<FilePath> reportFiles, final EnvVars envVars,
-                               final TaskListener listener) {
-            super(config, reportFiles, envVars, listener);
+                               final ETComContext comContext, final TaskListener listener) {
+            super(config, reportFiles, envVars, comContext, listener);
         }
 
         @Override
@@ -220,9 +223,8 @@ public class ATXReportGenerator extends AbstractATXReportHandler {
             boolean isGenerated = true;
             final TTConsoleLogger logger = new TTConsoleLogger(getListener());
             final Map<String, String> configMap = getConfigMap(false);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
+            try (ComClient comClient = ETComClientFactory.newClient(getComContext())) {
+                final ComTestEnvironment testEnv = comClient.getTestEnvironment();
                 final List<FilePath> reportFiles = getReportFiles();
                 if (reportFiles.isEmpty()) {
                     logger.logInfo("-> No report files found to generate!");
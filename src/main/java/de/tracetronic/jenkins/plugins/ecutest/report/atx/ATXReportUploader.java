@@ -10,13 +10,15 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFDatabase;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.util.ATXUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.ATXValidator;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -39,11 +41,8 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -112,7 +111,7 @@ public class ATXReportUploader extends AbstractATXReportHandler {
 
                 // Upload ATX reports
                 TestInfoHolder testInfo = launcher.getChannel().call(
-                    new UploadReportCallable(config, uploadFiles, envVars, listener));
+                    new UploadReportCallable(config, uploadFiles, envVars, getComContext(), listener));
 
                 // Prepare ATX report links
                 final String title = reportFile.getParent().getName();
@@ -357,11 +356,12 @@ public class ATXReportUploader extends AbstractATXReportHandler {
          * @param config      the ATX configuration
          * @param reportFiles the list of TRF files
          * @param envVars     the environment variables
+         * @param comContext  the COM context
          * @param listener    the listener
          */
         UploadReportCallable(final ATXConfig config, final List<FilePath> reportFiles, final EnvVars envVars,
-                             final TaskListener listener) {
-            super(config, reportFiles, envVars, listener);
+                             final ETComContext comContext, final TaskListener listener) {
+            super(config, reportFiles, envVars, comContext, listener);
         }
 
         @Override
@@ -369,9 +369,8 @@ public class ATXReportUploader extends AbstractATXReportHandler {
             TestInfoHolder testInfo = null;
             final TTConsoleLogger logger = new TTConsoleLogger(getListener());
             final Map<String, String> configMap = getConfigMap(true);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
+            try (ComClient comClient = ETComClientFactory.newClient(getComContext())) {
+                final ComTestEnvironment testEnv = comClient.getTestEnvironment();
                 final List<FilePath> uploadFiles = getReportFiles();
                 if (uploadFiles.isEmpty()) {
                     logger.logInfo("-> No report files found to upload!");
@@ -569,7 +568,7 @@ public class ATXReportUploader extends AbstractATXReportHandler {
 
         @Override
         public TestInfoHolder call() throws IOException {
-            try (SQLite sql = new SQLite(trfFile)) {
+            try (TRFDatabase sql = new TRFDatabase(trfFile)) {
                 ResultSet rs = sql.query("SELECT execution_time, duration from info");
                 final String execTime = rs.getString("execution_time");
                 final SimpleDateFormat fmt = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
@@ -591,49 +590,6 @@ public class ATXReportUploader extends AbstractATXReportHandler {
                 throw new IOException(e);
             }
         }
-
-        /**
-         * Parser for SQLite databases like TRF reports.
-         */
-        private static class SQLite implements AutoCloseable {
-
-            private final Connection connection;
-            private final Statement statement;
-
-            /**
-             * Instantiates a new {@link SQLite}.
-             *
-             * @param sqlFile the path to database file
-             * @throws ClassNotFoundException in case the JDBC class cannot be located
-             * @throws SQLException           in case of a SQL exception
-             */
-            SQLite(final String sqlFile) throws ClassNotFoundException, SQLException {
-                Class.forName("org.sqlite.JDBC");
-                connection = DriverManager.getConnection("jdbc:sqlite:" + sqlFile);
-                statement = connection.createStatement();
-            }
-
-            /**
-             * Queries the database with given SQL statement.
-             *
-             * @param sql the SQL statement
-             * @return the result set
-             * @throws SQLException in case of a SQL exception
-             */
-            public ResultSet query(final String sql) throws SQLException {
-                return statement.executeQuery(sql);
-            }
-
-            @Override
-            public void close() throws SQLException {
-                if (statement != null) {
-                    statement.close();
-                }
-                if (connection != null) {
-                    connection.close();
-                }
-            }
-        }
     }
 
     /**
@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.atx;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.LastReportBuildCache;
 import hudson.model.Job;
 import hudson.model.Run;
 
@@ -27,12 +28,7 @@ public abstract class AbstractATXAction extends AbstractReportAction {
 
     @Override
     public Run<?, ?> getLastReportBuild(final Job<?, ?> project) {
-        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
-            if (build.getAction(ATXBuildAction.class) != null) {
-                return build;
-            }
-        }
-        return null;
+        return LastReportBuildCache.getLastReportBuild(project, ATXBuildAction.class);
     }
 
     @Override
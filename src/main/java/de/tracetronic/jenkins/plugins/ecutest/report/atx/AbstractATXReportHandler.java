@@ -13,6 +13,7 @@ import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXCustomT
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXSetting;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXTextSetting;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.model.TaskListener;
@@ -37,6 +38,7 @@ public abstract class AbstractATXReportHandler {
     protected static final String ATX_TEMPLATE_NAME = "ATX";
 
     private final ATXInstallation installation;
+    private ETComContext comContext = ETComContext.getDefault();
 
     /**
      * Instantiates a new {@code ATXReportUploader}.
@@ -54,6 +56,20 @@ public abstract class AbstractATXReportHandler {
         return installation;
     }
 
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * Common {@link Callable} enabling generating and uploading ATX reports remotely.
      *
@@ -66,6 +82,7 @@ public abstract class AbstractATXReportHandler {
         private final ATXConfig config;
         private final List<FilePath> reportFiles;
         private final EnvVars envVars;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
@@ -74,13 +91,15 @@ public abstract class AbstractATXReportHandler {
          * @param config      the ATX configuration
          * @param reportFiles the list of TRF files
          * @param envVars     the environment variables
+         * @param comContext  the COM context
          * @param listener    the listener
          */
         public AbstractReportCallable(final ATXConfig config, final List<FilePath> reportFiles, final EnvVars envVars,
-                                      final TaskListener listener) {
+                                      final ETComContext comContext, final TaskListener listener) {
             this.config = config;
             this.reportFiles = reportFiles;
             this.envVars = envVars;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -91,6 +110,13 @@ public abstract class AbstractATXReportHandler {
             return reportFiles;
         }
 
+        /**
+         * @return the COM context
+         */
+        public ETComContext getComContext() {
+            return comContext;
+        }
+
         /**
          * @return the listener
          */
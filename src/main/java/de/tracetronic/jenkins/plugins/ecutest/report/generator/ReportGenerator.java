@@ -6,10 +6,11 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.generator;
 
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -17,6 +18,8 @@ import hudson.remoting.Callable;
 import jenkins.security.MasterToSlaveCallable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +32,7 @@ import java.util.Map;
 public class ReportGenerator {
 
     private final ReportGeneratorConfig config;
+    private ETComContext comContext = ETComContext.getDefault();
 
     /**
      * Instantiates a new {@link ReportGenerator}.
@@ -47,6 +51,20 @@ public class ReportGenerator {
         return config;
     }
 
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * Generate reports by calling the {@link ReportGenerator.GenerateReportCallable}.
      *
@@ -59,44 +77,89 @@ public class ReportGenerator {
      */
     public boolean generate(final List<FilePath> reportFiles, final Launcher launcher,
                             final TaskListener listener) throws IOException, InterruptedException {
-        return launcher.getChannel().call(new GenerateReportCallable(config, reportFiles, listener));
+        return generate(Collections.singletonList(config), reportFiles, comContext, launcher, listener).get(0);
     }
 
     /**
-     * {@link Callable} enabling generation of reports with specific generator remotely.
+     * Generate reports with all given generators within a single remote call and COM session
+     * by calling the {@link ReportGenerator.GenerateReportCallable}.
+     *
+     * @param configs     the generator configurations
+     * @param reportFiles the report files
+     * @param comContext  the COM context of the ECU-TEST instance
+     * @param launcher    the launcher
+     * @param listener    the listener
+     * @return the generation results in order of the given configurations, {@code true} if generation with
+     * the respective generator succeeded, {@code false} otherwise
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
      */
-    private static final class GenerateReportCallable extends MasterToSlaveCallable<Boolean, IOException> {
+    public static List<Boolean> generate(final List<ReportGeneratorConfig> configs, final List<FilePath> reportFiles,
+                                         final ETComContext comContext, final Launcher launcher,
+                                         final TaskListener listener)
+        throws IOException, InterruptedException {
+        return launcher.getChannel().call(new GenerateReportCallable(configs, reportFiles, comContext, listener));
+    }
+
+    /**
+     * {@link Callable} enabling generation of reports with specific generators remotely.
+     */
+    private static final class GenerateReportCallable
+        extends MasterToSlaveCallable<ArrayList<Boolean>, IOException> {
 
         private static final long serialVersionUID = 1L;
 
-        private final ReportGeneratorConfig config;
+        private final List<ReportGeneratorConfig> configs;
         private final List<FilePath> dbFiles;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link GenerateReportCallable}.
          *
-         * @param config   the template name
-         * @param dbFiles  the list of TRF files
-         * @param listener the listener
+         * @param configs    the generator configurations
+         * @param dbFiles    the list of TRF files
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        GenerateReportCallable(final ReportGeneratorConfig config, final List<FilePath> dbFiles,
-                               final TaskListener listener) {
-            this.config = config;
+        GenerateReportCallable(final List<ReportGeneratorConfig> configs, final List<FilePath> dbFiles,
+                               final ETComContext comContext, final TaskListener listener) {
+            this.configs = configs;
             this.dbFiles = dbFiles;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
         @Override
-        public Boolean call() throws IOException {
+        public ArrayList<Boolean> call() throws IOException {
+            final ArrayList<Boolean> results = new ArrayList<>(Collections.nCopies(configs.size(), false));
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestEnvironment testEnv = comClient.getTestEnvironment();
+                for (int i = 0; i < configs.size(); i++) {
+                    results.set(i, generate(testEnv, configs.get(i), logger));
+                }
+            } catch (final ETComException e) {
+                logger.logComException(e.getMessage());
+            }
+            return results;
+        }
+
+        /**
+         * Generates the reports of all TRF files with given generator.
+         *
+         * @param testEnv the test environment
+         * @param config  the generator configuration
+         * @param logger  the logger
+         * @return {@code true} if generation succeeded, {@code false} otherwise
+         */
+        private boolean generate(final ComTestEnvironment testEnv, final ReportGeneratorConfig config,
+                                 final TTConsoleLogger logger) {
             boolean isGenerated = true;
             final String templateName = config.getName();
-            final Map<String, String> configMap = getConfigMap();
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                logger.logInfo(String.format("- Generating %s test reports...", templateName));
+            final Map<String, String> configMap = getConfigMap(config);
+            logger.logInfo(String.format("- Generating %s test reports...", templateName));
+            try {
                 for (final FilePath dbFile : dbFiles) {
                     logger.logInfo(String.format("-> Generating %s report: %s", templateName, dbFile.getRemote()));
                     final FilePath outDir = dbFile.getParent().child(templateName);
@@ -116,9 +179,10 @@ public class ReportGenerator {
         /**
          * Gets the configuration map.
          *
+         * @param config the generator configuration
          * @return the configuration map
          */
-        private Map<String, String> getConfigMap() {
+        private static Map<String, String> getConfigMap(final ReportGeneratorConfig config) {
             final Map<String, String> configMap = new LinkedHashMap<>();
             for (final ReportGeneratorSetting setting : config.getSettings()) {
                 configMap.put(setting.getName(), setting.getValue());
@@ -49,7 +49,9 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean add(final GeneratorReport report) {
-        return getGeneratorReports().add(report);
+        final boolean added = getGeneratorReports().add(report);
+        invalidateReportIndex();
+        return added;
     }
 
     /**
@@ -59,7 +61,14 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean addAll(final Collection<GeneratorReport> reports) {
-        return getGeneratorReports().addAll(reports);
+        final boolean added = getGeneratorReports().addAll(reports);
+        invalidateReportIndex();
+        return added;
+    }
+
+    @Override
+    protected List<GeneratorReport> getIndexedReports() {
+        return getGeneratorReports();
     }
 
     /**
@@ -69,39 +78,7 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      * @return the {@link GeneratorReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final GeneratorReport report : getGeneratorReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final GeneratorReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link GeneratorReport} matching the given token id.
-     *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link GeneratorReport} or {@code null} if no proper report exists
-     */
-    private GeneratorReport traverseSubReports(final String token, final GeneratorReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (GeneratorReport) subReport;
-            } else {
-                final GeneratorReport potentialReport = traverseSubReports(token, (GeneratorReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportById(token);
     }
 
     @Override
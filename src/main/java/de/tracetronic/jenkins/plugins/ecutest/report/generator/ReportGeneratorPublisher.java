@@ -9,8 +9,10 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportDirectory;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.EnvVars;
 import hudson.Extension;
 import hudson.FilePath;
@@ -18,6 +20,7 @@ import hudson.Launcher;
 import hudson.Util;
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
@@ -26,7 +29,9 @@ import org.kohsuke.stapler.DataBoundSetter;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Publisher providing links to saved {@link GeneratorReport}s.
@@ -131,24 +136,32 @@ public class ReportGeneratorPublisher extends AbstractReportPublisher {
             throw new ETPluginException("Empty test results are not allowed, setting build status to FAILURE!");
         }
 
-        final List<GeneratorReport> reports = new ArrayList<>();
-        if (isETRunning(launcher)) {
-            reports.addAll(generateReports(reportFiles, run, workspace, launcher, listener));
-        } else {
-            final ETClient etClient = getToolClient(toolName, run, workspace, launcher, listener);
-            if (etClient.start(false, workspace, launcher, listener)) {
-                reports.addAll(generateReports(reportFiles, run, workspace, launcher, listener));
+        // Removing old artifacts at project level
+        final FilePath archiveTarget = getArchiveTarget(run);
+        boolean isArchivable = isArchiving();
+        if (!reportFiles.isEmpty() && !isKeepAll()) {
+            if (removePreviousReports(run, ReportGeneratorBuildAction.class)) {
+                archiveTarget.deleteRecursive();
             } else {
-                logger.logError(String.format("Starting %s failed.", toolName));
+                logger.logInfo("Skipped archiving generator reports, a newer build already published them.");
+                isArchivable = false;
             }
-            if (!etClient.stop(true, workspace, launcher, listener)) {
-                logger.logError(String.format("Stopping %s failed.", toolName));
+        }
+
+        final List<GeneratorReport> reports = new ArrayList<>();
+        final ETInstanceService.Lease lease = acquireToolClient(toolName, run, workspace, launcher, listener);
+        try {
+            if (lease.isStarted()) {
+                reports.addAll(generateReports(reportFiles, archiveTarget, isArchivable,
+                    getComContext(lease, run, workspace), run, workspace, launcher, listener));
             }
+        } finally {
+            releaseToolClient(toolName, lease, workspace, launcher, listener);
         }
 
-        if (isArchiving()) {
+        if (isArchivable) {
             addBuildAction(run, reports);
-        } else {
+        } else if (!isArchiving()) {
             logger.logInfo("Archiving TRF reports is disabled.");
         }
 
@@ -157,71 +170,133 @@ public class ReportGeneratorPublisher extends AbstractReportPublisher {
 
     /**
      * Generates the reports with the configured report generators.
+     * <p>
+     * All generators are processed within a single remote call sharing one COM connection and the generated reports
+     * of all generators are archived in one pass.
      *
-     * @param reportFiles the report files
-     * @param run         the run
-     * @param workspace   the workspace
-     * @param launcher    the launcher
-     * @param listener    the listener
+     * @param reportFiles   the report files
+     * @param archiveTarget the archive target directory
+     * @param isArchivable  specifies whether to archive the generated reports
+     * @param comContext    the COM context of the ECU-TEST instance
+     * @param run           the run
+     * @param workspace     the workspace
+     * @param launcher      the launcher
+     * @param listener      the listener
      * @return the list of generated reports
      * @throws IOException          Signals that an I/O exception has occurred.
      * @throws InterruptedException the interrupted exception
      */
-    @SuppressWarnings("checkstyle:cyclomaticcomplexity")
-    private List<GeneratorReport> generateReports(final List<FilePath> reportFiles, final Run<?, ?> run,
-                                                  final FilePath workspace, final Launcher launcher,
-                                                  final TaskListener listener)
+    private List<GeneratorReport> generateReports(final List<FilePath> reportFiles, final FilePath archiveTarget,
+                                                  final boolean isArchivable, final ETComContext comContext,
+                                                  final Run<?, ?> run, final FilePath workspace,
+                                                  final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
-        final TTConsoleLogger logger = getLogger();
         final List<GeneratorReport> reports = new ArrayList<>();
-        final FilePath archiveTarget = getArchiveTarget(run);
         final List<ReportGeneratorConfig> generators = new ArrayList<>();
-        generators.addAll(getGenerators());
-        generators.addAll(getCustomGenerators());
-
-        // Removing old artifacts at project level
-        if (!reportFiles.isEmpty() && !isKeepAll()) {
-            archiveTarget.deleteRecursive();
-            removePreviousReports(run, ReportGeneratorBuildAction.class);
+        final EnvVars envVars = run.getEnvironment(listener);
+        for (final ReportGeneratorConfig config : getGenerators()) {
+            generators.add(config.expand(envVars));
+        }
+        for (final ReportGeneratorConfig config : getCustomGenerators()) {
+            generators.add(config.expand(envVars));
         }
 
         // Generate reports with all generators
-        for (final ReportGeneratorConfig config : generators) {
-            final EnvVars envVars = run.getEnvironment(listener);
-            final ReportGeneratorConfig expConfig = config.expand(envVars);
-            final ReportGenerator generator = new ReportGenerator(expConfig);
-            final boolean isGenerated = generator.generate(reportFiles, launcher, listener);
-            if (isArchiving() && isGenerated && !reportFiles.isEmpty()) {
-                // Archive generated reports
-                logger.logInfo("- Archiving generated reports...");
-                final String templateName = expConfig.getName();
-                final FilePath archiveTargetDir = archiveTarget.child(templateName);
-                final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
-                for (final FilePath reportDir : reportDirs) {
-                    try {
-                        final int copiedFiles = reportDir.copyRecursiveTo(String.format("**/%s/**", templateName),
-                            archiveTargetDir.child(reportDir.getName()));
-                        logger.logInfo(String.format("-> Archived %d report file(s).", copiedFiles));
-                    } catch (final IOException e) {
-                        Util.displayIOException(e, listener);
-                        logger.logError("Failed archiving generated reports.");
-                    }
-                }
-                // Collect reports
-                if (archiveTargetDir.exists()) {
-                    final GeneratorReport report = new GeneratorReport(randomId(), templateName,
-                        templateName, getDirectorySize(archiveTargetDir));
-                    reports.add(report);
-                    for (final FilePath testReportDir : archiveTargetDir.listDirectories()) {
-                        final GeneratorReport subReport = new GeneratorReport(randomId(),
-                            testReportDir.getBaseName(), String.format("%s/%s", templateName,
-                            testReportDir.getBaseName()), getDirectorySize(testReportDir));
-                        report.addSubReport(subReport);
+        final List<Boolean> results = ReportGenerator.generate(generators, reportFiles, comContext, launcher, listener);
+        final Set<String> templateNames = new LinkedHashSet<>();
+        for (int i = 0; i < generators.size(); i++) {
+            if (results.get(i)) {
+                templateNames.add(generators.get(i).getName());
+            }
+        }
+
+        if (isArchivable && !templateNames.isEmpty() && !reportFiles.isEmpty()) {
+            // Archive generated reports
+            archiveReports(templateNames, archiveTarget, run, workspace, launcher, listener);
+
+            // Collect reports
+            reports.addAll(collectReports(templateNames, archiveTarget));
+        }
+
+        return reports;
+    }
+
+    /**
+     * Archives the generated reports of all given templates.
+     * <p>
+     * The reports of all templates are transferred from each report directory at once into a temporary staging
+     * directory and then distributed locally into the template specific archive directories.
+     *
+     * @param templateNames the names of the templates to archive
+     * @param archiveTarget the archive target directory
+     * @param run           the run
+     * @param workspace     the workspace
+     * @param launcher      the launcher
+     * @param listener      the listener
+     * @throws IOException          Signals that an I/O exception has occurred.
+     * @throws InterruptedException the interrupted exception
+     */
+    private void archiveReports(final Set<String> templateNames, final FilePath archiveTarget,
+                                final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                final TaskListener listener) throws IOException, InterruptedException {
+        final TTConsoleLogger logger = getLogger();
+        logger.logInfo("- Archiving generated reports...");
+        final List<String> includes = new ArrayList<>();
+        for (final String templateName : templateNames) {
+            includes.add(String.format("**/%s/**", templateName));
+        }
+        archiveTarget.mkdirs();
+        final FilePath stagingDir = archiveTarget.createTempDir("staging", null);
+        try {
+            final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
+            for (final FilePath reportDir : reportDirs) {
+                try {
+                    final FilePath stagingReportDir = stagingDir.child(reportDir.getName());
+                    final int copiedFiles = reportDir.copyRecursiveTo(StringUtils.join(includes, ","),
+                        stagingReportDir);
+                    logger.logInfo(String.format("-> Archived %d report file(s).", copiedFiles));
+                    for (final String templateName : templateNames) {
+                        stagingReportDir.copyRecursiveTo(String.format("**/%s/**", templateName),
+                            archiveTarget.child(templateName).child(reportDir.getName()));
                     }
+                } catch (final IOException e) {
+                    Util.displayIOException(e, listener);
+                    logger.logError("Failed archiving generated reports.");
                 }
             }
+        } finally {
+            stagingDir.deleteRecursive();
         }
+    }
 
+    /**
+     * Collects the archived reports of all given templates.
+     *
+     * @param templateNames the names of the archived templates
+     * @param archiveTarget the archive target directory
+     * @return the list of archived reports
+     * @throws IOException          Signals that an I/O exception has occurred.
+     * @throws InterruptedException the interrupted exception
+     */
+    private List<GeneratorReport> collectReports(final Set<String> templateNames, final FilePath archiveTarget)
+        throws IOException, InterruptedException {
+        final List<GeneratorReport> reports = new ArrayList<>();
+        for (final String templateName : templateNames) {
+            final FilePath archiveTargetDir = archiveTarget.child(templateName);
+            if (archiveTargetDir.exists()) {
+                final ReportDirectory reportDir = ReportDirectory.scan(archiveTargetDir);
+                final GeneratorReport report = new GeneratorReport(randomId(), templateName,
+                    templateName, reportDir.getSize());
+                reports.add(report);
+                for (final ReportDirectory testReportDir : reportDir.getSubDirectories()) {
+                    final String testReportName = FilenameUtils.getBaseName(testReportDir.getName());
+                    final GeneratorReport subReport = new GeneratorReport(randomId(),
+                        testReportName, String.format("%s/%s", templateName, testReportName),
+                        testReportDir.getSize());
+                    report.addSubReport(subReport);
+                }
+            }
+        }
         return reports;
     }
 
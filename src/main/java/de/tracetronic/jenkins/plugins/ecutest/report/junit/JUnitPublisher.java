@@ -180,7 +180,7 @@ public class JUnitPublisher extends AbstractReportPublisher implements MatrixAgg
             run.getEnvironment(listener));
         final JUnitReportGenerator generator = new JUnitReportGenerator();
         if (!generator.generate(installation, reportFiles, run, workspace, launcher, listener)) {
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
             return;
         }
 
@@ -223,7 +223,7 @@ public class JUnitPublisher extends AbstractReportPublisher implements MatrixAgg
             logger.logInfo("-> No UNIT test results found.");
             if (!isAllowMissing()) {
                 logger.logError("Empty test results are not allowed, setting build status to FAILURE!");
-                run.setResult(Result.FAILURE);
+                updateBuildResult(run, Result.FAILURE);
                 return false;
             }
         } else {
@@ -239,12 +239,12 @@ public class JUnitPublisher extends AbstractReportPublisher implements MatrixAgg
             logger.logInfo(String.format(
                 "-> %.1f%% of failed test results exceed failed threshold of %.1f%%, "
                     + "setting build status to FAILURE!", failedPercentage, failedThreshold));
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         } else if (failedPercentage > unstableThreshold) {
             logger.logInfo(String.format(
                 "-> %.1f%% of failed test results exceed unstable threshold of %.1f%%, "
                     + "setting build status to UNSTABLE!", failedPercentage, unstableThreshold));
-            run.setResult(Result.UNSTABLE);
+            updateBuildResult(run, Result.UNSTABLE);
         }
         return true;
     }
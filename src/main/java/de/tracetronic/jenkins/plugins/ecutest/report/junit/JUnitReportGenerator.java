@@ -9,11 +9,13 @@ import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Run;
@@ -22,6 +24,7 @@ import hudson.remoting.Callable;
 import jenkins.security.MasterToSlaveCallable;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,7 +36,7 @@ public class JUnitReportGenerator {
 
     /**
      * Generates UNIT reports by invoking the startup of ECU-TEST if not already running, otherwise using the current
-     * instance without closing when finished.
+     * instance without closing when finished. Started instances might be shared by the {@link ETInstanceService}.
      *
      * @param installation the installation
      * @param reportFiles  the report files
@@ -52,23 +55,32 @@ public class JUnitReportGenerator {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         final List<String> foundProcesses = ETClient.checkProcesses(launcher, false);
         final boolean isETRunning = !foundProcesses.isEmpty();
+        final ETInstanceService service = ETInstanceService.getInstance();
 
         // Start ECU-TEST if necessary and generate the UNIT reports
+        final String toolName = run.getEnvironment(listener).expand(installation.getName());
+        ETInstanceService.Lease lease = null;
         if (isETRunning) {
-            isGenerated = generateReports(reportFiles, launcher, listener);
-        } else {
-            final String toolName = run.getEnvironment(listener).expand(installation.getName());
+            lease = service.acquireRunning(launcher.getChannel(), listener);
+        }
+        if (lease == null) {
             final String installPath = installation.getExecutable(launcher);
             final String workspaceDir = getWorkspaceDir(run);
             final String settingsDir = getSettingsDir(run);
             final ETClient etClient = new ETClient(toolName, installPath, workspaceDir, settingsDir,
                 StartETBuilder.DEFAULT_TIMEOUT, false);
-            if (etClient.start(false, workspace, launcher, listener)) {
-                isGenerated = generateReports(reportFiles, launcher, listener);
-            } else {
+            etClient.setComContext(installation.getComContext());
+            lease = service.acquire(etClient, workspace, launcher, listener);
+            if (!lease.isStarted()) {
                 logger.logError(String.format("Starting %s failed.", toolName));
             }
-            if (!etClient.stop(true, workspace, launcher, listener)) {
+        }
+        try {
+            if (lease.isStarted()) {
+                isGenerated = generateReports(reportFiles, getComContext(lease, run, workspace), launcher, listener);
+            }
+        } finally {
+            if (!service.release(lease, workspace, launcher, listener)) {
                 logger.logError(String.format("Stopping %s failed.", toolName));
             }
         }
@@ -80,18 +92,35 @@ public class JUnitReportGenerator {
      * Generate UNIT reports by calling the {@link GenerateUnitReportCallable}.
      *
      * @param reportFiles the report files
+     * @param comContext  the COM context of the ECU-TEST instance
      * @param launcher    the launcher
      * @param listener    the listener
      * @return {@code true} if generation succeeded, {@code false} otherwise
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private boolean generateReports(final List<FilePath> reportFiles, final Launcher launcher,
-                                    final TaskListener listener) throws IOException, InterruptedException {
+    private boolean generateReports(final List<FilePath> reportFiles, final ETComContext comContext,
+                                    final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo("- Generating UNIT test reports...");
         return launcher.getChannel().call(
-            new GenerateUnitReportCallable(reportFiles, listener));
+            new GenerateUnitReportCallable(reportFiles, comContext, listener));
+    }
+
+    /**
+     * Gets the COM context of the acquired ECU-TEST instance, either of the started or of the already running one.
+     *
+     * @param lease     the lease of the instance
+     * @param run       the run
+     * @param workspace the workspace
+     * @return the COM context of the instance
+     */
+    private ETComContext getComContext(final ETInstanceService.Lease lease, final Run<?, ?> run,
+                                       final FilePath workspace) {
+        final ETClient etClient = lease.getClient();
+        return etClient == null ? ToolEnvInvisibleAction.resolveComContext(run, workspace)
+            : etClient.getComContext();
     }
 
     /**
@@ -132,16 +161,20 @@ public class JUnitReportGenerator {
         private static final long serialVersionUID = 1L;
 
         private final List<FilePath> dbFiles;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link GenerateUnitReportCallable}.
          *
-         * @param dbFiles  the list of TRF files
-         * @param listener the listener
+         * @param dbFiles    the list of TRF files
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        GenerateUnitReportCallable(final List<FilePath> dbFiles, final TaskListener listener) {
+        GenerateUnitReportCallable(final List<FilePath> dbFiles,
+                                   final ETComContext comContext, final TaskListener listener) {
             this.dbFiles = dbFiles;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -149,14 +182,14 @@ public class JUnitReportGenerator {
         public Boolean call() throws IOException {
             boolean isGenerated = true;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestEnvironment testEnv = comClient.getTestEnvironment();
                 for (final FilePath dbFile : dbFiles) {
                     logger.logInfo(String.format("-> Generating UNIT report: %s", dbFile.getRemote()));
                     final FilePath outDir = dbFile.getParent().child(JUnitPublisher.UNIT_TEMPLATE_NAME);
                     if (!testEnv.generateTestReportDocumentFromDB(dbFile.getRemote(),
-                        outDir.getRemote(), JUnitPublisher.UNIT_TEMPLATE_NAME, true)) {
+                        outDir.getRemote(), JUnitPublisher.UNIT_TEMPLATE_NAME, true,
+                        Collections.<String, String>emptyMap())) {
                         isGenerated = false;
                         logger.logError("Generating UNIT report failed!");
                     }
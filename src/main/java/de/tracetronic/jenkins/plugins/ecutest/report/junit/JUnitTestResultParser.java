@@ -7,17 +7,20 @@ package de.tracetronic.jenkins.plugins.ecutest.report.junit;
 
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import hudson.FilePath;
-import hudson.FilePath.FileCallable;
 import hudson.model.TaskListener;
+import hudson.remoting.Callable;
 import hudson.remoting.VirtualChannel;
 import hudson.tasks.junit.TestResult;
 import hudson.tasks.test.TestResultParser;
-import jenkins.MasterToSlaveFileCallable;
+import jenkins.security.MasterToSlaveCallable;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Class providing a {@link TestResult} by parsing the JUnit report.
@@ -30,6 +33,9 @@ public class JUnitTestResultParser extends TestResultParser implements Serializa
 
     /**
      * Parses the given JUnit test report files and builds a {@link TestResult} object that represents them.
+     * <p>
+     * All report files residing on the same node are parsed within a single remote call,
+     * so the accumulated {@link TestResult} is transferred only once per node instead of once per file.
      *
      * @param xmlFiles the JUnit report files
      * @param listener the listener
@@ -39,18 +45,37 @@ public class JUnitTestResultParser extends TestResultParser implements Serializa
      */
     public TestResult parseResult(final List<FilePath> xmlFiles, final TaskListener listener)
         throws IOException, InterruptedException {
-        final TTConsoleLogger logger = new TTConsoleLogger(listener);
         TestResult testResult = new TestResult(false);
-        for (final FilePath xmlFile : xmlFiles) {
-            if (xmlFile.exists()) {
-                logger.logInfo(String.format("- Processing UNIT test results: %s", xmlFile));
-                testResult = xmlFile.act(new ParseTestResultCallable(testResult));
-                testResult.tally();
+        for (final List<FilePath> nodeFiles : groupByChannel(xmlFiles).values()) {
+            final List<String> filePaths = new ArrayList<>();
+            for (final FilePath xmlFile : nodeFiles) {
+                filePaths.add(xmlFile.getRemote());
             }
+            testResult = nodeFiles.get(0).act(new ParseTestResultsCallable(testResult, filePaths, listener));
+            testResult.tally();
         }
         return testResult;
     }
 
+    /**
+     * Groups the given files by the channel of the node they reside on, retaining their order.
+     *
+     * @param files the files to group
+     * @return the files grouped by channel
+     */
+    private static Map<VirtualChannel, List<FilePath>> groupByChannel(final List<FilePath> files) {
+        final Map<VirtualChannel, List<FilePath>> groupedFiles = new LinkedHashMap<>();
+        for (final FilePath file : files) {
+            List<FilePath> channelFiles = groupedFiles.get(file.getChannel());
+            if (channelFiles == null) {
+                channelFiles = new ArrayList<>();
+                groupedFiles.put(file.getChannel(), channelFiles);
+            }
+            channelFiles.add(file);
+        }
+        return groupedFiles;
+    }
+
     @Override
     public String getDisplayName() {
         return "UNIT XML Parser";
@@ -62,27 +87,40 @@ public class JUnitTestResultParser extends TestResultParser implements Serializa
     }
 
     /**
-     * {@link FileCallable} enabling remote file access to parse the JUnit report.
+     * {@link Callable} enabling remote file access to parse all JUnit reports of a node at once.
      */
-    private static final class ParseTestResultCallable extends MasterToSlaveFileCallable<TestResult> {
+    private static final class ParseTestResultsCallable extends MasterToSlaveCallable<TestResult, IOException> {
 
         private static final long serialVersionUID = 1L;
 
         private final TestResult testResult;
+        private final List<String> filePaths;
+        private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link ParseTestResultCallable}.
+         * Instantiates a new {@link ParseTestResultsCallable}.
          *
-         * @param testResult the test result
+         * @param testResult the test result to append to
+         * @param filePaths  the paths of the JUnit report files
+         * @param listener   the listener
          */
-        ParseTestResultCallable(final TestResult testResult) {
+        ParseTestResultsCallable(final TestResult testResult, final List<String> filePaths,
+                                 final TaskListener listener) {
             this.testResult = testResult;
+            this.filePaths = filePaths;
+            this.listener = listener;
         }
 
         @Override
-        public TestResult invoke(final File file, final VirtualChannel channel)
-            throws IOException, InterruptedException {
-            testResult.parse(file, null);
+        public TestResult call() throws IOException {
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            for (final String filePath : filePaths) {
+                final File xmlFile = new File(filePath);
+                if (xmlFile.exists()) {
+                    logger.logInfo(String.format("- Processing UNIT test results: %s", filePath));
+                    testResult.parse(xmlFile, null);
+                }
+            }
             return testResult;
         }
     }
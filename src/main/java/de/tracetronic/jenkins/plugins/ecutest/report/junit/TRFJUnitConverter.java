@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.junit;
+
+import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFDatabase;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.TaskListener;
+import hudson.remoting.Callable;
+import jenkins.security.MasterToSlaveCallable;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class providing the native conversion of TRF reports to JUnit reports.
+ * <p>
+ * In contrast to the {@link JUnitReportGenerator} the TRF reports are read directly as SQLite databases, so neither a
+ * running ECU-TEST instance nor a Windows node is required. The generated report is written to the same location as
+ * the UNIT template would do, i.e. {@value JUnitPublisher#UNIT_TEMPLATE_NAME}/{@value JUnitPublisher#JUNIT_REPORT_FILE}
+ * next to the TRF report.
+ * <p>
+ * This conversion is not used by the {@link JUnitPublisher} yet: only the report info, project and package tables
+ * known from {@link de.tracetronic.jenkins.plugins.ecutest.report.atx.ATXReportUploader} are read, so verdicts are
+ * reported per package instead of per test case. It has to be verified against TRF reports exported by ECU-TEST
+ * before it can replace the UNIT template.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+class TRFJUnitConverter {
+
+    /**
+     * Project name of TRF reports generated by a package execution.
+     */
+    private static final String PACKAGE_PROJECT_NAME = "$$$_PACKAGE_$$$";
+
+    /**
+     * Converts the given TRF reports to UNIT reports.
+     *
+     * @param reportFiles the report files
+     * @param launcher    the launcher
+     * @param listener    the listener
+     * @return {@code true} if conversion succeeded, {@code false} otherwise
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public boolean convert(final List<FilePath> reportFiles, final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        final TTConsoleLogger logger = new TTConsoleLogger(listener);
+        logger.logInfo("- Converting TRF reports to UNIT test reports...");
+        return launcher.getChannel().call(new ConvertReportCallable(reportFiles, listener));
+    }
+
+    /**
+     * Converts a single TRF report to a JUnit report.
+     *
+     * @param trfFile the TRF report file
+     * @param xmlFile the JUnit report file to write
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static void convert(final File trfFile, final File xmlFile) throws IOException {
+        final TestSuiteInfo testSuite = readTestSuite(trfFile);
+        final File outDir = xmlFile.getParentFile();
+        if (outDir != null && !outDir.isDirectory() && !outDir.mkdirs()) {
+            throw new IOException(String.format("Could not create directory %s", outDir));
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(xmlFile))) {
+            writeTestSuite(testSuite, out);
+        }
+    }
+
+    /**
+     * Reads the test suite information from the TRF report.
+     * <p>
+     * The test suite is named after the executed project or package and each executed package becomes a test case.
+     * The verdict is read from the package entries if available, otherwise from the report information. Reports
+     * without any verdict are rejected, so that failed tests are never published as skipped.
+     *
+     * @param trfFile the TRF report file
+     * @return the test suite information
+     * @throws IOException signals that an I/O exception has occurred or that the report contains no verdicts
+     */
+    private static TestSuiteInfo readTestSuite(final File trfFile) throws IOException {
+        try (TRFDatabase sql = new TRFDatabase(trfFile.getAbsolutePath())) {
+            final boolean hasPkgResult = sql.hasColumn("pkg", "result");
+            final boolean hasPkgDuration = sql.hasColumn("pkg", "duration");
+            final boolean hasInfoResult = sql.hasColumn("info", "result");
+            if (!hasPkgResult && !hasInfoResult) {
+                throw new IOException(String.format("TRF report %s does not contain any verdicts!", trfFile));
+            }
+
+            ResultSet rs = sql.query(hasInfoResult
+                ? "SELECT execution_time, duration, result FROM info"
+                : "SELECT execution_time, duration FROM info");
+            final String timestamp = formatTimestamp(rs.getString("execution_time"));
+            final double duration = rs.getDouble("duration");
+            final String reportResult = hasInfoResult ? rs.getString("result") : null;
+
+            rs = sql.query("SELECT name FROM prj");
+            final String prjName = rs.getString("name");
+
+            final StringBuilder pkgQuery = new StringBuilder("SELECT name");
+            if (hasPkgResult) {
+                pkgQuery.append(", result");
+            }
+            if (hasPkgDuration) {
+                pkgQuery.append(", duration");
+            }
+            pkgQuery.append(" FROM pkg");
+
+            final List<TestCaseInfo> testCases = new ArrayList<>();
+            rs = sql.query(pkgQuery.toString());
+            while (rs.next()) {
+                testCases.add(new TestCaseInfo(rs.getString("name"),
+                    Verdict.fromString(hasPkgResult ? rs.getString("result") : reportResult),
+                    hasPkgDuration ? rs.getDouble("duration") : -1));
+            }
+            if (testCases.size() == 1 && testCases.get(0).getDuration() < 0) {
+                testCases.set(0, new TestCaseInfo(testCases.get(0).getName(), testCases.get(0).getVerdict(),
+                    duration));
+            }
+
+            final String suiteName = PACKAGE_PROJECT_NAME.equals(prjName) && !testCases.isEmpty()
+                ? testCases.get(0).getName() : prjName;
+            return new TestSuiteInfo(suiteName, timestamp, duration, testCases);
+        } catch (final ClassNotFoundException | SQLException | ParseException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Formats the TRF execution time as ISO 8601 timestamp as expected by JUnit reports.
+     *
+     * @param execTime the TRF execution time
+     * @return the formatted timestamp
+     * @throws ParseException if the execution time cannot be parsed
+     */
+    private static String formatTimestamp(final String execTime) throws ParseException {
+        final SimpleDateFormat trfFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.ENGLISH);
+        final SimpleDateFormat junitFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.ENGLISH);
+        return junitFormat.format(trfFormat.parse(execTime));
+    }
+
+    /**
+     * Writes the test suite as JUnit XML to the given stream.
+     *
+     * @param testSuite the test suite information
+     * @param out       the output stream
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static void writeTestSuite(final TestSuiteInfo testSuite, final OutputStream out) throws IOException {
+        try {
+            final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeStartElement("testsuite");
+            writer.writeAttribute("name", testSuite.getName());
+            writer.writeAttribute("tests", String.valueOf(testSuite.getTestCases().size()));
+            writer.writeAttribute("failures", String.valueOf(testSuite.count(Verdict.FAILED)
+                + testSuite.count(Verdict.INCONCLUSIVE)));
+            writer.writeAttribute("errors", String.valueOf(testSuite.count(Verdict.ERROR)));
+            writer.writeAttribute("skipped", String.valueOf(testSuite.count(Verdict.NONE)));
+            writer.writeAttribute("time", formatDuration(testSuite.getDuration()));
+            writer.writeAttribute("timestamp", testSuite.getTimestamp());
+            for (final TestCaseInfo testCase : testSuite.getTestCases()) {
+                writer.writeStartElement("testcase");
+                writer.writeAttribute("classname", testSuite.getName());
+                writer.writeAttribute("name", testCase.getName());
+                writer.writeAttribute("time", formatDuration(testCase.getDuration()));
+                switch (testCase.getVerdict()) {
+                    case FAILED:
+                    case INCONCLUSIVE:
+                        writer.writeEmptyElement("failure");
+                        writer.writeAttribute("type", testCase.getVerdict().name());
+                        writer.writeAttribute("message", testCase.getVerdict().name());
+                        break;
+                    case ERROR:
+                        writer.writeEmptyElement("error");
+                        writer.writeAttribute("type", testCase.getVerdict().name());
+                        writer.writeAttribute("message", testCase.getVerdict().name());
+                        break;
+                    case NONE:
+                        writer.writeEmptyElement("skipped");
+                        break;
+                    default:
+                        break;
+                }
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Formats the duration in seconds with millisecond precision.
+     *
+     * @param duration the duration in seconds
+     * @return the formatted duration
+     */
+    private static String formatDuration(final double duration) {
+        return String.format(Locale.ENGLISH, "%.3f", Math.max(0, duration));
+    }
+
+    /**
+     * Enumeration of ECU-TEST verdicts.
+     */
+    enum Verdict {
+        NONE, SUCCESS, INCONCLUSIVE, FAILED, ERROR;
+
+        /**
+         * Gets the verdict by its name, unknown or missing verdicts are mapped to {@link #ERROR}.
+         *
+         * @param result the result name
+         * @return the verdict
+         */
+        static Verdict fromString(final String result) {
+            if (result != null) {
+                for (final Verdict verdict : values()) {
+                    if (verdict.name().equalsIgnoreCase(result.trim())) {
+                        return verdict;
+                    }
+                }
+            }
+            return ERROR;
+        }
+    }
+
+    /**
+     * Helper class storing information about a single test case.
+     */
+    private static final class TestCaseInfo {
+
+        private final String name;
+        private final Verdict verdict;
+        private final double duration;
+
+        /**
+         * Instantiates a new {@link TestCaseInfo}.
+         *
+         * @param name     the test case name
+         * @param verdict  the verdict
+         * @param duration the duration in seconds, negative if unknown
+         */
+        TestCaseInfo(final String name, final Verdict verdict, final double duration) {
+            this.name = name;
+            this.verdict = verdict;
+            this.duration = duration;
+        }
+
+        /**
+         * @return the test case name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the verdict
+         */
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        /**
+         * @return the duration in seconds
+         */
+        public double getDuration() {
+            return duration;
+        }
+    }
+
+    /**
+     * Helper class storing information about the test suite.
+     */
+    private static final class TestSuiteInfo {
+
+        private final String name;
+        private final String timestamp;
+        private final double duration;
+        private final List<TestCaseInfo> testCases;
+
+        /**
+         * Instantiates a new {@link TestSuiteInfo}.
+         *
+         * @param name      the test suite name
+         * @param timestamp the execution timestamp
+         * @param duration  the duration in seconds
+         * @param testCases the test cases
+         */
+        TestSuiteInfo(final String name, final String timestamp, final double duration,
+                      final List<TestCaseInfo> testCases) {
+            this.name = name;
+            this.timestamp = timestamp;
+            this.duration = duration;
+            this.testCases = testCases;
+        }
+
+        /**
+         * @return the test suite name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the execution timestamp
+         */
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return the duration in seconds
+         */
+        public double getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the test cases
+         */
+        public List<TestCaseInfo> getTestCases() {
+            return testCases;
+        }
+
+        /**
+         * Counts the test cases with given verdict.
+         *
+         * @param verdict the verdict
+         * @return the number of test cases
+         */
+        public int count(final Verdict verdict) {
+            int count = 0;
+            for (final TestCaseInfo testCase : testCases) {
+                if (testCase.getVerdict() == verdict) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * {@link Callable} enabling conversion of TRF reports remotely.
+     */
+    private static final class ConvertReportCallable extends MasterToSlaveCallable<Boolean, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<FilePath> dbFiles;
+        private final TaskListener listener;
+
+        /**
+         * Instantiates a new {@link ConvertReportCallable}.
+         *
+         * @param dbFiles  the list of TRF files
+         * @param listener the listener
+         */
+        ConvertReportCallable(final List<FilePath> dbFiles, final TaskListener listener) {
+            this.dbFiles = dbFiles;
+            this.listener = listener;
+        }
+
+        @Override
+        public Boolean call() throws IOException {
+            boolean isConverted = true;
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            for (final FilePath dbFile : dbFiles) {
+                logger.logInfo(String.format("-> Converting TRF report: %s", dbFile.getRemote()));
+                final File trfFile = new File(dbFile.getRemote());
+                final File xmlFile = new File(new File(trfFile.getParentFile(), JUnitPublisher.UNIT_TEMPLATE_NAME),
+                    JUnitPublisher.JUNIT_REPORT_FILE);
+                try {
+                    convert(trfFile, xmlFile);
+                } catch (final IOException e) {
+                    isConverted = false;
+                    logger.logError(String.format("Converting TRF report failed: %s", e.getMessage()));
+                }
+            }
+            return isConverted;
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.LastReportBuildCache;
 import hudson.model.Job;
 import hudson.model.Run;
 
@@ -38,12 +39,7 @@ public abstract class AbstractETLogAction extends AbstractReportAction {
 
     @Override
     public Run<?, ?> getLastReportBuild(final Job<?, ?> project) {
-        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
-            if (build.getAction(ETLogBuildAction.class) != null) {
-                return build;
-            }
-        }
-        return null;
+        return LastReportBuildCache.getLastReportBuild(project, ETLogBuildAction.class);
     }
 
     @Override
@@ -5,7 +5,6 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
-import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -48,7 +47,9 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean add(final ETLogReport report) {
-        return getLogReports().add(report);
+        final boolean added = getLogReports().add(report);
+        invalidateReportIndex();
+        return added;
     }
 
     /**
@@ -58,7 +59,14 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean addAll(final Collection<ETLogReport> reports) {
-        return getLogReports().addAll(reports);
+        final boolean added = getLogReports().addAll(reports);
+        invalidateReportIndex();
+        return added;
+    }
+
+    @Override
+    protected List<ETLogReport> getIndexedReports() {
+        return getLogReports();
     }
 
     /**
@@ -68,39 +76,7 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      * @return the {@link ETLogReport} or {@code null} if no proper report exists
      */
     public ETLogReport getDynamic(final String token) {
-        for (final ETLogReport report : getLogReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final ETLogReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link ETLogReport} matching the given token id.
-     *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link ETLogReport} or {@code null} if no proper report exists
-     */
-    private ETLogReport traverseSubReports(final String token, final ETLogReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (ETLogReport) subReport;
-            } else {
-                final ETLogReport potentialReport = traverseSubReports(token, (ETLogReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return (ETLogReport) getReportById(token);
     }
 
     @Override
@@ -7,22 +7,32 @@ package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
 import hudson.FilePath;
+import hudson.FilePath.FileCallable;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
 import org.apache.commons.lang.StringUtils;
 
 import javax.annotation.CheckForNull;
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Class providing a parser for the ECU-TEST log files.
+ * <p>
+ * The log file is read in a single streaming pass on the node where it resides, collecting both the annotated
+ * log messages and the total counts of warning and error messages.
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
@@ -30,9 +40,12 @@ public class ETLogParser {
 
     private static final Logger LOGGER = Logger.getLogger(ETLogParser.class.getName());
 
-    private static final String LOG_PATTERN = "^[^\\s]+(.*)";
-    private static final String WARNING_PATTERN = LOG_PATTERN + "WARNING:$";
-    private static final String ERROR_PATTERN = LOG_PATTERN + "ERROR:$";
+    private static final String WARNING_SUFFIX = "WARNING:";
+    private static final String ERROR_SUFFIX = "ERROR:";
+    private static final Pattern LOG_PATTERN = Pattern.compile("^[^\\s]+(.*)");
+    private static final Pattern WARNING_PATTERN = Pattern.compile(LOG_PATTERN.pattern() + WARNING_SUFFIX + "$");
+    private static final Pattern ERROR_PATTERN = Pattern.compile(LOG_PATTERN.pattern() + ERROR_SUFFIX + "$");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
     private final FilePath logFile;
 
@@ -51,34 +64,7 @@ public class ETLogParser {
      * @return the list of annotated log messages
      */
     public List<ETLogAnnotation> parse() {
-        final List<ETLogAnnotation> logReports = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logFile.read(),
-            Charset.forName("UTF-8")))) {
-            String line;
-            int warnLogCount = 0;
-            int errorLogCount = 0;
-            final int maxLogCount = AbstractETLogAction.getMaxLogSize();
-            try (LineNumberReader lineReader = new LineNumberReader(reader)) {
-                while ((line = lineReader.readLine()) != null
-                    && (warnLogCount < maxLogCount || errorLogCount < maxLogCount)) {
-                    ETLogAnnotation logAnnotation = null;
-                    if (warnLogCount < maxLogCount && isWarningLog(line)) {
-                        logAnnotation = parseLine(line, lineReader, Severity.WARNING);
-                        warnLogCount++;
-                    } else if (errorLogCount < maxLogCount && isErrorLog(line)) {
-                        logAnnotation = parseLine(line, lineReader, Severity.ERROR);
-                        errorLogCount++;
-                    }
-                    if (logAnnotation != null) {
-                        logReports.add(logAnnotation);
-                    }
-                }
-            }
-        } catch (final IOException | InterruptedException e) {
-            LOGGER.log(Level.SEVERE,
-                String.format("Failed parsing log file %s: %s", logFile.getRemote(), e.getMessage()));
-        }
-        return logReports;
+        return parseLog().getAnnotations();
     }
 
     /**
@@ -88,78 +74,259 @@ public class ETLogParser {
      * @return the total log count by severity
      */
     public int parseLogCount(final Severity severity) {
-        int logCount = 0;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logFile.read(),
-            Charset.forName("UTF-8")))) {
-            String line;
-            try (LineNumberReader lineReader = new LineNumberReader(reader)) {
-                while ((line = lineReader.readLine()) != null) {
-                    if (severity == Severity.WARNING && isWarningLog(line)
-                        || severity == Severity.ERROR && isErrorLog(line)) {
-                        logCount++;
-                    }
-                }
-            }
+        return parseLog().getLogCount(severity);
+    }
+
+    /**
+     * Parses the ECU-TEST log file in a single pass.
+     * The number of annotated messages per severity is limited by {@link AbstractETLogAction#getMaxLogSize()},
+     * whereas the total log counts are always determined completely.
+     * <p>
+     * Parsing is performed where the log file resides, so only the compact result is transferred
+     * via the remoting channel instead of the whole log file.
+     *
+     * @return the parse result containing the annotated log messages and the total log counts
+     */
+    public ParseResult parseLog() {
+        try {
+            return logFile.act(new ParseLogCallable(AbstractETLogAction.getMaxLogSize()));
         } catch (final IOException | InterruptedException e) {
             LOGGER.log(Level.SEVERE,
                 String.format("Failed parsing log file %s: %s", logFile.getRemote(), e.getMessage()));
         }
-        return logCount;
+        return new ParseResult(new ArrayList<ETLogAnnotation>(), 0, 0);
     }
 
     /**
-     * Parses a single log message.
-     *
-     * @param line       the current line
-     * @param lineReader the line number reader
-     * @param severity   the severity to annotate the message.
-     * @return the annotated message, can be {@code null}
-     * @throws IOException signals that an I/O exception has occurred
+     * {@link FileCallable} parsing the log file on the node where it resides.
      */
-    @CheckForNull
-    private ETLogAnnotation parseLine(String line, final LineNumberReader lineReader, final Severity severity)
-        throws IOException {
-        ETLogAnnotation logAnnotation = null;
-        if (line != null) {
-            final String[] lineSplit = line.split("\\s+");
-            if (lineSplit.length == 5) {
-                final int lineNumber = lineReader.getLineNumber();
-                final StringBuilder msg = new StringBuilder();
+    private static final class ParseLogCallable extends MasterToSlaveFileCallable<ParseResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxLogCount;
+
+        /**
+         * Instantiates a new {@link ParseLogCallable}.
+         *
+         * @param maxLogCount the maximum number of annotated messages per severity
+         */
+        ParseLogCallable(final int maxLogCount) {
+            this.maxLogCount = maxLogCount;
+        }
+
+        @Override
+        public ParseResult invoke(final File logFile, final VirtualChannel channel) throws IOException {
+            final LogCollector collector = new LogCollector(maxLogCount);
+            try (LineNumberReader lineReader = new LineNumberReader(new BufferedReader(new InputStreamReader(
+                new FileInputStream(logFile), Charset.forName("UTF-8"))))) {
+                String line;
                 while ((line = lineReader.readLine()) != null) {
-                    if (Pattern.matches(LOG_PATTERN, line)) {
-                        if (lineReader.markSupported()) {
-                            lineReader.reset();
-                        }
-                        break;
-                    } else if (StringUtils.isNotBlank(line)) {
-                        msg.append(line.trim()).append("\n");
-                    }
-                    lineReader.mark(4096);
+                    collector.accept(line, lineReader.getLineNumber());
                 }
-                logAnnotation = new ETLogAnnotation(lineNumber, lineSplit[0] + " "
-                    + lineSplit[1], lineSplit[3], severity, msg.toString());
             }
+            return collector.getResult();
         }
-        return logAnnotation;
     }
 
     /**
-     * Checks whether the given log line is a warning message.
-     *
-     * @param line the log line
-     * @return {@code true} if warning message, {@code false} otherwise
+     * Collects the annotated log messages and counts the log messages per severity line by line.
      */
-    private boolean isWarningLog(final String line) {
-        return Pattern.matches(WARNING_PATTERN, line);
+    private static final class LogCollector {
+
+        private final int maxLogCount;
+        private final List<ETLogAnnotation> annotations = new ArrayList<>();
+        private final Matcher logMatcher = LOG_PATTERN.matcher("");
+        private final Matcher warningMatcher = WARNING_PATTERN.matcher("");
+        private final Matcher errorMatcher = ERROR_PATTERN.matcher("");
+        private int warningCount;
+        private int errorCount;
+        private MessageBuilder message;
+
+        /**
+         * Instantiates a new {@link LogCollector}.
+         *
+         * @param maxLogCount the maximum number of annotated messages per severity
+         */
+        LogCollector(final int maxLogCount) {
+            this.maxLogCount = maxLogCount;
+        }
+
+        /**
+         * Processes the next line of the log file.
+         *
+         * @param line       the log line
+         * @param lineNumber the line number
+         */
+        void accept(final String line, final int lineNumber) {
+            if (message != null) {
+                if (!logMatcher.reset(line).matches()) {
+                    message.append(line);
+                    return;
+                }
+                annotations.add(message.build());
+                message = null;
+            }
+            if (isLogLine(line, WARNING_SUFFIX, warningMatcher)) {
+                if (++warningCount <= maxLogCount) {
+                    message = createMessage(line, lineNumber, Severity.WARNING);
+                }
+            } else if (isLogLine(line, ERROR_SUFFIX, errorMatcher)) {
+                if (++errorCount <= maxLogCount) {
+                    message = createMessage(line, lineNumber, Severity.ERROR);
+                }
+            }
+        }
+
+        /**
+         * Completes a pending log message and returns the result.
+         *
+         * @return the parse result
+         */
+        ParseResult getResult() {
+            if (message != null) {
+                annotations.add(message.build());
+                message = null;
+            }
+            return new ParseResult(annotations, warningCount, errorCount);
+        }
+
+        /**
+         * Creates a builder collecting the lines of a single log message.
+         *
+         * @param line       the header line of the log message
+         * @param lineNumber the line number of the header line
+         * @param severity   the severity to annotate the message
+         * @return the message builder, can be {@code null} if the header line is malformed
+         */
+        @CheckForNull
+        private static MessageBuilder createMessage(final String line, final int lineNumber,
+                                                    final Severity severity) {
+            final String[] lineSplit = WHITESPACE_PATTERN.split(line);
+            if (lineSplit.length == 5) {
+                return new MessageBuilder(lineNumber, lineSplit[0] + " " + lineSplit[1], lineSplit[3], severity);
+            }
+            return null;
+        }
+
+        /**
+         * Checks whether the given log line is a message header of the given type.
+         * The cheap suffix check avoids running the regular expression for most of the lines.
+         *
+         * @param line    the log line
+         * @param suffix  the expected line suffix
+         * @param matcher the precompiled matcher to reuse
+         * @return {@code true} if message header, {@code false} otherwise
+         */
+        private static boolean isLogLine(final String line, final String suffix, final Matcher matcher) {
+            return line.endsWith(suffix) && matcher.reset(line).matches();
+        }
     }
 
     /**
-     * Checks whether the given log line is an error message.
-     *
-     * @param line the log line
-     * @return {@code true} if error message, {@code false} otherwise
+     * Collects the lines of a single log message.
      */
-    private boolean isErrorLog(final String line) {
-        return Pattern.matches(ERROR_PATTERN, line);
+    private static final class MessageBuilder {
+
+        private final int lineNumber;
+        private final String timestamp;
+        private final String context;
+        private final Severity severity;
+        private final StringBuilder msg = new StringBuilder();
+
+        /**
+         * Instantiates a new {@link MessageBuilder}.
+         *
+         * @param lineNumber the line number
+         * @param timestamp  the timestamp
+         * @param context    the context
+         * @param severity   the severity
+         */
+        MessageBuilder(final int lineNumber, final String timestamp, final String context,
+                       final Severity severity) {
+            this.lineNumber = lineNumber;
+            this.timestamp = timestamp;
+            this.context = context;
+            this.severity = severity;
+        }
+
+        /**
+         * Appends a message line if not blank.
+         *
+         * @param line the message line
+         */
+        void append(final String line) {
+            if (StringUtils.isNotBlank(line)) {
+                msg.append(line.trim()).append("\n");
+            }
+        }
+
+        /**
+         * @return the annotated message
+         */
+        ETLogAnnotation build() {
+            return new ETLogAnnotation(lineNumber, timestamp, context, severity, msg.toString());
+        }
+    }
+
+    /**
+     * Holds the result of parsing a log file.
+     */
+    public static final class ParseResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<ETLogAnnotation> annotations;
+        private final int warningCount;
+        private final int errorCount;
+
+        /**
+         * Instantiates a new {@link ParseResult}.
+         *
+         * @param annotations  the annotated log messages
+         * @param warningCount the total warning count
+         * @param errorCount   the total error count
+         */
+        public ParseResult(final List<ETLogAnnotation> annotations, final int warningCount, final int errorCount) {
+            this.annotations = annotations;
+            this.warningCount = warningCount;
+            this.errorCount = errorCount;
+        }
+
+        /**
+         * @return the annotated log messages
+         */
+        public List<ETLogAnnotation> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * @return the total warning count
+         */
+        public int getWarningCount() {
+            return warningCount;
+        }
+
+        /**
+         * @return the total error count
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * Gets the total count of log messages matching the given severity.
+         *
+         * @param severity the severity to match
+         * @return the total log count by severity
+         */
+        public int getLogCount(final Severity severity) {
+            if (severity == Severity.WARNING) {
+                return warningCount;
+            } else if (severity == Severity.ERROR) {
+                return errorCount;
+            }
+            return 0;
+        }
     }
 }
@@ -10,7 +10,8 @@ import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportDirectory;
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogParser.ParseResult;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.FilePath.FileCallable;
@@ -131,8 +132,11 @@ public class ETLogPublisher extends AbstractReportPublisher {
 
             // Removing old artifacts at project level
             if (!isKeepAll()) {
+                if (!removePreviousReports(run, ETLogBuildAction.class)) {
+                    logger.logInfo("Skipped archiving ECU-TEST logs, a newer build already published them.");
+                    return;
+                }
                 archiveTarget.deleteRecursive();
-                removePreviousReports(run, ETLogBuildAction.class);
             }
 
             if (isTestSpecific()) {
@@ -152,7 +156,7 @@ public class ETLogPublisher extends AbstractReportPublisher {
                         } catch (final IOException e) {
                             Util.displayIOException(e, listener);
                             logger.logError("Failed publishing ECU-TEST logs.");
-                            run.setResult(Result.FAILURE);
+                            updateBuildResult(run, Result.FAILURE);
                             return;
                         }
                         traverseReports(logReports, archiveTargetDir);
@@ -172,14 +176,14 @@ public class ETLogPublisher extends AbstractReportPublisher {
                             } else {
                                 logger.logError(String.format("Specified ECU-TEST log file '%s' does not exist.",
                                     logFile));
-                                run.setResult(Result.FAILURE);
+                                updateBuildResult(run, Result.FAILURE);
                                 return;
                             }
                         }
                     } catch (final IOException e) {
                         Util.displayIOException(e, listener);
                         logger.logError("Failed publishing ECU-TEST logs.");
-                        run.setResult(Result.FAILURE);
+                        updateBuildResult(run, Result.FAILURE);
                         return;
                     }
                     final ETLogReport logReport = parseLogFile(logFile, logFile.getParent());
@@ -191,7 +195,7 @@ public class ETLogPublisher extends AbstractReportPublisher {
                 logger.logInfo("No log results found.");
                 if (!isAllowMissing()) {
                     logger.logError("Empty log results are not allowed, setting build status to FAILURE!");
-                    run.setResult(Result.FAILURE);
+                    updateBuildResult(run, Result.FAILURE);
                     return;
                 }
             } else {
@@ -216,11 +220,6 @@ public class ETLogPublisher extends AbstractReportPublisher {
      */
     private ETLogReport parseLogFile(final FilePath logFile, final FilePath archiveTargetDir)
         throws IOException, InterruptedException {
-        final ETLogParser logParser = new ETLogParser(logFile);
-        final List<ETLogAnnotation> logs = logParser.parse();
-        final int warningLogCount = logParser.parseLogCount(Severity.WARNING);
-        final int errorLogCount = logParser.parseLogCount(Severity.ERROR);
-
         String logTitle;
         final String relLogFile = archiveTargetDir.toURI().relativize(logFile.toURI()).getPath();
         if (isTestSpecific() && !logFile.getParent().getParent().getName().equals(archiveTargetDir.getName())) {
@@ -228,12 +227,28 @@ public class ETLogPublisher extends AbstractReportPublisher {
         } else {
             logTitle = logFile.getName();
         }
-        return new ETLogReport(randomId(), logTitle, relLogFile, logFile.length(), logs,
-            warningLogCount, errorLogCount);
+        return parseLogFile(logFile, logTitle, relLogFile, logFile.length());
+    }
+
+    /**
+     * Parses the ECU-TEST log file with already known report information.
+     *
+     * @param logFile    the log file
+     * @param logTitle   the log title
+     * @param relLogFile the log file path relative to the archive target directory
+     * @param fileSize   the log file size
+     * @return the parsed {@link ETLogReport}
+     */
+    private ETLogReport parseLogFile(final FilePath logFile, final String logTitle, final String relLogFile,
+                                     final long fileSize) {
+        final ParseResult parseResult = new ETLogParser(logFile).parseLog();
+        return new ETLogReport(randomId(), logTitle, relLogFile, fileSize, parseResult.getAnnotations(),
+            parseResult.getWarningCount(), parseResult.getErrorCount());
     }
 
     /**
      * Creates the main report and adds the sub-reports by traversing them recursively.
+     * The archived report directory is scanned at once before building the report models.
      *
      * @param logReports       the TRF reports
      * @param archiveTargetDir the archive target directory
@@ -242,21 +257,18 @@ public class ETLogPublisher extends AbstractReportPublisher {
      */
     private void traverseReports(final List<ETLogReport> logReports, final FilePath archiveTargetDir)
         throws IOException, InterruptedException {
-        final ETLogReport logReport = new ETLogReport(randomId(), archiveTargetDir.getName(),
-            archiveTargetDir.getName(), getDirectorySize(archiveTargetDir), Collections.emptyList(), 0, 0);
+        final ReportDirectory reportDir = ReportDirectory.scan(archiveTargetDir);
+        final ETLogReport logReport = new ETLogReport(randomId(), reportDir.getName(),
+            reportDir.getName(), reportDir.getSize(), Collections.emptyList(), 0, 0);
         logReports.add(logReport);
 
-        final FilePath errorLogFile = archiveTargetDir.child(ERROR_LOG_NAME);
-        final FilePath infoLogFile = archiveTargetDir.child(INFO_LOG_NAME);
-        if (errorLogFile.exists() && infoLogFile.exists()) {
-            final ETLogReport errorlogReport = parseLogFile(errorLogFile, archiveTargetDir.getParent());
-            logReport.addSubReport(errorlogReport);
-            final ETLogReport infoLogReport = parseLogFile(infoLogFile, archiveTargetDir.getParent());
-            logReport.addSubReport(infoLogReport);
+        if (reportDir.hasFile(ERROR_LOG_NAME) && reportDir.hasFile(INFO_LOG_NAME)) {
+            logReport.addSubReport(parseArchivedLogFile(archiveTargetDir, reportDir, ERROR_LOG_NAME, ERROR_LOG_NAME));
+            logReport.addSubReport(parseArchivedLogFile(archiveTargetDir, reportDir, INFO_LOG_NAME, INFO_LOG_NAME));
         }
 
         // Search for sub-reports
-        traverseSubReports(logReport, archiveTargetDir.getParent(), archiveTargetDir);
+        traverseSubReports(logReport, archiveTargetDir, reportDir);
     }
 
     /**
@@ -264,29 +276,43 @@ public class ETLogPublisher extends AbstractReportPublisher {
      * Includes the report files generated during separate sub-project execution.
      *
      * @param logReport        the TRF report
-     * @param testReportDir    the main test report directory
-     * @param subTestReportDir the sub test report directory
-     * @throws IOException          signals that an I/O exception has occurred
-     * @throws InterruptedException if the build gets interrupted
+     * @param archiveTargetDir the archive target directory of the main test report
+     * @param subTestReportDir the scanned sub test report directory
      */
-    private void traverseSubReports(final ETLogReport logReport, final FilePath testReportDir,
-                                    final FilePath subTestReportDir) throws IOException, InterruptedException {
-        for (final FilePath subDir : subTestReportDir.listDirectories()) {
-            FilePath logFile = subDir.child(ERROR_LOG_NAME);
-            if (logFile.exists()) {
-                final ETLogReport subReport = parseLogFile(logFile, testReportDir);
+    private void traverseSubReports(final ETLogReport logReport, final FilePath archiveTargetDir,
+                                    final ReportDirectory subTestReportDir) {
+        for (final ReportDirectory subDir : subTestReportDir.getSubDirectories()) {
+            final String subTitle = subDir.getName().replaceFirst("^Report\\s", "") + "/";
+            if (subDir.hasFile(ERROR_LOG_NAME)) {
+                final ETLogReport subReport = parseArchivedLogFile(archiveTargetDir, subDir, ERROR_LOG_NAME,
+                    subTitle + ERROR_LOG_NAME);
                 logReport.addSubReport(subReport);
-
             }
-            logFile = subDir.child(INFO_LOG_NAME);
-            if (logFile.exists()) {
-                final ETLogReport subReport = parseLogFile(logFile, testReportDir);
+            if (subDir.hasFile(INFO_LOG_NAME)) {
+                final ETLogReport subReport = parseArchivedLogFile(archiveTargetDir, subDir, INFO_LOG_NAME,
+                    subTitle + INFO_LOG_NAME);
                 logReport.addSubReport(subReport);
-                traverseSubReports(subReport, testReportDir, subDir);
+                traverseSubReports(subReport, archiveTargetDir, subDir);
             }
         }
     }
 
+    /**
+     * Parses the ECU-TEST log file contained in the given scanned report directory.
+     *
+     * @param archiveTargetDir the archive target directory of the main test report
+     * @param reportDir        the scanned report directory containing the log file
+     * @param logName          the log file name
+     * @param logTitle         the log title
+     * @return the parsed {@link ETLogReport}
+     */
+    private ETLogReport parseArchivedLogFile(final FilePath archiveTargetDir, final ReportDirectory reportDir,
+                                             final String logName, final String logTitle) {
+        final String relLogFile = reportDir.getFilePath(logName);
+        return parseLogFile(archiveTargetDir.child(relLogFile), logTitle,
+            archiveTargetDir.getName() + "/" + relLogFile, reportDir.getFileSize(logName));
+    }
+
     /**
      * Adds the {@link ETLogBuildAction} to the build holding the found {@link ETLogReport}s.
      *
@@ -321,12 +347,12 @@ public class ETLogPublisher extends AbstractReportPublisher {
             logger.logInfo(String.format(
                 "-> %d error(s) found in the ECU-TEST logs, setting build status to FAILURE!",
                 totalErrors));
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         } else if (totalWarnings > 0 && isUnstableOnWarning()) {
             logger.logInfo(String.format(
                 "-> %d warning(s) found in the ECU-TEST logs, setting build status to UNSTABLE!",
                 totalWarnings));
-            run.setResult(Result.UNSTABLE);
+            updateBuildResult(run, Result.UNSTABLE);
         } else {
             logger.logInfo(String.format("-> %d warning(s) and %d error(s) found in the ECU-TEST logs.",
                 totalWarnings, totalErrors));
@@ -365,6 +391,11 @@ public class ETLogPublisher extends AbstractReportPublisher {
         return logFiles;
     }
 
+    @Override
+    protected boolean isToolRequired() {
+        return false;
+    }
+
     @Override
     protected String getUrlName() {
         return URL_NAME;
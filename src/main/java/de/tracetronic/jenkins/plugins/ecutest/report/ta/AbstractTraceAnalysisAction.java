@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.ta;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.LastReportBuildCache;
 import hudson.model.Job;
 import hudson.model.Run;
 
@@ -27,12 +28,7 @@ public abstract class AbstractTraceAnalysisAction extends AbstractReportAction {
 
     @Override
     public Run<?, ?> getLastReportBuild(final Job<?, ?> project) {
-        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
-            if (build.getAction(TraceAnalysisBuildAction.class) != null) {
-                return build;
-            }
-        }
-        return null;
+        return LastReportBuildCache.getLastReportBuild(project, TraceAnalysisBuildAction.class);
     }
 
     @Override
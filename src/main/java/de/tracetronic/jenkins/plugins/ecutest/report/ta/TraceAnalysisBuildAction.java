@@ -48,7 +48,9 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean add(final TraceAnalysisReport report) {
-        return getTraceAnalysisReports().add(report);
+        final boolean added = getTraceAnalysisReports().add(report);
+        invalidateReportIndex();
+        return added;
     }
 
     /**
@@ -58,7 +60,14 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean addAll(final Collection<TraceAnalysisReport> reports) {
-        return getTraceAnalysisReports().addAll(reports);
+        final boolean added = getTraceAnalysisReports().addAll(reports);
+        invalidateReportIndex();
+        return added;
+    }
+
+    @Override
+    protected List<TraceAnalysisReport> getIndexedReports() {
+        return getTraceAnalysisReports();
     }
 
     /**
@@ -68,39 +77,7 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      * @return the {@link TraceAnalysisReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final TraceAnalysisReport report : getTraceAnalysisReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final TraceAnalysisReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link TraceAnalysisReport} matching the given token id.
-     *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link TraceAnalysisReport} or {@code null} if no proper report exists
-     */
-    private TraceAnalysisReport traverseSubReports(final String token, final TraceAnalysisReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (TraceAnalysisReport) subReport;
-            } else {
-                final TraceAnalysisReport potentialReport = traverseSubReports(token, (TraceAnalysisReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportById(token);
     }
 
     @Override
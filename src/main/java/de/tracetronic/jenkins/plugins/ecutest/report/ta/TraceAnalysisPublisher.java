@@ -9,9 +9,10 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.TestValidator;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -170,27 +171,34 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
             throw new ETPluginException("Empty analysis results are not allowed, setting build status to FAILURE!");
         }
 
+        // Removing old artifacts at project level
+        final FilePath archiveTarget = getArchiveTarget(run);
+        boolean isArchivable = isArchiving();
+        if (!isKeepAll()) {
+            if (removePreviousReports(run, TraceAnalysisBuildAction.class)) {
+                archiveTarget.deleteRecursive();
+            } else {
+                logger.logInfo("Skipped archiving trace analysis reports, a newer build already published them.");
+                isArchivable = false;
+            }
+        }
+
         boolean isPublished = false;
         final List<TraceAnalysisReport> reports = new ArrayList<>();
-        if (isETRunning(launcher)) {
-            reports.addAll(performAnalysis(analysisFiles, run, launcher, listener));
-            isPublished = true;
-        } else {
-            final ETClient etClient = getToolClient(toolName, run, workspace, launcher, listener);
-            if (etClient.start(false, workspace, launcher, listener)) {
-                reports.addAll(performAnalysis(analysisFiles, run, launcher, listener));
+        final ETInstanceService.Lease lease = acquireToolClient(toolName, run, workspace, launcher, listener);
+        try {
+            if (lease.isStarted()) {
+                reports.addAll(performAnalysis(analysisFiles, archiveTarget, isArchivable,
+                    getComContext(lease, run, workspace), run, launcher, listener));
                 isPublished = true;
-            } else {
-                logger.logError(String.format("Starting %s failed.", toolName));
-            }
-            if (!etClient.stop(true, workspace, launcher, listener)) {
-                logger.logError(String.format("Stopping %s failed.", toolName));
             }
+        } finally {
+            releaseToolClient(toolName, lease, workspace, launcher, listener);
         }
 
-        if (isArchiving()) {
+        if (isArchivable) {
             addBuildAction(run, reports);
-        } else {
+        } else if (!isArchiving()) {
             logger.logInfo("Archiving trace analysis reports is disabled.");
         }
 
@@ -198,7 +206,7 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
             logger.logInfo("Trace analysis reports published successfully.");
         } else {
             logger.logInfo("Failed publishing trace analysis reports.");
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         }
     }
 
@@ -206,6 +214,9 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
      * Performs the trace analysis.
      *
      * @param analysisFiles the analysis files
+     * @param archiveTarget the archive target directory
+     * @param isArchivable  specifies whether to archive the analysis reports
+     * @param comContext    the COM context of the ECU-TEST instance
      * @param run           the run
      * @param launcher      the launcher
      * @param listener      the listener
@@ -214,13 +225,13 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
      * @throws InterruptedException if the build gets interrupted
      */
     private List<TraceAnalysisReport> performAnalysis(final Map<FilePath, List<FilePath>> analysisFiles,
-                                                      final Run<?, ?> run, final Launcher launcher,
-                                                      final TaskListener listener)
+                                                      final FilePath archiveTarget, final boolean isArchivable,
+                                                      final ETComContext comContext, final Run<?, ?> run,
+                                                      final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         final TTConsoleLogger logger = getLogger();
         final List<TraceAnalysisReport> reports = new ArrayList<>();
 
-        final FilePath archiveTarget = prepareArchive(run);
         for (final Entry<FilePath, List<FilePath>> analysisEntry : analysisFiles.entrySet()) {
             final FilePath reportDir = analysisEntry.getKey();
             final List<FilePath> jobFiles = analysisEntry.getValue();
@@ -228,12 +239,13 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
 
             // Run trace analysis
             final TraceAnalysisRunner runner = new TraceAnalysisRunner();
+            runner.setComContext(comContext);
             final List<FilePath> reportFiles = runner.runAnalysis(jobFiles, isCreateReportDir(),
                 getParsedTimeout(), launcher, listener);
 
             if (reportFiles.isEmpty() && !isAllowMissing()) {
                 logger.logError("-> Empty analysis results are not allowed, setting build status to FAILURE!");
-                run.setResult(Result.FAILURE);
+                updateBuildResult(run, Result.FAILURE);
             }
 
             if (isMergeReports()) {
@@ -243,15 +255,15 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
 
                 if (!isMerged) {
                     logger.logError("-> Failed merging analysis reports, setting build status to FAILURE!");
-                    run.setResult(Result.FAILURE);
+                    updateBuildResult(run, Result.FAILURE);
                 }
 
-                if (isArchiving()) {
+                if (isArchivable) {
                     logger.logInfo(String.format("- Archiving main report: %s", mainReport));
                     archiveReport(mainReport, archiveTargetDir, run, logger);
                     addReport(reports, reportDir, mainReport);
                 }
-            } else if (isArchiving()) {
+            } else if (isArchivable) {
                 for (final FilePath reportFile : reportFiles) {
                     logger.logInfo(String.format("- Archiving analysis report: %s", reportFile));
                     FilePath targetDir;
@@ -269,25 +281,6 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
         return reports;
     }
 
-    /**
-     * Prepares the target archive directory and removes old artifacts
-     * at project level when keeping the most recent artifacts only.
-     *
-     * @param run the run
-     * @return the archive file path
-     * @throws IOException          signals that an I/O exception has occurred
-     * @throws InterruptedException the interrupted exception
-     */
-    private FilePath prepareArchive(final Run<?, ?> run) throws IOException, InterruptedException {
-        final FilePath archiveTarget = getArchiveTarget(run);
-        archiveTarget.mkdirs();
-        if (!isKeepAll()) {
-            archiveTarget.deleteRecursive();
-            removePreviousReports(run, TraceAnalysisBuildAction.class);
-        }
-        return archiveTarget;
-    }
-
     /**
      * Archives the analysis report on master.
      *
@@ -305,7 +298,7 @@ public class TraceAnalysisPublisher extends AbstractReportPublisher {
         } else if (!isAllowMissing()) {
             logger.logError(String.format("-> Specified report file '%s' does not exist.",
                 reportFile.getName()));
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         }
     }
 
@@ -6,11 +6,13 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.ta;
 
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.AnalysisEnvironment;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.AnalysisExecutionInfo;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy.Poller;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -29,6 +31,22 @@ import java.util.List;
  */
 public class TraceAnalysisRunner {
 
+    private ETComContext comContext = ETComContext.getDefault();
+
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * Runs the trace analysis.
      *
@@ -45,7 +63,7 @@ public class TraceAnalysisRunner {
                                       final int timeout, final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new TraceAnalysisCallable(analysisFiles, createReportDir, timeout, listener));
+            new TraceAnalysisCallable(analysisFiles, createReportDir, timeout, comContext, listener));
     }
 
     /**
@@ -62,7 +80,7 @@ public class TraceAnalysisRunner {
     public boolean mergeReports(final FilePath mainReport, final List<FilePath> reportFiles,
                                 final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
-        return launcher.getChannel().call(new MergeReportsCallable(mainReport, reportFiles, listener));
+        return launcher.getChannel().call(new MergeReportsCallable(mainReport, reportFiles, comContext, listener));
     }
 
     /**
@@ -75,6 +93,7 @@ public class TraceAnalysisRunner {
         private final List<FilePath> jobFiles;
         private final boolean createReportDir;
         private final int timeout;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
@@ -83,13 +102,15 @@ public class TraceAnalysisRunner {
          * @param jobFiles        the list of analysis files
          * @param createReportDir specifies whether to create a new report directory
          * @param timeout         the timeout running each trace analysis
+         * @param comContext      the COM context
          * @param listener        the listener
          */
         TraceAnalysisCallable(final List<FilePath> jobFiles, final boolean createReportDir,
-                              final int timeout, final TaskListener listener) {
+                              final int timeout, final ETComContext comContext, final TaskListener listener) {
             this.jobFiles = jobFiles;
             this.createReportDir = createReportDir;
             this.timeout = timeout;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -97,17 +118,16 @@ public class TraceAnalysisRunner {
         public List<FilePath> call() throws IOException {
             final List<FilePath> reportFiles = new ArrayList<>();
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 AnalysisEnvironment analysisEnv = (AnalysisEnvironment) comClient.getAnalysisEnvironment()) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext);
+                 ComAnalysisEnvironment analysisEnv = comClient.getAnalysisEnvironment()) {
                 for (final FilePath jobFile : jobFiles) {
                     logger.logInfo(String.format("- Running trace analysis: %s", jobFile.getRemote()));
-                    final AnalysisExecutionInfo execInfo =
-                        (AnalysisExecutionInfo) analysisEnv.executeJob(jobFile.getRemote(), createReportDir);
-                    int tickCounter = 0;
+                    final ComAnalysisExecutionInfo execInfo =
+                        analysisEnv.executeJob(jobFile.getRemote(), createReportDir);
+                    final Poller poller = comContext.getPollingPolicy().newPoller();
                     final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
                     while ("RUNNING".equals(execInfo.getState())) {
-                        if (tickCounter % 60 == 0) {
+                        if (poller.isTickDue()) {
                             logger.logInfo("-- tick...");
                         }
                         if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
@@ -116,9 +136,11 @@ public class TraceAnalysisRunner {
                             execInfo.abort();
                             break;
                         }
-                        Thread.sleep(1000L);
-                        tickCounter++;
+                        poller.await();
                     }
+                    logger.logInfo(String.format(
+                        "-> Execution finished after %d ms, completion detected within %d ms.",
+                        poller.getElapsedMillis(), poller.getDetectionMillis()));
                     getTestInfo(execInfo, logger);
                     reportFiles.add(jobFile.child(execInfo.getReportDb()));
                 }
@@ -135,7 +157,7 @@ public class TraceAnalysisRunner {
          * @param logger   the logger
          * @throws ETComException in case of a COM exception
          */
-        private void getTestInfo(final AnalysisExecutionInfo execInfo, final TTConsoleLogger logger)
+        private void getTestInfo(final ComAnalysisExecutionInfo execInfo, final TTConsoleLogger logger)
             throws ETComException {
             final String testResult = execInfo.getResult();
             logger.logInfo(String.format("-> Analysis execution completed with result: %s", testResult));
@@ -153,6 +175,7 @@ public class TraceAnalysisRunner {
 
         private final FilePath mainReport;
         private final List<FilePath> jobReports;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
@@ -160,11 +183,14 @@ public class TraceAnalysisRunner {
          *
          * @param mainReport the main report
          * @param jobReports the job reports
+         * @param comContext the COM context
          * @param listener   the listener
          */
-        MergeReportsCallable(final FilePath mainReport, final List<FilePath> jobReports, final TaskListener listener) {
+        MergeReportsCallable(final FilePath mainReport, final List<FilePath> jobReports,
+                             final ETComContext comContext, final TaskListener listener) {
             this.mainReport = mainReport;
             this.jobReports = jobReports;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -172,9 +198,8 @@ public class TraceAnalysisRunner {
         public Boolean call() throws IOException {
             boolean isMerged;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 AnalysisEnvironment analysisEnv = (AnalysisEnvironment) comClient.getAnalysisEnvironment()) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext);
+                 ComAnalysisEnvironment analysisEnv = comClient.getAnalysisEnvironment()) {
                 final List<String> jobFiles = getJobFiles(jobReports);
                 logger.logInfo(String.format("- Merging analysis reports into main report: %s",
                     mainReport.getRemote()));
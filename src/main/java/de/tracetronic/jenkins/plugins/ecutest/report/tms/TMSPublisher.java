@@ -14,9 +14,10 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.TMSValidator;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -128,25 +129,21 @@ public class TMSPublisher extends AbstractReportPublisher {
         }
 
         boolean isPublished = false;
-        if (isETRunning(launcher)) {
-            isPublished = publishReports(reportFiles, run.getParent(), workspace, launcher, listener);
-        } else {
-            final ETClient etClient = getToolClient(toolName, run, workspace, launcher, listener);
-            if (etClient.start(false, workspace, launcher, listener)) {
-                isPublished = publishReports(reportFiles, run.getParent(), workspace, launcher, listener);
-            } else {
-                logger.logError(String.format("Starting %s failed.", toolName));
-            }
-            if (!etClient.stop(true, workspace, launcher, listener)) {
-                logger.logError(String.format("Stopping %s failed.", toolName));
+        final ETInstanceService.Lease lease = acquireToolClient(toolName, run, workspace, launcher, listener);
+        try {
+            if (lease.isStarted()) {
+                isPublished = publishReports(reportFiles, getComContext(lease, run, workspace), run.getParent(),
+                    workspace, launcher, listener);
             }
+        } finally {
+            releaseToolClient(toolName, lease, workspace, launcher, listener);
         }
 
         if (isPublished) {
             logger.logInfo("Reports published successfully to test management system.");
         } else {
             logger.logError("Failed publishing report to test management system.");
-            run.setResult(Result.FAILURE);
+            updateBuildResult(run, Result.FAILURE);
         }
     }
 
@@ -154,6 +151,7 @@ public class TMSPublisher extends AbstractReportPublisher {
      * Publishes the reports to the test management system.
      *
      * @param reportFiles the report files
+     * @param comContext  the COM context of the ECU-TEST instance
      * @param project     the project
      * @param workspace   the workspace
      * @param launcher    the launcher
@@ -162,11 +160,13 @@ public class TMSPublisher extends AbstractReportPublisher {
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private boolean publishReports(final List<FilePath> reportFiles, final Item project, final FilePath workspace,
-                                   final Launcher launcher, final TaskListener listener)
+    private boolean publishReports(final List<FilePath> reportFiles, final ETComContext comContext,
+                                   final Item project, final FilePath workspace, final Launcher launcher,
+                                   final TaskListener listener)
         throws IOException, InterruptedException {
-        return new TMSReportUploader().upload(reportFiles, credentialsId, timeout, project, workspace, launcher,
-            listener);
+        final TMSReportUploader uploader = new TMSReportUploader();
+        uploader.setComContext(comContext);
+        return uploader.upload(reportFiles, credentialsId, timeout, project, workspace, launcher, listener);
     }
 
     @Override
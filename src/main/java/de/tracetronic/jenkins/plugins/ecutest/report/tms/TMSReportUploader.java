@@ -12,10 +12,11 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPlugin.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFReport;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTMSClient;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Item;
@@ -64,7 +65,7 @@ public class TMSReportUploader extends AbstractTMSClient {
                 final StandardUsernamePasswordCredentials credentials = getCredentials(credentialsId, project);
                 if (login(credentials, launcher, listener)) {
                     isUploaded = launcher.getChannel().call(
-                        new UploadReportCallable(reportFiles, timeout, listener));
+                        new UploadReportCallable(reportFiles, timeout, getComContext(), listener));
                 }
             } finally {
                 logout(launcher, listener);
@@ -100,6 +101,7 @@ public class TMSReportUploader extends AbstractTMSClient {
 
         private final List<FilePath> reportFiles;
         private final String timeout;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
@@ -107,12 +109,14 @@ public class TMSReportUploader extends AbstractTMSClient {
          *
          * @param reportFiles the list of TRF files
          * @param timeout     the export timeout
+         * @param comContext  the COM context
          * @param listener    the listener
          */
         UploadReportCallable(final List<FilePath> reportFiles, final String timeout,
-                             final TaskListener listener) {
+                             final ETComContext comContext, final TaskListener listener) {
             this.reportFiles = reportFiles;
             this.timeout = timeout;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -120,12 +124,11 @@ public class TMSReportUploader extends AbstractTMSClient {
         public Boolean call() throws IOException {
             boolean isUploaded = true;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 for (final FilePath reportFile : reportFiles) {
                     logger.logInfo(String.format("-> Publishing TRF report: %s", reportFile.getRemote()));
-                    if (!tm.exportReport(reportFile.getRemote(), Integer.parseInt(timeout))) {
+                    if (!tm.exportReport(reportFile.getRemote(), null, Integer.parseInt(timeout))) {
                         isUploaded = false;
                         logger.logError("Publishing TRF report failed!");
                     }
@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.trf;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.LastReportBuildCache;
 import hudson.model.Job;
 import hudson.model.Run;
 
@@ -27,13 +28,7 @@ public abstract class AbstractTRFAction extends AbstractReportAction {
 
     @Override
     public Run<?, ?> getLastReportBuild(final Job<?, ?> project) {
-        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
-            final TRFBuildAction buildAction = build.getAction(TRFBuildAction.class);
-            if (buildAction != null) {
-                return build;
-            }
-        }
-        return null;
+        return LastReportBuildCache.getLastReportBuild(project, TRFBuildAction.class);
     }
 
     @Override
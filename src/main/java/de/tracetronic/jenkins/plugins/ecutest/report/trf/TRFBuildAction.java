@@ -48,7 +48,9 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean add(final TRFReport report) {
-        return getTRFReports().add(report);
+        final boolean added = getTRFReports().add(report);
+        invalidateReportIndex();
+        return added;
     }
 
     /**
@@ -58,7 +60,14 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      * @return {@code true} if successful, {@code false} otherwise
      */
     public boolean addAll(final Collection<TRFReport> reports) {
-        return getTRFReports().addAll(reports);
+        final boolean added = getTRFReports().addAll(reports);
+        invalidateReportIndex();
+        return added;
+    }
+
+    @Override
+    protected List<TRFReport> getIndexedReports() {
+        return getTRFReports();
     }
 
     /**
@@ -68,39 +77,7 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      * @return the {@link TRFReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final TRFReport report : getTRFReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final TRFReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link TRFReport} matching the given token id.
-     *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link TRFReport} or {@code null} if no proper report exists
-     */
-    private TRFReport traverseSubReports(final String token, final TRFReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (TRFReport) subReport;
-            } else {
-                final TRFReport potentialReport = traverseSubReports(token, (TRFReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportById(token);
     }
 
     @Override
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reader for SQLite databases like TRF reports.
+ * <p>
+ * Does not require a running ECU-TEST instance and thus can be used on any node.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TRFDatabase implements AutoCloseable {
+
+    private final Connection connection;
+    private final Statement statement;
+
+    /**
+     * Instantiates a new {@link TRFDatabase}.
+     *
+     * @param sqlFile the path to database file
+     * @throws ClassNotFoundException in case the JDBC class cannot be located
+     * @throws SQLException           in case of a SQL exception
+     */
+    public TRFDatabase(final String sqlFile) throws ClassNotFoundException, SQLException {
+        Class.forName("org.sqlite.JDBC");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + sqlFile);
+        statement = connection.createStatement();
+    }
+
+    /**
+     * Queries the database with given SQL statement.
+     *
+     * @param sql the SQL statement
+     * @return the result set
+     * @throws SQLException in case of a SQL exception
+     */
+    public ResultSet query(final String sql) throws SQLException {
+        return statement.executeQuery(sql);
+    }
+
+    /**
+     * Checks whether the given table contains a column with given name.
+     * Used to stay compatible with TRF reports of different ECU-TEST versions.
+     *
+     * @param table  the table name
+     * @param column the column name
+     * @return {@code true} if the column exists, {@code false} otherwise
+     * @throws SQLException in case of a SQL exception
+     */
+    public boolean hasColumn(final String table, final String column) throws SQLException {
+        try (Statement pragma = connection.createStatement();
+             ResultSet rs = pragma.executeQuery(String.format("PRAGMA table_info(%s)", table))) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (statement != null) {
+            statement.close();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+    }
+}
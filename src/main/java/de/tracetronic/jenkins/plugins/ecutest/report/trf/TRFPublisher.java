@@ -9,6 +9,7 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportDirectory;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -19,6 +20,7 @@ import hudson.model.TaskListener;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -87,8 +89,11 @@ public class TRFPublisher extends AbstractReportPublisher {
             // Removing old artifacts at project level
             final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
             if (!reportDirs.isEmpty() && !isKeepAll()) {
+                if (!removePreviousReports(run, TRFBuildAction.class)) {
+                    logger.logInfo("Skipped archiving TRF reports, a newer build already published them.");
+                    return;
+                }
                 archiveTarget.deleteRecursive();
-                removePreviousReports(run, TRFBuildAction.class);
             }
             for (final FilePath reportDir : reportDirs) {
                 final FilePath archiveTargetDir = archiveTarget.child(reportDir.getName());
@@ -106,14 +111,14 @@ public class TRFPublisher extends AbstractReportPublisher {
                     } catch (final IOException e) {
                         Util.displayIOException(e, listener);
                         logger.logError("Failed publishing TRF reports.");
-                        run.setResult(Result.FAILURE);
+                        updateBuildResult(run, Result.FAILURE);
                         return;
                     }
                     traverseReports(trfReports, archiveTargetDir);
                 } else {
                     if (!isAllowMissing()) {
                         logger.logError(String.format("Specified TRF file '%s' does not exist.", reportFile));
-                        run.setResult(Result.FAILURE);
+                        updateBuildResult(run, Result.FAILURE);
                         return;
                     }
                 }
@@ -121,7 +126,7 @@ public class TRFPublisher extends AbstractReportPublisher {
 
             if (trfReports.isEmpty() && !isAllowMissing()) {
                 logger.logError("Empty test results are not allowed, setting build status to FAILURE!");
-                run.setResult(Result.FAILURE);
+                updateBuildResult(run, Result.FAILURE);
                 return;
             }
 
@@ -134,6 +139,7 @@ public class TRFPublisher extends AbstractReportPublisher {
 
     /**
      * Creates the main report and adds the sub-reports by traversing them recursively.
+     * The archived report directory is scanned at once before building the report models.
      *
      * @param trfReports       the TRF reports
      * @param archiveTargetDir the archive target directory
@@ -142,15 +148,16 @@ public class TRFPublisher extends AbstractReportPublisher {
      */
     private void traverseReports(final List<TRFReport> trfReports, final FilePath archiveTargetDir)
         throws IOException, InterruptedException {
-        final FilePath trfFile = getFirstReportFile(archiveTargetDir);
-        if (trfFile != null && trfFile.exists()) {
-            final String relFilePath = archiveTargetDir.getParent().toURI().relativize(trfFile.toURI()).getPath();
-            final TRFReport trfReport = new TRFReport(randomId(), trfFile.getParent().getName(),
-                relFilePath, trfFile.length());
+        final ReportDirectory reportDir = ReportDirectory.scan(archiveTargetDir);
+        final String trfFile = getFirstReportFileName(reportDir);
+        if (trfFile != null) {
+            final String relFilePath = reportDir.getName() + "/" + trfFile;
+            final TRFReport trfReport = new TRFReport(randomId(), reportDir.getName(),
+                relFilePath, reportDir.getFileSize(trfFile));
             trfReports.add(trfReport);
 
             // Search for sub-reports
-            traverseSubReports(trfReport, archiveTargetDir.getParent(), archiveTargetDir);
+            traverseSubReports(trfReport, reportDir.getName(), reportDir);
         }
     }
 
@@ -159,25 +166,39 @@ public class TRFPublisher extends AbstractReportPublisher {
      * Includes the report files generated during separate sub-project execution.
      *
      * @param trfReport        the TRF report
-     * @param testReportDir    the main test report directory
+     * @param testReportName   the name of the main test report directory
      * @param subTestReportDir the sub test report directory
-     * @throws IOException          signals that an I/O exception has occurred
-     * @throws InterruptedException if the build gets interrupted
      */
-    private void traverseSubReports(final TRFReport trfReport, final FilePath testReportDir,
-                                    final FilePath subTestReportDir) throws IOException, InterruptedException {
-        for (final FilePath subDir : subTestReportDir.listDirectories()) {
-            final FilePath reportFile = getFirstReportFile(subDir);
-            if (reportFile != null && reportFile.exists()) {
-                final String relFilePath = testReportDir.toURI().relativize(reportFile.toURI()).getPath();
-                final TRFReport subReport = new TRFReport(randomId(), reportFile.getParent()
-                    .getName().replaceFirst("^Report\\s", ""), relFilePath, reportFile.length());
+    private void traverseSubReports(final TRFReport trfReport, final String testReportName,
+                                    final ReportDirectory subTestReportDir) {
+        for (final ReportDirectory subDir : subTestReportDir.getSubDirectories()) {
+            final String reportFile = getFirstReportFileName(subDir);
+            if (reportFile != null) {
+                final String relFilePath = testReportName + "/" + subDir.getFilePath(reportFile);
+                final TRFReport subReport = new TRFReport(randomId(), subDir.getName()
+                    .replaceFirst("^Report\\s", ""), relFilePath, subDir.getFileSize(reportFile));
                 trfReport.addSubReport(subReport);
-                traverseSubReports(subReport, testReportDir, subDir);
+                traverseSubReports(subReport, testReportName, subDir);
             }
         }
     }
 
+    /**
+     * Gets the name of the first TRF file found in given scanned report directory.
+     *
+     * @param reportDir the scanned report directory
+     * @return the first report file name or {@code null} if not found
+     */
+    @CheckForNull
+    private static String getFirstReportFileName(final ReportDirectory reportDir) {
+        for (final String fileName : reportDir.getFileNames()) {
+            if (fileName.endsWith(TRF_EXTENSION) && !fileName.startsWith("Job_")) {
+                return fileName;
+            }
+        }
+        return null;
+    }
+
     /**
      * Adds the {@link TRFBuildAction} to the build holding the found {@link TRFReport}s.
      *
@@ -193,6 +214,11 @@ public class TRFPublisher extends AbstractReportPublisher {
         action.addAll(trfReports);
     }
 
+    @Override
+    protected boolean isToolRequired() {
+        return false;
+    }
+
     @Override
     protected String getUrlName() {
         return URL_NAME;
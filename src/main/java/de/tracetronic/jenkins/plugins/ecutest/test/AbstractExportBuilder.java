@@ -17,6 +17,7 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportProjectAttribute
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.FilePath;
@@ -144,6 +145,7 @@ public class AbstractExportBuilder extends AbstractTestHelper implements SimpleB
             return false;
         }
 
+        final ETComContext comContext = getComContext(run, workspace);
         boolean isExported = false;
         for (final TMSConfig exportConfig : exportConfigs) {
             // Expand export configuration
@@ -152,21 +154,25 @@ public class AbstractExportBuilder extends AbstractTestHelper implements SimpleB
             if (exportConfig instanceof ExportPackageConfig) {
                 // Export package
                 final ExportPackageClient exportClient = new ExportPackageClient(expExportConfig);
+                exportClient.setComContext(comContext);
                 isExported = exportClient.exportPackage(run.getParent(), workspace, launcher, listener);
             } else if (exportConfig instanceof ExportPackageAttributeConfig) {
                 // Export package attributes
                 final ExportPackageClient exportClient = new ExportPackageClient(
                     expExportConfig);
+                exportClient.setComContext(comContext);
                 isExported = exportClient.exportPackageAttributes(run.getParent(), workspace, launcher, listener);
             } else if (exportConfig instanceof ExportProjectConfig) {
                 // Export project
                 final ExportProjectClient exportClient = new ExportProjectClient(
                     expExportConfig);
+                exportClient.setComContext(comContext);
                 isExported = exportClient.exportProject(run.getParent(), workspace, launcher, listener);
             } else if (exportConfig instanceof ExportProjectAttributeConfig) {
                 // Export project attributes
                 final ExportProjectClient exportClient = new ExportProjectClient(
                     expExportConfig);
+                exportClient.setComContext(comContext);
                 isExported = exportClient.exportProjectAttributes(run.getParent(), workspace, launcher, listener);
             } else {
                 logger.logError("Unsupported export configuration of type: " + exportConfig.getClass());
@@ -18,6 +18,7 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectAttribute
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.FilePath;
@@ -144,6 +145,7 @@ public class AbstractImportBuilder extends AbstractTestHelper implements SimpleB
             return false;
         }
 
+        final ETComContext comContext = getComContext(run, workspace);
         boolean isImported = false;
         for (final TMSConfig importConfig : importConfigs) {
             // Expand import configuration
@@ -152,26 +154,31 @@ public class AbstractImportBuilder extends AbstractTestHelper implements SimpleB
             if (importConfig instanceof ImportPackageConfig) {
                 // Import package
                 final ImportPackageClient importClient = new ImportPackageClient(expImportConfig);
+                importClient.setComContext(comContext);
                 isImported = importClient.importPackage(run.getParent(), workspace, launcher, listener);
             } else if (importConfig instanceof ImportPackageAttributeConfig) {
                 // Import package attributes
                 final ImportPackageClient importClient = new ImportPackageClient(
                     expImportConfig);
+                importClient.setComContext(comContext);
                 isImported = importClient.importPackageAttributes(run.getParent(), workspace, launcher, listener);
             } else if (importConfig instanceof ImportProjectConfig) {
                 // Import project
                 final ImportProjectClient importClient = new ImportProjectClient(
                     expImportConfig);
+                importClient.setComContext(comContext);
                 isImported = importClient.importProject(run.getParent(), workspace, launcher, listener);
             } else if (importConfig instanceof ImportProjectAttributeConfig) {
                 // Import project attributes
                 final ImportProjectClient importClient = new ImportProjectClient(
                     expImportConfig);
+                importClient.setComContext(comContext);
                 isImported = importClient.importProjectAttributes(run.getParent(), workspace, launcher, listener);
             } else if (importConfig instanceof ImportProjectArchiveConfig) {
                 // Import project archive
                 final ImportProjectClient importClient = new ImportProjectClient(
                     expImportConfig);
+                importClient.setComContext(comContext);
                 isImported = importClient.importProjectArchive(launcher, listener);
             } else {
                 logger.logError("Unsupported import configuration of type: " + importConfig.getClass());
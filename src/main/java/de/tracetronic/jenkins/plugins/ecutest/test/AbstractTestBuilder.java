@@ -29,6 +29,8 @@ import org.kohsuke.stapler.DataBoundSetter;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Common base class for all test related task builders implemented in this plugin.
@@ -106,7 +108,7 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
             if (!performed) {
                 if (getExecutionConfig().isStopOnError()) {
                     logger.logInfo("- Closing running ECU-TEST and Tool-Server instances...");
-                    if (closeETInstance(launcher, listener)) {
+                    if (closeETInstance(getComContext(run, workspace), launcher, listener)) {
                         logger.logInfo("-> ECU-TEST closed successfully.");
                     } else {
                         logger.logInfo("-> No running ECU-TEST instance found.");
@@ -162,7 +164,7 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
             expPkgDir = null;
         } else {
             // Determine packages directory by COM API
-            final String packageDir = getPackagesDir(launcher, listener);
+            final String packageDir = getPackagesDir(getComContext(run, workspace), launcher, listener);
 
             // Absolutize packages directory, if not absolute assume relative to ECU-TEST workspace
             expPkgDir = PathUtil.makeAbsolutePath(packageDir, workspace);
@@ -187,7 +189,7 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
             final String tcfFile = expTestConfig.getTcfFile();
             if (!IOUtils.isAbsolute(tbcFile) || !IOUtils.isAbsolute(tcfFile)) {
                 // Determine configuration directory by COM API
-                final String configDir = getConfigDir(launcher, listener);
+                final String configDir = getConfigDir(getComContext(run, workspace), launcher, listener);
 
                 // Absolutize configuration directory, if not absolute assume relative to ECU-TEST workspace
                 final String expConfigDir = PathUtil.makeAbsolutePath(configDir, workspace);
@@ -219,14 +221,72 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
 
     /**
      * Adds the build action holding test information by injecting environment variables.
+     * Synchronized on the run to assign unique test ids when test builders are executed in parallel.
      *
      * @param run        the run
      * @param testClient the test client
      */
     protected void addBuildAction(final Run<?, ?> run, final AbstractTestClient testClient) {
-        final int builderId = getTestId(run);
-        final TestEnvInvisibleAction envAction = new TestEnvInvisibleAction(builderId, testClient);
-        run.addAction(envAction);
+        synchronized (run) {
+            final int builderId = getTestId(run);
+            final TestEnvInvisibleAction envAction = new TestEnvInvisibleAction(builderId, testClient);
+            run.addAction(envAction);
+        }
+    }
+
+    /**
+     * Loads the test history of previous builds.
+     *
+     * @param run      the run
+     * @param listener the listener
+     * @return the test history by history key, empty if not available
+     */
+    protected Map<String, TestHistoryIndex.Entry> loadTestHistory(final Run<?, ?> run, final TaskListener listener) {
+        try {
+            return TestHistoryIndex.load(run);
+        } catch (final IOException e) {
+            new TTConsoleLogger(listener).logWarn(String.format("Loading test history failed: %s", e.getMessage()));
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Checks whether the inputs of the given test are unchanged since its last passing execution.
+     * In this case the test is skipped and the cached test information is added as build action.
+     * Tests keeping the previously loaded configurations are never skipped, since these are not part of the inputs.
+     *
+     * @param testClient   the test client
+     * @param testSettings the test type specific settings, e.g. the package configuration
+     * @param history      the test history by history key
+     * @param run          the run
+     * @param launcher     the launcher
+     * @param listener     the listener
+     * @return {@code true} if the test is skipped, {@code false} if it has to be executed
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    protected boolean skipUnchangedTest(final AbstractTestClient testClient, final Object testSettings,
+                                        final Map<String, TestHistoryIndex.Entry> history, final Run<?, ?> run,
+                                        final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        if (testClient.getTestConfig().isKeepConfig()) {
+            return false;
+        }
+        final String inputHash = TestHistoryIndex.computeInputHash(testClient, testSettings, launcher);
+        testClient.setTestInputHash(inputHash);
+        final TestHistoryIndex.Entry entry = history.get(testClient.getTestHistoryKey());
+        if (entry == null || !entry.isPassed() || !inputHash.equals(entry.getInputHash())) {
+            return false;
+        }
+        testClient.setTestName(StringUtils.defaultString(entry.getTestName()));
+        testClient.setTestDescription(StringUtils.defaultString(entry.getTestDescription()));
+        testClient.setTestReportDir(StringUtils.defaultString(entry.getTestReportDir()));
+        testClient.setTestResult(entry.getResult());
+        testClient.setTestDuration(entry.getDuration());
+        addBuildAction(run, testClient);
+        new TTConsoleLogger(listener).logInfo(String.format("Skipping unchanged test %s, last result: %s",
+            testClient.getTestFile(), entry.getResult()));
+        return true;
     }
 
     /**
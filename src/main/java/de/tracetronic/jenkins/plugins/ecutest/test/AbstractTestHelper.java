@@ -6,12 +6,14 @@
 package de.tracetronic.jenkins.plugins.ecutest.test;
 
 import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
+import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.TSClient;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Run;
@@ -74,19 +76,20 @@ public abstract class AbstractTestHelper extends Builder {
      * Tries to close already opened ECU-TEST instances via COM first.
      * If this is not successful tries to task-kill the running process.
      *
-     * @param launcher the launcher
-     * @param listener the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return {@code true} if processes found, {@code false} otherwise
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
-    protected boolean closeETInstance(final Launcher launcher, final TaskListener listener) throws IOException,
-        InterruptedException {
+    protected boolean closeETInstance(final ETComContext comContext, final Launcher launcher,
+                                      final TaskListener listener) throws IOException, InterruptedException {
         final List<String> foundProcesses = ETClient.checkProcesses(launcher, false);
         if (foundProcesses.isEmpty()) {
             return false;
         }
-        return ETClient.stopProcesses(launcher, listener, true);
+        return ETClient.stopProcesses(comContext, launcher, listener, true);
     }
 
     /**
@@ -104,6 +107,18 @@ public abstract class AbstractTestHelper extends Builder {
         return !foundProcesses.isEmpty();
     }
 
+    /**
+     * Gets the COM context of the ECU-TEST instance most recently started in the given build on the node of the
+     * given workspace.
+     *
+     * @param run       the build
+     * @param workspace the workspace
+     * @return the COM context
+     */
+    protected ETComContext getComContext(final Run<?, ?> run, final FilePath workspace) {
+        return ToolEnvInvisibleAction.resolveComContext(run, workspace);
+    }
+
     /**
      * Gets the test identifier by the size of {@link TestEnvInvisibleAction}s already added to the build.
      *
@@ -176,15 +191,17 @@ public abstract class AbstractTestHelper extends Builder {
     /**
      * Gets the configuration directory of the current ECU-TEST workspace by querying the settings file via COM.
      *
-     * @param launcher the launcher
-     * @param listener the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return the configuration directory
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
-    protected String getConfigDir(final Launcher launcher, final TaskListener listener) throws InterruptedException {
+    protected String getConfigDir(final ETComContext comContext, final Launcher launcher,
+                                  final TaskListener listener) throws InterruptedException {
         String configDir;
         try {
-            configDir = launcher.getChannel().call(new GetSettingCallable("configPath"));
+            configDir = launcher.getChannel().call(new GetSettingCallable("configPath", comContext));
         } catch (final IOException e) {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logWarn("Could not get config dir, assuming default values now!");
@@ -196,15 +213,17 @@ public abstract class AbstractTestHelper extends Builder {
     /**
      * Gets the packages directory of the current ECU-TEST workspace by querying the settings file via COM.
      *
-     * @param launcher the launcher
-     * @param listener the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return the package directory
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
-    protected String getPackagesDir(final Launcher launcher, final TaskListener listener) throws InterruptedException {
+    protected String getPackagesDir(final ETComContext comContext, final Launcher launcher,
+                                    final TaskListener listener) throws InterruptedException {
         String packagesDir;
         try {
-            packagesDir = launcher.getChannel().call(new GetSettingCallable("packagePath"));
+            packagesDir = launcher.getChannel().call(new GetSettingCallable("packagePath", comContext));
         } catch (final IOException e) {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logWarn("Could not get packages dir, assuming default values now!");
@@ -221,21 +240,23 @@ public abstract class AbstractTestHelper extends Builder {
         private static final long serialVersionUID = 1L;
 
         private final String settingName;
+        private final ETComContext comContext;
 
         /**
          * Instantiates a new {@link GetSettingCallable}.
          *
          * @param settingName the setting name to request
+         * @param comContext  the COM context
          */
-        GetSettingCallable(final String settingName) {
+        GetSettingCallable(final String settingName, final ETComContext comContext) {
             this.settingName = settingName;
+            this.comContext = comContext;
         }
 
         @Override
         public String call() throws IOException {
             String settingValue;
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 settingValue = comClient.getSetting(settingName);
                 if ("None".equals(settingValue)) {
                     throw new IOException("Setting is not defined: " + settingName);
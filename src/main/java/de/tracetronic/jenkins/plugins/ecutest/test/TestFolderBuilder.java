@@ -5,6 +5,7 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.test;
 
+import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.PackageClient;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.ProjectClient;
@@ -12,8 +13,8 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
-import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestPackageScanner;
-import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestProjectScanner;
+import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestFolderScanner;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.EnvVars;
 import hudson.Extension;
 import hudson.FilePath;
@@ -22,6 +23,7 @@ import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.util.FormValidation;
 import hudson.util.ListBoxModel;
+import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
@@ -32,7 +34,13 @@ import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Builder providing the execution of ECU-TEST packages and projects inside of a test folder.
@@ -45,10 +53,32 @@ public class TestFolderBuilder extends AbstractTestBuilder {
      * Defines the default {@link ScanMode}.
      */
     protected static final ScanMode DEFAULT_SCANMODE = ScanMode.PACKAGES_AND_PROJECTS;
+    /**
+     * Defines the default {@link ScheduleMode}.
+     */
+    protected static final ScheduleMode DEFAULT_SCHEDULEMODE = ScheduleMode.SCANNER_ORDER;
+    /**
+     * Defines the default number of shards, i.e. the whole test folder is executed.
+     */
+    protected static final int DEFAULT_SHARD_COUNT = 1;
+    /**
+     * Holds the shards currently executed per build, node and ECU-TEST instance.
+     */
+    private static final Set<String> ACTIVE_SHARDS = ConcurrentHashMap.newKeySet();
     // Scan settings
     @Nonnull
     private ScanMode scanMode = DEFAULT_SCANMODE;
     private boolean recursiveScan;
+    @Nonnull
+    private String includePattern = "";
+    @Nonnull
+    private String excludePattern = "";
+    @Nonnull
+    private ScheduleMode scheduleMode = DEFAULT_SCHEDULEMODE;
+    private boolean incremental;
+    // Shard settings
+    private int shardCount = DEFAULT_SHARD_COUNT;
+    private int shardIndex;
     // Test settings
     @Nonnull
     private PackageConfig packageConfig = PackageConfig.newInstance();
@@ -96,6 +126,99 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         this.recursiveScan = recursiveScan;
     }
 
+    /**
+     * @return the comma-separated include glob patterns
+     */
+    @Nonnull
+    public String getIncludePattern() {
+        return includePattern;
+    }
+
+    /**
+     * @param includePattern the comma-separated include glob patterns relative to the test folder
+     */
+    @DataBoundSetter
+    public void setIncludePattern(@CheckForNull final String includePattern) {
+        this.includePattern = StringUtils.trimToEmpty(includePattern);
+    }
+
+    /**
+     * @return the comma-separated exclude glob patterns
+     */
+    @Nonnull
+    public String getExcludePattern() {
+        return excludePattern;
+    }
+
+    /**
+     * @param excludePattern the comma-separated exclude glob patterns relative to the test folder
+     */
+    @DataBoundSetter
+    public void setExcludePattern(@CheckForNull final String excludePattern) {
+        this.excludePattern = StringUtils.trimToEmpty(excludePattern);
+    }
+
+    /**
+     * @return the schedule mode
+     */
+    @Nonnull
+    public ScheduleMode getScheduleMode() {
+        return scheduleMode;
+    }
+
+    /**
+     * @param scheduleMode the schedule mode
+     */
+    @DataBoundSetter
+    public void setScheduleMode(@CheckForNull final ScheduleMode scheduleMode) {
+        this.scheduleMode = scheduleMode == null ? DEFAULT_SCHEDULEMODE : scheduleMode;
+    }
+
+    /**
+     * @return specifies whether unchanged packages which passed previously are skipped
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @param incremental specifies whether unchanged packages which passed previously are skipped
+     */
+    @DataBoundSetter
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * @return the number of shards the scanned tests are split into
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @param shardCount the number of shards the scanned tests are split into
+     */
+    @DataBoundSetter
+    public void setShardCount(final int shardCount) {
+        this.shardCount = Math.max(DEFAULT_SHARD_COUNT, shardCount);
+    }
+
+    /**
+     * @return the zero-based index of the shard to execute
+     */
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * @param shardIndex the zero-based index of the shard to execute
+     */
+    @DataBoundSetter
+    public void setShardIndex(final int shardIndex) {
+        this.shardIndex = Math.max(0, shardIndex);
+    }
+
     /**
      * @return the package configuration
      */
@@ -156,8 +279,69 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo("Executing test folder...");
         logger.logInfo(String.format("- Scanning test folder: %s", testFolder));
-        final List<String> pkgFiles = scanPackages(testFolder, launcher, listener);
-        final List<String> prjFiles = scanProjects(testFolder, launcher, listener);
+        final Map<String, TestHistoryIndex.Entry> history = loadHistory(run, listener);
+        final TestFolderScanner.ScanResult scanResult = scanTests(testFolder, launcher, listener);
+        final boolean sharded = shardCount > DEFAULT_SHARD_COUNT;
+        List<String> pkgFiles = orderTests(testFolder, scanResult.getPackages(), sharded, scheduleMode, history);
+        List<String> prjFiles = orderTests(testFolder, scanResult.getProjects(), sharded, scheduleMode, history);
+
+        final ETComContext comContext = getComContext(run, workspace);
+        if (!sharded) {
+            return runTests(testFolder, pkgFiles, prjFiles, testConfig, executionConfig, comContext, history,
+                run, workspace, launcher, listener);
+        }
+
+        // Select tests of the configured shard
+        if (shardIndex >= shardCount) {
+            logger.logError(String.format("Shard index %d exceeds the number of %d shards!",
+                shardIndex, shardCount));
+            return false;
+        }
+        pkgFiles = getShard(pkgFiles, shardCount, shardIndex);
+        prjFiles = getShard(prjFiles, shardCount, shardIndex);
+        logger.logInfo(String.format("-> Selected %d package(s) and %d project(s) of shard %d/%d.",
+            pkgFiles.size(), prjFiles.size(), shardIndex + 1, shardCount));
+
+        // Reject shards of the same build sharing the ECU-TEST instance of this node
+        final String shardKey = getShardKey(run.getExternalizableId(), ToolEnvInvisibleAction.getNodeName(workspace),
+            comContext);
+        if (!ACTIVE_SHARDS.add(shardKey)) {
+            logger.logError(String.format("Another shard is already executed by ECU-TEST instance %s on this node, "
+                + "sharding is only supported across multiple nodes!", comContext.getProgId()));
+            return false;
+        }
+        try {
+            return runTests(testFolder, pkgFiles, prjFiles, testConfig, executionConfig, comContext, history,
+                run, workspace, launcher, listener);
+        } finally {
+            ACTIVE_SHARDS.remove(shardKey);
+        }
+    }
+
+    /**
+     * Executes the given packages and projects of the test folder.
+     *
+     * @param testFolder      the test folder
+     * @param pkgFiles        the package files to execute
+     * @param prjFiles        the project files to execute
+     * @param testConfig      the test configuration
+     * @param executionConfig the execution configuration
+     * @param comContext      the COM context of the ECU-TEST instance
+     * @param history         the test history
+     * @param run             the run
+     * @param workspace       the workspace
+     * @param launcher        the launcher
+     * @param listener        the listener
+     * @return {@code true} if all tests have been executed successfully, {@code false} otherwise
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private boolean runTests(final String testFolder, final List<String> pkgFiles, final List<String> prjFiles,
+                             final TestConfig testConfig, final ExecutionConfig executionConfig,
+                             final ETComContext comContext, final Map<String, TestHistoryIndex.Entry> history,
+                             final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                             final TaskListener listener) throws IOException, InterruptedException {
+        final TTConsoleLogger logger = new TTConsoleLogger(listener);
 
         // Expand package configuration
         final EnvVars buildEnv = run.getEnvironment(listener);
@@ -166,6 +350,11 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         // Run packages
         for (final String pkgFile : pkgFiles) {
             final PackageClient testClient = new PackageClient(pkgFile, testConfig, packageConfig, executionConfig);
+            testClient.setComContext(comContext);
+            testClient.setTestHistoryKey(TestHistoryIndex.getKey(testFolder, pkgFile));
+            if (isUnchangedPackage(testClient, history, run, launcher, listener)) {
+                continue;
+            }
             logger.logInfo(String.format("Executing package %s...", pkgFile));
             if (testClient.runTestCase(workspace, launcher, listener)) {
                 addBuildAction(run, testClient);
@@ -187,6 +376,8 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         // Run projects
         for (final String prjFile : prjFiles) {
             final ProjectClient testClient = new ProjectClient(prjFile, testConfig, projectConfig, executionConfig);
+            testClient.setComContext(comContext);
+            testClient.setTestHistoryKey(TestHistoryIndex.getKey(testFolder, prjFile));
             logger.logInfo(String.format("Executing project %s...", prjFile));
             if (testClient.runTestCase(workspace, launcher, listener)) {
                 addBuildAction(run, testClient);
@@ -206,55 +397,162 @@ public class TestFolderBuilder extends AbstractTestBuilder {
     }
 
     /**
-     * Scans for ECU-TEST packages.
+     * Orders the scanned tests according to the schedule mode. The tests are ordered by their path relative to the
+     * test folder, so that the order does not depend on the node specific location of the test folder. If sharding
+     * is enabled, the tests are sorted by relative path at first to ensure that parallel shards scanning the same
+     * test folder on different nodes select disjoint sets of tests which together cover the whole test folder.
      *
-     * @param testFolder the test folder
+     * @param testFolder   the scanned test folder
+     * @param testFiles    the scanned test files
+     * @param sorted       specifies whether to sort the tests by relative path before scheduling
+     * @param scheduleMode the schedule mode
+     * @param history      the test history by history key
+     * @return the ordered test files
+     */
+    static List<String> orderTests(final String testFolder, final List<String> testFiles, final boolean sorted,
+                                   final ScheduleMode scheduleMode,
+                                   final Map<String, TestHistoryIndex.Entry> history) {
+        final Map<String, String> filesByKey = new LinkedHashMap<>();
+        for (final String testFile : testFiles) {
+            filesByKey.put(TestHistoryIndex.getKey(testFolder, testFile), testFile);
+        }
+        final List<String> keys = new ArrayList<>(filesByKey.keySet());
+        if (sorted) {
+            Collections.sort(keys);
+        }
+        final List<String> orderedFiles = new ArrayList<>();
+        for (final String key : schedule(keys, scheduleMode, history)) {
+            orderedFiles.add(filesByKey.get(key));
+        }
+        return orderedFiles;
+    }
+
+    /**
+     * Schedules the tests according to the given schedule mode. Sorting is stable, i.e. tests with equal history
+     * keep their order. Tests without history are scheduled first.
+     *
+     * @param testFiles    the test history keys
+     * @param scheduleMode the schedule mode
+     * @param history      the test history by history key
+     * @return the scheduled test history keys
+     */
+    static List<String> schedule(final List<String> testFiles, final ScheduleMode scheduleMode,
+                                 final Map<String, TestHistoryIndex.Entry> history) {
+        final List<String> scheduledFiles = new ArrayList<>(testFiles);
+        if (scheduleMode != ScheduleMode.SCANNER_ORDER) {
+            Collections.sort(scheduledFiles, new ScheduleComparator(scheduleMode, history));
+        }
+        return scheduledFiles;
+    }
+
+    /**
+     * Gets the key identifying the shards of a build executed by the same ECU-TEST instance on the same node.
+     *
+     * @param runId      the externalizable identifier of the build
+     * @param nodeName   the name of the node executing the shard
+     * @param comContext the COM context of the ECU-TEST instance
+     * @return the shard key
+     */
+    static String getShardKey(final String runId, @CheckForNull final String nodeName,
+                              final ETComContext comContext) {
+        return String.format("%s|%s|%s", runId, StringUtils.defaultString(nodeName), comContext.getProgId());
+    }
+
+    /**
+     * Gets the tests of a single shard by distributing the ordered tests round-robin over all shards.
+     *
+     * @param testFiles  the ordered test files
+     * @param shardCount the number of shards
+     * @param shardIndex the zero-based index of the shard
+     * @return the test files of the given shard
+     */
+    static List<String> getShard(final List<String> testFiles, final int shardCount, final int shardIndex) {
+        final List<String> shardFiles = new ArrayList<>();
+        for (int i = shardIndex; i < testFiles.size(); i += shardCount) {
+            shardFiles.add(testFiles.get(i));
+        }
+        return shardFiles;
+    }
+
+    /**
+     * Loads the test history of previous builds if required by the schedule mode or the incremental mode.
+     *
+     * @param run      the run
+     * @param listener the listener
+     * @return the test history by history key, empty if not required or not available
+     */
+    private Map<String, TestHistoryIndex.Entry> loadHistory(final Run<?, ?> run, final TaskListener listener) {
+        if (scheduleMode != ScheduleMode.SCANNER_ORDER || incremental) {
+            return loadTestHistory(run, listener);
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Checks whether the given package is skipped in incremental mode.
+     *
+     * @param testClient the package client
+     * @param history    the test history by history key
+     * @param run        the run
      * @param launcher   the launcher
      * @param listener   the listener
-     * @return the list of found packages
+     * @return {@code true} if the package is skipped, {@code false} if it has to be executed
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private List<String> scanPackages(final String testFolder, final Launcher launcher, final TaskListener listener)
+    private boolean isUnchangedPackage(final PackageClient testClient,
+                                       final Map<String, TestHistoryIndex.Entry> history, final Run<?, ?> run,
+                                       final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
-        List<String> pkgFiles = new ArrayList<>();
-        final TTConsoleLogger logger = new TTConsoleLogger(listener);
-        if (scanMode.equals(ScanMode.PACKAGES_ONLY) || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS)) {
-            final TestPackageScanner scanner = new TestPackageScanner(testFolder, isRecursiveScan(), launcher);
-            pkgFiles = scanner.scanTestFiles();
-            if (pkgFiles.isEmpty()) {
-                logger.logInfo("-> No packages found!");
-            } else {
-                logger.logInfo(String.format("-> Found %d package(s).", pkgFiles.size()));
-            }
-        }
-        return pkgFiles;
+        return incremental
+            && skipUnchangedTest(testClient, testClient.getPackageConfig(), history, run, launcher, listener);
     }
 
     /**
-     * Scan for ECU-TEST projects.
+     * Scans for ECU-TEST packages and projects within a single pass over the test folder.
      *
      * @param testFolder the test folder
      * @param launcher   the launcher
      * @param listener   the listener
-     * @return the list of found projects
+     * @return the scan result holding the found packages and projects
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private List<String> scanProjects(final String testFolder, final Launcher launcher, final TaskListener listener)
+    private TestFolderScanner.ScanResult scanTests(final String testFolder, final Launcher launcher,
+                                                   final TaskListener listener)
         throws IOException, InterruptedException {
-        List<String> prjFiles = new ArrayList<>();
+        final boolean scanPackages = scanMode.equals(ScanMode.PACKAGES_ONLY)
+            || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS);
+        final boolean scanProjects = scanMode.equals(ScanMode.PROJECTS_ONLY)
+            || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS);
+        final TestFolderScanner scanner = new TestFolderScanner(testFolder, isRecursiveScan(), launcher);
+        scanner.setIncludes(includePattern);
+        scanner.setExcludes(excludePattern);
+        final TestFolderScanner.ScanResult scanResult = scanner.scanTestFiles(scanPackages, scanProjects);
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
-        if (scanMode.equals(ScanMode.PROJECTS_ONLY) || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS)) {
-            final TestProjectScanner prjScanner = new TestProjectScanner(testFolder, isRecursiveScan(), launcher);
-            prjFiles = prjScanner.scanTestFiles();
-            if (prjFiles.isEmpty()) {
-                logger.logInfo("-> No projects found!");
-            } else {
-                logger.logInfo(String.format("-> Found %d project(s).", prjFiles.size()));
-            }
+        if (scanPackages) {
+            logScanResult(scanResult.getPackages(), "package", logger);
+        }
+        if (scanProjects) {
+            logScanResult(scanResult.getProjects(), "project", logger);
+        }
+        return scanResult;
+    }
+
+    /**
+     * Logs the number of found test files.
+     *
+     * @param testFiles the found test files
+     * @param testType  the test type
+     * @param logger    the logger
+     */
+    private static void logScanResult(final List<String> testFiles, final String testType,
+                                      final TTConsoleLogger logger) {
+        if (testFiles.isEmpty()) {
+            logger.logInfo(String.format("-> No %ss found!", testType));
+        } else {
+            logger.logInfo(String.format("-> Found %d %s(s).", testFiles.size(), testType));
         }
-        return prjFiles;
     }
 
     /**
@@ -277,6 +575,70 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         PACKAGES_AND_PROJECTS
     }
 
+    /**
+     * Defines the modes to schedule the scanned tests based on the test history of previous builds.
+     */
+    public enum ScheduleMode {
+        /**
+         * Keep the order of the test folder scan.
+         */
+        SCANNER_ORDER,
+
+        /**
+         * Schedule previously failed tests first.
+         */
+        FAILED_FIRST,
+
+        /**
+         * Schedule tests with longest previous duration first, e.g. to balance parallel shards.
+         */
+        LONGEST_FIRST,
+
+        /**
+         * Schedule tests with shortest previous duration first.
+         */
+        SHORTEST_FIRST
+    }
+
+    /**
+     * Comparator ordering test files by their test history according to a {@link ScheduleMode}.
+     */
+    private static final class ScheduleComparator implements Comparator<String> {
+
+        private final ScheduleMode scheduleMode;
+        private final Map<String, TestHistoryIndex.Entry> history;
+
+        /**
+         * Instantiates a new {@link ScheduleComparator}.
+         *
+         * @param scheduleMode the schedule mode
+         * @param history      the test history by history key
+         */
+        ScheduleComparator(final ScheduleMode scheduleMode, final Map<String, TestHistoryIndex.Entry> history) {
+            this.scheduleMode = scheduleMode;
+            this.history = history;
+        }
+
+        @Override
+        public int compare(final String file1, final String file2) {
+            final TestHistoryIndex.Entry entry1 = history.get(file1);
+            final TestHistoryIndex.Entry entry2 = history.get(file2);
+            if (entry1 == null || entry2 == null) {
+                return Boolean.compare(entry2 == null, entry1 == null);
+            }
+            switch (scheduleMode) {
+                case FAILED_FIRST:
+                    return Boolean.compare(entry2.isFailed(), entry1.isFailed());
+                case LONGEST_FIRST:
+                    return Long.compare(entry2.getDuration(), entry1.getDuration());
+                case SHORTEST_FIRST:
+                    return Long.compare(entry1.getDuration(), entry2.getDuration());
+                default:
+                    return 0;
+            }
+        }
+    }
+
     /**
      * DescriptorImpl for {@link TestFolderBuilder}.
      */
@@ -312,6 +674,27 @@ public class TestFolderBuilder extends AbstractTestBuilder {
             return items;
         }
 
+        /**
+         * @return the default schedule mode
+         */
+        public ScheduleMode getDefaultScheduleMode() {
+            return DEFAULT_SCHEDULEMODE;
+        }
+
+        /**
+         * Fills the schedule mode drop-down menu.
+         *
+         * @return the schedule mode items
+         */
+        public ListBoxModel doFillScheduleModeItems() {
+            final ListBoxModel items = new ListBoxModel();
+            items.add(Messages.TestFolderBuilder_ScheduleMode_ScannerOrder(), ScheduleMode.SCANNER_ORDER.toString());
+            items.add(Messages.TestFolderBuilder_ScheduleMode_FailedFirst(), ScheduleMode.FAILED_FIRST.toString());
+            items.add(Messages.TestFolderBuilder_ScheduleMode_LongestFirst(), ScheduleMode.LONGEST_FIRST.toString());
+            items.add(Messages.TestFolderBuilder_ScheduleMode_ShortestFirst(), ScheduleMode.SHORTEST_FIRST.toString());
+            return items;
+        }
+
         /**
          * Validates the test folder.
          *
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test;
+
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient;
+import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.Util;
+import hudson.XmlFile;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the latest execution duration, verdict and input hash per test of a job.
+ * <p>
+ * Tests are identified by their history key. Tests scanned from a test folder are keyed by their path relative to
+ * the test folder, so that builds and shards running on different nodes with node specific workspace paths share
+ * the same history and compute the same schedule.
+ * <p>
+ * The index is fed by the {@link TestEnvInvisibleAction}s of each completed build by the {@link RunListenerImpl} and
+ * used to schedule the tests of following builds, e.g. previously failed tests first, or to skip tests whose inputs
+ * have not changed since their last passing execution. It is persisted in {@value #STATE_FILE_NAME} within the job
+ * directory.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class TestHistoryIndex {
+
+    /**
+     * File name of the persisted index within the job directory.
+     */
+    public static final String STATE_FILE_NAME = "ecutest-test-history.xml";
+
+    private static final Logger LOGGER = Logger.getLogger(TestHistoryIndex.class.getName());
+
+    /**
+     * Instantiates a new {@link TestHistoryIndex}.
+     */
+    private TestHistoryIndex() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Loads the test history of the job of given run.
+     *
+     * @param run the run
+     * @return the test history entries by history key, empty if no history has been persisted yet
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static synchronized Map<String, Entry> load(final Run<?, ?> run) throws IOException {
+        return loadEntries(getStateFile(run.getParent()));
+    }
+
+    /**
+     * Updates the test history of the job of given run with the executed tests of this run.
+     *
+     * @param run the run
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static synchronized void update(final Run<?, ?> run) throws IOException {
+        final XmlFile stateFile = getStateFile(run.getParent());
+        final Map<String, Entry> entries = loadEntries(stateFile);
+        for (final TestEnvInvisibleAction action : run.getActions(TestEnvInvisibleAction.class)) {
+            if (action.getTestHistoryKey() != null && action.getTestResult() != null) {
+                entries.put(action.getTestHistoryKey(), new Entry(action));
+            }
+        }
+        stateFile.write(entries);
+    }
+
+    /**
+     * Gets the history key of the given test file, i.e. its path relative to the given test folder using forward
+     * slashes as separator. Test files outside of the test folder are keyed by their full path.
+     *
+     * @param testFolder the scanned test folder
+     * @param testFile   the full test file path
+     * @return the history key
+     */
+    public static String getKey(final String testFolder, final String testFile) {
+        final String folder = StringUtils.removeEnd(FilenameUtils.separatorsToUnix(testFolder), "/");
+        final String file = FilenameUtils.separatorsToUnix(testFile);
+        return file.startsWith(folder + "/") ? file.substring(folder.length() + 1) : file;
+    }
+
+    /**
+     * Computes the hash of all inputs of the given test, i.e. the contents of the test file and of the referenced
+     * test bench and test configuration files as well as the test settings. The file contents are digested on the
+     * node of the given launcher, missing files are considered as empty.
+     *
+     * @param testClient   the test client
+     * @param testSettings the test type specific settings, e.g. the package configuration
+     * @param launcher     the launcher
+     * @return the input hash
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public static String computeInputHash(final AbstractTestClient testClient, final Object testSettings,
+                                          final Launcher launcher) throws IOException, InterruptedException {
+        final TestConfig testConfig = testClient.getTestConfig();
+        final StringBuilder inputs = new StringBuilder();
+        for (final String file : Arrays.asList(testClient.getTestFile(), testConfig.getTbcFile(),
+            testConfig.getTcfFile())) {
+            if (StringUtils.isNotEmpty(file)) {
+                final FilePath filePath = new FilePath(launcher.getChannel(), file);
+                inputs.append(file).append('=').append(filePath.exists() ? filePath.digest() : "").append(';');
+            }
+        }
+        inputs.append(testConfig.hashCode()).append(';').append(testSettings.hashCode());
+        return Util.getDigestOf(inputs.toString());
+    }
+
+    /**
+     * Loads the test history entries.
+     *
+     * @param stateFile the state file
+     * @return the test history entries, empty if no history has been persisted yet
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Entry> loadEntries(final XmlFile stateFile) throws IOException {
+        if (stateFile.exists()) {
+            final Object entries = stateFile.read();
+            if (entries instanceof Map) {
+                return new HashMap<>((Map<String, Entry>) entries);
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * Gets the state file of the given job.
+     *
+     * @param job the job
+     * @return the state file
+     */
+    private static XmlFile getStateFile(final Job<?, ?> job) {
+        return new XmlFile(new File(job.getRootDir(), STATE_FILE_NAME));
+    }
+
+    /**
+     * Latest execution duration, verdict and input hash of a single test file.
+     */
+    public static final class Entry {
+
+        private final long duration;
+        private final String result;
+        private final String inputHash;
+        private final String testName;
+        private final String testDescription;
+        private final String testReportDir;
+
+        /**
+         * Instantiates a new {@link Entry} without input hash.
+         *
+         * @param duration the execution duration in milliseconds
+         * @param result   the test result
+         */
+        public Entry(final long duration, @CheckForNull final String result) {
+            this(duration, result, null, null, null, null);
+        }
+
+        /**
+         * Instantiates a new {@link Entry} from the given test environment action.
+         *
+         * @param action the test environment action
+         */
+        Entry(final TestEnvInvisibleAction action) {
+            this(action.getTestDuration(), action.getTestResult(), action.getTestInputHash(), action.getTestName(),
+                action.getTestDescription(), action.getTestReportDir());
+        }
+
+        /**
+         * Instantiates a new {@link Entry}.
+         *
+         * @param duration        the execution duration in milliseconds
+         * @param result          the test result
+         * @param inputHash       the input hash, {@code null} if not computed
+         * @param testName        the test name
+         * @param testDescription the test description
+         * @param testReportDir   the test report directory
+         */
+        public Entry(final long duration, @CheckForNull final String result, @CheckForNull final String inputHash,
+                     @CheckForNull final String testName, @CheckForNull final String testDescription,
+                     @CheckForNull final String testReportDir) {
+            this.duration = duration;
+            this.result = result;
+            this.inputHash = inputHash;
+            this.testName = testName;
+            this.testDescription = testDescription;
+            this.testReportDir = testReportDir;
+        }
+
+        /**
+         * @return the execution duration in milliseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return the test result
+         */
+        @CheckForNull
+        public String getResult() {
+            return result;
+        }
+
+        /**
+         * @return the input hash, {@code null} if not computed
+         */
+        @CheckForNull
+        public String getInputHash() {
+            return inputHash;
+        }
+
+        /**
+         * @return the test name
+         */
+        @CheckForNull
+        public String getTestName() {
+            return testName;
+        }
+
+        /**
+         * @return the test description
+         */
+        @CheckForNull
+        public String getTestDescription() {
+            return testDescription;
+        }
+
+        /**
+         * @return the test report directory
+         */
+        @CheckForNull
+        public String getTestReportDir() {
+            return testReportDir;
+        }
+
+        /**
+         * @return {@code true} if the test passed, {@code false} otherwise
+         */
+        public boolean isPassed() {
+            return "SUCCESS".equalsIgnoreCase(result);
+        }
+
+        /**
+         * @return {@code true} if the test failed or raised an error, {@code false} otherwise
+         */
+        public boolean isFailed() {
+            return "FAILED".equalsIgnoreCase(result) || "ERROR".equalsIgnoreCase(result);
+        }
+    }
+
+    /**
+     * Listener updating the test history of completed builds having executed tests.
+     */
+    @Extension
+    public static final class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onCompleted(final Run<?, ?> run, @Nonnull final TaskListener listener) {
+            if (run.getAction(TestEnvInvisibleAction.class) != null) {
+                try {
+                    update(run);
+                } catch (final IOException e) {
+                    LOGGER.log(Level.WARNING, String.format("Updating test history of %s failed: %s",
+                        run.getFullDisplayName(), e.getMessage()), e);
+                }
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class TestPackageBuilder extends AbstractTestBuilder {
 
     @Nonnull
     private PackageConfig packageConfig = PackageConfig.newInstance();
+    private boolean incremental;
 
     /**
      * Instantiates a new {@link TestPackageBuilder}.
@@ -62,6 +63,21 @@ public class TestPackageBuilder extends AbstractTestBuilder {
         this.packageConfig = packageConfig == null ? PackageConfig.newInstance() : packageConfig;
     }
 
+    /**
+     * @return specifies whether the package is skipped if unchanged since its last passing execution
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @param incremental specifies whether the package is skipped if unchanged since its last passing execution
+     */
+    @DataBoundSetter
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
     @Override
     protected boolean runTest(final String testFile, final TestConfig testConfig,
                               final ExecutionConfig executionConfig, final Run<?, ?> run, final FilePath workspace,
@@ -74,6 +90,11 @@ public class TestPackageBuilder extends AbstractTestBuilder {
         // Run test case with package client
         final PackageClient testClient = new PackageClient(testFile, testConfig, packageConfig,
             executionConfig);
+        testClient.setComContext(getComContext(run, workspace));
+        if (incremental && skipUnchangedTest(testClient, packageConfig, loadTestHistory(run, listener), run,
+            launcher, listener)) {
+            return true;
+        }
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo(String.format("Executing package %s...", testFile));
         if (testClient.runTestCase(workspace, launcher, listener)) {
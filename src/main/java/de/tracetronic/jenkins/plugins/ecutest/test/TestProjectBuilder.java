@@ -74,6 +74,7 @@ public class TestProjectBuilder extends AbstractTestBuilder {
         // Run test case with project client
         final ProjectClient testClient = new ProjectClient(testFile, testConfig, projectConfig,
             executionConfig);
+        testClient.setComContext(getComContext(run, workspace));
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo(String.format("Executing project %s...", testFile));
         if (testClient.runTestCase(workspace, launcher, listener)) {
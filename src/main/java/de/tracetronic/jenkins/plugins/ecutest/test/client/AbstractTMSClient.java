@@ -9,10 +9,11 @@ import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredenti
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -28,6 +29,22 @@ import java.io.IOException;
  */
 public abstract class AbstractTMSClient {
 
+    private ETComContext comContext = ETComContext.getDefault();
+
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * Logs in to preconfigured test management service in ECU-TEST.
      *
@@ -40,7 +57,7 @@ public abstract class AbstractTMSClient {
      */
     public boolean login(final StandardUsernamePasswordCredentials credentials, final Launcher launcher,
                          final TaskListener listener) throws IOException, InterruptedException {
-        return launcher.getChannel().call(new LoginTMSCallable(credentials, listener));
+        return launcher.getChannel().call(new LoginTMSCallable(credentials, comContext, listener));
     }
 
     /**
@@ -54,7 +71,7 @@ public abstract class AbstractTMSClient {
      */
     public boolean logout(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
-        return launcher.getChannel().call(new LogoutTMSCallable(listener));
+        return launcher.getChannel().call(new LogoutTMSCallable(comContext, listener));
     }
 
     /**
@@ -77,7 +94,7 @@ public abstract class AbstractTMSClient {
             logger.logError("Could not load JACOB library!");
             return false;
         }
-        return launcher.getChannel().call(new CompatibleTMSCallable(minVersion, listener));
+        return launcher.getChannel().call(new CompatibleTMSCallable(minVersion, comContext, listener));
     }
 
     /**
@@ -88,6 +105,7 @@ public abstract class AbstractTMSClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
         private final ToolVersion minVersion;
 
@@ -95,9 +113,12 @@ public abstract class AbstractTMSClient {
          * Instantiates a {@link CompatibleTMSCallable}.
          *
          * @param minVersion the minimum required ECU-TEST version
+         * @param comContext the COM context
          * @param listener   the listener
          */
-        CompatibleTMSCallable(final ToolVersion minVersion, final TaskListener listener) {
+        CompatibleTMSCallable(final ToolVersion minVersion,
+                              final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
             this.minVersion = minVersion;
         }
@@ -106,10 +127,9 @@ public abstract class AbstractTMSClient {
         public Boolean call() throws IOException {
             boolean isAvailable = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
 
             // Check ECU-TEST version and TMS module
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 final String comVersion = comClient.getVersion();
                 final ToolVersion comToolVersion = ToolVersion.parse(comVersion);
                 if (comToolVersion.compareTo(minVersion) < 0) {
@@ -136,16 +156,20 @@ public abstract class AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final StandardUsernamePasswordCredentials credentials;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LoginTMSCallable}.
          *
          * @param credentials the credentials
+         * @param comContext  the COM context
          * @param listener    the listener
          */
-        LoginTMSCallable(final StandardUsernamePasswordCredentials credentials, final TaskListener listener) {
+        LoginTMSCallable(final StandardUsernamePasswordCredentials credentials,
+                         final ETComContext comContext, final TaskListener listener) {
             this.credentials = credentials;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -157,9 +181,8 @@ public abstract class AbstractTMSClient {
             if (credentials == null) {
                 logger.logError("-> No credentials provided!");
             } else {
-                final String progId = ETComProperty.getInstance().getProgId();
-                try (ETComClient comClient = new ETComClient(progId)) {
-                    final TestManagement tm = (TestManagement) comClient.getTestManagement();
+                try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                    final ComTestManagement tm = comClient.getTestManagement();
                     logger.logInfo("-- Authenticating with user name: " + credentials.getUsername());
                     if (isLogin = tm.login(credentials.getUsername(), credentials.getPassword().getPlainText())) {
                         logger.logInfo("-> Logged in successfully.");
@@ -181,14 +204,17 @@ public abstract class AbstractTMSClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LogoutTMSCallable}.
          *
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        LogoutTMSCallable(final TaskListener listener) {
+        LogoutTMSCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -197,9 +223,8 @@ public abstract class AbstractTMSClient {
             boolean isLogout = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Log out from test management system...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isLogout = tm.logout()) {
                     logger.logInfo("-> Logged out successfully.");
                 } else {
@@ -9,13 +9,17 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.GlobalConstant;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestConfiguration;
+import hudson.Util;
 import hudson.model.TaskListener;
 import hudson.remoting.Callable;
 import jenkins.security.MasterToSlaveCallable;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang.StringUtils;
 
 import java.io.File;
@@ -25,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.UUID;
 
 /**
  * Common base class for {@link PackageClient} and {@link ProjectClient}.
@@ -40,7 +45,11 @@ public abstract class AbstractTestClient implements TestClient {
     private String testDescription;
     private String testReportDir;
     private String testResult;
+    private long testDuration;
+    private String testInputHash;
+    private String testHistoryKey;
     private boolean isAborted;
+    private ETComContext comContext = ETComContext.getDefault();
 
     /**
      * Instantiates a new {@link AbstractTestClient}.
@@ -138,6 +147,49 @@ public abstract class AbstractTestClient implements TestClient {
         this.testResult = testResult;
     }
 
+    /**
+     * @return the test execution duration in milliseconds
+     */
+    public long getTestDuration() {
+        return testDuration;
+    }
+
+    /**
+     * @param testDuration the test execution duration in milliseconds to set
+     */
+    public void setTestDuration(final long testDuration) {
+        this.testDuration = testDuration;
+    }
+
+    /**
+     * @return the hash of the test inputs used for incremental test execution
+     */
+    public String getTestInputHash() {
+        return testInputHash;
+    }
+
+    /**
+     * @param testInputHash the hash of the test inputs to set
+     */
+    public void setTestInputHash(final String testInputHash) {
+        this.testInputHash = testInputHash;
+    }
+
+    /**
+     * @return the key identifying this test in the test history, defaults to the test file
+     */
+    public String getTestHistoryKey() {
+        return testHistoryKey == null ? getTestFile() : testHistoryKey;
+    }
+
+    /**
+     * @param testHistoryKey the key identifying this test in the test history, e.g. the test file path relative
+     *                       to the scanned test folder
+     */
+    public void setTestHistoryKey(final String testHistoryKey) {
+        this.testHistoryKey = testHistoryKey;
+    }
+
     /**
      * @return specifies whether the test execution is aborted
      */
@@ -152,6 +204,21 @@ public abstract class AbstractTestClient implements TestClient {
         this.isAborted = isAborted;
     }
 
+    /**
+     * @return the COM context of the ECU-TEST instance to execute the test with
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance to execute the test with,
+     *                   {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * {@link Callable} providing remote access to load configurations via COM.
      */
@@ -160,36 +227,62 @@ public abstract class AbstractTestClient implements TestClient {
         private static final long serialVersionUID = 1L;
 
         private final TestConfig testConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LoadConfigCallable}.
          *
          * @param testConfig the test configuration
+         * @param comContext the COM context
          * @param listener   the listener
          */
-        public LoadConfigCallable(final TestConfig testConfig, final TaskListener listener) {
+        public LoadConfigCallable(final TestConfig testConfig, final ETComContext comContext,
+                                  final TaskListener listener) {
             this.testConfig = testConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
         @Override
         public Boolean call() throws IOException {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                return loadConfig(comClient);
+            } catch (final ETComException e) {
+                new TTConsoleLogger(listener).logComException(e.getMessage());
+                return false;
+            }
+        }
+
+        /**
+         * Loads the configurations using an already connected COM client.
+         * Reloading is skipped if the same configurations with unchanged contents and global constants
+         * have already been loaded by a previous test execution.
+         *
+         * @param comClient the COM client
+         * @return {@code true} if the configurations are loaded successfully, {@code false} otherwise
+         */
+        public boolean loadConfig(final ComClient comClient) {
             final String tbcFile = testConfig.getTbcFile();
             final String tcfFile = testConfig.getTcfFile();
             final List<GlobalConstant> constants = testConfig.getConstants();
+            final String progId = comContext.getProgId();
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             boolean isLoaded = false;
 
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try {
                 final String tbcName = getConfigName(tbcFile);
                 final String tcfName = getConfigName(tcfFile);
                 logger.logInfo(String.format("- Loading configurations: TBC=%s TCF=%s", tbcName, tcfName));
+                final String fingerprint = getConfigFingerprint();
                 if (testConfig.isForceReload()) {
                     logger.logInfo("-> Forcing reload configurations...");
                     comClient.stop();
+                } else if (isConfigLoaded(comClient, progId, fingerprint)) {
+                    logger.logInfo("-> Configurations already loaded and unchanged, reload will be skipped.");
+                    return true;
                 }
+                LoadedConfigCache.invalidate(progId);
                 if (comClient.openTestConfiguration(StringUtils.defaultIfBlank(tcfFile, null))) {
                     if (tcfFile != null && !constants.isEmpty()) {
                         final Map<String, String> constantMap = getGlobalConstantMap();
@@ -214,6 +307,7 @@ public abstract class AbstractTestClient implements TestClient {
                         comClient.start();
                         logger.logInfo("-> Configurations started successfully.");
                     }
+                    LoadedConfigCache.setLoaded(progId, fingerprint);
                 }
             } catch (final ETComException e) {
                 logger.logComException(e.getMessage());
@@ -222,6 +316,70 @@ public abstract class AbstractTestClient implements TestClient {
             return isLoaded;
         }
 
+        /**
+         * Checks whether the configurations with given fingerprint are already loaded
+         * and still active in the ECU-TEST instance, e.g. not changed manually in the meantime.
+         *
+         * @param comClient   the COM client
+         * @param progId      the COM programmatic identifier
+         * @param fingerprint the configuration fingerprint
+         * @return {@code true} if the configurations are loaded, {@code false} otherwise
+         * @throws ETComException in case of a COM exception
+         */
+        private boolean isConfigLoaded(final ComClient comClient, final String progId, final String fingerprint)
+            throws ETComException {
+            if (!LoadedConfigCache.isLoaded(progId, fingerprint)) {
+                return false;
+            }
+            try (ComTestBenchConfiguration tbc = comClient.getCurrentTestBenchConfiguration();
+                 ComTestConfiguration tcf = comClient.getCurrentTestConfiguration()) {
+                return isSameFile(testConfig.getTbcFile(), tbc.getFileName())
+                    && isSameFile(testConfig.getTcfFile(), tcf.getFileName());
+            }
+        }
+
+        /**
+         * Gets the fingerprint of the requested configurations consisting of file paths, file contents,
+         * global constants and start settings.
+         *
+         * @return the configuration fingerprint
+         * @throws ETComException in case of a COM exception
+         */
+        private String getConfigFingerprint() throws ETComException {
+            return String.format("%s=%s;%s=%s;%s;%s", testConfig.getTbcFile(), getFileDigest(testConfig.getTbcFile()),
+                testConfig.getTcfFile(), getFileDigest(testConfig.getTcfFile()), getGlobalConstantMap(),
+                testConfig.isLoadOnly());
+        }
+
+        /**
+         * Gets the content digest of the given configuration file.
+         *
+         * @param configFile the configuration file
+         * @return the content digest, a random value if the file cannot be read to enforce reloading
+         */
+        private static String getFileDigest(final String configFile) {
+            if (StringUtils.isBlank(configFile)) {
+                return "";
+            }
+            try {
+                return Util.getDigestOf(new File(configFile));
+            } catch (final IOException e) {
+                return UUID.randomUUID().toString();
+            }
+        }
+
+        /**
+         * Checks whether the given configuration file paths denote the same file.
+         *
+         * @param configFile the requested configuration file
+         * @param loadedFile the loaded configuration file
+         * @return {@code true} if both paths are equal, {@code false} otherwise
+         */
+        private static boolean isSameFile(final String configFile, final String loadedFile) {
+            return StringUtils.equalsIgnoreCase(FilenameUtils.normalize(StringUtils.trimToEmpty(configFile)),
+                FilenameUtils.normalize(StringUtils.trimToEmpty(loadedFile)));
+        }
+
         /**
          * Gets the name of the given configuration file.
          *
@@ -246,10 +404,10 @@ public abstract class AbstractTestClient implements TestClient {
          * @param constantMap the constants to set
          * @throws ETComException in case of a COM exception
          */
-        private void setGlobalConstants(final ETComClient comClient, final Map<String, String> constantMap)
+        private void setGlobalConstants(final ComClient comClient, final Map<String, String> constantMap)
             throws ETComException {
             comClient.start();
-            final TestConfiguration testConfig = (TestConfiguration) comClient.getCurrentTestConfiguration();
+            final ComTestConfiguration testConfig = comClient.getCurrentTestConfiguration();
             for (final Entry<String, String> newConstant : constantMap.entrySet()) {
                 testConfig.setGlobalConstant(newConstant.getKey(), newConstant.getValue());
             }
@@ -317,6 +475,63 @@ public abstract class AbstractTestClient implements TestClient {
         }
     }
 
+    /**
+     * Helper class storing information about a complete test execution performed within a single COM session.
+     */
+    protected static final class ExecutionInfoHolder implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String testName;
+        private final String testDescription;
+        private final TestInfoHolder testInfo;
+        private final boolean isClosed;
+
+        /**
+         * Instantiates a new {@link ExecutionInfoHolder}.
+         *
+         * @param testName        the test name
+         * @param testDescription the test description
+         * @param testInfo        the test information, {@code null} if running the test failed
+         * @param isClosed        specifies whether the test file is closed successfully
+         */
+        public ExecutionInfoHolder(final String testName, final String testDescription,
+                                   final TestInfoHolder testInfo, final boolean isClosed) {
+            this.testName = testName;
+            this.testDescription = testDescription;
+            this.testInfo = testInfo;
+            this.isClosed = isClosed;
+        }
+
+        /**
+         * @return the test name
+         */
+        public String getTestName() {
+            return testName;
+        }
+
+        /**
+         * @return the test description
+         */
+        public String getTestDescription() {
+            return testDescription;
+        }
+
+        /**
+         * @return the test information or {@code null} if running the test failed
+         */
+        public TestInfoHolder getTestInfo() {
+            return testInfo;
+        }
+
+        /**
+         * @return specifies whether the test file is closed successfully
+         */
+        public boolean isClosed() {
+            return isClosed;
+        }
+    }
+
     /**
      * Helper class storing information about the errors returned by checking packages and projects.
      */
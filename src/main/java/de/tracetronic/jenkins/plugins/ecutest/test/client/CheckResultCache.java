@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.CheckInfoHolder;
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.CheckInfoHolder.Seriousness;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import hudson.Util;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache holding the results of clean package and project checks on the current node.
+ * <p>
+ * Cached results are keyed by the test file, the ECU-TEST version, further check relevant settings, the fingerprint
+ * of the loaded test bench and test configurations, since changed mappings are not reported by clean checks, and the
+ * content digest of the user library directory, since referenced library packages are not reported either. They are
+ * replayed instead of checking the test file again as long as the contents of the test file and of all files
+ * referenced by the check results are unchanged and the maximum age defined by the system property
+ * {@value #MAX_AGE_PROPERTY} in seconds is not exceeded. The cache is disabled by default.
+ * <p>
+ * Only the most recent result per test file is kept, so results cached under a previous ECU-TEST version, settings,
+ * configurations or library digest are replaced, and expired results are evicted whenever new results are cached.
+ * Results are not cached at all if the loaded configurations are unknown. The library digest is only recalculated if
+ * the sizes or modification times of the library files have changed.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class CheckResultCache {
+
+    /**
+     * System property defining the maximum age of cached check results in seconds.
+     */
+    public static final String MAX_AGE_PROPERTY = "ecutest.check.cacheMaxAge";
+    /**
+     * Default maximum age in seconds, disables caching of check results.
+     */
+    public static final int DEFAULT_MAX_AGE = 0;
+    /**
+     * ECU-TEST setting defining the user library directory of the current workspace.
+     */
+    public static final String LIBRARY_SETTING = "userPyModulesPath";
+
+    private static final Map<String, CachedResult> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, LibraryDigest> LIBRARY_DIGESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link CheckResultCache}.
+     */
+    private CheckResultCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the configured maximum age of cached check results. Has to be called on the controller
+     * and passed to the node since the system property is only defined there.
+     *
+     * @return the maximum age in milliseconds, non-positive values disable caching
+     */
+    public static long getMaxAge() {
+        return TimeUnit.SECONDS.toMillis(Math.max(0, Integer.getInteger(MAX_AGE_PROPERTY, DEFAULT_MAX_AGE)));
+    }
+
+    /**
+     * Builds the cache key for the given test file.
+     *
+     * @param testFile  the test file
+     * @param etVersion the ECU-TEST version
+     * @param settings  further check relevant settings, e.g. the project filter expression
+     * @return the cache key
+     */
+    public static String getKey(final String testFile, final String etVersion, final String settings) {
+        return String.format("%s|%s|%s", etVersion, new File(testFile).getAbsolutePath(), settings);
+    }
+
+    /**
+     * Gets the content digest of the user library directory of the current ECU-TEST workspace.
+     *
+     * @param comClient the COM client
+     * @return the content digest, empty if the user library directory is not available
+     */
+    static String getLibraryDigest(final ComClient comClient) {
+        try {
+            return getLibraryDigest(comClient.getSetting(LIBRARY_SETTING));
+        } catch (final ETComException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Gets the combined content digest of all files below the given library directory.
+     * <p>
+     * The digest is reused as long as the paths, sizes and modification times of all library files are unchanged.
+     *
+     * @param libraryDir the library directory
+     * @return the content digest, empty if the library directory does not exist or cannot be read
+     */
+    public static String getLibraryDigest(@CheckForNull final String libraryDir) {
+        if (StringUtils.isBlank(libraryDir) || !new File(libraryDir).isDirectory()) {
+            return "";
+        }
+        final Path libraryPath = new File(libraryDir).toPath();
+        final List<Path> files;
+        final StringBuilder attributes = new StringBuilder();
+        try (Stream<Path> paths = Files.walk(libraryPath)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            for (final Path path : files) {
+                attributes.append(libraryPath.relativize(path)).append('=').append(Files.size(path)).append('@')
+                    .append(Files.getLastModifiedTime(path).toMillis()).append('\n');
+            }
+        } catch (final IOException e) {
+            return "";
+        }
+        final String fingerprint = attributes.toString();
+        final String key = libraryPath.toAbsolutePath().toString();
+        final LibraryDigest cachedDigest = LIBRARY_DIGESTS.get(key);
+        if (cachedDigest != null && cachedDigest.fingerprint.equals(fingerprint)) {
+            return cachedDigest.digest;
+        }
+        final StringBuilder digests = new StringBuilder();
+        for (final Path path : files) {
+            digests.append(libraryPath.relativize(path)).append('=')
+                .append(getDigest(path.toString())).append('\n');
+        }
+        final String digest = Util.getDigestOf(digests.toString());
+        LIBRARY_DIGESTS.put(key, new LibraryDigest(fingerprint, digest));
+        return digest;
+    }
+
+    /**
+     * Gets the cached check results if still valid.
+     *
+     * @param key      the cache key
+     * @param testFile the test file to check
+     * @param maxAge   the maximum age in milliseconds
+     * @return the cached check results or {@code null} if not cached or outdated
+     */
+    @CheckForNull
+    public static List<CheckInfoHolder> get(final String key, final String testFile, final long maxAge) {
+        final String file = new File(testFile).getAbsolutePath();
+        final CachedResult result = CACHE.get(file);
+        if (result == null || !result.key.equals(key)) {
+            return null;
+        }
+        if (result.isExpired(maxAge) || !result.isUpToDate()) {
+            CACHE.remove(file, result);
+            return null;
+        }
+        return result.checks;
+    }
+
+    /**
+     * Caches the given check results if they do not contain any errors. Replaces the previously cached results of
+     * the same test file and evicts all expired results.
+     *
+     * @param key      the cache key
+     * @param testFile the checked test file
+     * @param checks   the check results
+     * @param maxAge   the maximum age in milliseconds
+     */
+    public static void put(final String key, final String testFile, final List<CheckInfoHolder> checks,
+                           final long maxAge) {
+        CACHE.values().removeIf(result -> result.isExpired(maxAge));
+        final Map<String, String> digests = new HashMap<>();
+        for (final CheckInfoHolder check : checks) {
+            if (check.getSeriousness() == Seriousness.ERROR) {
+                CACHE.remove(new File(testFile).getAbsolutePath());
+                return;
+            }
+            if (StringUtils.isNotBlank(check.getFilePath())) {
+                digests.put(check.getFilePath(), getDigest(check.getFilePath()));
+            }
+        }
+        digests.put(testFile, getDigest(testFile));
+        CACHE.put(new File(testFile).getAbsolutePath(), new CachedResult(key, checks, digests));
+    }
+
+    /**
+     * Gets the number of cached check results.
+     *
+     * @return the number of cached check results
+     */
+    static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Invalidates all cached check results.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+        LIBRARY_DIGESTS.clear();
+    }
+
+    /**
+     * Gets the content digest of the given file.
+     *
+     * @param file the file
+     * @return the content digest or {@code null} if the file cannot be read
+     */
+    @CheckForNull
+    private static String getDigest(final String file) {
+        try {
+            return Util.getDigestOf(new File(file));
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached check results including the content digests of all relevant files.
+     */
+    private static final class CachedResult {
+
+        private final String key;
+        private final List<CheckInfoHolder> checks;
+        private final Map<String, String> digests;
+        private final long timestamp;
+
+        /**
+         * Instantiates a new {@link CachedResult}.
+         *
+         * @param key     the cache key
+         * @param checks  the check results
+         * @param digests the content digests by file path
+         */
+        CachedResult(final String key, final List<CheckInfoHolder> checks, final Map<String, String> digests) {
+            this.key = key;
+            this.checks = Collections.unmodifiableList(new ArrayList<>(checks));
+            this.digests = digests;
+            timestamp = System.currentTimeMillis();
+        }
+
+        /**
+         * @param maxAge the maximum age in milliseconds
+         * @return {@code true} if the maximum age is exceeded, {@code false} otherwise
+         */
+        boolean isExpired(final long maxAge) {
+            return System.currentTimeMillis() - timestamp > maxAge;
+        }
+
+        /**
+         * @return {@code true} if all relevant files are readable and unchanged, {@code false} otherwise
+         */
+        boolean isUpToDate() {
+            for (final Map.Entry<String, String> digest : digests.entrySet()) {
+                final String currentDigest = getDigest(digest.getKey());
+                if (currentDigest == null || !currentDigest.equals(digest.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Content digest of a library directory including the fingerprint of the file attributes it was calculated for.
+     */
+    private static final class LibraryDigest {
+
+        private final String fingerprint;
+        private final String digest;
+
+        /**
+         * Instantiates a new {@link LibraryDigest}.
+         *
+         * @param fingerprint the paths, sizes and modification times of all library files
+         * @param digest      the content digest
+         */
+        LibraryDigest(final String fingerprint, final String digest) {
+            this.fingerprint = fingerprint;
+            this.digest = digest;
+        }
+    }
+}
@@ -11,10 +11,11 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportPackageAttributeConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportPackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Item;
@@ -122,7 +123,7 @@ public class ExportPackageClient extends AbstractTMSClient {
     private boolean exportPackageToTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ExportPackageCallable((ExportPackageConfig) exportConfig, listener));
+            new ExportPackageCallable((ExportPackageConfig) exportConfig, getComContext(), listener));
     }
 
     /**
@@ -137,7 +138,7 @@ public class ExportPackageClient extends AbstractTMSClient {
     private boolean exportPackageAttributesToTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ExportPackageAttributeCallable((ExportPackageAttributeConfig) exportConfig, listener));
+            new ExportPackageAttributeCallable((ExportPackageAttributeConfig) exportConfig, getComContext(), listener));
     }
 
     /**
@@ -148,16 +149,20 @@ public class ExportPackageClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ExportPackageConfig exportConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ExportPackageCallable}.
          *
          * @param exportConfig the export configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ExportPackageCallable(final ExportPackageConfig exportConfig, final TaskListener listener) {
+        ExportPackageCallable(final ExportPackageConfig exportConfig,
+                              final ETComContext comContext, final TaskListener listener) {
             this.exportConfig = exportConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -167,9 +172,8 @@ public class ExportPackageClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Exporting package %s to test management system...",
                 exportConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isExported = tm.exportPackage(exportConfig.getFilePath(), exportConfig.getExportPath(),
                     exportConfig.isCreateNewPath(), exportConfig.getParsedTimeout())) {
                     logger.logInfo(String.format("-> Package exported successfully to target directory %s.",
@@ -190,16 +194,20 @@ public class ExportPackageClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ExportPackageAttributeConfig exportConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ExportPackageAttributeCallable}.
          *
          * @param exportConfig the export configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ExportPackageAttributeCallable(final ExportPackageAttributeConfig exportConfig, final TaskListener listener) {
+        ExportPackageAttributeCallable(final ExportPackageAttributeConfig exportConfig,
+                                       final ETComContext comContext, final TaskListener listener) {
             this.exportConfig = exportConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -209,9 +217,8 @@ public class ExportPackageClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Exporting attributes of package %s to test management system...",
                 exportConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isExported = tm.exportPackageAttributes(exportConfig.getFilePath(),
                     exportConfig.getParsedTimeout())) {
                     logger.logInfo("-> Package attributes exported successfully.");
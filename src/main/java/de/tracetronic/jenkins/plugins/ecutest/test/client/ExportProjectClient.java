@@ -11,10 +11,11 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportProjectAttributeConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Item;
@@ -127,7 +128,7 @@ public class ExportProjectClient extends AbstractTMSClient {
     private boolean exportProjectToTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ExportProjectCallable((ExportProjectConfig) exportConfig, listener));
+            new ExportProjectCallable((ExportProjectConfig) exportConfig, getComContext(), listener));
     }
 
     /**
@@ -142,7 +143,7 @@ public class ExportProjectClient extends AbstractTMSClient {
     private boolean exportProjectAttributesToTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ExportProjectAttributeCallable((ExportProjectAttributeConfig) exportConfig, listener));
+            new ExportProjectAttributeCallable((ExportProjectAttributeConfig) exportConfig, getComContext(), listener));
     }
 
     /**
@@ -153,16 +154,20 @@ public class ExportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ExportProjectConfig exportConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ExportProjectCallable}.
          *
          * @param exportConfig the export configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ExportProjectCallable(final ExportProjectConfig exportConfig, final TaskListener listener) {
+        ExportProjectCallable(final ExportProjectConfig exportConfig,
+                              final ETComContext comContext, final TaskListener listener) {
             this.exportConfig = exportConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -172,9 +177,8 @@ public class ExportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Exporting project %s to test management system...",
                 exportConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isExported = tm.exportProject(exportConfig.getFilePath(), exportConfig.getExportPath(),
                     exportConfig.isCreateNewPath(), exportConfig.getParsedTimeout())) {
                     logger.logInfo(String.format("-> Project exported successfully to target directory %s.",
@@ -195,16 +199,20 @@ public class ExportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ExportProjectAttributeConfig exportConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ExportProjectAttributeCallable}.
          *
          * @param exportConfig the export configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ExportProjectAttributeCallable(final ExportProjectAttributeConfig exportConfig, final TaskListener listener) {
+        ExportProjectAttributeCallable(final ExportProjectAttributeConfig exportConfig,
+                                       final ETComContext comContext, final TaskListener listener) {
             this.exportConfig = exportConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -214,9 +222,8 @@ public class ExportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Exporting attributes of project %s to test management system...",
                 exportConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isExported = tm.exportProjectAttributes(exportConfig.getFilePath(),
                     exportConfig.getParsedTimeout())) {
                     logger.logInfo("-> Project attributes exported successfully.");
@@ -12,10 +12,11 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportPackageAttribute
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportPackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportPackageDirConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Item;
@@ -127,7 +128,7 @@ public class ImportPackageClient extends AbstractTMSClient {
     private boolean importPackageFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportPackageCallable((ImportPackageConfig) importConfig, listener));
+            new ImportPackageCallable((ImportPackageConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -142,7 +143,7 @@ public class ImportPackageClient extends AbstractTMSClient {
     private boolean importPackageDirFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportPackageDirCallable((ImportPackageDirConfig) importConfig, listener));
+            new ImportPackageDirCallable((ImportPackageDirConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -157,7 +158,7 @@ public class ImportPackageClient extends AbstractTMSClient {
     private boolean importPackageAttributesFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportPackageAttributeCallable((ImportPackageAttributeConfig) importConfig, listener));
+            new ImportPackageAttributeCallable((ImportPackageAttributeConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -168,16 +169,20 @@ public class ImportPackageClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportPackageConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportPackageCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportPackageCallable(final ImportPackageConfig importConfig, final TaskListener listener) {
+        ImportPackageCallable(final ImportPackageConfig importConfig,
+                              final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -187,9 +192,8 @@ public class ImportPackageClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing package %s from test management system...",
                 importConfig.getTmsPath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isImported = tm.importPackage(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout())) {
                     logger.logInfo(String.format("-> Package imported successfully to target directory %s.",
@@ -210,16 +214,20 @@ public class ImportPackageClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportPackageDirConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportPackageCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportPackageDirCallable(final ImportPackageDirConfig importConfig, final TaskListener listener) {
+        ImportPackageDirCallable(final ImportPackageDirConfig importConfig,
+                                 final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -229,9 +237,8 @@ public class ImportPackageClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing package directory %s from test management system...",
                 importConfig.getTmsPath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 isImported = tm.importPackageDirectory(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout());
                 logger.logInfo(String.format("-> Package directory imported successfully to target directory %s.",
@@ -251,16 +258,20 @@ public class ImportPackageClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportPackageAttributeConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportPackageCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportPackageAttributeCallable(final ImportPackageAttributeConfig importConfig, final TaskListener listener) {
+        ImportPackageAttributeCallable(final ImportPackageAttributeConfig importConfig,
+                                       final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -270,9 +281,8 @@ public class ImportPackageClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing attributes of package %s from test management system...",
                 importConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 isImported = tm.importPackageAttributes(importConfig.getFilePath(), importConfig.getParsedTimeout());
                 logger.logInfo("-> Package attributes imported successfully.");
             } catch (final ETComException e) {
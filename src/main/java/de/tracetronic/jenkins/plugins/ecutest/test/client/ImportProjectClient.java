@@ -13,10 +13,11 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectAttribute
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectDirConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Item;
@@ -136,7 +137,7 @@ public class ImportProjectClient extends AbstractTMSClient {
     public boolean importProjectArchive(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportProjectArchiveCallable((ImportProjectArchiveConfig) importConfig, listener));
+            new ImportProjectArchiveCallable((ImportProjectArchiveConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -151,7 +152,7 @@ public class ImportProjectClient extends AbstractTMSClient {
     private boolean importProjectFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportProjectTMSCallable((ImportProjectConfig) importConfig, listener));
+            new ImportProjectTMSCallable((ImportProjectConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -166,7 +167,7 @@ public class ImportProjectClient extends AbstractTMSClient {
     private boolean importProjectDirFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportProjectDirTMSCallable((ImportProjectDirConfig) importConfig, listener));
+            new ImportProjectDirTMSCallable((ImportProjectDirConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -181,7 +182,7 @@ public class ImportProjectClient extends AbstractTMSClient {
     private boolean importProjectAttributesFromTMS(final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         return launcher.getChannel().call(
-            new ImportProjectAttributeCallable((ImportProjectAttributeConfig) importConfig, listener));
+            new ImportProjectAttributeCallable((ImportProjectAttributeConfig) importConfig, getComContext(), listener));
     }
 
     /**
@@ -192,16 +193,20 @@ public class ImportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportProjectArchiveConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportProjectArchiveCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportProjectArchiveCallable(final ImportProjectArchiveConfig importConfig, final TaskListener listener) {
+        ImportProjectArchiveCallable(final ImportProjectArchiveConfig importConfig,
+                                     final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -210,8 +215,7 @@ public class ImportProjectClient extends AbstractTMSClient {
             boolean isImported = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing project from archive %s...", importConfig.getTmsPath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 if (isImported = comClient.importProject(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getImportConfigPath(), importConfig.isReplaceFiles())) {
                     logger.logInfo(String.format("-> Project imported successfully to target directory %s.",
@@ -232,16 +236,20 @@ public class ImportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportProjectConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportProjectTMSCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportProjectTMSCallable(final ImportProjectConfig importConfig, final TaskListener listener) {
+        ImportProjectTMSCallable(final ImportProjectConfig importConfig,
+                                 final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -251,9 +259,8 @@ public class ImportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing project %s from test management system...",
                 importConfig.getTmsPath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 if (isImported = tm.importProject(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.isImportMissingPackages(), importConfig.getParsedTimeout())) {
                     logger.logInfo(String.format("-> Project imported successfully to target directory %s.",
@@ -274,16 +281,20 @@ public class ImportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportProjectDirConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportProjectTMSCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportProjectDirTMSCallable(final ImportProjectDirConfig importConfig, final TaskListener listener) {
+        ImportProjectDirTMSCallable(final ImportProjectDirConfig importConfig,
+                                    final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -293,9 +304,8 @@ public class ImportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing project directory %s from test management system...",
                 importConfig.getTmsPath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 isImported = tm.importProjectDirectory(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout());
                 logger.logInfo(String.format("-> Project directory imported successfully to target directory %s.",
@@ -315,16 +325,20 @@ public class ImportProjectClient extends AbstractTMSClient {
         private static final long serialVersionUID = 1L;
 
         private final ImportProjectAttributeConfig importConfig;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ImportProjectAttributeCallable}.
          *
          * @param importConfig the import configuration
+         * @param comContext   the COM context
          * @param listener     the listener
          */
-        ImportProjectAttributeCallable(final ImportProjectAttributeConfig importConfig, final TaskListener listener) {
+        ImportProjectAttributeCallable(final ImportProjectAttributeConfig importConfig,
+                                       final ETComContext comContext, final TaskListener listener) {
             this.importConfig = importConfig;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -334,9 +348,8 @@ public class ImportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing attributes of project %s from test management system...",
                 importConfig.getFilePath()));
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestManagement tm = (TestManagement) comClient.getTestManagement();
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                final ComTestManagement tm = comClient.getTestManagement();
                 isImported = tm.importProjectAttributes(importConfig.getFilePath(), importConfig.getParsedTimeout());
                 logger.logInfo("-> Project attributes imported successfully.");
             } catch (final ETComException e) {
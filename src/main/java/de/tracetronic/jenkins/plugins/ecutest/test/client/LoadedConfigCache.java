@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.client;
+
+import javax.annotation.CheckForNull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache holding the fingerprint of the configurations last loaded per ECU-TEST instance on the current node.
+ * <p>
+ * Used on the node side to skip reloading unchanged test bench and test configurations between consecutive test
+ * executions. The cache has to be invalidated whenever ECU-TEST is started, stopped or terminated.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class LoadedConfigCache {
+
+    private static final Map<String, String> FINGERPRINTS = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link LoadedConfigCache}.
+     */
+    private LoadedConfigCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Checks whether the configurations with given fingerprint are currently loaded.
+     *
+     * @param progId      the COM programmatic identifier of the ECU-TEST instance
+     * @param fingerprint the configuration fingerprint
+     * @return {@code true} if the configurations are already loaded, {@code false} otherwise
+     */
+    public static boolean isLoaded(final String progId, final String fingerprint) {
+        return fingerprint.equals(FINGERPRINTS.get(progId));
+    }
+
+    /**
+     * Gets the fingerprint of the configurations currently loaded in the given ECU-TEST instance.
+     *
+     * @param progId the COM programmatic identifier of the ECU-TEST instance
+     * @return the configuration fingerprint or {@code null} if the loaded configurations are unknown
+     */
+    @CheckForNull
+    public static String getLoaded(final String progId) {
+        return FINGERPRINTS.get(progId);
+    }
+
+    /**
+     * Registers the configurations with given fingerprint as loaded.
+     *
+     * @param progId      the COM programmatic identifier of the ECU-TEST instance
+     * @param fingerprint the configuration fingerprint
+     */
+    public static void setLoaded(final String progId, final String fingerprint) {
+        FINGERPRINTS.put(progId, fingerprint);
+    }
+
+    /**
+     * Invalidates the loaded configurations of the given ECU-TEST instance.
+     *
+     * @param progId the COM programmatic identifier of the ECU-TEST instance
+     */
+    public static void invalidate(final String progId) {
+        FINGERPRINTS.remove(progId);
+    }
+
+    /**
+     * Invalidates the loaded configurations of all ECU-TEST instances.
+     */
+    public static void invalidateAll() {
+        FINGERPRINTS.clear();
+    }
+}
@@ -12,21 +12,23 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageParameter;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Package;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy.Poller;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComPackage;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
 import hudson.FilePath;
 import hudson.Launcher;
+import hudson.Util;
 import hudson.model.TaskListener;
 import hudson.remoting.Callable;
 import jenkins.security.MasterToSlaveCallable;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,30 +74,24 @@ public class PackageClient extends AbstractTestClient {
             return false;
         }
 
-        // Load test configuration
-        if (!getTestConfig().isKeepConfig() && !launcher.getChannel().call(
-            new LoadConfigCallable(getTestConfig(), listener))) {
-            return false;
-        }
-
-        // Open package
-        final PackageInfoHolder pkgInfo = launcher.getChannel().call(
-            new OpenPackageCallable(getTestFile(), getExecutionConfig().isCheckTestFile(), listener));
-
-        // Set package information
-        if (pkgInfo != null) {
-            setTestName(pkgInfo.getTestName());
-            setTestDescription(pkgInfo.getTestDescription());
-        } else {
-            return false;
-        }
-
         try {
-            // Run package
-            final TestInfoHolder testInfo = launcher.getChannel().call(
-                new RunPackageCallable(getTestFile(), getPackageConfig(), getExecutionConfig(), listener));
+            // Load test configuration, open, run and close package within a single COM session
+            final long startMillis = System.currentTimeMillis();
+            final ExecutionInfoHolder execInfo = launcher.getChannel().call(
+                new ExecutePackageCallable(getTestFile(), getTestConfig(), getPackageConfig(),
+                    getExecutionConfig(), getComContext(), listener));
+            setTestDuration(System.currentTimeMillis() - startMillis);
+
+            // Set package information
+            if (execInfo != null) {
+                setTestName(execInfo.getTestName());
+                setTestDescription(execInfo.getTestDescription());
+            } else {
+                return false;
+            }
 
             // Set test result information
+            final TestInfoHolder testInfo = execInfo.getTestInfo();
             if (testInfo != null) {
                 setTestResult(testInfo.getTestResult());
                 setTestReportDir(testInfo.getTestReportDir());
@@ -103,52 +99,100 @@ public class PackageClient extends AbstractTestClient {
             } else {
                 return false;
             }
+            return execInfo.isClosed();
         } catch (final InterruptedException e) {
             logger.logError("Test execution has been interrupted!");
             return false;
         }
-
-        // Close package
-        return launcher.getChannel().call(new ClosePackageCallable(getTestFile(), listener));
     }
 
     /**
-     * {@link Callable} providing remote access to open a package via COM.
+     * {@link Callable} providing remote access to load the test configuration, open, check, run and close a package
+     * within a single COM session.
      */
-    private static final class OpenPackageCallable extends MasterToSlaveCallable<PackageInfoHolder, IOException> {
+    private static final class ExecutePackageCallable
+        extends MasterToSlaveCallable<ExecutionInfoHolder, IOException> {
 
         private static final long serialVersionUID = 1L;
 
         private final String packageFile;
-        private final boolean checkTestFile;
+        private final TestConfig testConfig;
+        private final PackageConfig packageConfig;
+        private final ExecutionConfig executionConfig;
+        private final ETComContext comContext;
+        private final long checkCacheMaxAge;
         private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link OpenPackageCallable}.
+         * Instantiates a new {@link ExecutePackageCallable}.
          *
-         * @param packageFile   the package file
-         * @param checkTestFile specifies whether to check the package file
-         * @param listener      the listener
+         * @param packageFile     the package file
+         * @param testConfig      the test configuration
+         * @param packageConfig   the package configuration
+         * @param executionConfig the execution configuration
+         * @param comContext      the COM context
+         * @param listener        the listener
          */
-        OpenPackageCallable(final String packageFile, final boolean checkTestFile, final TaskListener listener) {
+        ExecutePackageCallable(final String packageFile, final TestConfig testConfig,
+                               final PackageConfig packageConfig, final ExecutionConfig executionConfig,
+                               final ETComContext comContext, final TaskListener listener) {
             this.packageFile = packageFile;
-            this.checkTestFile = checkTestFile;
+            this.testConfig = testConfig;
+            this.packageConfig = packageConfig;
+            this.executionConfig = executionConfig;
+            this.comContext = comContext;
             this.listener = listener;
+            checkCacheMaxAge = CheckResultCache.getMaxAge();
         }
 
         @Override
-        public PackageInfoHolder call() throws IOException {
-            PackageInfoHolder pkgInfo = null;
+        public ExecutionInfoHolder call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                // Load test configuration
+                if (!testConfig.isKeepConfig()
+                    && !new LoadConfigCallable(testConfig, comContext, listener).loadConfig(comClient)) {
+                    return null;
+                }
+
+                // Open package
+                final PackageInfoHolder pkgInfo = openPackage(comClient, logger);
+                if (pkgInfo == null) {
+                    return null;
+                }
+
+                // Run package
+                final TestInfoHolder testInfo = runPackage(comClient, logger);
+                if (testInfo == null) {
+                    return new ExecutionInfoHolder(pkgInfo.getTestName(), pkgInfo.getTestDescription(),
+                        null, false);
+                }
+
+                // Close package
+                return new ExecutionInfoHolder(pkgInfo.getTestName(), pkgInfo.getTestDescription(),
+                    testInfo, closePackage(comClient, logger));
+            } catch (final ETComException e) {
+                logger.logComException(e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Opens and optionally checks the package.
+         *
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return the package information or {@code null} if opening or checking failed
+         */
+        private PackageInfoHolder openPackage(final ComClient comClient, final TTConsoleLogger logger) {
+            PackageInfoHolder pkgInfo = null;
             logger.logInfo("- Opening package...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 Package pkg = (Package) comClient.openPackage(packageFile)) {
+            try (ComPackage pkg = comClient.openPackage(packageFile)) {
                 logger.logInfo("-> Package opened successfully.");
                 pkgInfo = new PackageInfoHolder(pkg.getName(), pkg.getDescription());
-                if (checkTestFile) {
+                if (executionConfig.isCheckTestFile()) {
                     logger.logInfo("- Checking package...");
-                    final List<CheckInfoHolder> checks = pkg.check();
+                    final List<CheckInfoHolder> checks = checkPackage(comClient, pkg, logger);
                     for (final CheckInfoHolder check : checks) {
                         final String logMessage = String.format("%s (line %s): %s", check.getFilePath(),
                             check.getLineNumber(), check.getErrorMessage());
@@ -178,59 +222,62 @@ public class PackageClient extends AbstractTestClient {
             }
             return pkgInfo;
         }
-    }
-
-    /**
-     * {@link Callable} providing remote access to run a package via COM.
-     */
-    private static final class RunPackageCallable extends MasterToSlaveCallable<TestInfoHolder, InterruptedException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final String packageFile;
-        private final PackageConfig packageConfig;
-        private final ExecutionConfig executionConfig;
-        private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link RunPackageCallable}.
+         * Checks the package or replays the cached check results if the package is unchanged.
+         * Results are only cached if the currently loaded configurations are known.
          *
-         * @param packageFile     the package file
-         * @param packageConfig   the package configuration
-         * @param executionConfig the execution configuration
-         * @param listener        the listener
+         * @param comClient the COM client
+         * @param pkg       the opened package
+         * @param logger    the logger
+         * @return the check results
+         * @throws ETComException in case of a COM exception
          */
-        RunPackageCallable(final String packageFile, final PackageConfig packageConfig,
-                           final ExecutionConfig executionConfig, final TaskListener listener) {
-            this.packageFile = packageFile;
-            this.packageConfig = packageConfig;
-            this.executionConfig = executionConfig;
-            this.listener = listener;
+        private List<CheckInfoHolder> checkPackage(final ComClient comClient, final ComPackage pkg,
+                                                   final TTConsoleLogger logger) throws ETComException {
+            final String configFingerprint = LoadedConfigCache.getLoaded(comContext.getProgId());
+            if (checkCacheMaxAge <= 0 || configFingerprint == null) {
+                return pkg.check();
+            }
+            final String settings = String.format("%s|%s", Util.getDigestOf(configFingerprint),
+                CheckResultCache.getLibraryDigest(comClient));
+            final String cacheKey = CheckResultCache.getKey(packageFile, comClient.getVersion(), settings);
+            List<CheckInfoHolder> checks = CheckResultCache.get(cacheKey, packageFile, checkCacheMaxAge);
+            if (checks == null) {
+                checks = pkg.check();
+                CheckResultCache.put(cacheKey, packageFile, checks, checkCacheMaxAge);
+            } else {
+                logger.logInfo("-> Replaying cached check results of unchanged package.");
+            }
+            return checks;
         }
 
-        @Override
-        public TestInfoHolder call() throws InterruptedException {
+        /**
+         * Runs the package and waits for its completion.
+         *
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return the test information or {@code null} if running the package failed
+         */
+        private TestInfoHolder runPackage(final ComClient comClient, final TTConsoleLogger logger) {
             final boolean runTest = packageConfig.isRunTest();
             final boolean runTraceAnalysis = packageConfig.isRunTraceAnalysis();
             final int timeout = executionConfig.getParsedTimeout();
             TestInfoHolder testInfo = null;
 
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Running package...");
             final Map<String, String> paramMap = getParameterMap();
             if (!paramMap.isEmpty()) {
                 logger.logInfo("-> With parameters: " + paramMap.toString());
             }
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                 TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.executePackage(packageFile,
+            try (ComTestEnvironment testEnv = comClient.getTestEnvironment();
+                 ComTestExecutionInfo execInfo = testEnv.executePackage(packageFile,
                      runTraceAnalysis, runTest, paramMap)) {
                 boolean isAborted = false;
-                int tickCounter = 0;
+                final Poller poller = comContext.getPollingPolicy().newPoller();
                 final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
                 while ("RUNNING".equals(execInfo.getState())) {
-                    if (tickCounter % 60 == 0) {
+                    if (poller.isTickDue()) {
                         logger.logInfo("-- tick...");
                     }
                     if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
@@ -240,15 +287,16 @@ public class PackageClient extends AbstractTestClient {
                         execInfo.abort();
                         break;
                     }
-                    Thread.sleep(1000L);
-                    tickCounter++;
+                    poller.await();
                 }
+                logger.logInfo(String.format("-> Execution finished after %d ms, completion detected within %d ms.",
+                    poller.getElapsedMillis(), poller.getDetectionMillis()));
                 testInfo = getTestInfo(execInfo, isAborted, logger);
                 postExecution(timeout, comClient, logger);
             } catch (final ETComException e) {
                 logger.logError("Caught ComException: " + e.getMessage());
             } catch (final InterruptedException e) {
-                testInfo = abortTestExecution(timeout, progId, logger);
+                testInfo = abortTestExecution(timeout, comClient, logger);
             }
             return testInfo;
         }
@@ -275,7 +323,7 @@ public class PackageClient extends AbstractTestClient {
          * @return the test information
          * @throws ETComException in case of a COM exception
          */
-        private TestInfoHolder getTestInfo(final TestExecutionInfo execInfo, final boolean isAborted,
+        private TestInfoHolder getTestInfo(final ComTestExecutionInfo execInfo, final boolean isAborted,
                                            final TTConsoleLogger logger) throws ETComException {
             final String testResult = execInfo.getResult();
             logger.logInfo(String.format("-> Package execution completed with result: %s", testResult));
@@ -287,17 +335,16 @@ public class PackageClient extends AbstractTestClient {
         /**
          * Aborts the test execution.
          *
-         * @param timeout the timeout
-         * @param progId  the programmatic id
-         * @param logger  the logger
+         * @param timeout   the timeout
+         * @param comClient the COM client
+         * @param logger    the logger
          * @return the test information
          */
-        private TestInfoHolder abortTestExecution(final int timeout, final String progId,
+        private TestInfoHolder abortTestExecution(final int timeout, final ComClient comClient,
                                                   final TTConsoleLogger logger) {
             TestInfoHolder testInfo = null;
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                 TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.getTestExecutionInfo()) {
+            try (ComTestEnvironment testEnv = comClient.getTestEnvironment();
+                 ComTestExecutionInfo execInfo = testEnv.getTestExecutionInfo()) {
                 logger.logWarn("-> Build interrupted! Aborting test exection...");
                 execInfo.abort();
                 testInfo = getTestInfo(execInfo, true, logger);
@@ -316,42 +363,24 @@ public class PackageClient extends AbstractTestClient {
          * @param logger    the logger
          * @throws ETComException in case of a COM exception
          */
-        private void postExecution(final int timeout, final ETComClient comClient, final TTConsoleLogger logger)
+        private void postExecution(final int timeout, final ComClient comClient, final TTConsoleLogger logger)
             throws ETComException {
             if (!comClient.waitForIdle(timeout)) {
                 logger.logWarn(String.format("-> Post-execution timeout of %d seconds reached!", timeout));
             }
         }
-    }
-
-    /**
-     * {@link Callable} providing remote access to close a package via COM.
-     */
-    private static final class ClosePackageCallable extends MasterToSlaveCallable<Boolean, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final String packageFile;
-        private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link ClosePackageCallable}.
+         * Closes the package.
          *
-         * @param packageFile the package file
-         * @param listener    the listener
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return {@code true} if the package is closed successfully, {@code false} otherwise
          */
-        ClosePackageCallable(final String packageFile, final TaskListener listener) {
-            this.packageFile = packageFile;
-            this.listener = listener;
-        }
-
-        @Override
-        public Boolean call() throws IOException {
+        private boolean closePackage(final ComClient comClient, final TTConsoleLogger logger) {
             boolean isClosed = false;
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Closing package...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try {
                 if (comClient.closePackage(packageFile)) {
                     isClosed = true;
                     logger.logInfo("-> Package closed successfully.");
@@ -368,9 +397,7 @@ public class PackageClient extends AbstractTestClient {
     /**
      * Helper class storing information about a package.
      */
-    private static final class PackageInfoHolder implements Serializable {
-
-        private static final long serialVersionUID = 1L;
+    private static final class PackageInfoHolder {
 
         private final String testName;
         private final String testDescription;
@@ -11,14 +11,17 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Project;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy.Poller;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComProject;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
 import hudson.FilePath;
 import hudson.Launcher;
+import hudson.Util;
 import hudson.model.TaskListener;
 import hudson.remoting.Callable;
 import jenkins.security.MasterToSlaveCallable;
@@ -69,29 +72,23 @@ public class ProjectClient extends AbstractTestClient {
             return false;
         }
 
-        // Load test configuration
-        if (!getTestConfig().isKeepConfig() && !launcher.getChannel().call(
-            new LoadConfigCallable(getTestConfig(), listener))) {
-            return false;
-        }
-
-        // Open and check project
-        if (!launcher.getChannel().call(
-            new OpenProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig().isCheckTestFile(),
-                listener))) {
-            return false;
-        }
-
-        // Set default project information
-        setTestDescription("");
-        setTestName(FilenameUtils.getBaseName(new File(getTestFile()).getName()));
-
         try {
-            // Run project
-            final TestInfoHolder testInfo = launcher.getChannel().call(
-                new RunProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig(), listener));
+            // Load test configuration, open, check, run and close project within a single COM session
+            final long startMillis = System.currentTimeMillis();
+            final ExecutionInfoHolder execInfo = launcher.getChannel().call(
+                new ExecuteProjectCallable(getTestFile(), getTestConfig(), getProjectConfig(),
+                    getExecutionConfig(), getComContext(), listener));
+            setTestDuration(System.currentTimeMillis() - startMillis);
+            if (execInfo == null) {
+                return false;
+            }
+
+            // Set default project information
+            setTestDescription("");
+            setTestName(FilenameUtils.getBaseName(new File(getTestFile()).getName()));
 
             // Set project information
+            final TestInfoHolder testInfo = execInfo.getTestInfo();
             if (testInfo != null) {
                 setTestResult(testInfo.getTestResult());
                 setTestReportDir(testInfo.getTestReportDir());
@@ -99,58 +96,99 @@ public class ProjectClient extends AbstractTestClient {
             } else {
                 return false;
             }
+            return execInfo.isClosed();
         } catch (final InterruptedException e) {
             logger.logError("Test execution has been interrupted!");
             return false;
         }
-
-        // Close project
-        return launcher.getChannel().call(new CloseProjectCallable(getTestFile(), listener));
     }
 
     /**
-     * {@link Callable} providing remote access to open a project via COM.
+     * {@link Callable} providing remote access to load the test configuration, open, check, run and close a project
+     * within a single COM session.
      */
-    private static final class OpenProjectCallable extends MasterToSlaveCallable<Boolean, IOException> {
+    private static final class ExecuteProjectCallable
+        extends MasterToSlaveCallable<ExecutionInfoHolder, IOException> {
 
         private static final long serialVersionUID = 1L;
 
         private final String projectFile;
+        private final TestConfig testConfig;
         private final ProjectConfig projectConfig;
-        private final boolean checkTestFile;
+        private final ExecutionConfig executionConfig;
+        private final ETComContext comContext;
+        private final long checkCacheMaxAge;
         private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link OpenProjectCallable}.
+         * Instantiates a new {@link ExecuteProjectCallable}.
          *
-         * @param projectFile   the project file
-         * @param projectConfig the project configuration
-         * @param checkTestFile specifies whether to check the project file
-         * @param listener      the listener
+         * @param projectFile     the project file
+         * @param testConfig      the test configuration
+         * @param projectConfig   the project configuration
+         * @param executionConfig the execution configuration
+         * @param comContext      the COM context
+         * @param listener        the listener
          */
-        OpenProjectCallable(final String projectFile, final ProjectConfig projectConfig,
-                            final boolean checkTestFile, final TaskListener listener) {
+        ExecuteProjectCallable(final String projectFile, final TestConfig testConfig,
+                               final ProjectConfig projectConfig, final ExecutionConfig executionConfig,
+                               final ETComContext comContext, final TaskListener listener) {
             this.projectFile = projectFile;
+            this.testConfig = testConfig;
             this.projectConfig = projectConfig;
-            this.checkTestFile = checkTestFile;
+            this.executionConfig = executionConfig;
+            this.comContext = comContext;
             this.listener = listener;
+            checkCacheMaxAge = CheckResultCache.getMaxAge();
         }
 
         @Override
-        public Boolean call() throws IOException {
+        public ExecutionInfoHolder call() throws IOException {
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
+                // Load test configuration
+                if (!testConfig.isKeepConfig()
+                    && !new LoadConfigCallable(testConfig, comContext, listener).loadConfig(comClient)) {
+                    return null;
+                }
+
+                // Open and check project
+                if (!openProject(comClient, logger)) {
+                    return null;
+                }
+
+                // Run project
+                final TestInfoHolder testInfo = runProject(comClient, logger);
+                if (testInfo == null) {
+                    return new ExecutionInfoHolder(null, null, null, false);
+                }
+
+                // Close project
+                return new ExecutionInfoHolder(null, null, testInfo, closeProject(comClient, logger));
+            } catch (final ETComException e) {
+                logger.logComException(e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Opens and optionally checks the project.
+         *
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return {@code true} if the project is opened and checked successfully, {@code false} otherwise
+         */
+        private boolean openProject(final ComClient comClient, final TTConsoleLogger logger) {
             final boolean execInCurrentPkgDir = projectConfig.isExecInCurrentPkgDir();
             final String filterExpression = projectConfig.getFilterExpression();
             boolean isOpened = true;
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Opening project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 Project project = (Project) comClient.openProject(projectFile, execInCurrentPkgDir,
-                     filterExpression)) {
+            try (ComProject project = comClient.openProject(projectFile, execInCurrentPkgDir,
+                filterExpression)) {
                 logger.logInfo("-> Project opened successfully.");
-                if (checkTestFile) {
+                if (executionConfig.isCheckTestFile()) {
                     logger.logInfo("- Checking project...");
-                    final List<CheckInfoHolder> checks = project.check();
+                    final List<CheckInfoHolder> checks = checkProject(comClient, project, logger);
                     for (final CheckInfoHolder check : checks) {
                         final String logMessage = String.format("%s (line %s): %s", check.getFilePath(),
                             check.getLineNumber(), check.getErrorMessage());
@@ -181,53 +219,57 @@ public class ProjectClient extends AbstractTestClient {
             }
             return isOpened;
         }
-    }
-
-    /**
-     * {@link Callable} providing remote access to run a project via COM.
-     */
-    private static final class RunProjectCallable extends MasterToSlaveCallable<TestInfoHolder, InterruptedException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final String projectFile;
-        private final ProjectConfig projectConfig;
-        private final ExecutionConfig executionConfig;
-        private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link RunProjectCallable}.
+         * Checks the project or replays the cached check results if the project is unchanged.
+         * Results are only cached if the currently loaded configurations are known.
          *
-         * @param projectFile     the project file
-         * @param projectConfig   the project configuration
-         * @param executionConfig the execution configuration
-         * @param listener        the listener
+         * @param comClient the COM client
+         * @param project   the opened project
+         * @param logger    the logger
+         * @return the check results
+         * @throws ETComException in case of a COM exception
          */
-        RunProjectCallable(final String projectFile, final ProjectConfig projectConfig,
-                           final ExecutionConfig executionConfig, final TaskListener listener) {
-            this.projectFile = projectFile;
-            this.projectConfig = projectConfig;
-            this.executionConfig = executionConfig;
-            this.listener = listener;
+        private List<CheckInfoHolder> checkProject(final ComClient comClient, final ComProject project,
+                                                   final TTConsoleLogger logger) throws ETComException {
+            final String configFingerprint = LoadedConfigCache.getLoaded(comContext.getProgId());
+            if (checkCacheMaxAge <= 0 || configFingerprint == null) {
+                return project.check();
+            }
+            final String settings = String.format("%s|%s|%s|%s", projectConfig.isExecInCurrentPkgDir(),
+                projectConfig.getFilterExpression(), Util.getDigestOf(configFingerprint),
+                CheckResultCache.getLibraryDigest(comClient));
+            final String cacheKey = CheckResultCache.getKey(projectFile, comClient.getVersion(), settings);
+            List<CheckInfoHolder> checks = CheckResultCache.get(cacheKey, projectFile, checkCacheMaxAge);
+            if (checks == null) {
+                checks = project.check();
+                CheckResultCache.put(cacheKey, projectFile, checks, checkCacheMaxAge);
+            } else {
+                logger.logInfo("-> Replaying cached check results of unchanged project.");
+            }
+            return checks;
         }
 
-        @Override
-        public TestInfoHolder call() throws InterruptedException {
+        /**
+         * Runs the project and waits for its completion.
+         *
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return the test information or {@code null} if running the project failed
+         */
+        private TestInfoHolder runProject(final ComClient comClient, final TTConsoleLogger logger) {
             final int jobExecutionMode = projectConfig.getJobExecMode().getValue();
             final int timeout = executionConfig.getParsedTimeout();
             TestInfoHolder testInfo = null;
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Running project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                 TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.executeProject(projectFile, true,
+            try (ComTestEnvironment testEnv = comClient.getTestEnvironment();
+                 ComTestExecutionInfo execInfo = testEnv.executeProject(projectFile, true,
                      jobExecutionMode)) {
                 boolean isAborted = false;
-                int tickCounter = 0;
+                final Poller poller = comContext.getPollingPolicy().newPoller();
                 final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
                 while ("RUNNING".equals(execInfo.getState())) {
-                    if (tickCounter % 60 == 0) {
+                    if (poller.isTickDue()) {
                         logger.logInfo("-- tick...");
                     }
                     if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
@@ -237,15 +279,16 @@ public class ProjectClient extends AbstractTestClient {
                         execInfo.abort();
                         break;
                     }
-                    Thread.sleep(1000L);
-                    tickCounter++;
+                    poller.await();
                 }
+                logger.logInfo(String.format("-> Execution finished after %d ms, completion detected within %d ms.",
+                    poller.getElapsedMillis(), poller.getDetectionMillis()));
                 testInfo = getTestInfo(execInfo, isAborted, logger);
                 postExecution(timeout, comClient, logger);
             } catch (final ETComException e) {
                 logger.logComException(e.getMessage());
             } catch (final InterruptedException e) {
-                testInfo = abortTestExecution(timeout, progId, logger);
+                testInfo = abortTestExecution(timeout, comClient, logger);
             }
             return testInfo;
         }
@@ -253,17 +296,16 @@ public class ProjectClient extends AbstractTestClient {
         /**
          * Aborts the test execution.
          *
-         * @param timeout the timeout
-         * @param progId  the programmatic id
-         * @param logger  the logger
+         * @param timeout   the timeout
+         * @param comClient the COM client
+         * @param logger    the logger
          * @return the test information
          */
-        private TestInfoHolder abortTestExecution(final int timeout, final String progId,
+        private TestInfoHolder abortTestExecution(final int timeout, final ComClient comClient,
                                                   final TTConsoleLogger logger) {
             TestInfoHolder testInfo = null;
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                 TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.getTestExecutionInfo()) {
+            try (ComTestEnvironment testEnv = comClient.getTestEnvironment();
+                 ComTestExecutionInfo execInfo = testEnv.getTestExecutionInfo()) {
                 logger.logWarn("-> Build interrupted! Aborting test exection...");
                 execInfo.abort();
                 testInfo = getTestInfo(execInfo, true, logger);
@@ -283,7 +325,7 @@ public class ProjectClient extends AbstractTestClient {
          * @return the test information
          * @throws ETComException in case of a COM exception
          */
-        private TestInfoHolder getTestInfo(final TestExecutionInfo execInfo, final boolean isAborted,
+        private TestInfoHolder getTestInfo(final ComTestExecutionInfo execInfo, final boolean isAborted,
                                            final TTConsoleLogger logger) throws ETComException {
             final String testResult = execInfo.getResult();
             logger.logInfo(String.format("-> Project execution completed with result: %s", testResult));
@@ -300,42 +342,24 @@ public class ProjectClient extends AbstractTestClient {
          * @param logger    the logger
          * @throws ETComException in case of a COM exception
          */
-        private void postExecution(final int timeout, final ETComClient comClient, final TTConsoleLogger logger)
+        private void postExecution(final int timeout, final ComClient comClient, final TTConsoleLogger logger)
             throws ETComException {
             if (!comClient.waitForIdle(timeout)) {
                 logger.logWarn(String.format("-> Post-execution timeout of %d seconds reached!", timeout));
             }
         }
-    }
-
-    /**
-     * {@link Callable} providing remote access to close a project via COM.
-     */
-    private static final class CloseProjectCallable extends MasterToSlaveCallable<Boolean, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final String projectFile;
-        private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link CloseProjectCallable}.
+         * Closes the project.
          *
-         * @param projectFile the project file
-         * @param listener    the listener
+         * @param comClient the COM client
+         * @param logger    the logger
+         * @return {@code true} if the project is closed successfully, {@code false} otherwise
          */
-        CloseProjectCallable(final String projectFile, final TaskListener listener) {
-            this.projectFile = projectFile;
-            this.listener = listener;
-        }
-
-        @Override
-        public Boolean call() throws IOException {
+        private boolean closeProject(final ComClient comClient, final TTConsoleLogger logger) {
             boolean isClosed = false;
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Closing project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try {
                 if (comClient.closeProject(projectFile)) {
                     isClosed = true;
                     logger.logInfo("-> Project closed successfully.");
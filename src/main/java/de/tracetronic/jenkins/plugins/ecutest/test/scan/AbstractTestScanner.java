@@ -19,7 +19,9 @@ import java.util.List;
  * Common base class for the {@link TestPackageScanner} and {@link TestProjectScanner}.
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ * @deprecated use {@link TestFolderScanner} instead, which finds packages and projects in a single pass
  */
+@Deprecated
 public abstract class AbstractTestScanner {
 
     private final String inputDir;
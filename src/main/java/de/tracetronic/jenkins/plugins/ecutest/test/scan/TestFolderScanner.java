@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import hudson.Launcher;
+import hudson.remoting.Callable;
+import jenkins.security.MasterToSlaveCallable;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Directory scanner searching for ECU-TEST packages and projects within a single pass over the test folder.
+ * <p>
+ * Found test files can be filtered by comma-separated include and exclude glob patterns relative to the test folder.
+ * If the system property {@value #INDEX_PROPERTY} is set to {@code true} on the node executing the scan, the
+ * directory listings are kept in a node-local index and only directories whose modification time has changed are
+ * listed again by following scans. The index holds at most {@value #INDEX_SIZE_PROPERTY} directories, evicting the
+ * least recently scanned ones, and drops the entries of directories that no longer exist.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TestFolderScanner {
+
+    /**
+     * Node system property enabling the node-local folder index.
+     */
+    public static final String INDEX_PROPERTY = "ecutest.scan.folderIndex";
+    /**
+     * Node system property defining the maximum number of indexed directories.
+     */
+    public static final String INDEX_SIZE_PROPERTY = "ecutest.scan.folderIndexSize";
+    /**
+     * Default maximum number of indexed directories.
+     */
+    public static final int DEFAULT_INDEX_SIZE = 10000;
+
+    private static final String PKG_EXTENSION = ".pkg";
+    private static final String PRJ_EXTENSION = ".prj";
+
+    private static final Map<Path, IndexEntry> INDEX = Collections.synchronizedMap(
+        new LinkedHashMap<Path, IndexEntry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Path, IndexEntry> eldest) {
+                return size() > Math.max(1, Integer.getInteger(INDEX_SIZE_PROPERTY, DEFAULT_INDEX_SIZE));
+            }
+        });
+
+    private final String inputDir;
+    private final boolean recursive;
+    private final transient Launcher launcher;
+    private String includes = "";
+    private String excludes = "";
+
+    /**
+     * Instantiates a new {@link TestFolderScanner}.
+     *
+     * @param inputDir  the input directory
+     * @param recursive specifies whether to scan recursively
+     * @param launcher  the launcher
+     */
+    public TestFolderScanner(final String inputDir, final boolean recursive, final Launcher launcher) {
+        this.inputDir = inputDir;
+        this.recursive = recursive;
+        this.launcher = launcher;
+    }
+
+    /**
+     * @return the input directory to scan
+     */
+    public String getInputDir() {
+        return inputDir;
+    }
+
+    /**
+     * @return {@code true} if recursive scan is enabled, {@code false} otherwise.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * @param includes the comma-separated include glob patterns, empty to include all test files
+     */
+    public void setIncludes(@CheckForNull final String includes) {
+        this.includes = StringUtils.trimToEmpty(includes);
+    }
+
+    /**
+     * @param excludes the comma-separated exclude glob patterns, empty to exclude no test files
+     */
+    public void setExcludes(@CheckForNull final String excludes) {
+        this.excludes = StringUtils.trimToEmpty(excludes);
+    }
+
+    /**
+     * Scans the test files.
+     *
+     * @param scanPackages specifies whether to collect packages
+     * @param scanProjects specifies whether to collect projects
+     * @return the scan result holding the found packages and projects
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    public ScanResult scanTestFiles(final boolean scanPackages, final boolean scanProjects)
+        throws IOException, InterruptedException {
+        return launcher.getChannel().call(new ScanFolderCallable(inputDir, recursive, includes, excludes,
+            scanPackages, scanProjects));
+    }
+
+    /**
+     * Scans the given directory for test files on the local file system.
+     *
+     * @param inputDir     the input directory
+     * @param recursive    specifies whether to scan recursively
+     * @param includes     the comma-separated include glob patterns
+     * @param excludes     the comma-separated exclude glob patterns
+     * @param scanPackages specifies whether to collect packages
+     * @param scanProjects specifies whether to collect projects
+     * @param useIndex     specifies whether to use the folder index
+     * @return the scan result holding the found packages and projects sorted by path
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static ScanResult scan(final String inputDir, final boolean recursive, final String includes,
+                           final String excludes, final boolean scanPackages, final boolean scanProjects,
+                           final boolean useIndex) throws IOException {
+        final Path root = Paths.get(inputDir).toAbsolutePath();
+        final List<Path> testFiles = useIndex ? scanIndexed(root, recursive) : walk(root, recursive);
+        final List<PathMatcher> includeMatchers = getMatchers(includes);
+        final List<PathMatcher> excludeMatchers = getMatchers(excludes);
+        final ScanResult result = new ScanResult();
+        for (final Path testFile : testFiles) {
+            final Path relativeFile = root.relativize(testFile);
+            if ((includeMatchers.isEmpty() || matches(includeMatchers, relativeFile))
+                && !matches(excludeMatchers, relativeFile)) {
+                result.add(testFile.toString(), scanPackages, scanProjects);
+            }
+        }
+        result.sort();
+        return result;
+    }
+
+    /**
+     * Collects all test files by walking the file tree once.
+     *
+     * @param root      the root directory
+     * @param recursive specifies whether to scan recursively
+     * @return the test files
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static List<Path> walk(final Path root, final boolean recursive) throws IOException {
+        final List<Path> testFiles = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return testFiles;
+        }
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), recursive ? Integer.MAX_VALUE : 1,
+            new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && isTestFile(file)) {
+                        testFiles.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                    // Skip unreadable files and directories like the Ant directory scanner
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        return testFiles;
+    }
+
+    /**
+     * Collects all test files using the folder index. Only directories with changed modification time are listed.
+     *
+     * @param root      the root directory
+     * @param recursive specifies whether to scan recursively
+     * @return the test files
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static List<Path> scanIndexed(final Path root, final boolean recursive) throws IOException {
+        final List<Path> testFiles = new ArrayList<>();
+        final Set<Path> visitedLinks = new HashSet<>();
+        final Deque<Path> dirs = new ArrayDeque<>();
+        dirs.push(root);
+        while (!dirs.isEmpty()) {
+            final Path dir = dirs.pop();
+            final IndexEntry entry = getIndexEntry(dir);
+            if (entry == null || Files.isSymbolicLink(dir) && !visitedLinks.add(dir.toRealPath())) {
+                continue;
+            }
+            testFiles.addAll(entry.testFiles);
+            if (recursive) {
+                for (final Path subDir : entry.subDirs) {
+                    dirs.push(subDir);
+                }
+            }
+        }
+        return testFiles;
+    }
+
+    /**
+     * Gets the index entry of the given directory and lists the directory again if modified.
+     * Entries of sub directories that no longer exist are evicted from the index.
+     *
+     * @param dir the directory
+     * @return the index entry or {@code null} if the directory is not accessible
+     */
+    @CheckForNull
+    private static IndexEntry getIndexEntry(final Path dir) {
+        final IndexEntry cachedEntry = INDEX.get(dir);
+        try {
+            final long lastModified = Files.getLastModifiedTime(dir).toMillis();
+            if (cachedEntry != null && cachedEntry.lastModified == lastModified) {
+                return cachedEntry;
+            }
+            final IndexEntry entry = new IndexEntry(lastModified);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (final Path path : stream) {
+                    if (Files.isDirectory(path)) {
+                        entry.subDirs.add(path);
+                    } else if (isTestFile(path)) {
+                        entry.testFiles.add(path);
+                    }
+                }
+            }
+            if (cachedEntry != null) {
+                for (final Path subDir : cachedEntry.subDirs) {
+                    if (!entry.subDirs.contains(subDir)) {
+                        evict(subDir);
+                    }
+                }
+            }
+            INDEX.put(dir, entry);
+            return entry;
+        } catch (final IOException e) {
+            evict(dir);
+            return null;
+        }
+    }
+
+    /**
+     * Removes the given directory and all of its indexed sub directories from the index.
+     *
+     * @param dir the directory
+     */
+    private static void evict(final Path dir) {
+        final Deque<Path> dirs = new ArrayDeque<>();
+        dirs.push(dir);
+        while (!dirs.isEmpty()) {
+            final IndexEntry entry = INDEX.remove(dirs.pop());
+            if (entry != null) {
+                for (final Path subDir : entry.subDirs) {
+                    dirs.push(subDir);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the node-local folder index.
+     */
+    static void clearIndex() {
+        INDEX.clear();
+    }
+
+    /**
+     * @return the number of indexed directories
+     */
+    static int getIndexSize() {
+        return INDEX.size();
+    }
+
+    /**
+     * Checks whether the given file is a package or project.
+     *
+     * @param file the file
+     * @return {@code true} if the file is a test file, {@code false} otherwise
+     */
+    private static boolean isTestFile(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.endsWith(PKG_EXTENSION) || fileName.endsWith(PRJ_EXTENSION);
+    }
+
+    /**
+     * Creates the path matchers for the given comma-separated glob patterns.
+     *
+     * @param patterns the glob patterns
+     * @return the path matchers
+     */
+    private static List<PathMatcher> getMatchers(final String patterns) {
+        final List<PathMatcher> matchers = new ArrayList<>();
+        for (final String pattern : StringUtils.split(patterns, ',')) {
+            if (StringUtils.isNotBlank(pattern)) {
+                matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern.trim()));
+            }
+        }
+        return matchers;
+    }
+
+    /**
+     * Checks whether any of the given path matchers matches the given path.
+     *
+     * @param matchers the path matchers
+     * @param path     the relative path
+     * @return {@code true} if the path matches, {@code false} otherwise
+     */
+    private static boolean matches(final List<PathMatcher> matchers, final Path path) {
+        for (final PathMatcher matcher : matchers) {
+            if (matcher.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Result of a test folder scan holding the found packages and projects.
+     */
+    public static final class ScanResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> packages = new ArrayList<>();
+        private final List<String> projects = new ArrayList<>();
+
+        /**
+         * Adds the given test file according to its file extension.
+         *
+         * @param testFile     the test file
+         * @param scanPackages specifies whether to collect packages
+         * @param scanProjects specifies whether to collect projects
+         */
+        void add(final String testFile, final boolean scanPackages, final boolean scanProjects) {
+            if (scanPackages && testFile.endsWith(PKG_EXTENSION)) {
+                packages.add(testFile);
+            } else if (scanProjects && testFile.endsWith(PRJ_EXTENSION)) {
+                projects.add(testFile);
+            }
+        }
+
+        /**
+         * Sorts the found test files by path.
+         */
+        void sort() {
+            Collections.sort(packages);
+            Collections.sort(projects);
+        }
+
+        /**
+         * @return the found packages
+         */
+        public List<String> getPackages() {
+            return packages;
+        }
+
+        /**
+         * @return the found projects
+         */
+        public List<String> getProjects() {
+            return projects;
+        }
+    }
+
+    /**
+     * Indexed listing of a single directory.
+     */
+    private static final class IndexEntry {
+
+        private final long lastModified;
+        private final List<Path> testFiles = new ArrayList<>();
+        private final List<Path> subDirs = new ArrayList<>();
+
+        /**
+         * Instantiates a new {@link IndexEntry}.
+         *
+         * @param lastModified the modification time of the directory
+         */
+        IndexEntry(final long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * {@link Callable} providing remote access to scan a test folder.
+     */
+    private static final class ScanFolderCallable extends MasterToSlaveCallable<ScanResult, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String inputDir;
+        private final boolean recursive;
+        private final String includes;
+        private final String excludes;
+        private final boolean scanPackages;
+        private final boolean scanProjects;
+
+        /**
+         * Instantiates a new {@link ScanFolderCallable}.
+         *
+         * @param inputDir     the input directory
+         * @param recursive    specifies whether to scan recursively
+         * @param includes     the comma-separated include glob patterns
+         * @param excludes     the comma-separated exclude glob patterns
+         * @param scanPackages specifies whether to collect packages
+         * @param scanProjects specifies whether to collect projects
+         */
+        ScanFolderCallable(final String inputDir, final boolean recursive, final String includes,
+                           final String excludes, final boolean scanPackages, final boolean scanProjects) {
+            this.inputDir = inputDir;
+            this.recursive = recursive;
+            this.includes = includes;
+            this.excludes = excludes;
+            this.scanPackages = scanPackages;
+            this.scanProjects = scanProjects;
+        }
+
+        @Override
+        public ScanResult call() throws IOException {
+            return scan(inputDir, recursive, includes, excludes, scanPackages, scanProjects,
+                Boolean.getBoolean(INDEX_PROPERTY));
+        }
+    }
+}
@@ -11,7 +11,9 @@ import hudson.Launcher;
  * Directory scanner searching for ECU-TEST projects.
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ * @deprecated use {@link TestFolderScanner} instead, which finds packages and projects in a single pass
  */
+@Deprecated
 public class TestProjectScanner extends AbstractTestScanner {
 
     /**
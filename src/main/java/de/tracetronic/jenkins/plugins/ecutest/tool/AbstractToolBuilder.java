@@ -10,7 +10,6 @@ import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.FilePath;
@@ -151,9 +150,6 @@ public abstract class AbstractToolBuilder extends Builder implements SimpleBuild
         } else {
             throw new ETPluginException("The selected ECU-TEST installation is not configured for this node!");
         }
-        // Set the COM settings for the current ECU-TEST instance
-        ETComProperty.getInstance().setProgId(installation.getProgId());
-        ETComProperty.getInstance().setTimeout(installation.getTimeout());
         return installation;
     }
 
@@ -6,10 +6,12 @@
 package de.tracetronic.jenkins.plugins.ecutest.tool;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
+import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.CacheClient;
 import de.tracetronic.jenkins.plugins.ecutest.util.PathUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import hudson.AbortException;
 import hudson.EnvVars;
 import hudson.Extension;
@@ -78,8 +80,9 @@ public class CacheBuilder extends Builder implements SimpleBuildStep {
         throws InterruptedException, IOException {
         try {
             ProcessUtil.checkOS(launcher);
-            if (CacheClient.isCompatible(workspace, launcher, listener)) {
-                performCache(run, workspace, launcher, listener);
+            final ETComContext comContext = ToolEnvInvisibleAction.resolveComContext(run, workspace);
+            if (CacheClient.isCompatible(comContext, workspace, launcher, listener)) {
+                performCache(run, comContext, workspace, launcher, listener);
             } else {
                 run.setResult(Result.FAILURE);
             }
@@ -96,16 +99,18 @@ public class CacheBuilder extends Builder implements SimpleBuildStep {
     /**
      * Performs the cache file generation for all cache configurations.
      *
-     * @param run       the run
-     * @param workspace the workspace
-     * @param launcher  the launcher
-     * @param listener  the listener
+     * @param run        the run
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param workspace  the workspace
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      * @throws ETPluginException    in case of cache operation errors
      */
-    private void performCache(@Nonnull final Run<?, ?> run, @Nonnull final FilePath workspace,
-                              @Nonnull final Launcher launcher, @Nonnull final TaskListener listener)
+    private void performCache(@Nonnull final Run<?, ?> run, final ETComContext comContext,
+                              @Nonnull final FilePath workspace, @Nonnull final Launcher launcher,
+                              @Nonnull final TaskListener listener)
         throws IOException, InterruptedException, ETPluginException {
         // Expand build parameters
         final EnvVars buildEnvVars = run.getEnvironment(listener);
@@ -116,6 +121,7 @@ public class CacheBuilder extends Builder implements SimpleBuildStep {
             String expDbChannel = PathUtil.makeAbsolutePath(expCache.getDbChannel(), workspace);
 
             CacheClient client = new CacheClient(expCache.getType(), expFilePath, expDbChannel, expCache.isClear());
+            client.setComContext(comContext);
             client.generateCache(launcher, listener);
         }
     }
@@ -10,6 +10,7 @@ import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.EnvUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.PathUtil;
@@ -197,8 +198,21 @@ public class StartETBuilder extends AbstractToolBuilder {
             final String installPath = installation.getExecutable(launcher);
             final ETClient etClient = new ETClient(toolName, installPath, expWorkspaceDir, expSettingsDir,
                 expTimeout, isDebugMode());
-            if (!etClient.start(true, workspace, launcher, listener)) {
-                throw new ETPluginException(String.format("Starting %s failed!", toolName));
+            etClient.setComContext(installation.getComContext());
+
+            // Re-use warm instance if available
+            final ETInstanceService service = ETInstanceService.getInstance();
+            final ETClient warmClient = service.isWarmStartEnabled()
+                ? service.acquireWarm(etClient, run, workspace, launcher, listener) : null;
+            if (warmClient != null) {
+                etClient.attach(warmClient, launcher, listener);
+            } else {
+                if (!etClient.start(true, workspace, launcher, listener)) {
+                    throw new ETPluginException(String.format("Starting %s failed!", toolName));
+                }
+                if (service.isWarmStartEnabled()) {
+                    service.register(etClient, run, workspace, launcher);
+                }
             }
 
             if (isUpdateUserLibs() && !etClient.updateUserLibs(launcher, listener)) {
@@ -207,7 +221,8 @@ public class StartETBuilder extends AbstractToolBuilder {
 
             // Add action for injecting environment variables
             final int toolId = getToolId(run);
-            final ToolEnvInvisibleAction envAction = new ToolEnvInvisibleAction(toolId, etClient);
+            final ToolEnvInvisibleAction envAction = new ToolEnvInvisibleAction(toolId, etClient,
+                ToolEnvInvisibleAction.getNodeName(workspace));
             run.addAction(envAction);
         }
     }
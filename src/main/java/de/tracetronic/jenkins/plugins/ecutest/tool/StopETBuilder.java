@@ -7,6 +7,7 @@ package de.tracetronic.jenkins.plugins.ecutest.tool;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETInstanceService;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.EnvUtil;
 import hudson.EnvVars;
@@ -54,16 +55,23 @@ public class StopETBuilder extends AbstractToolBuilder {
     @Override
     public void performTool(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
                             final TaskListener listener) throws InterruptedException, IOException, ETPluginException {
+        // Keep warm instance running for following builds
+        if (ETInstanceService.getInstance().releaseWarm(run, launcher, listener)) {
+            return;
+        }
+
         // Get selected ECU-TEST installation
         final ETInstallation installation = configureToolInstallation(workspace.toComputer(), listener,
             run.getEnvironment(listener));
 
-        // Stop selected ECU-TEST
+        // Stop selected ECU-TEST, any instance managed on this node is terminated as well
+        ETInstanceService.getInstance().invalidate(launcher.getChannel());
         final String toolName = run.getEnvironment(listener).expand(installation.getName());
         final EnvVars buildEnvVars = run.getEnvironment(listener);
         final int expTimeout = Integer.parseInt(EnvUtil.expandEnvVar(getTimeout(), buildEnvVars,
             String.valueOf(DEFAULT_TIMEOUT)));
         final ETClient etClient = new ETClient(toolName, expTimeout);
+        etClient.setComContext(installation.getComContext());
         if (!etClient.stop(true, workspace, launcher, listener)) {
             throw new ETPluginException(String.format("Stopping %s failed.", toolName));
         }
@@ -9,12 +9,13 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPlugin.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Cache;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCache;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCaches;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -40,6 +41,7 @@ public class CacheClient {
     private final String filePath;
     private final String dbChannel;
     private final boolean clear;
+    private ETComContext comContext = ETComContext.getDefault();
 
     /**
      * Instantiates a new {@link CacheClient}.
@@ -73,6 +75,20 @@ public class CacheClient {
         return clear;
     }
 
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     /**
      * Generate cache files of this cache type.
      *
@@ -86,7 +102,8 @@ public class CacheClient {
         throws IOException, InterruptedException, ETPluginException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo(String.format("Generating %s cache...", type.name()));
-        if (!launcher.getChannel().call(new GenerateCacheCallable(type, filePath, dbChannel, clear, listener))) {
+        if (!launcher.getChannel().call(
+            new GenerateCacheCallable(type, filePath, dbChannel, clear, comContext, listener))) {
             throw new ETPluginException(String.format("Generating %s cache failed!", type.name()));
         }
         logger.logInfo(String.format("%s cache generated successfully.", type.name()));
@@ -96,14 +113,16 @@ public class CacheClient {
      * Checks the currently running ECU-TEST version for compatibility reasons and
      * tests whether the cache module is available.
      *
-     * @param workspace the workspace
-     * @param launcher  the launcher
-     * @param listener  the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param workspace  the workspace
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return {@code true} if compatible, {@code false} otherwise
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    public static boolean isCompatible(final FilePath workspace, final Launcher launcher, final TaskListener listener)
+    public static boolean isCompatible(final ETComContext comContext, final FilePath workspace,
+                                       final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
 
@@ -119,7 +138,7 @@ public class CacheClient {
             return false;
         }
 
-        return launcher.getChannel().call(new CompatibleCacheCallable(ET_MIN_VERSION, listener));
+        return launcher.getChannel().call(new CompatibleCacheCallable(ET_MIN_VERSION, comContext, listener));
     }
 
     /**
@@ -146,24 +165,25 @@ public class CacheClient {
         private final String filePath;
         private final String dbChannel;
         private final boolean clear;
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         GenerateCacheCallable(final CacheType type, final String filePath, final String dbChannel,
-                              final boolean clear, final TaskListener listener) {
+                              final boolean clear, final ETComContext comContext, final TaskListener listener) {
             this.type = type;
             this.filePath = filePath;
             this.dbChannel = dbChannel;
             this.clear = clear;
+            this.comContext = comContext;
             this.listener = listener;
         }
 
         @Override
         public Boolean call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient client = new ETComClient(progId)) {
-                Caches caches = (Caches) client.getCaches();
-                Cache cache = caches.getCacheByType(type);
+            try (ComClient client = ETComClientFactory.newClient(comContext)) {
+                ComCaches caches = client.getCaches();
+                ComCache cache = caches.getCacheByType(type);
                 String cacheType = type.name();
                 if (clear) {
                     logger.logInfo(String.format("- Removing all %s cache files...", cacheType));
@@ -190,26 +210,29 @@ public class CacheClient {
 
         private final TaskListener listener;
         private final ToolVersion minVersion;
+        private final ETComContext comContext;
 
         /**
          * Instantiates a {@link CompatibleCacheCallable}.
          *
          * @param minVersion the minimum required ECU-TEST version
+         * @param comContext the COM context
          * @param listener   the listener
          */
-        CompatibleCacheCallable(final ToolVersion minVersion, final TaskListener listener) {
+        CompatibleCacheCallable(final ToolVersion minVersion, final ETComContext comContext,
+                                final TaskListener listener) {
             this.listener = listener;
             this.minVersion = minVersion;
+            this.comContext = comContext;
         }
 
         @Override
         public Boolean call() throws IOException {
             boolean isAvailable = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
 
             // Check ECU-TEST version and cache module
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 final String comVersion = comClient.getVersion();
                 final ToolVersion comToolVersion = ToolVersion.parse(comVersion);
                 if (comToolVersion.compareTo(minVersion) < 0) {
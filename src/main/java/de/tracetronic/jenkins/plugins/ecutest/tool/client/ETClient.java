@@ -8,15 +8,17 @@ package de.tracetronic.jenkins.plugins.ecutest.tool.client;
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.test.client.LoadedConfigCache;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestBenchConfiguration;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestConfiguration;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -41,6 +43,7 @@ public class ETClient extends AbstractToolClient {
     private String version;
     private String lastTbc;
     private String lastTcf;
+    private ETComContext comContext = ETComContext.getDefault();
 
     /**
      * Instantiates a new {@link ETClient}.
@@ -96,30 +99,35 @@ public class ETClient extends AbstractToolClient {
     /**
      * Closes already opened ECU-TEST instances.
      *
-     * @param kill     specifies whether to task-kill the running processes
-     * @param launcher the launcher
-     * @param listener the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param kill       specifies whether to task-kill the running processes
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return {@code true} if ECU-TEST instance has been stopped successfully
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
-    public static boolean stopProcesses(final Launcher launcher, final TaskListener listener, final boolean kill)
+    public static boolean stopProcesses(final ETComContext comContext, final Launcher launcher,
+                                        final TaskListener listener, final boolean kill)
         throws IOException, InterruptedException {
-        return launcher.getChannel().call(new StopCallable(StartETBuilder.DEFAULT_TIMEOUT, kill, listener));
+        ETInstanceService.getInstance().invalidate(launcher.getChannel());
+        return launcher.getChannel().call(
+            new StopCallable(comContext, StartETBuilder.DEFAULT_TIMEOUT, kill, listener));
     }
 
     /**
      * Gets the COM version of currently running ECU-TEST instance.
      *
-     * @param launcher the launcher
-     * @param listener the listener
+     * @param comContext the COM context of the ECU-TEST instance
+     * @param launcher   the launcher
+     * @param listener   the listener
      * @return the COM version
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
-    public static String getComVersion(final Launcher launcher, final TaskListener listener)
-        throws IOException, InterruptedException {
-        return launcher.getChannel().call(new VersionCallable(listener));
+    public static String getComVersion(final ETComContext comContext, final Launcher launcher,
+                                       final TaskListener listener) throws IOException, InterruptedException {
+        return launcher.getChannel().call(new VersionCallable(comContext, listener));
     }
 
     /**
@@ -164,12 +172,27 @@ public class ETClient extends AbstractToolClient {
         return lastTcf;
     }
 
+    /**
+     * @return the COM context of the ECU-TEST instance
+     */
+    public ETComContext getComContext() {
+        return comContext;
+    }
+
+    /**
+     * @param comContext the COM context of the ECU-TEST instance, {@code null} to use the default COM settings
+     */
+    public void setComContext(final ETComContext comContext) {
+        this.comContext = comContext == null ? ETComContext.getDefault() : comContext;
+    }
+
     @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
     @Override
     public boolean start(final boolean checkProcesses, final FilePath workspace, final Launcher launcher,
                          final TaskListener listener) throws IOException, InterruptedException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo(String.format("Starting %s...", getToolName()));
+        ETInstanceService.getInstance().invalidate(launcher.getChannel());
 
         // Check open processes
         if (checkProcesses) {
@@ -179,8 +202,10 @@ public class ETClient extends AbstractToolClient {
             }
         }
 
-        // Check ECU-TEST location and architecture
-        if (StringUtils.isEmpty(getInstallPath())) {
+        // Check ECU-TEST location and architecture, no process is launched for non-native COM backends
+        if (!ProcessUtil.isNativeBackend(launcher.getChannel())) {
+            logger.logDebug("Using non-native COM backend, launching ECU-TEST process will be skipped.");
+        } else if (StringUtils.isEmpty(getInstallPath())) {
             logger.logError("ECU-TEST executable could not be found!");
             return false;
         } else {
@@ -202,13 +227,13 @@ public class ETClient extends AbstractToolClient {
             logger.logError("Could not load JACOB library!");
             return false;
         }
-        final String comVersion = launcher.getChannel().call(new StartCallable(getTimeout(), listener));
+        final String comVersion = launcher.getChannel().call(new StartCallable(comContext, getTimeout(), listener));
         if (comVersion.isEmpty()) {
             logger.logError("Could not determine ECU-TEST version!");
             return false;
         } else {
             version = comVersion;
-            logger.logDebug("COM ProgID: " + ETComProperty.getInstance().getProgId());
+            logger.logDebug("COM ProgID: " + comContext.getProgId());
             logger.logDebug("COM version: " + comVersion);
         }
 
@@ -229,20 +254,52 @@ public class ETClient extends AbstractToolClient {
         }
 
         // Read currently loaded configurations
-        if (comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 0, 0)) >= 0) {
-            lastTbc = launcher.getChannel().call(new LastTbcCallable(listener));
-            lastTcf = launcher.getChannel().call(new LastTcfCallable(listener));
-        }
+        readLastConfigs(comToolVersion, launcher, listener);
 
         logger.logInfo(String.format("%s started successfully.", getToolName()));
         return true;
     }
 
+    /**
+     * Takes over the already running instance of the given client, e.g. a warm instance kept running by a previous
+     * build, instead of starting ECU-TEST. Only the version is adopted, the currently loaded configurations are read
+     * again from the running instance while all other settings of this client are kept.
+     *
+     * @param runningClient the client of the running instance
+     * @param launcher      the launcher
+     * @param listener      the listener
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public void attach(final ETClient runningClient, final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        version = runningClient.getVersion();
+        readLastConfigs(ToolVersion.parse(version), launcher, listener);
+    }
+
+    /**
+     * Reads the last loaded TBC and TCF of the running ECU-TEST instance, if supported by the given version.
+     *
+     * @param comToolVersion the ECU-TEST version
+     * @param launcher       the launcher
+     * @param listener       the listener
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private void readLastConfigs(final ToolVersion comToolVersion, final Launcher launcher,
+                                 final TaskListener listener) throws IOException, InterruptedException {
+        if (comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 0, 0)) >= 0) {
+            lastTbc = launcher.getChannel().call(new LastTbcCallable(comContext, listener));
+            lastTcf = launcher.getChannel().call(new LastTcfCallable(comContext, listener));
+        }
+    }
+
     @Override
     public boolean stop(final boolean checkProcesses, final FilePath workspace, final Launcher launcher,
                         final TaskListener listener) throws InterruptedException, IOException {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo(String.format("Stopping %s...", getToolName()));
+        ETInstanceService.getInstance().invalidate(launcher.getChannel(), this);
 
         // Check open processes
         if (checkProcesses) {
@@ -258,7 +315,7 @@ public class ETClient extends AbstractToolClient {
             logger.logError("Could not load JACOB library!");
             return false;
         }
-        if (launcher.getChannel().call(new StopCallable(getTimeout(), checkProcesses, listener))) {
+        if (launcher.getChannel().call(new StopCallable(comContext, getTimeout(), checkProcesses, listener))) {
             logger.logInfo(String.format("%s stopped successfully.", getToolName()));
             return true;
         }
@@ -324,7 +381,7 @@ public class ETClient extends AbstractToolClient {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo("Updating user libraries...");
 
-        return launcher.getChannel().call(new UpdateUserLibsCallable(listener));
+        return launcher.getChannel().call(new UpdateUserLibsCallable(comContext, listener));
     }
 
     /**
@@ -334,16 +391,19 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final int timeout;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link StartCallable}.
          *
-         * @param timeout  the timeout
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param timeout    the timeout
+         * @param listener   the listener
          */
-        StartCallable(final int timeout, final TaskListener listener) {
+        StartCallable(final ETComContext comContext, final int timeout, final TaskListener listener) {
+            this.comContext = comContext;
             this.timeout = timeout;
             this.listener = listener;
         }
@@ -352,8 +412,8 @@ public class ETClient extends AbstractToolClient {
         public String call() throws IOException {
             String version = "";
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
+            LoadedConfigCache.invalidate(comContext.getProgId());
+            try (ComClient comClient = ETComClientFactory.newClient(comContext, timeout)) {
                 if (comClient.isApplicationRunning()) {
                     version = comClient.getVersion();
                 }
@@ -371,6 +431,7 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final int timeout;
         private final boolean checkProcesses;
         private final TaskListener listener;
@@ -378,11 +439,14 @@ public class ETClient extends AbstractToolClient {
         /**
          * Instantiates a {@link StopCallable}.
          *
+         * @param comContext     the COM context
          * @param timeout        the timeout
          * @param checkProcesses specifies whether to check open processes after closing
          * @param listener       the listener
          */
-        StopCallable(final int timeout, final boolean checkProcesses, final TaskListener listener) {
+        StopCallable(final ETComContext comContext, final int timeout, final boolean checkProcesses,
+                     final TaskListener listener) {
+            this.comContext = comContext;
             this.timeout = timeout;
             this.checkProcesses = checkProcesses;
             this.listener = listener;
@@ -392,8 +456,8 @@ public class ETClient extends AbstractToolClient {
         public Boolean call() throws IOException {
             boolean isTerminated = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
+            LoadedConfigCache.invalidate(comContext.getProgId());
+            try (ComClient comClient = ETComClientFactory.newClient(comContext, timeout)) {
                 if (comClient.isApplicationRunning()) {
                     isTerminated = comClient.quit() || comClient.exit();
                 } else {
@@ -433,6 +497,9 @@ public class ETClient extends AbstractToolClient {
 
         @Override
         public List<String> call() throws IOException {
+            if (kill) {
+                LoadedConfigCache.invalidateAll();
+            }
             return ProcessUtil.checkETProcesses(kill);
         }
     }
@@ -444,14 +511,17 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link VersionCallable}.
          *
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        VersionCallable(final TaskListener listener) {
+        VersionCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -459,8 +529,7 @@ public class ETClient extends AbstractToolClient {
         public String call() throws IOException {
             String comVersion = "";
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 comVersion = comClient.getVersion();
             } catch (final ETComException e) {
                 logger.logError("-> Caught COM exception: " + e.getMessage());
@@ -476,14 +545,17 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LastTbcCallable}.
          *
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        LastTbcCallable(final TaskListener listener) {
+        LastTbcCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -491,10 +563,8 @@ public class ETClient extends AbstractToolClient {
         public String call() throws IOException {
             String tbcFilePath = "";
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestBenchConfiguration tbc = (TestBenchConfiguration)
-                     comClient.getCurrentTestBenchConfiguration()) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext);
+                 ComTestBenchConfiguration tbc = comClient.getCurrentTestBenchConfiguration()) {
                 tbcFilePath = StringUtils.trimToEmpty(tbc.getFileName());
             } catch (final ETComException e) {
                 logger.logError("-> Caught COM exception: " + e.getMessage());
@@ -510,14 +580,17 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LastTcfCallable}.
          *
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        LastTcfCallable(final TaskListener listener) {
+        LastTcfCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
         }
 
@@ -525,9 +598,8 @@ public class ETClient extends AbstractToolClient {
         public String call() throws IOException {
             String tcfFilePath = "";
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestConfiguration tcf = (TestConfiguration) comClient.getCurrentTestConfiguration()) {
+            try (ComClient comClient = ETComClientFactory.newClient(comContext);
+                 ComTestConfiguration tcf = comClient.getCurrentTestConfiguration()) {
                 tcfFilePath = StringUtils.trimToEmpty(tcf.getFileName());
             } catch (final ETComException e) {
                 logger.logError("-> Caught COM exception: " + e.getMessage());
@@ -571,22 +643,24 @@ public class ETClient extends AbstractToolClient {
 
         private static final long serialVersionUID = 1L;
 
+        private final ETComContext comContext;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link UpdateUserLibsCallable}.
          *
-         * @param listener the listener
+         * @param comContext the COM context
+         * @param listener   the listener
          */
-        UpdateUserLibsCallable(final TaskListener listener) {
+        UpdateUserLibsCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
             this.listener = listener;
         }
 
         @Override
         public Boolean call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try(ETComClient comClient = new ETComClient(progId)) {
+            try(ComClient comClient = ETComClientFactory.newClient(comContext)) {
                 return comClient.updateUserLibraries();
             }  catch (final ETComException e) {
                 logger.logError("-> Caught COM exception: " + e.getMessage());
@@ -0,0 +1,874 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
+import de.tracetronic.jenkins.plugins.ecutest.tool.StopETBuilder;
+import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
+import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.AsyncPeriodicWork;
+import hudson.model.Computer;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.remoting.Callable;
+import hudson.remoting.Channel;
+import hudson.remoting.VirtualChannel;
+import hudson.slaves.ComputerListener;
+import hudson.slaves.OfflineCause;
+import jenkins.security.MasterToSlaveCallable;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Service managing the ECU-TEST instance kept running per node for report generation and for following builds.
+ * <p>
+ * If no ECU-TEST instance is running, the first report publisher lazily starts one which is then kept running
+ * and reused by consecutive publishers of the same and of following builds on this node. The instance is stopped
+ * by the {@link IdleInstanceReaper} after it has not been used for the idle timeout defined by the system property
+ * {@value #IDLE_TIMEOUT_PROPERTY} in seconds. Sharing is disabled by default, i.e. each publisher stops the instance
+ * it has started itself.
+ * <p>
+ * Instances started by the {@link StartETBuilder} can be kept warm as well. Instead of stopping ECU-TEST at the end
+ * of a build, the {@link StopETBuilder} hands the instance back to this service. The next {@link StartETBuilder} on
+ * this node requesting the same installation, workspace and settings directory gets the warm instance after verifying
+ * its liveness instead of cold-starting ECU-TEST. An instance is owned by the run which acquired it until released or
+ * until that run has finished. Warm instances are recycled after the number of uses defined by the system property
+ * {@value #MAX_USES_PROPERTY} or if exceeding the memory usage in megabytes defined by the system property
+ * {@value #MAX_MEMORY_PROPERTY}. Keeping instances warm is disabled by default.
+ * <p>
+ * Since only a single ECU-TEST instance can run per node at once, at most one instance is managed per node.
+ * Instances started or stopped by any other {@link ETClient} are no longer considered as managed. Instances of nodes
+ * which went offline are discarded as well.
+ * <p>
+ * Only a single instance is started per node at the same time. Concurrent acquisitions on the same node wait for the
+ * pending start and then reuse the started instance instead of starting another one. Likewise, acquisitions wait
+ * until a removed instance has been stopped, so that a stopping instance is neither acquired nor replaced while it is
+ * still running.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETInstanceService {
+
+    /**
+     * System property defining the idle timeout in seconds after which a shared instance is stopped.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "ecutest.report.instanceIdleTimeout";
+    /**
+     * Default idle timeout in seconds, disables sharing of instances.
+     */
+    public static final int DEFAULT_IDLE_TIMEOUT = 0;
+    /**
+     * System property defining the number of builds after which a warm instance is recycled.
+     */
+    public static final String MAX_USES_PROPERTY = "ecutest.tool.instanceMaxUses";
+    /**
+     * Default number of uses, disables keeping instances warm for following builds.
+     */
+    public static final int DEFAULT_MAX_USES = 0;
+    /**
+     * System property defining the memory usage in megabytes above which a warm instance is recycled.
+     */
+    public static final String MAX_MEMORY_PROPERTY = "ecutest.tool.instanceMaxMemory";
+    /**
+     * Default memory usage, disables the memory threshold.
+     */
+    public static final int DEFAULT_MAX_MEMORY = 0;
+    /**
+     * Timeout in seconds waiting for a warm instance to respond to the health check.
+     */
+    static final int HEALTH_CHECK_TIMEOUT = 10;
+
+    private static final Logger LOGGER = Logger.getLogger(ETInstanceService.class.getName());
+
+    private final Map<VirtualChannel, SharedInstance> instances = new HashMap<>();
+    private final Set<VirtualChannel> startingChannels = new HashSet<>();
+    private final Set<VirtualChannel> stoppingChannels = new HashSet<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong recycleCount = new AtomicLong();
+    private final long idleTimeoutMillis;
+    private final int maxUses;
+    private final long maxMemoryBytes;
+    private final HealthCheck healthCheck;
+
+    /**
+     * Instantiates a new {@link ETInstanceService} not keeping instances warm for following builds.
+     *
+     * @param idleTimeout the idle timeout in seconds, non-positive values disable sharing
+     */
+    ETInstanceService(final int idleTimeout) {
+        this(idleTimeout, DEFAULT_MAX_USES, DEFAULT_MAX_MEMORY, new RemoteHealthCheck());
+    }
+
+    /**
+     * Instantiates a new {@link ETInstanceService}.
+     *
+     * @param idleTimeout the idle timeout in seconds, non-positive values disable sharing
+     * @param maxUses     the number of uses after which a warm instance is recycled, non-positive values disable
+     *                    keeping instances warm
+     * @param maxMemory   the memory usage in megabytes above which a warm instance is recycled, non-positive values
+     *                    disable the memory threshold
+     * @param healthCheck the health check verifying the liveness of warm instances
+     */
+    ETInstanceService(final int idleTimeout, final int maxUses, final int maxMemory, final HealthCheck healthCheck) {
+        idleTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(0, idleTimeout));
+        this.maxUses = Math.max(0, maxUses);
+        maxMemoryBytes = Math.max(0, maxMemory) * 1024L * 1024L;
+        this.healthCheck = healthCheck;
+    }
+
+    /**
+     * Returns the current instance of {@link ETInstanceService}.
+     *
+     * @return the singleton instance
+     */
+    public static ETInstanceService getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    /**
+     * Builds the key identifying compatible instances for the given client.
+     *
+     * @param client the ECU-TEST client
+     * @return the instance key
+     */
+    static String getKey(final ETClient client) {
+        return String.format("%s|%s|%s|%s|%s", client.getInstallPath(), client.getWorkspaceDir(),
+            client.getSettingsDir(), client.isDebug(), client.getComContext().getProgId());
+    }
+
+    /**
+     * @return {@code true} if instances are shared, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return idleTimeoutMillis > 0;
+    }
+
+    /**
+     * @return {@code true} if instances are kept warm for following builds, {@code false} otherwise
+     */
+    public boolean isWarmStartEnabled() {
+        return maxUses > 0;
+    }
+
+    /**
+     * Acquires the already running ECU-TEST instance on the node of the given channel.
+     * Waits until a pending start or stop of an instance on this node has been completed.
+     *
+     * @param channel  the channel of the node
+     * @param listener the listener
+     * @return the lease for the running instance or {@code null} if the instance has been stopped meanwhile and
+     * ECU-TEST has to be started
+     * @throws InterruptedException if the build gets interrupted while waiting for a pending start or stop
+     */
+    @CheckForNull
+    public Lease acquireRunning(final VirtualChannel channel, final TaskListener listener)
+        throws InterruptedException {
+        synchronized (instances) {
+            final boolean stopped = awaitPendingChange(channel);
+            final SharedInstance instance = instances.get(channel);
+            if (instance == null) {
+                return stopped ? null : new Lease(null, channel, Lease.Type.EXTERNAL, true);
+            }
+            return reuse(instance, channel, listener);
+        }
+    }
+
+    /**
+     * Starts the given ECU-TEST client and acquires the started instance. If sharing is enabled the instance is
+     * registered for reuse, otherwise it is stopped when released. If sharing is enabled and a shared instance is
+     * already registered or being started on this node, that instance is reused instead. A pending stop of an
+     * instance on this node is awaited before starting.
+     *
+     * @param client    the ECU-TEST client to start
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return the lease for the started instance, check {@link Lease#isStarted()} whether the start succeeded
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public Lease acquire(final ETClient client, final FilePath workspace, final Launcher launcher,
+                         final TaskListener listener) throws IOException, InterruptedException {
+        final VirtualChannel channel = launcher.getChannel();
+        if (!isEnabled()) {
+            return new Lease(client, channel, Lease.Type.DEDICATED, client.start(false, workspace, launcher, listener));
+        }
+        synchronized (instances) {
+            awaitPendingChange(channel);
+            final SharedInstance instance = instances.get(channel);
+            if (instance != null) {
+                return reuse(instance, channel, listener);
+            }
+            startingChannels.add(channel);
+        }
+        missCount.incrementAndGet();
+        boolean started = false;
+        try {
+            started = client.start(false, workspace, launcher, listener);
+        } finally {
+            synchronized (instances) {
+                if (started) {
+                    final SharedInstance instance = new SharedInstance(getKey(client), client, workspace);
+                    instance.users++;
+                    instances.put(channel, instance);
+                }
+                startingChannels.remove(channel);
+                instances.notifyAll();
+            }
+        }
+        return new Lease(client, channel, started ? Lease.Type.SHARED : Lease.Type.DEDICATED, started);
+    }
+
+    /**
+     * Acquires a warm instance compatible with the given client for the given run. Incompatible, exhausted or
+     * unhealthy instances are removed and stopped if necessary.
+     *
+     * @param client    the ECU-TEST client describing the requested instance
+     * @param run       the run acquiring the instance
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return the client of the warm instance or {@code null} if ECU-TEST has to be started
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    @CheckForNull
+    public ETClient acquireWarm(final ETClient client, final Run<?, ?> run, final FilePath workspace,
+                                final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        final TTConsoleLogger logger = new TTConsoleLogger(listener);
+        final VirtualChannel channel = launcher.getChannel();
+        final SharedInstance instance;
+        String recycleReason = null;
+        synchronized (instances) {
+            awaitPendingChange(channel);
+            instance = instances.get(channel);
+            if (instance == null || instance.isInUse()) {
+                return null;
+            }
+            if (!instance.key.equals(getKey(client))) {
+                recycleReason = "requested settings differ";
+            } else if (instance.uses >= maxUses) {
+                recycleReason = String.format("maximum of %d uses reached", maxUses);
+            } else {
+                instance.owner = new WeakReference<Run<?, ?>>(run);
+            }
+        }
+        if (recycleReason != null) {
+            recycle(instance, channel, recycleReason, workspace, launcher, listener);
+            return null;
+        }
+
+        final Long memoryUsage = healthCheck.check(instance.client, workspace, launcher, listener);
+        if (memoryUsage == null) {
+            logger.logWarn(String.format("Warm %s instance is not responding.", instance.client.getToolName()));
+            remove(instance, channel);
+            recycleCount.incrementAndGet();
+            return null;
+        }
+        if (maxMemoryBytes > 0 && memoryUsage > maxMemoryBytes) {
+            recycle(instance, channel, String.format("memory usage of %d MB exceeded",
+                maxMemoryBytes / 1024L / 1024L), workspace, launcher, listener);
+            return null;
+        }
+
+        final int uses;
+        synchronized (instances) {
+            uses = ++instance.uses;
+        }
+        hitCount.incrementAndGet();
+        logger.logInfo(String.format("Reusing warm %s instance (uses: %d/%d, hits: %d, misses: %d).",
+            instance.client.getToolName(), uses, maxUses, getHitCount(), getMissCount()));
+        return instance.client;
+    }
+
+    /**
+     * Registers the freshly started client as warm instance owned by the given run.
+     *
+     * @param client    the started ECU-TEST client
+     * @param run       the run owning the instance
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     */
+    public void register(final ETClient client, final Run<?, ?> run, final FilePath workspace,
+                         final Launcher launcher) {
+        missCount.incrementAndGet();
+        final SharedInstance instance = new SharedInstance(getKey(client), client, workspace);
+        instance.owner = new WeakReference<Run<?, ?>>(run);
+        instance.uses++;
+        synchronized (instances) {
+            instances.put(launcher.getChannel(), instance);
+        }
+    }
+
+    /**
+     * Releases the warm instance owned by the given run, keeping it running for following builds.
+     *
+     * @param run      the run releasing the instance
+     * @param launcher the launcher
+     * @param listener the listener
+     * @return {@code true} if the instance is kept running, {@code false} if it is not owned by the given run or has
+     * to be recycled and therefore should be stopped by the caller
+     */
+    public boolean releaseWarm(final Run<?, ?> run, final Launcher launcher, final TaskListener listener) {
+        final SharedInstance instance;
+        synchronized (instances) {
+            instance = instances.get(launcher.getChannel());
+            if (instance == null || instance.getOwner() != run) {
+                return false;
+            }
+            if (instance.uses >= maxUses) {
+                instances.remove(launcher.getChannel());
+                recycleCount.incrementAndGet();
+                return false;
+            }
+            instance.owner = null;
+            instance.lastUsedMillis = System.currentTimeMillis();
+        }
+        new TTConsoleLogger(listener).logInfo(String.format("Keeping %s warm for following builds (uses: %d/%d).",
+            instance.client.getToolName(), instance.uses, maxUses));
+        return true;
+    }
+
+    /**
+     * Removes the given instance and stops it.
+     *
+     * @param instance  the instance
+     * @param channel   the channel of the node
+     * @param reason    the reason to log
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private void recycle(final SharedInstance instance, final VirtualChannel channel, final String reason,
+                         final FilePath workspace, final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException {
+        new TTConsoleLogger(listener).logInfo(String.format("Recycling warm %s instance: %s.",
+            instance.client.getToolName(), reason));
+        synchronized (instances) {
+            remove(instance, channel);
+            stoppingChannels.add(channel);
+        }
+        recycleCount.incrementAndGet();
+        try {
+            instance.client.stop(true, workspace, launcher, listener);
+        } finally {
+            completeStop(channel);
+        }
+    }
+
+    /**
+     * Removes the given instance if still registered.
+     *
+     * @param instance the instance
+     * @param channel  the channel of the node
+     */
+    private void remove(final SharedInstance instance, final VirtualChannel channel) {
+        synchronized (instances) {
+            if (instances.get(channel) == instance) {
+                instances.remove(channel);
+            }
+        }
+    }
+
+    /**
+     * Marks the pending stop of an instance on the node of the given channel as completed.
+     *
+     * @param channel the channel of the node
+     */
+    private void completeStop(final VirtualChannel channel) {
+        synchronized (instances) {
+            stoppingChannels.remove(channel);
+            instances.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until no instance is being started or stopped on the node of the given channel.
+     * Must be called while holding the lock of the registered instances.
+     *
+     * @param channel the channel of the node
+     * @return {@code true} if an instance has been stopped while waiting, {@code false} otherwise
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private boolean awaitPendingChange(final VirtualChannel channel) throws InterruptedException {
+        boolean stopped = false;
+        while (startingChannels.contains(channel) || stoppingChannels.contains(channel)) {
+            stopped |= stoppingChannels.contains(channel);
+            instances.wait();
+        }
+        return stopped;
+    }
+
+    /**
+     * Reuses the given shared instance. Must be called while holding the lock of the registered instances.
+     *
+     * @param instance the shared instance
+     * @param channel  the channel of the node
+     * @param listener the listener
+     * @return the lease for the shared instance
+     */
+    private Lease reuse(final SharedInstance instance, final VirtualChannel channel, final TaskListener listener) {
+        instance.users++;
+        hitCount.incrementAndGet();
+        new TTConsoleLogger(listener).logInfo(String.format("Reusing shared %s instance (hits: %d, misses: %d).",
+            instance.client.getToolName(), getHitCount(), getMissCount()));
+        return new Lease(instance.client, channel, Lease.Type.SHARED, true);
+    }
+
+    /**
+     * Releases the given lease. Dedicated instances are stopped immediately,
+     * shared instances are kept running until the idle timeout is exceeded.
+     *
+     * @param lease     the lease to release
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return {@code true} if the lease has been released successfully, {@code false} if stopping failed
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public boolean release(final Lease lease, final FilePath workspace, final Launcher launcher,
+                           final TaskListener listener) throws IOException, InterruptedException {
+        switch (lease.getType()) {
+            case DEDICATED:
+                return lease.getClient().stop(true, workspace, launcher, listener);
+            case SHARED:
+                synchronized (instances) {
+                    final SharedInstance instance = instances.get(lease.getChannel());
+                    if (instance != null && instance.client == lease.getClient()) {
+                        instance.users = Math.max(0, instance.users - 1);
+                        instance.lastUsedMillis = System.currentTimeMillis();
+                    }
+                }
+                new TTConsoleLogger(listener).logInfo(String.format(
+                    "Keeping %s running for further report generation.", lease.getClient().getToolName()));
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Discards any instance on the node of the given channel without stopping it,
+     * e.g. because all ECU-TEST processes on this node are replaced or terminated.
+     *
+     * @param channel the channel of the node
+     */
+    public void invalidate(@CheckForNull final VirtualChannel channel) {
+        if (channel != null) {
+            synchronized (instances) {
+                instances.remove(channel);
+            }
+        }
+    }
+
+    /**
+     * Discards the instance of the given client on the node of the given channel without stopping it,
+     * e.g. because it has been stopped by the client itself. Instances of other clients are kept.
+     *
+     * @param channel the channel of the node
+     * @param client  the ECU-TEST client of the instance
+     */
+    public void invalidate(@CheckForNull final VirtualChannel channel, final ETClient client) {
+        if (channel != null) {
+            synchronized (instances) {
+                final SharedInstance instance = instances.get(channel);
+                if (instance != null && instance.client == client) {
+                    instances.remove(channel);
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards all instances on nodes whose channel has been closed, e.g. because the agent has been disconnected.
+     * The instances are not stopped since they are not reachable anymore.
+     */
+    void pruneClosedChannels() {
+        synchronized (instances) {
+            final Iterator<VirtualChannel> iterator = instances.keySet().iterator();
+            while (iterator.hasNext()) {
+                final VirtualChannel channel = iterator.next();
+                if (channel instanceof Channel && ((Channel) channel).isClosingOrClosed()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops all shared instances which are not in use and have not been used for the idle timeout.
+     *
+     * @param listener the listener
+     */
+    void stopIdleInstances(final TaskListener listener) {
+        stopIdleInstances(System.currentTimeMillis(), listener);
+    }
+
+    /**
+     * Stops all shared instances which are not in use and have not been used for the idle timeout
+     * at the given time.
+     *
+     * @param currentMillis the current time in milliseconds
+     * @param listener      the listener
+     */
+    void stopIdleInstances(final long currentMillis, final TaskListener listener) {
+        final Map<VirtualChannel, SharedInstance> idleInstances = new HashMap<>();
+        synchronized (instances) {
+            final Iterator<Map.Entry<VirtualChannel, SharedInstance>> iterator = instances.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<VirtualChannel, SharedInstance> entry = iterator.next();
+                final SharedInstance instance = entry.getValue();
+                if (!instance.isInUse() && currentMillis - instance.lastUsedMillis > idleTimeoutMillis) {
+                    iterator.remove();
+                    stoppingChannels.add(entry.getKey());
+                    idleInstances.put(entry.getKey(), instance);
+                }
+            }
+        }
+        final Iterator<Map.Entry<VirtualChannel, SharedInstance>> iterator = idleInstances.entrySet().iterator();
+        try {
+            while (iterator.hasNext()) {
+                final Map.Entry<VirtualChannel, SharedInstance> entry = iterator.next();
+                final SharedInstance instance = entry.getValue();
+                evictionCount.incrementAndGet();
+                try {
+                    final Launcher launcher = instance.workspace.createLauncher(listener);
+                    instance.client.stop(true, instance.workspace, launcher, listener);
+                } catch (final IOException e) {
+                    LOGGER.log(Level.WARNING, String.format("Stopping idle %s instance failed: %s",
+                        instance.client.getToolName(), e.getMessage()), e);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    iterator.remove();
+                    completeStop(entry.getKey());
+                }
+            }
+        } finally {
+            for (final VirtualChannel channel : idleInstances.keySet()) {
+                completeStop(channel);
+            }
+        }
+    }
+
+    /**
+     * @return the number of currently registered instances
+     */
+    public int getInstanceCount() {
+        synchronized (instances) {
+            return instances.size();
+        }
+    }
+
+    /**
+     * @return the total number of acquisitions reusing a shared or warm instance
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the total number of acquisitions starting a new shared or warm instance
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the total number of shared instances stopped due to the idle timeout
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * @return the total number of warm instances removed due to settings, use count, memory or health
+     */
+    public long getRecycleCount() {
+        return recycleCount.get();
+    }
+
+    /**
+     * Lease of an ECU-TEST instance held by a single report publisher.
+     */
+    public static final class Lease {
+
+        /**
+         * Enumeration of lease types.
+         */
+        public enum Type {
+            /**
+             * Instance not started by this service, e.g. by a previous build step.
+             */
+            EXTERNAL,
+            /**
+             * Instance started by this service and stopped on release.
+             */
+            DEDICATED,
+            /**
+             * Instance started by this service and kept running on release.
+             */
+            SHARED
+        }
+
+        private final ETClient client;
+        private final VirtualChannel channel;
+        private final Type type;
+        private final boolean started;
+
+        /**
+         * Instantiates a new {@link Lease}.
+         *
+         * @param client  the ECU-TEST client, {@code null} for external instances
+         * @param channel the channel of the node
+         * @param type    the lease type
+         * @param started specifies whether the instance is running
+         */
+        Lease(final ETClient client, final VirtualChannel channel, final Type type, final boolean started) {
+            this.client = client;
+            this.channel = channel;
+            this.type = type;
+            this.started = started;
+        }
+
+        /**
+         * @return the ECU-TEST client, {@code null} for external instances
+         */
+        @CheckForNull
+        public ETClient getClient() {
+            return client;
+        }
+
+        /**
+         * @return the channel of the node
+         */
+        public VirtualChannel getChannel() {
+            return channel;
+        }
+
+        /**
+         * @return the lease type
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return {@code true} if the instance is running, {@code false} if starting failed
+         */
+        public boolean isStarted() {
+            return started;
+        }
+    }
+
+    /**
+     * Instance registered for a single node.
+     */
+    private static final class SharedInstance {
+
+        private final String key;
+        private final ETClient client;
+        private final FilePath workspace;
+        private int users;
+        private int uses;
+        @CheckForNull
+        private WeakReference<Run<?, ?>> owner;
+        private long lastUsedMillis;
+
+        /**
+         * Instantiates a new {@link SharedInstance}.
+         *
+         * @param key       the instance key
+         * @param client    the started ECU-TEST client
+         * @param workspace the workspace on the node
+         */
+        SharedInstance(final String key, final ETClient client, final FilePath workspace) {
+            this.key = key;
+            this.client = client;
+            this.workspace = workspace;
+            lastUsedMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * @return the run owning this instance or {@code null} if not owned
+         */
+        @CheckForNull
+        Run<?, ?> getOwner() {
+            return owner == null ? null : owner.get();
+        }
+
+        /**
+         * @return {@code true} if the instance is used by a report publisher or owned by a run which is still
+         * building, {@code false} otherwise
+         */
+        boolean isInUse() {
+            final Run<?, ?> run = getOwner();
+            return users > 0 || run != null && run.isBuilding();
+        }
+    }
+
+    /**
+     * Health check verifying the liveness of a warm instance.
+     */
+    interface HealthCheck {
+
+        /**
+         * Checks whether the instance of the given client is responding.
+         *
+         * @param client    the ECU-TEST client of the instance
+         * @param workspace the workspace
+         * @param launcher  the launcher
+         * @param listener  the listener
+         * @return the memory usage of ECU-TEST in bytes, {@code -1} if unknown, or {@code null} if ECU-TEST is not
+         * responding
+         * @throws IOException          signals that an I/O exception has occurred
+         * @throws InterruptedException if the build gets interrupted
+         */
+        @CheckForNull
+        Long check(ETClient client, FilePath workspace, Launcher launcher, TaskListener listener)
+            throws IOException, InterruptedException;
+    }
+
+    /**
+     * Health check querying the instance via COM on the node.
+     */
+    private static final class RemoteHealthCheck implements HealthCheck {
+
+        @CheckForNull
+        @Override
+        public Long check(final ETClient client, final FilePath workspace, final Launcher launcher,
+                          final TaskListener listener) throws IOException, InterruptedException {
+            return DllUtil.loadLibrary(workspace.toComputer())
+                ? launcher.getChannel().call(new HealthCheckCallable(client.getComContext(), listener)) : null;
+        }
+    }
+
+    /**
+     * {@link Callable} providing remote access to verify the liveness of the running ECU-TEST instance.
+     */
+    private static final class HealthCheckCallable extends MasterToSlaveCallable<Long, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ETComContext comContext;
+        private final TaskListener listener;
+
+        /**
+         * Instantiates a new {@link HealthCheckCallable}.
+         *
+         * @param comContext the COM context
+         * @param listener   the listener
+         */
+        HealthCheckCallable(final ETComContext comContext, final TaskListener listener) {
+            this.comContext = comContext;
+            this.listener = listener;
+        }
+
+        /**
+         * @return the memory usage of ECU-TEST in bytes, {@code -1} if unknown, or {@code null} if ECU-TEST is not
+         * responding
+         */
+        @Override
+        public Long call() throws IOException {
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            try (ComClient comClient = ETComClientFactory.newClient(comContext, HEALTH_CHECK_TIMEOUT)) {
+                if (comClient.isApplicationRunning() && StringUtils.isNotEmpty(comClient.getVersion())) {
+                    return ProcessUtil.getETMemoryUsage();
+                }
+            } catch (final ETComException e) {
+                logger.logComException(e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Periodically stops shared instances exceeding the idle timeout and discards instances of disconnected nodes.
+     */
+    @Extension
+    public static final class IdleInstanceReaper extends AsyncPeriodicWork {
+
+        /**
+         * Instantiates a new {@link IdleInstanceReaper}.
+         */
+        public IdleInstanceReaper() {
+            super("ECU-TEST idle instance reaper");
+        }
+
+        @Override
+        public long getRecurrencePeriod() {
+            return MIN;
+        }
+
+        @Override
+        protected void execute(final TaskListener listener) {
+            final ETInstanceService service = getInstance();
+            service.pruneClosedChannels();
+            if (service.isEnabled()) {
+                service.stopIdleInstances(listener);
+            }
+        }
+    }
+
+    /**
+     * Discards the instances of nodes going offline.
+     */
+    @Extension
+    public static final class OfflineListener extends ComputerListener {
+
+        @Override
+        public void onOffline(@Nonnull final Computer computer, @CheckForNull final OfflineCause cause) {
+            getInstance().pruneClosedChannels();
+        }
+    }
+
+    /**
+     * Initializes and holds the singleton for this class.
+     */
+    private static final class SingletonHolder {
+
+        private static final ETInstanceService INSTANCE = new ETInstanceService(
+            Integer.getInteger(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT),
+            Integer.getInteger(MAX_USES_PROPERTY, DEFAULT_MAX_USES),
+            Integer.getInteger(MAX_MEMORY_PROPERTY, DEFAULT_MAX_MEMORY),
+            new RemoteHealthCheck());
+
+        /**
+         * Private constructor.
+         */
+        private SingletonHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+    }
+}
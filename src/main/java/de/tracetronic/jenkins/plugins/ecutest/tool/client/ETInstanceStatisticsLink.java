@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
+import de.tracetronic.jenkins.plugins.ecutest.tool.Messages;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComStatistics;
+import hudson.Extension;
+import hudson.model.Computer;
+import hudson.model.ManagementLink;
+import hudson.remoting.Callable;
+import hudson.remoting.VirtualChannel;
+import jenkins.model.Jenkins;
+import jenkins.security.MasterToSlaveCallable;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Management link exposing the statistics of the {@link ETInstanceService} to administrators,
+ * i.e. the number of reused and started shared or warm ECU-TEST instances, and the COM connection and request
+ * statistics of all online nodes.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+@Extension
+public class ETInstanceStatisticsLink extends ManagementLink {
+
+    /**
+     * URL name of this link.
+     */
+    public static final String URL_NAME = "ecutest-instances";
+
+    private static final Logger LOGGER = Logger.getLogger(ETInstanceStatisticsLink.class.getName());
+
+    @Override
+    public String getIconFileName() {
+        return ETPlugin.getIconFileName("icon-ecutest-ecu-test", "icon-xlg");
+    }
+
+    @Override
+    public String getDisplayName() {
+        return Messages.ETInstanceStatisticsLink_DisplayName();
+    }
+
+    @Override
+    public String getDescription() {
+        return Messages.ETInstanceStatisticsLink_Description();
+    }
+
+    @Override
+    public String getUrlName() {
+        return URL_NAME;
+    }
+
+    /**
+     * @return the instance service providing the statistics
+     */
+    public ETInstanceService getService() {
+        return ETInstanceService.getInstance();
+    }
+
+    /**
+     * Gets the COM connection and request statistics of all online nodes. Nodes not responding are omitted.
+     *
+     * @return the COM statistics by node display name
+     */
+    public Map<String, ETComStatistics> getComStatistics() {
+        final Map<String, ETComStatistics> statistics = new LinkedHashMap<>();
+        for (final Computer computer : Jenkins.getInstance().getComputers()) {
+            final VirtualChannel channel = computer.getChannel();
+            if (channel == null) {
+                continue;
+            }
+            try {
+                statistics.put(computer.getDisplayName(), channel.call(new ComStatisticsCallable()));
+            } catch (final IOException e) {
+                LOGGER.log(Level.FINE, String.format("Reading COM statistics of %s failed: %s",
+                    computer.getDisplayName(), e.getMessage()), e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * {@link Callable} providing remote access to capture the COM statistics of a node.
+     */
+    private static final class ComStatisticsCallable extends MasterToSlaveCallable<ETComStatistics, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ETComStatistics call() {
+            return ETComStatistics.capture();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StartTSBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StopETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StopTSBuilder;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy;
 import hudson.CopyOnWrite;
 import hudson.EnvVars;
 import hudson.Extension;
@@ -186,6 +188,29 @@ public class ETInstallation extends AbstractToolInstallation {
         return timeout;
     }
 
+    /**
+     * Gets the polling policy from tool properties.
+     *
+     * @return the polling policy, default policy if tool property does not exist
+     */
+    public ETComPollingPolicy getPollingPolicy() {
+        final ETToolProperty toolProperty = getProperties().get(ETToolProperty.class);
+        if (toolProperty != null) {
+            return toolProperty.getPollingPolicy();
+        }
+        return ETComPollingPolicy.getDefault();
+    }
+
+    /**
+     * Gets the COM context of this installation holding the programmatic identifier, the COM timeout and the polling
+     * policy from tool properties.
+     *
+     * @return the COM context
+     */
+    public ETComContext getComContext() {
+        return new ETComContext(getProgId(), getTimeout(), getPollingPolicy());
+    }
+
     /**
      * DescriptorImpl of {@link ETInstallation}.
      */
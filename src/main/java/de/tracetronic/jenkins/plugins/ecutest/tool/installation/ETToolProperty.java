@@ -5,6 +5,7 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.tool.installation;
 
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
 import hudson.Extension;
 import hudson.tools.ToolProperty;
@@ -32,18 +33,41 @@ public class ETToolProperty extends ToolProperty<ETInstallation> implements Seri
 
     private final String progId;
     private final int timeout;
+    /**
+     * @since 2.7
+     */
+    private final int initialPollingInterval;
+    /**
+     * @since 2.7
+     */
+    private final int maxPollingInterval;
 
     /**
      * Instantiates a new {@link ETToolProperty}.
      *
-     * @param progId  the programmatic identifier
-     * @param timeout the timeout
+     * @param progId                 the programmatic identifier
+     * @param timeout                the timeout
+     * @param initialPollingInterval the initial polling interval in milliseconds
+     * @param maxPollingInterval     the maximum polling interval in milliseconds
      */
     @DataBoundConstructor
-    public ETToolProperty(final String progId, final int timeout) {
+    public ETToolProperty(final String progId, final int timeout, final int initialPollingInterval,
+                          final int maxPollingInterval) {
         super();
         this.progId = StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
         this.timeout = timeout;
+        this.initialPollingInterval = initialPollingInterval;
+        this.maxPollingInterval = maxPollingInterval;
+    }
+
+    /**
+     * Instantiates a new {@link ETToolProperty} with default polling intervals.
+     *
+     * @param progId  the programmatic identifier
+     * @param timeout the timeout
+     */
+    public ETToolProperty(final String progId, final int timeout) {
+        this(progId, timeout, ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL, ETComPollingPolicy.DEFAULT_MAX_INTERVAL);
     }
 
     /**
@@ -64,6 +88,31 @@ public class ETToolProperty extends ToolProperty<ETInstallation> implements Seri
         return timeout;
     }
 
+    /**
+     * Gets the initial interval polling the state of running executions.
+     *
+     * @return the initial polling interval in milliseconds, default interval if not set
+     */
+    public int getInitialPollingInterval() {
+        return initialPollingInterval > 0 ? initialPollingInterval : ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL;
+    }
+
+    /**
+     * Gets the maximum interval polling the state of running executions.
+     *
+     * @return the maximum polling interval in milliseconds, default interval if not set
+     */
+    public int getMaxPollingInterval() {
+        return maxPollingInterval > 0 ? maxPollingInterval : ETComPollingPolicy.DEFAULT_MAX_INTERVAL;
+    }
+
+    /**
+     * @return the polling policy built from the configured polling intervals
+     */
+    public ETComPollingPolicy getPollingPolicy() {
+        return new ETComPollingPolicy(getInitialPollingInterval(), getMaxPollingInterval());
+    }
+
     @Override
     public Class<ETInstallation> type() {
         return ETInstallation.class;
@@ -97,6 +146,20 @@ public class ETToolProperty extends ToolProperty<ETInstallation> implements Seri
             return ETComProperty.DEFAULT_TIMEOUT;
         }
 
+        /**
+         * @return the default initial polling interval
+         */
+        public static int getDefaultInitialPollingInterval() {
+            return ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL;
+        }
+
+        /**
+         * @return the default maximum polling interval
+         */
+        public static int getDefaultMaxPollingInterval() {
+            return ETComPollingPolicy.DEFAULT_MAX_INTERVAL;
+        }
+
         /**
          * Validates the ECU-TEST specific programmatic identifier.
          *
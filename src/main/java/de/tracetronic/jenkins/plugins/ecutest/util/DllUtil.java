@@ -51,6 +51,7 @@ public final class DllUtil {
 
     /**
      * Loads the JACOB library.
+     * Loading is skipped if the computer uses a non-native COM backend like the simulated one.
      *
      * @param computer the computer
      * @return {@code true} if successful, {@code false} otherwise
@@ -61,6 +62,9 @@ public final class DllUtil {
         if (computer == null) {
             return false;
         }
+        if (!ProcessUtil.isNativeBackend(computer.getChannel())) {
+            return true;
+        }
         final FilePath libPath = getJacobLibrary(computer);
         return libPath.act(new LoadLibraryCallable());
     }
@@ -6,14 +6,22 @@
 package de.tracetronic.jenkins.plugins.ecutest.util;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
 import hudson.Launcher;
 import hudson.model.Computer;
+import hudson.remoting.Callable;
+import hudson.remoting.VirtualChannel;
+import jenkins.security.MasterToSlaveCallable;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jvnet.winp.WinProcess;
 import org.jvnet.winp.WinpException;
 
+import javax.annotation.CheckForNull;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -50,6 +58,10 @@ public final class ProcessUtil {
      * @return the list of found or killed processes
      */
     public static List<String> checkETProcesses(final boolean kill) {
+        if (!isNativeBackend()) {
+            // Simulated instance is always running and cannot be killed
+            return kill ? Collections.emptyList() : Collections.singletonList(ET_PROCS.get(0));
+        }
         return checkProcesses(ET_PROCS, kill);
     }
 
@@ -60,9 +72,71 @@ public final class ProcessUtil {
      * @return the list of found or killed processes
      */
     public static List<String> checkTSProcess(final boolean kill) {
+        if (!isNativeBackend()) {
+            return Collections.emptyList();
+        }
         return checkProcesses(TS_PROCS, kill);
     }
 
+    /**
+     * Gets the total memory usage of all running ECU-TEST processes.
+     *
+     * @return the working set size in bytes or {@code -1} if the memory usage could not be determined
+     */
+    public static long getETMemoryUsage() {
+        if (!isNativeBackend()) {
+            return -1;
+        }
+        long memoryUsage = 0;
+        WinProcess.enableDebugPrivilege();
+        for (final WinProcess winProcess : WinProcess.all()) {
+            try {
+                final String cmdLine = winProcess.getCommandLine();
+                for (final String process : ET_PROCS) {
+                    if (StringUtils.containsIgnoreCase(cmdLine, process)) {
+                        final long processMemory = getMemoryUsage(winProcess.getPid());
+                        if (processMemory < 0) {
+                            return -1;
+                        }
+                        memoryUsage += processMemory;
+                        break;
+                    }
+                }
+            } catch (final WinpException e) {
+                // Skip system pseudo-processes with insufficient security privileges
+            }
+        }
+        return memoryUsage;
+    }
+
+    /**
+     * Gets the memory usage of the process with given process id by parsing the task list output.
+     *
+     * @param pid the process id
+     * @return the working set size in bytes or {@code -1} if the memory usage could not be determined
+     */
+    private static long getMemoryUsage(final int pid) {
+        final ProcessBuilder builder = new ProcessBuilder("tasklist", "/NH", "/FO", "CSV", "/FI", "PID eq " + pid);
+        builder.redirectErrorStream(true);
+        try {
+            final Process process = builder.start();
+            final String output;
+            try (InputStream in = process.getInputStream()) {
+                output = IOUtils.toString(in, StandardCharsets.UTF_8);
+            }
+            process.waitFor();
+            // Last CSV column holds the localized memory usage in kilobytes, e.g. "123.456 K"
+            final String memColumn = StringUtils.substringAfterLast(output.trim(), "\",\"");
+            final String memDigits = memColumn.replaceAll("\\D", "");
+            return memDigits.isEmpty() ? -1 : Long.parseLong(memDigits) * 1024L;
+        } catch (final IOException | NumberFormatException e) {
+            return -1;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
     /**
      * Checks a list of processes and kills them if appropriate.
      *
@@ -103,18 +177,60 @@ public final class ProcessUtil {
     /**
      * Checks the operating system of a launcher.
      * <p>
-     * Most of the builders and publishers implemented by this plugin require to run on Windows.
+     * Most of the builders and publishers implemented by this plugin require to run on Windows, unless a non-native
+     * COM backend like the simulated one is selected on the node of the launcher.
      *
      * @param launcher the launcher
-     * @throws ETPluginException if Unix-based launcher
+     * @throws ETPluginException if Unix-based launcher using the native COM backend
      */
     public static void checkOS(final Launcher launcher) throws ETPluginException {
-        if (launcher.isUnix()) {
+        if (launcher.isUnix() && isNativeNode(launcher)) {
             throw new ETPluginException("Trying to build Windows related configuration on an Unix-based system! "
                 + "Restrict the project to be built on a particular Windows slave or master.");
         }
     }
 
+    /**
+     * Checks whether the node of the launcher uses the native COM backend.
+     * Assumes the native backend if the node cannot be asked.
+     *
+     * @param launcher the launcher
+     * @return {@code true} if the native COM backend is used, {@code false} otherwise
+     */
+    private static boolean isNativeNode(final Launcher launcher) {
+        try {
+            return isNativeBackend(launcher.getChannel());
+        } catch (final IOException e) {
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    /**
+     * Checks whether the current JVM uses the native COM backend.
+     *
+     * @return {@code true} if the native COM backend is used, {@code false} otherwise
+     * @see ETComClientFactory#getBackend()
+     */
+    public static boolean isNativeBackend() {
+        return ETComClientFactory.getBackend().isNative();
+    }
+
+    /**
+     * Checks whether the node of the given channel uses the native COM backend.
+     *
+     * @param channel the channel, assuming the native backend if {@code null}
+     * @return {@code true} if the native COM backend is used, {@code false} otherwise
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    public static boolean isNativeBackend(@CheckForNull final VirtualChannel channel)
+        throws IOException, InterruptedException {
+        return channel == null || channel.call(new NativeBackendCallable());
+    }
+
     /**
      * From https://stackoverflow.com/a/35418180
      * <p>
@@ -162,4 +278,17 @@ public final class ProcessUtil {
         }
         return "amd64".equals(computer.getSystemProperties().get("os.arch"));
     }
+
+    /**
+     * {@link Callable} providing remote access to check whether the native COM backend is used.
+     */
+    private static final class NativeBackendCallable extends MasterToSlaveCallable<Boolean, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Boolean call() {
+            return isNativeBackend();
+        }
+    }
 }
@@ -28,10 +28,10 @@ public abstract class AbstractTestObject extends ETComDispatch {
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public AbstractTestObject(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public AbstractTestObject(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     /**
@@ -27,15 +27,15 @@ public class AnalysisEnvironment extends ETComDispatch implements ComAnalysisEnv
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public AnalysisEnvironment(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public AnalysisEnvironment(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @Override
     public ComAnalysisExecutionInfo getAnalysisExecutionInfo() throws ETComException {
-        return new AnalysisExecutionInfo(performRequest("GetAnalysisExecutionInfo").toDispatch(), useTimeout());
+        return new AnalysisExecutionInfo(performRequest("GetAnalysisExecutionInfo").toDispatch(), getComTimeout());
     }
 
     /**
@@ -53,7 +53,7 @@ public class AnalysisEnvironment extends ETComDispatch implements ComAnalysisEnv
     public ComAnalysisExecutionInfo executeJob(final String jobFile, final boolean createReportDir)
         throws ETComException {
         return new AnalysisExecutionInfo(performRequest("ExecuteJob", new Variant(jobFile),
-            new Variant(createReportDir)).toDispatch(), useTimeout());
+            new Variant(createReportDir)).toDispatch(), getComTimeout());
     }
 
     @Override
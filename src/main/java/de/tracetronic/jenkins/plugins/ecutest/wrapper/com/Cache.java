@@ -30,11 +30,11 @@ public class Cache extends ETComDispatch implements ComCache {
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      * @param type       the cache type
      */
-    public Cache(final Dispatch dispatch, final boolean useTimeout, final CacheType type) {
-        super(dispatch, useTimeout);
+    public Cache(final Dispatch dispatch, final int comTimeout, final CacheType type) {
+        super(dispatch, comTimeout);
         this.type = type;
     }
 
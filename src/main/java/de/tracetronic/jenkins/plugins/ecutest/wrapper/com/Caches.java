@@ -49,58 +49,39 @@ public class Caches extends ETComDispatch implements ComCaches {
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public Caches(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public Caches(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
-    /**
-     * Gets the cache object by type.
-     *
-     * @param type the cache type
-     * @return the cache by type
-     * @throws ETComException in case of a COM exception or unsuppored cache type
-     */
-    public Cache getCacheByType(CacheType type) throws ETComException {
-        switch (type) {
-            case A2L:
-                return (Cache) getA2lCache();
-            case ELF:
-                return (Cache) getElfCache();
-            case BUS:
-                return (Cache) getBusCache();
-            case MODEL:
-                return (Cache) getModelCache();
-            case SERVICE:
-                return (Cache) getServiceCache();
-            default:
-                throw new ETComException("Unsupported cache type:" + type.name());
-        }
+    @Override
+    public Cache getCacheByType(final CacheType type) throws ETComException {
+        return (Cache) ComCaches.super.getCacheByType(type);
     }
 
     @Override
     public ComCache getA2lCache() throws ETComException {
-        return new Cache(performRequest("GetA2lCache").toDispatch(), useTimeout(), CacheType.A2L);
+        return new Cache(performRequest("GetA2lCache").toDispatch(), getComTimeout(), CacheType.A2L);
     }
 
     @Override
     public ComCache getElfCache() throws ETComException {
-        return new Cache(performRequest("GetElfCache").toDispatch(), useTimeout(), CacheType.ELF);
+        return new Cache(performRequest("GetElfCache").toDispatch(), getComTimeout(), CacheType.ELF);
     }
 
     @Override
     public ComCache getBusCache() throws ETComException {
-        return new Cache(performRequest("GetBusCache").toDispatch(), useTimeout(), CacheType.BUS);
+        return new Cache(performRequest("GetBusCache").toDispatch(), getComTimeout(), CacheType.BUS);
     }
 
     @Override
     public ComCache getModelCache() throws ETComException {
-        return new Cache(performRequest("GetModelCache").toDispatch(), useTimeout(), CacheType.MODEL);
+        return new Cache(performRequest("GetModelCache").toDispatch(), getComTimeout(), CacheType.MODEL);
     }
 
     @Override
     public ComCache getServiceCache() throws ETComException {
-        return new Cache(performRequest("GetServiceCache").toDispatch(), useTimeout(), CacheType.SERVICE);
+        return new Cache(performRequest("GetServiceCache").toDispatch(), getComTimeout(), CacheType.SERVICE);
     }
 }
@@ -24,10 +24,10 @@ public class Constants extends AbstractTestObject implements ComConstants {
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public Constants(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public Constants(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @Override
@@ -37,12 +37,12 @@ public class Constants extends AbstractTestObject implements ComConstants {
 
     @Override
     public ComConstant item(final int id) throws ETComException {
-        return new Constant(performRequest("Item", new Variant(id)).toDispatch(), useTimeout());
+        return new Constant(performRequest("Item", new Variant(id)).toDispatch(), getComTimeout());
     }
 
     @Override
     public ComConstant item(final String name) throws ETComException {
-        return new Constant(performRequest("Item", new Variant(name)).toDispatch(), useTimeout());
+        return new Constant(performRequest("Item", new Variant(name)).toDispatch(), getComTimeout());
     }
 
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+
+/**
+ * Service provider interface creating the {@link ComClient} instances used to communicate with ECU-TEST.
+ * <p>
+ * Implementations must provide a public no-argument constructor in order to be selectable by the system property
+ * {@value ETComClientFactory#BACKEND_PROPERTY}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ * @see ETComClientFactory
+ */
+public interface ETComBackend {
+
+    /**
+     * Creates a new client connected to the application identified by the programmatic identifier of the context.
+     *
+     * @param comContext the COM context
+     * @param timeout    the timeout in seconds waiting for a connection
+     * @return the connected client
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    ComClient createClient(ETComContext comContext, int timeout) throws ETComException;
+
+    /**
+     * Returns whether this backend communicates with a native ECU-TEST process by COM. Native backends require
+     * Windows and the JACOB library, whereas non-native backends can be used on any operating system.
+     *
+     * @return {@code true} if native, {@code false} otherwise
+     */
+    default boolean isNative() {
+        return true;
+    }
+}
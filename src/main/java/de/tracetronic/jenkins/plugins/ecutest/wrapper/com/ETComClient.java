@@ -11,8 +11,8 @@ import com.jacob.com.Dispatch;
 import com.jacob.com.JacobException;
 import com.jacob.com.Variant;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisEnvironment;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCaches;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComPackage;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComProject;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
@@ -22,6 +22,11 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
 import org.apache.commons.lang.StringUtils;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * COM client to initialize a COM connection and to perform requests on application specific COM API.
@@ -31,17 +36,34 @@ import java.lang.Thread.UncaughtExceptionHandler;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public class ETComClient implements ComApplication, AutoCloseable {
+public class ETComClient implements ComClient {
+
+    private static final Logger LOGGER = Logger.getLogger(ETComClient.class.getName());
+
+    /**
+     * Total number of established COM connections in this JVM.
+     */
+    private static final AtomicLong CONNECT_COUNT = new AtomicLong();
+
+    /**
+     * Total time in milliseconds spent establishing COM connections in this JVM.
+     */
+    private static final AtomicLong CONNECT_LATENCY_TOTAL = new AtomicLong();
 
     /**
      * The COMApplication dispatch.
      */
-    private ETComDispatch dispatch;
+    private volatile ETComDispatch dispatch;
 
     /**
-     * Holds the status when to release the dispatch.
+     * Hands over the dispatch created by the {@link InitDispatch} thread and signals it to release the dispatch.
      */
-    private boolean releaseDispatch;
+    private final DispatchHandoff handoff = new DispatchHandoff();
+
+    /**
+     * The time in milliseconds it took to establish the COM connection.
+     */
+    private long connectLatency;
 
     /**
      * Specifies whether to apply the configured COM timeout.
@@ -49,15 +71,29 @@ public class ETComClient implements ComApplication, AutoCloseable {
     private boolean useTimeout;
 
     /**
-     * Instantiates a new {@link ETComClient} by initializing the {@link ETComDispatch} with the configured COM
+     * The COM response timeout in seconds, 0 if disabled.
+     */
+    private int comTimeout;
+
+    /**
+     * Instantiates a new {@link ETComClient} by initializing the {@link ETComDispatch} with the default COM
      * settings.
      *
      * @throws ETComException in case of a COM exception or if the timeout is reached
      */
     public ETComClient() throws ETComException {
-        final ETComProperty properties = ETComProperty.getInstance();
-        initDispatch(properties.getProgId());
-        waitForConnection(properties.getTimeout());
+        this(ETComContext.getDefault());
+    }
+
+    /**
+     * Instantiates a new {@link ETComClient} by initializing the {@link ETComDispatch} with the given COM context and
+     * waits for connection within the response timeout of the context.
+     *
+     * @param comContext the COM context
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public ETComClient(final ETComContext comContext) throws ETComException {
+        this(comContext, comContext.getTimeout());
     }
 
     /**
@@ -68,8 +104,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
      * @throws ETComException in case of a COM exception or if the timeout is reached
      */
     public ETComClient(final String progId) throws ETComException {
-        initDispatch(progId);
-        waitForConnection(ETComProperty.DEFAULT_CONNECTION_TIMEOUT);
+        this(new ETComContext(progId), ETComProperty.DEFAULT_CONNECTION_TIMEOUT);
     }
 
     /**
@@ -80,8 +115,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
      * @throws ETComException in case of a COM exception or if the timeout is reached
      */
     public ETComClient(final int timeout) throws ETComException {
-        initDispatch(ETComProperty.DEFAULT_PROG_ID);
-        waitForConnection(timeout);
+        this(ETComContext.getDefault(), timeout);
     }
 
     /**
@@ -93,26 +127,72 @@ public class ETComClient implements ComApplication, AutoCloseable {
      * @throws ETComException in case of a COM exception or if the timeout is reached
      */
     public ETComClient(final String progId, final int timeout) throws ETComException {
-        initDispatch(progId);
-        waitForConnection(timeout);
+        this(new ETComContext(progId), timeout);
     }
 
     /**
-     * Initializes the a single-threaded {@link ComThread} and sets the {@link ETComDispatch} instance using the default
-     * program id returned from the {@link ActiveXComponent}.
+     * Instantiates a new {@link ETComClient} by initializing the {@link ETComDispatch} with the given COM context and
+     * waits for connection within the given timeout. If no connection can be established, the already initialized
+     * COM resources are released again.
      *
-     * @param progId the programmatic identifier
+     * @param comContext the COM context
+     * @param timeout    the timeout waiting for a connection
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public ETComClient(final ETComContext comContext, final int timeout) throws ETComException {
+        final long startNanos = System.nanoTime();
+        initDispatch(comContext);
+        try {
+            waitForConnection(timeout, comContext.getPollingPolicy().newPoller());
+        } catch (final ETComException e) {
+            // Release the dispatch thread and COM resources as the caller never gets hold of this client
+            close();
+            throw e;
+        }
+        connectLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        CONNECT_COUNT.incrementAndGet();
+        CONNECT_LATENCY_TOTAL.addAndGet(connectLatency);
+        LOGGER.log(Level.FINE, "Established COM connection to {0} in {1} ms",
+            new Object[]{comContext.getProgId(), connectLatency});
+    }
+
+    /**
+     * @return the total number of COM connections established in this JVM
+     */
+    public static long getConnectCount() {
+        return CONNECT_COUNT.get();
+    }
+
+    /**
+     * @return the average time in milliseconds to establish a COM connection in this JVM
+     */
+    public static long getAverageConnectLatency() {
+        final long count = CONNECT_COUNT.get();
+        return count == 0 ? 0 : CONNECT_LATENCY_TOTAL.get() / count;
+    }
+
+    /**
+     * @return the time in milliseconds it took to establish the COM connection of this client
+     */
+    public long getConnectLatency() {
+        return connectLatency;
+    }
+
+    /**
+     * Initializes the {@link ComThread} depending on the configured response timeout and sets the
+     * {@link ETComDispatch} instance using the programmatic identifier of the given COM context.
+     *
+     * @param comContext the COM context
      * @throws ETComException in case of a COM exception
      */
-    private void initDispatch(final String progId) throws ETComException {
-        final ETComProperty properties = ETComProperty.getInstance();
-        final int timeout = properties.getTimeout();
-        if (timeout == 0) {
+    private void initDispatch(final ETComContext comContext) throws ETComException {
+        comTimeout = comContext.getTimeout();
+        if (comTimeout == 0) {
             useTimeout = false;
-            initSTA(progId);
+            initSTA(comContext.getProgId());
         } else {
             useTimeout = true;
-            initMTA(progId);
+            initMTA(comContext.getProgId());
         }
     }
 
@@ -128,7 +208,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
             ComThread.InitSTA();
             final ActiveXComponent component = new ActiveXComponent(StringUtils.isEmpty(progId) ?
                 ETComProperty.DEFAULT_PROG_ID : progId);
-            dispatch = new ETComDispatch(component.getObject(), false);
+            dispatch = new ETComDispatch(component.getObject(), 0);
         } catch (final JacobException e) {
             throw new ETComException(e.getMessage(), e);
         }
@@ -144,54 +224,52 @@ public class ETComClient implements ComApplication, AutoCloseable {
     private void initMTA(final String progId) throws ETComException {
         try {
             ComThread.InitMTA();
-            releaseDispatch = false;
             final InitDispatch initDispatch = new InitDispatch(progId);
-            final InitDispatchExceptionHandler exceptionHandler = new InitDispatchExceptionHandler();
-            initDispatch.setUncaughtExceptionHandler(exceptionHandler);
+            initDispatch.setUncaughtExceptionHandler(new InitDispatchExceptionHandler(handoff));
             initDispatch.start();
 
             final int timeout = ETComProperty.DEFAULT_CONNECTION_TIMEOUT;
-            final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
-            while (System.currentTimeMillis() < endTimeMillis) {
-                if (dispatch != null && dispatch.isAttached()) {
-                    return;
-                }
-                if (releaseDispatch) {
-                    throw new ETComException(exceptionHandler.getThrowable());
-                }
-                Thread.sleep(100L);
+            if (!handoff.awaitAttach(timeout, TimeUnit.SECONDS)) {
+                handoff.release();
+                throw new ETComTimeoutException(String.format(
+                    "Maximum timeout of %d seconds exceeded: COM server not available!", timeout));
+            }
+            if (handoff.getThrowable() != null) {
+                throw new ETComException(handoff.getThrowable());
+            }
+            if (dispatch == null || !dispatch.isAttached()) {
+                handoff.release();
+                throw new ETComException("COM dispatch could not be attached!");
             }
-            throw new ETComTimeoutException(String.format(
-                "Maximum timeout of %d seconds exceeded: COM server not available!", timeout));
         } catch (final InterruptedException e) {
+            handoff.release();
             throw new ETComException(e.getMessage(), e);
         }
     }
 
     /**
-     * Waits for a valid COM connection within the given timeout.
+     * Waits for a valid COM connection within the given timeout, probing the application with increasing intervals
+     * defined by the given poller.
      *
      * @param timeout the timeout waiting for a connection
+     * @param poller  the poller defining the intervals between consecutive probes
      * @throws ETComException in case of a COM exception or if the timeout is reached
      */
-    private void waitForConnection(final int timeout) throws ETComException {
+    private void waitForConnection(final int timeout, final ETComPollingPolicy.Poller poller)
+        throws ETComException {
         final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
         while (timeout <= 0 || System.currentTimeMillis() < endTimeMillis) {
             try {
                 if (isApplicationRunning()) {
                     return;
-                } else {
-                    Thread.sleep(1000L);
                 }
+            } catch (final ETComTimeoutException e) {
+                return;
             } catch (final ETComException e) {
-                if (e instanceof ETComTimeoutException) {
-                    return;
-                }
-                try {
-                    Thread.sleep(1000L);
-                } catch (final InterruptedException ex) {
-                    throw new ETComException(e.getMessage(), e);
-                }
+                // COM server not ready yet, probe again
+            }
+            try {
+                poller.await();
             } catch (final InterruptedException e) {
                 throw new ETComException(e.getMessage(), e);
             }
@@ -203,7 +281,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
     @Override
     public void close() {
         if (useTimeout) {
-            releaseDispatch = true;
+            handoff.release();
             ComThread.quitMainSTA();
         } else {
             try {
@@ -246,32 +324,32 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public ComTestEnvironment start() throws ETComException {
-        return new TestEnvironment(dispatch.performDirectRequest("Start").toDispatch(), useTimeout);
+        return new TestEnvironment(dispatch.performDirectRequest("Start").toDispatch(), comTimeout);
     }
 
     @Override
     public ComTestEnvironment stop() throws ETComException {
-        return new TestEnvironment(dispatch.performDirectRequest("Stop").toDispatch(), useTimeout);
+        return new TestEnvironment(dispatch.performDirectRequest("Stop").toDispatch(), comTimeout);
     }
 
     @Override
     public ComTestEnvironment getTestEnvironment() throws ETComException {
-        return new TestEnvironment(dispatch.performRequest("GetTestEnvironment").toDispatch(), useTimeout);
+        return new TestEnvironment(dispatch.performRequest("GetTestEnvironment").toDispatch(), comTimeout);
     }
 
     @Override
     public ComAnalysisEnvironment getAnalysisEnvironment() throws ETComException {
-        return new AnalysisEnvironment(dispatch.performRequest("GetAnalysisEnvironment").toDispatch(), useTimeout);
+        return new AnalysisEnvironment(dispatch.performRequest("GetAnalysisEnvironment").toDispatch(), comTimeout);
     }
 
     @Override
     public ComTestManagement getTestManagement() throws ETComException {
-        return new TestManagement(dispatch.performRequest("GetTestManagementModule").toDispatch(), useTimeout);
+        return new TestManagement(dispatch.performRequest("GetTestManagementModule").toDispatch(), comTimeout);
     }
 
     @Override
     public ComCaches getCaches() throws ETComException {
-        return new Caches(dispatch.performRequest("Caches").toDispatch(), useTimeout);
+        return new Caches(dispatch.performRequest("Caches").toDispatch(), comTimeout);
     }
 
     @Override
@@ -301,7 +379,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public ComPackage openPackage(final String path) throws ETComException {
-        return new Package(dispatch.performRequest("OpenPackage", new Variant(path)).toDispatch(), useTimeout);
+        return new Package(dispatch.performRequest("OpenPackage", new Variant(path)).toDispatch(), comTimeout);
     }
 
     @Override
@@ -309,14 +387,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
         return dispatch.performRequest("ClosePackage", new Variant(path)).getBoolean();
     }
 
-    /**
-     * Same as {@link #openProject(String, boolean, String)} but with default parameters.
-     *
-     * @param path the full path name of the project to open
-     * @return the {@link ComProject} dispatch, if the project is successfully opened, {@code null} otherwise
-     * @throws ETComException in case of a COM exception
-     * @see #openProject(String, boolean, String)
-     */
+    @Override
     public ComProject openProject(final String path) throws ETComException {
         return openProject(path, false, "");
     }
@@ -325,7 +396,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
     public ComProject openProject(final String path, final boolean execInCurrentPkgDir,
                                   final String filterExpression) throws ETComException {
         return new Project(dispatch.performRequest("OpenProject", new Variant(path),
-            new Variant(execInCurrentPkgDir), new Variant(filterExpression)).toDispatch(), useTimeout);
+            new Variant(execInCurrentPkgDir), new Variant(filterExpression)).toDispatch(), comTimeout);
     }
 
     @Override
@@ -353,13 +424,13 @@ public class ETComClient implements ComApplication, AutoCloseable {
     @Override
     public ComTestConfiguration getCurrentTestConfiguration() throws ETComException {
         return new TestConfiguration(dispatch.performRequest("GetCurrentTestConfiguration").toDispatch(),
-            useTimeout);
+            comTimeout);
     }
 
     @Override
     public ComTestBenchConfiguration getCurrentTestBenchConfiguration() throws ETComException {
         return new TestBenchConfiguration(dispatch.performRequest("GetCurrentTestbenchConfiguration").toDispatch(),
-            useTimeout);
+            comTimeout);
     }
 
     @Override
@@ -400,15 +471,11 @@ public class ETComClient implements ComApplication, AutoCloseable {
             try {
                 ComThread.InitMTA();
                 component = new ActiveXComponent(progId);
-                dispatch = new ETComDispatch(component.getObject(), true);
-                while (!dispatch.isAttached()) {
-                    sleep(100L);
-                }
-                while (!releaseDispatch) {
-                    sleep(100L);
-                }
+                dispatch = new ETComDispatch(component.getObject(), comTimeout);
+                handoff.attach();
+                handoff.awaitRelease();
             } catch (final InterruptedException e) {
-                e.printStackTrace();
+                Thread.currentThread().interrupt();
             } finally {
                 if (component != null) {
                     component.safeRelease();
@@ -424,21 +491,94 @@ public class ETComClient implements ComApplication, AutoCloseable {
     /**
      * Handles uncaught exceptions from {@link InitDispatch} thread.
      */
-    private final class InitDispatchExceptionHandler implements UncaughtExceptionHandler {
+    static final class InitDispatchExceptionHandler implements UncaughtExceptionHandler {
 
-        private Throwable throwable;
+        private final DispatchHandoff handoff;
 
         /**
-         * @return the throwable from failing thread
+         * Instantiates a new {@link InitDispatchExceptionHandler}.
+         *
+         * @param handoff the handoff to signal the failure to
          */
-        public Throwable getThrowable() {
-            return throwable;
+        InitDispatchExceptionHandler(final DispatchHandoff handoff) {
+            this.handoff = handoff;
         }
 
         @Override
         public void uncaughtException(final Thread t, final Throwable e) {
-            throwable = e;
-            releaseDispatch = true;
+            handoff.fail(e);
+        }
+    }
+
+    /**
+     * Hands over the dispatch created by the {@link InitDispatch} thread to the connecting thread and keeps the
+     * {@link InitDispatch} thread parked until the client gets closed.
+     */
+    static final class DispatchHandoff {
+
+        /**
+         * Signals that the dispatch has been created or that its initialization failed.
+         */
+        private final CountDownLatch attachLatch = new CountDownLatch(1);
+
+        /**
+         * Signals the {@link InitDispatch} thread to release the dispatch.
+         */
+        private final CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        private volatile Throwable throwable;
+
+        /**
+         * Signals that the dispatch has been created.
+         */
+        void attach() {
+            attachLatch.countDown();
+        }
+
+        /**
+         * Signals that the initialization of the dispatch failed.
+         *
+         * @param t the throwable from failing thread
+         */
+        void fail(final Throwable t) {
+            throwable = t;
+            attachLatch.countDown();
+        }
+
+        /**
+         * Waits until the dispatch has been created or its initialization failed.
+         *
+         * @param timeout the maximum time to wait
+         * @param unit    the time unit of the timeout
+         * @return {@code true} if signaled, {@code false} if the timeout elapsed
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        boolean awaitAttach(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return attachLatch.await(timeout, unit);
+        }
+
+        /**
+         * @return the throwable from failing thread or {@code null} if the initialization did not fail
+         */
+        Throwable getThrowable() {
+            return throwable;
+        }
+
+        /**
+         * Signals the {@link InitDispatch} thread to release the dispatch.
+         */
+        void release() {
+            releaseLatch.countDown();
+        }
+
+        /**
+         * Waits until the dispatch is to be released. Returns immediately if already signaled, e.g. because the
+         * connecting thread gave up waiting for the dispatch.
+         *
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        void awaitRelease() throws InterruptedException {
+            releaseLatch.await();
         }
     }
 }
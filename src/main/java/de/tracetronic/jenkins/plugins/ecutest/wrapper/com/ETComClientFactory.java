@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim.SimComBackend;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Factory creating {@link ComClient} instances by the {@link ETComBackend} of the current JVM.
+ * <p>
+ * The backend is selected once per JVM, i.e. per agent, by the system property {@value #BACKEND_PROPERTY}:
+ * <ul>
+ * <li>{@value #JACOB_BACKEND} (default) connects to ECU-TEST by JACOB</li>
+ * <li>{@value #SIMULATED_BACKEND} uses the in-process {@link SimComBackend}</li>
+ * <li>any other value is treated as fully qualified class name of an {@link ETComBackend} implementation</li>
+ * </ul>
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETComClientFactory {
+
+    /**
+     * System property defining the COM backend.
+     */
+    public static final String BACKEND_PROPERTY = "ecutest.com.backend";
+    /**
+     * Name of the JACOB backend.
+     */
+    public static final String JACOB_BACKEND = "jacob";
+    /**
+     * Name of the simulated backend.
+     */
+    public static final String SIMULATED_BACKEND = "simulated";
+
+    private static final Logger LOGGER = Logger.getLogger(ETComClientFactory.class.getName());
+
+    private static volatile ETComBackend backend;
+
+    /**
+     * Instantiates a new {@link ETComClientFactory}.
+     */
+    private ETComClientFactory() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Creates a new client with given programmatic identifier and waits for connection within the default timeout.
+     *
+     * @param progId the programmatic identifier
+     * @return the connected client
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public static ComClient newClient(final String progId) throws ETComException {
+        return newClient(new ETComContext(progId));
+    }
+
+    /**
+     * Creates a new client with given programmatic identifier and waits for connection within the given timeout.
+     *
+     * @param progId  the programmatic identifier
+     * @param timeout the timeout in seconds waiting for a connection
+     * @return the connected client
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public static ComClient newClient(final String progId, final int timeout) throws ETComException {
+        return newClient(new ETComContext(progId), timeout);
+    }
+
+    /**
+     * Creates a new client with given COM context and waits for connection within the default timeout.
+     *
+     * @param comContext the COM context
+     * @return the connected client
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public static ComClient newClient(final ETComContext comContext) throws ETComException {
+        return newClient(comContext, ETComProperty.DEFAULT_CONNECTION_TIMEOUT);
+    }
+
+    /**
+     * Creates a new client with given COM context and waits for connection within the given timeout.
+     *
+     * @param comContext the COM context
+     * @param timeout    the timeout in seconds waiting for a connection
+     * @return the connected client
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public static ComClient newClient(final ETComContext comContext, final int timeout) throws ETComException {
+        return getBackend().createClient(comContext, timeout);
+    }
+
+    /**
+     * Gets the backend of the current JVM and resolves it on first access.
+     *
+     * @return the backend
+     */
+    public static ETComBackend getBackend() {
+        ETComBackend current = backend;
+        if (current == null) {
+            synchronized (ETComClientFactory.class) {
+                current = backend;
+                if (current == null) {
+                    current = resolveBackend(System.getProperty(BACKEND_PROPERTY, JACOB_BACKEND));
+                    backend = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Sets the backend of the current JVM, mainly intended for testing purposes.
+     *
+     * @param newBackend the backend to use, {@code null} to resolve the configured backend again
+     */
+    public static void setBackend(final ETComBackend newBackend) {
+        backend = newBackend;
+    }
+
+    /**
+     * Resolves the backend by its name or class name.
+     * Falls back to the JACOB backend if the backend class cannot be instantiated.
+     *
+     * @param name the backend name
+     * @return the resolved backend
+     */
+    static ETComBackend resolveBackend(final String name) {
+        if (JACOB_BACKEND.equalsIgnoreCase(name)) {
+            return new JacobBackend();
+        } else if (SIMULATED_BACKEND.equalsIgnoreCase(name)) {
+            return new SimComBackend();
+        }
+        try {
+            return Class.forName(name).asSubclass(ETComBackend.class).newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            LOGGER.log(Level.WARNING, String.format("Invalid COM backend %s, using %s backend instead.",
+                name, JACOB_BACKEND), e);
+            return new JacobBackend();
+        }
+    }
+
+    /**
+     * Backend connecting to ECU-TEST by JACOB.
+     */
+    static final class JacobBackend implements ETComBackend {
+
+        @Override
+        public ComClient createClient(final ETComContext comContext, final int timeout) throws ETComException {
+            return new ETComClient(comContext, timeout);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.io.Serializable;
+
+/**
+ * Serializable and immutable context holding the COM settings of a single ECU-TEST instance.
+ * <p>
+ * The context is resolved per build on the controller and passed explicitly to each {@link ETComClient} and remote
+ * callable, so that concurrent builds on the same node can address different ECU-TEST installations or instances.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETComContext implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String progId;
+    private final int timeout;
+    private final ETComPollingPolicy pollingPolicy;
+
+    /**
+     * Instantiates a new {@link ETComContext}.
+     *
+     * @param progId        the COM specific programmatic identifier, blank to use the default identifier
+     * @param timeout       the COM response timeout in seconds, 0 to disable
+     * @param pollingPolicy the polling policy, {@code null} to use the default policy
+     */
+    public ETComContext(@CheckForNull final String progId, final int timeout,
+                        @CheckForNull final ETComPollingPolicy pollingPolicy) {
+        this.progId = StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
+        this.timeout = Math.max(0, timeout);
+        this.pollingPolicy = pollingPolicy == null ? ETComPollingPolicy.getDefault() : pollingPolicy;
+    }
+
+    /**
+     * Instantiates a new {@link ETComContext} with default response timeout and polling policy.
+     *
+     * @param progId the COM specific programmatic identifier, blank to use the default identifier
+     */
+    public ETComContext(@CheckForNull final String progId) {
+        this(progId, ETComProperty.DEFAULT_TIMEOUT, null);
+    }
+
+    /**
+     * Returns the context using the default COM settings.
+     *
+     * @return the default context
+     */
+    public static ETComContext getDefault() {
+        return new ETComContext(ETComProperty.DEFAULT_PROG_ID);
+    }
+
+    /**
+     * @return the COM specific programmatic identifier
+     */
+    public String getProgId() {
+        return progId;
+    }
+
+    /**
+     * @return the COM response timeout in seconds, 0 if disabled
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return the polling policy
+     */
+    public ETComPollingPolicy getPollingPolicy() {
+        return pollingPolicy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (timeout: %ds)", progId, timeout);
+    }
+}
@@ -11,12 +11,6 @@ import com.jacob.com.JacobException;
 import com.jacob.com.Variant;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * Custom dispatch to perform requests on application specific COM API.
@@ -29,16 +23,17 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
 
     private static final Object[] NO_PARAMS = new Object[0];
 
-    private final boolean useTimeout;
+    private final int comTimeout;
 
     /**
-     * Instantiates a new {@link ETComDispatch} with default programmatic identifier.
+     * Instantiates a new {@link ETComDispatch} with given programmatic identifier.
      *
-     * @param useTimeout specifies whether to apply timeout
+     * @param progId     the programmatic identifier
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public ETComDispatch(final boolean useTimeout) {
-        super(ETComProperty.getInstance().getProgId());
-        this.useTimeout = useTimeout;
+    public ETComDispatch(final String progId, final int comTimeout) {
+        super(progId);
+        this.comTimeout = comTimeout;
     }
 
     /**
@@ -48,18 +43,25 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public ETComDispatch(final Dispatch dispatch, final boolean useTimeout) {
+    public ETComDispatch(final Dispatch dispatch, final int comTimeout) {
         super(dispatch);
-        this.useTimeout = useTimeout;
+        this.comTimeout = comTimeout;
     }
 
     /**
      * @return {@code true} if positive timeout is set, {@code false} otherwise
      */
     public boolean useTimeout() {
-        return useTimeout;
+        return comTimeout > 0;
+    }
+
+    /**
+     * @return the COM response timeout in seconds, 0 if disabled
+     */
+    public int getComTimeout() {
+        return comTimeout;
     }
 
     /**
@@ -70,7 +72,7 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
      * @throws ETComException the underlying {@link JacobException}
      */
     protected Variant performRequest(final String method) throws ETComException {
-        return performRequest(method, ETComProperty.getInstance().getTimeout(), NO_PARAMS);
+        return performRequest(method, comTimeout, NO_PARAMS);
     }
 
     /**
@@ -95,12 +97,13 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
      * @throws ETComException the underlying {@link JacobException}
      */
     protected Variant performRequest(final String method, final Object... params) throws ETComException {
-        return performRequest(method, ETComProperty.getInstance().getTimeout(), params);
+        return performRequest(method, comTimeout, params);
     }
 
     /**
      * Performs a request on this {@link ETComDispatch}, invoking the given method with parameters.
      * Respects the given timeout and aborts the dispatch call if timeout exceeded.
+     * Timed requests are performed by the shared {@link ETComRequestExecutor}.
      *
      * @param method  the parameterized COM API method name
      * @param timeout the timeout in seconds
@@ -114,18 +117,7 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
             return performDirectRequest(method, params);
         }
 
-        final ExecutorService executor = Executors.newSingleThreadExecutor();
-        final Future<Variant> future = executor.submit(new DispatchCallable(method, params));
-        try {
-            return future.get((long) timeout, TimeUnit.SECONDS);
-        } catch (final TimeoutException e) {
-            future.cancel(true);
-            throw new ETComTimeoutException(String.format("Request timeout of %d seconds exceeded!", timeout), e);
-        } catch (ExecutionException | InterruptedException e) {
-            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
-        } finally {
-            executor.shutdownNow();
-        }
+        return ETComRequestExecutor.getInstance().execute(new DispatchCallable(method, params), timeout);
     }
 
     /**
@@ -199,7 +191,7 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
         } catch (final ETComException e) {
             // noop
         } finally {
-            if (!useTimeout) {
+            if (!useTimeout()) {
                 ComThread.Release();
             }
         }
@@ -208,7 +200,7 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
     @SuppressWarnings("checkstyle:superfinalize")
     @Override
     protected void finalize() {
-        if (useTimeout) {
+        if (useTimeout()) {
             return;
             // noop to prevent JVM crash
         }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import java.io.Serializable;
+
+/**
+ * Serializable policy defining how often the state of a running COM execution is polled.
+ * <p>
+ * Polling starts with the initial interval and doubles the interval after each poll until the maximum interval is
+ * reached. Short executions are detected quickly while long running executions are polled at the capped rate.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETComPollingPolicy implements Serializable {
+
+    /**
+     * Default initial polling interval in milliseconds.
+     */
+    public static final int DEFAULT_INITIAL_INTERVAL = 50;
+    /**
+     * Default maximum polling interval in milliseconds.
+     */
+    public static final int DEFAULT_MAX_INTERVAL = 1000;
+    /**
+     * Interval in milliseconds to log a progress tick.
+     */
+    public static final long TICK_INTERVAL = 60000L;
+
+    private static final long serialVersionUID = 1L;
+
+    private final int initialInterval;
+    private final int maxInterval;
+
+    /**
+     * Instantiates a new {@link ETComPollingPolicy}.
+     * Non-positive intervals fall back to their defaults, the maximum interval is never less than the initial one.
+     *
+     * @param initialInterval the initial polling interval in milliseconds
+     * @param maxInterval     the maximum polling interval in milliseconds
+     */
+    public ETComPollingPolicy(final int initialInterval, final int maxInterval) {
+        this.initialInterval = initialInterval > 0 ? initialInterval : DEFAULT_INITIAL_INTERVAL;
+        this.maxInterval = Math.max(this.initialInterval, maxInterval > 0 ? maxInterval : DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * @return the default polling policy
+     */
+    public static ETComPollingPolicy getDefault() {
+        return new ETComPollingPolicy(DEFAULT_INITIAL_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * @return the initial polling interval in milliseconds
+     */
+    public int getInitialInterval() {
+        return initialInterval;
+    }
+
+    /**
+     * @return the maximum polling interval in milliseconds
+     */
+    public int getMaxInterval() {
+        return maxInterval;
+    }
+
+    /**
+     * Creates a new {@link Poller} for waiting on a single execution.
+     *
+     * @return the poller
+     */
+    public Poller newPoller() {
+        return new Poller(initialInterval, maxInterval);
+    }
+
+    /**
+     * Stateful helper waiting between consecutive polls of a single execution and measuring
+     * the time until its completion is detected.
+     */
+    public static final class Poller {
+
+        private final long startMillis;
+        private final long maxInterval;
+        private long interval;
+        private long lastInterval;
+        private long nextTickMillis;
+        private int pollCount;
+
+        /**
+         * Instantiates a new {@link Poller}.
+         *
+         * @param initialInterval the initial polling interval in milliseconds
+         * @param maxInterval     the maximum polling interval in milliseconds
+         */
+        Poller(final long initialInterval, final long maxInterval) {
+            this.maxInterval = maxInterval;
+            interval = initialInterval;
+            startMillis = System.currentTimeMillis();
+            nextTickMillis = startMillis;
+        }
+
+        /**
+         * Waits for the current polling interval and increases the interval for the next poll.
+         *
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        public void await() throws InterruptedException {
+            Thread.sleep(interval);
+            lastInterval = interval;
+            interval = Math.min(interval * 2, maxInterval);
+            pollCount++;
+        }
+
+        /**
+         * Checks whether a progress tick is due, i.e. for the first time and then once per
+         * {@link #TICK_INTERVAL}.
+         *
+         * @return {@code true} if a tick should be logged, {@code false} otherwise
+         */
+        public boolean isTickDue() {
+            final long currentMillis = System.currentTimeMillis();
+            if (currentMillis >= nextTickMillis) {
+                nextTickMillis = currentMillis + TICK_INTERVAL;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return the elapsed time in milliseconds since this poller was created
+         */
+        public long getElapsedMillis() {
+            return System.currentTimeMillis() - startMillis;
+        }
+
+        /**
+         * Gets the maximum delay between the actual completion and its detection,
+         * which is given by the last waited polling interval.
+         *
+         * @return the time-to-detection in milliseconds
+         */
+        public long getDetectionMillis() {
+            return lastInterval;
+        }
+
+        /**
+         * @return the number of waited polling intervals
+         */
+        public int getPollCount() {
+            return pollCount;
+        }
+    }
+}
@@ -11,6 +11,10 @@ import java.io.Serializable;
 
 /**
  * Serializable singleton class holding the current COM properties.
+ * <p>
+ * The default COM properties are still defined here, whereas the singleton state is deprecated because it is shared
+ * by all concurrently running ECU-TEST instances of a JVM. Use the {@link ETComContext} of the respective instance
+ * instead.
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
@@ -31,6 +35,7 @@ public final class ETComProperty implements Serializable {
     private static final long serialVersionUID = 1L;
     private String progId = DEFAULT_PROG_ID;
     private int timeout = DEFAULT_TIMEOUT;
+    private ETComPollingPolicy pollingPolicy = ETComPollingPolicy.getDefault();
 
     /**
      * Private constructor.
@@ -42,7 +47,9 @@ public final class ETComProperty implements Serializable {
      * Returns the current instance of {@link ETComProperty}.
      *
      * @return the singleton instance
+     * @deprecated use the {@link ETComContext} of the respective ECU-TEST instance instead
      */
+    @Deprecated
     public static ETComProperty getInstance() {
         return SingletonHolder.INSTANCE;
     }
@@ -51,7 +58,9 @@ public final class ETComProperty implements Serializable {
      * Gets the current COM specific programmatic identifier set by latest ECU-TEST startup.
      *
      * @return the programmatic identifier
+     * @deprecated use {@link ETComContext} instead
      */
+    @Deprecated
     public String getProgId() {
         return progId;
     }
@@ -60,7 +69,9 @@ public final class ETComProperty implements Serializable {
      * Sets the COM specific programmatic identifier.
      *
      * @param progId the progId to set
+     * @deprecated use {@link ETComContext} instead
      */
+    @Deprecated
     public void setProgId(final String progId) {
         this.progId = StringUtils.defaultIfBlank(progId, DEFAULT_PROG_ID);
     }
@@ -69,7 +80,9 @@ public final class ETComProperty implements Serializable {
      * Gets the current COM response timeout set by latest ECU-TEST startup.
      *
      * @return the timeout
+     * @deprecated use {@link ETComContext} instead
      */
+    @Deprecated
     public int getTimeout() {
         return timeout;
     }
@@ -78,11 +91,35 @@ public final class ETComProperty implements Serializable {
      * Sets the COM response timeout.
      *
      * @param timeout the timeout to set
+     * @deprecated use {@link ETComContext} instead
      */
+    @Deprecated
     public void setTimeout(final int timeout) {
         this.timeout = timeout;
     }
 
+    /**
+     * Gets the current polling policy set by latest ECU-TEST startup.
+     *
+     * @return the polling policy
+     * @deprecated use {@link ETComContext} instead
+     */
+    @Deprecated
+    public ETComPollingPolicy getPollingPolicy() {
+        return pollingPolicy;
+    }
+
+    /**
+     * Sets the polling policy.
+     *
+     * @param pollingPolicy the polling policy to set, {@code null} to use the default policy
+     * @deprecated use {@link ETComContext} instead
+     */
+    @Deprecated
+    public void setPollingPolicy(final ETComPollingPolicy pollingPolicy) {
+        this.pollingPolicy = pollingPolicy == null ? ETComPollingPolicy.getDefault() : pollingPolicy;
+    }
+
     /**
      * Ensures not to impact the state of object in which it was serialized.
      *
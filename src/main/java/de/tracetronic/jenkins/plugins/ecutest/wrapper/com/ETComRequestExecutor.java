@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared and bounded executor performing timed COM requests on behalf of {@link ETComDispatch}.
+ * <p>
+ * There is exactly one instance per JVM, i.e. per agent, so that timed requests reuse pooled threads instead of
+ * creating a new thread for each single request. Idle threads are released after {@link #KEEP_ALIVE_SECONDS}.
+ * <p>
+ * The timeout of a request starts as soon as a request thread performs it, waiting in the queue is not taken into
+ * account. Native COM calls cannot be interrupted, so a request thread still blocked after its request has been
+ * canceled is retired, i.e. the pool is enlarged by one thread until the blocked call returns. At most as many
+ * threads as the pool size are retired at the same time.
+ * <p>
+ * The pool size and the queue capacity can be adjusted by the system properties {@value #POOL_SIZE_PROPERTY} and
+ * {@value #QUEUE_CAPACITY_PROPERTY}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETComRequestExecutor {
+
+    /**
+     * System property defining the maximum number of concurrent COM request threads.
+     */
+    public static final String POOL_SIZE_PROPERTY = "ecutest.com.requestPoolSize";
+    /**
+     * System property defining the maximum number of queued COM requests.
+     */
+    public static final String QUEUE_CAPACITY_PROPERTY = "ecutest.com.requestQueueCapacity";
+    /**
+     * Default maximum number of concurrent COM request threads.
+     */
+    public static final int DEFAULT_POOL_SIZE = 8;
+    /**
+     * Default maximum number of queued COM requests.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    /**
+     * Time in seconds after which idle request threads are released.
+     */
+    public static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong retiredCount = new AtomicLong();
+    private int blockedCount;
+
+    /**
+     * Instantiates a new {@link ETComRequestExecutor}.
+     *
+     * @param poolSize      the maximum number of concurrent request threads
+     * @param queueCapacity the maximum number of queued requests
+     */
+    ETComRequestExecutor(final int poolSize, final int queueCapacity) {
+        executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(queueCapacity), new RequestThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Returns the current instance of {@link ETComRequestExecutor}.
+     *
+     * @return the singleton instance
+     */
+    public static ETComRequestExecutor getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    /**
+     * Performs the given request and waits at most the given timeout for its result, starting when a request thread
+     * begins to perform it. The request will be canceled if the timeout exceeded.
+     *
+     * @param request the request to perform
+     * @param timeout the timeout in seconds
+     * @param <T>     the result type
+     * @return the result of the request
+     * @throws ETComTimeoutException if the timeout exceeded
+     * @throws ETComException        in case of a COM exception or if the request queue is full
+     */
+    public <T> T execute(final Callable<T> request, final int timeout) throws ETComException {
+        final RequestTask<T> task = new RequestTask<>(request);
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ETComException(String.format("Request queue limit of %d exceeded!",
+                queueCapacity), e);
+        }
+        requestCount.incrementAndGet();
+        try {
+            task.started.await();
+            final long elapsedNanos = System.nanoTime() - task.startNanos;
+            return task.get(TimeUnit.SECONDS.toNanos(timeout) - elapsedNanos, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            timeoutCount.incrementAndGet();
+            task.cancel(true);
+            retire(task);
+            throw new ETComTimeoutException(String.format("Request timeout of %d seconds exceeded!", timeout), e);
+        } catch (final ExecutionException e) {
+            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
+        } catch (final InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Retires the request thread of the given canceled task if it is still blocked, enlarging the pool by one thread
+     * as long as the maximum number of retired threads is not reached.
+     *
+     * @param task the canceled task
+     */
+    private void retire(final RequestTask<?> task) {
+        synchronized (executor) {
+            if (task.finished || blockedCount >= poolSize) {
+                return;
+            }
+            task.retired = true;
+            blockedCount++;
+            executor.setMaximumPoolSize(poolSize + blockedCount);
+            executor.setCorePoolSize(poolSize + blockedCount);
+        }
+        retiredCount.incrementAndGet();
+    }
+
+    /**
+     * Marks the given task as finished and shrinks the pool again if its request thread has been retired.
+     *
+     * @param task the finished task
+     */
+    private void finish(final RequestTask<?> task) {
+        synchronized (executor) {
+            task.finished = true;
+            if (task.retired) {
+                blockedCount--;
+                executor.setCorePoolSize(poolSize + blockedCount);
+                executor.setMaximumPoolSize(poolSize + blockedCount);
+            }
+        }
+    }
+
+    /**
+     * @return the number of requests currently waiting for a free request thread
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the number of requests currently being performed
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return the current number of request threads
+     */
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    /**
+     * @return the total number of submitted requests
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the total number of requests that exceeded their timeout
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * @return the total number of requests rejected due to a full queue
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @return the total number of request threads retired because they were still blocked after a timeout
+     */
+    public long getRetiredCount() {
+        return retiredCount.get();
+    }
+
+    /**
+     * @return the number of retired request threads which are still blocked
+     */
+    public int getBlockedCount() {
+        synchronized (executor) {
+            return blockedCount;
+        }
+    }
+
+    /**
+     * Task recording the start of the request and releasing its retired thread when finished.
+     *
+     * @param <T> the result type
+     */
+    private final class RequestTask<T> extends FutureTask<T> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile long startNanos;
+        private boolean retired;
+        private boolean finished;
+
+        /**
+         * Instantiates a new {@link RequestTask}.
+         *
+         * @param request the request to perform
+         */
+        RequestTask(final Callable<T> request) {
+            super(request);
+        }
+
+        @Override
+        public void run() {
+            startNanos = System.nanoTime();
+            started.countDown();
+            try {
+                super.run();
+            } finally {
+                finish(this);
+            }
+        }
+    }
+
+    /**
+     * Creates named daemon threads for performing COM requests.
+     */
+    private static final class RequestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "ETComRequest-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Initializes and holds the singleton for this class.
+     */
+    private static final class SingletonHolder {
+
+        private static final ETComRequestExecutor INSTANCE = new ETComRequestExecutor(
+            Math.max(1, Integer.getInteger(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE)),
+            Math.max(1, Integer.getInteger(QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY)));
+
+        /**
+         * Private constructor.
+         */
+        private SingletonHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+    }
+}
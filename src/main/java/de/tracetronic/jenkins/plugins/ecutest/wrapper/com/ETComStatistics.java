@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import java.io.Serializable;
+
+/**
+ * Serializable and immutable snapshot of the COM connection and request statistics of a single JVM, i.e. of a single
+ * agent.
+ * <p>
+ * The statistics are captured on the node performing the COM requests and transferred to the controller
+ * for display.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public final class ETComStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long requestCount;
+    private final long timeoutCount;
+    private final long rejectedCount;
+    private final long retiredCount;
+    private final int blockedCount;
+    private final long connectCount;
+    private final long averageConnectLatency;
+
+    /**
+     * Instantiates a new {@link ETComStatistics} including the connection statistics of all {@link ETComClient}s.
+     *
+     * @param executor the request executor to capture the statistics of
+     */
+    ETComStatistics(final ETComRequestExecutor executor) {
+        requestCount = executor.getRequestCount();
+        timeoutCount = executor.getTimeoutCount();
+        rejectedCount = executor.getRejectedCount();
+        retiredCount = executor.getRetiredCount();
+        blockedCount = executor.getBlockedCount();
+        connectCount = ETComClient.getConnectCount();
+        averageConnectLatency = ETComClient.getAverageConnectLatency();
+    }
+
+    /**
+     * Captures the statistics of the current JVM.
+     *
+     * @return the captured statistics
+     */
+    public static ETComStatistics capture() {
+        return new ETComStatistics(ETComRequestExecutor.getInstance());
+    }
+
+    /**
+     * @return the total number of submitted requests
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the total number of requests that exceeded their timeout
+     */
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * @return the total number of requests rejected due to a full queue
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return the total number of request threads retired because they were still blocked after a timeout
+     */
+    public long getRetiredCount() {
+        return retiredCount;
+    }
+
+    /**
+     * @return the number of retired request threads which are still blocked
+     */
+    public int getBlockedCount() {
+        return blockedCount;
+    }
+
+    /**
+     * @return the total number of established COM connections
+     */
+    public long getConnectCount() {
+        return connectCount;
+    }
+
+    /**
+     * @return the average time in milliseconds to establish a COM connection
+     */
+    public long getAverageConnectLatency() {
+        return averageConnectLatency;
+    }
+}
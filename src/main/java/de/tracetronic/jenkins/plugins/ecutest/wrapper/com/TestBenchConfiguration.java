@@ -23,10 +23,10 @@ public class TestBenchConfiguration extends ETComDispatch implements ComTestBenc
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public TestBenchConfiguration(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public TestBenchConfiguration(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @Override
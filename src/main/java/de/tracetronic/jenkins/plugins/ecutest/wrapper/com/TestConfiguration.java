@@ -26,10 +26,10 @@ public class TestConfiguration extends ETComDispatch implements ComTestConfigura
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public TestConfiguration(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public TestConfiguration(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
@@ -67,7 +67,7 @@ public class TestConfiguration extends ETComDispatch implements ComTestConfigura
 
     @Override
     public ComConstants getGlobalConstants() throws ETComException {
-        return new Constants(performRequest("GetGlobalConstants").toDispatch(), useTimeout());
+        return new Constants(performRequest("GetGlobalConstants").toDispatch(), getComTimeout());
     }
 
     @Override
@@ -30,15 +30,15 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public TestEnvironment(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public TestEnvironment(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @Override
     public ComTestExecutionInfo getTestExecutionInfo() throws ETComException {
-        return new TestExecutionInfo(performRequest("GetTestExecutionInfo").toDispatch(), useTimeout());
+        return new TestExecutionInfo(performRequest("GetTestExecutionInfo").toDispatch(), getComTimeout());
     }
 
     /**
@@ -74,7 +74,7 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
         throws ETComException {
         final Object[][] params = getArrayFromMap(parameters, true);
         return new TestExecutionInfo(performRequest("ExecutePackage", new Variant(path),
-            new Variant(runTraceAnalysis), new Variant(runTest), params).toDispatch(), useTimeout());
+            new Variant(runTraceAnalysis), new Variant(runTest), params).toDispatch(), getComTimeout());
     }
 
     /**
@@ -92,7 +92,7 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
     public ComTestExecutionInfo executeProject(final String path, final boolean closeProgressDialog,
                                                final int jobExecutionMode) throws ETComException {
         return new TestExecutionInfo(performRequest("ExecuteProject", new Variant(path),
-            new Variant(closeProgressDialog), new Variant(jobExecutionMode)).toDispatch(), useTimeout());
+            new Variant(closeProgressDialog), new Variant(jobExecutionMode)).toDispatch(), getComTimeout());
     }
 
     /**
@@ -22,10 +22,10 @@ public class TestExecutionInfo extends ETComDispatch implements ComTestExecution
      * exist in every wrapper class whose instances may be returned from method calls wrapped in VT_DISPATCH Variants.
      *
      * @param dispatch   the dispatch
-     * @param useTimeout specifies whether to apply timeout
+     * @param comTimeout the COM response timeout in seconds, 0 to disable
      */
-    public TestExecutionInfo(final Dispatch dispatch, final boolean useTimeout) {
-        super(dispatch, useTimeout);
+    public TestExecutionInfo(final Dispatch dispatch, final int comTimeout) {
+        super(dispatch, comTimeout);
     }
 
     @Override
@@ -14,7 +14,7 @@ import java.util.List;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComAnalysisEnvironment {
+public interface ComAnalysisEnvironment extends ComObject {
 
     /**
      * Gets the current analysis execution info.
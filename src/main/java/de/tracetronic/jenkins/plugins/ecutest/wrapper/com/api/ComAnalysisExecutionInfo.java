@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComAnalysisExecutionInfo {
+public interface ComAnalysisExecutionInfo extends ComObject {
 
     /**
      * Aborts the current analysis execution.
@@ -14,7 +14,7 @@ import java.util.List;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComCache {
+public interface ComCache extends ComObject {
 
     /**
      * Insert a database to the cache.
@@ -5,6 +5,7 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api;
 
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 
 /**
@@ -12,7 +13,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComCaches {
+public interface ComCaches extends ComObject {
 
     /**
      * Provides access to A2L cache files.
@@ -54,4 +55,28 @@ public interface ComCaches {
      */
     ComCache getServiceCache() throws ETComException;
 
+    /**
+     * Gets the cache object by type.
+     *
+     * @param type the cache type
+     * @return the cache by type
+     * @throws ETComException in case of a COM exception or unsuppored cache type
+     */
+    default ComCache getCacheByType(final CacheType type) throws ETComException {
+        switch (type) {
+            case A2L:
+                return getA2lCache();
+            case ELF:
+                return getElfCache();
+            case BUS:
+                return getBusCache();
+            case MODEL:
+                return getModelCache();
+            case SERVICE:
+                return getServiceCache();
+            default:
+                throw new ETComException("Unsupported cache type:" + type.name());
+        }
+    }
+
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+
+/**
+ * Represents a connected client to the ECU-TEST specific COMApplication API provided by an
+ * {@link de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComBackend}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public interface ComClient extends ComApplication, ComObject {
+
+    /**
+     * Same as {@link #openProject(String, boolean, String)} but with default parameters.
+     *
+     * @param path the full path name of the project to open
+     * @return the {@link ComProject} dispatch, if the project is successfully opened, {@code null} otherwise
+     * @throws ETComException in case of a COM exception
+     * @see #openProject(String, boolean, String)
+     */
+    default ComProject openProject(final String path) throws ETComException {
+        return openProject(path, false, "");
+    }
+
+}
@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComConstant {
+public interface ComConstant extends ComObject {
 
     /**
      * Queries the constant name.
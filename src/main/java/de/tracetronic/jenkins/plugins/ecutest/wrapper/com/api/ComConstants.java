@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComConstants {
+public interface ComConstants extends ComObject {
 
     /**
      * Queries the number of constants.
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api;
+
+/**
+ * Represents an ECU-TEST specific COM object whose resources are released when closed.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public interface ComObject extends AutoCloseable {
+
+    /**
+     * Releases this COM object quietly.
+     */
+    @Override
+    void close();
+
+}
@@ -15,7 +15,7 @@ import java.util.List;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComPackage {
+public interface ComPackage extends ComObject {
 
     /**
      * Queries the package name.
@@ -15,7 +15,7 @@ import java.util.List;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComProject {
+public interface ComProject extends ComObject {
 
     /**
      * Queries the project name.
@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComTestBenchConfiguration {
+public interface ComTestBenchConfiguration extends ComObject {
 
     /**
      * Returns the full path of this test bench configuration.
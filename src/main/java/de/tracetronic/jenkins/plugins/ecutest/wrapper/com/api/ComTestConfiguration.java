@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComTestConfiguration {
+public interface ComTestConfiguration extends ComObject {
 
     /**
      * Assigns a value to a global constant. If the global constant does not exist it is created. This method requires a
@@ -14,7 +14,7 @@ import java.util.Map;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComTestEnvironment {
+public interface ComTestEnvironment extends ComObject {
 
     /**
      * Gets the current test execution info.
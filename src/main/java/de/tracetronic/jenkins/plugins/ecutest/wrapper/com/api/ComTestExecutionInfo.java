@@ -13,7 +13,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComTestExecutionInfo {
+public interface ComTestExecutionInfo extends ComObject {
 
     /**
      * Aborts the current test execution.
@@ -12,7 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
-public interface ComTestManagement {
+public interface ComTestManagement extends ComObject {
 
     /**
      * Performs a login to the preconfigured test management service.
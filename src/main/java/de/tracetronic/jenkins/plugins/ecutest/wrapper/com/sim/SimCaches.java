@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCache;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCaches;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulated cache module holding the cached files by cache type.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimCaches implements ComCaches {
+
+    private final SimComBackend backend;
+
+    /**
+     * Instantiates a new {@link SimCaches}.
+     *
+     * @param backend the simulated backend
+     */
+    SimCaches(final SimComBackend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public ComCache getA2lCache() throws ETComException {
+        return getCache(CacheType.A2L);
+    }
+
+    @Override
+    public ComCache getElfCache() throws ETComException {
+        return getCache(CacheType.ELF);
+    }
+
+    @Override
+    public ComCache getBusCache() throws ETComException {
+        return getCache(CacheType.BUS);
+    }
+
+    @Override
+    public ComCache getModelCache() throws ETComException {
+        return getCache(CacheType.MODEL);
+    }
+
+    @Override
+    public ComCache getServiceCache() throws ETComException {
+        return getCache(CacheType.SERVICE);
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    private ComCache getCache(final CacheType type) throws ETComException {
+        backend.simulateLatency();
+        return new SimCache(backend, backend.getCacheFiles(type));
+    }
+
+    /**
+     * Simulated cache of a single cache type.
+     */
+    private static final class SimCache implements ComCache {
+
+        private final SimComBackend backend;
+        private final List<String> files;
+
+        SimCache(final SimComBackend backend, final List<String> files) {
+            this.backend = backend;
+            this.files = files;
+        }
+
+        @Override
+        public void insert(final String filePath, final String dbChannel) throws ETComException {
+            backend.simulateLatency();
+            files.add(filePath);
+        }
+
+        @Override
+        public void clear(final boolean force) throws ETComException {
+            backend.simulateLatency();
+            files.clear();
+        }
+
+        @Override
+        public List<String> getFiles() throws ETComException {
+            backend.simulateLatency();
+            synchronized (files) {
+                return new ArrayList<>(files);
+            }
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComBackend;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process {@link ETComBackend} simulating a running ECU-TEST instance without any COM connection.
+ * <p>
+ * Each request is delayed by the configured request latency, each execution is reported as running for the
+ * configured execution time and finishes with the configured result. Finished executions write a synthetic test
+ * report database and the ECU-TEST log files into a new report directory below the output directory.
+ * <p>
+ * The settings are read from the system properties {@value #REQUEST_LATENCY_PROPERTY},
+ * {@value #EXECUTION_TIME_PROPERTY}, {@value #RESULT_PROPERTY} and {@value #OUTPUT_DIR_PROPERTY}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimComBackend implements ETComBackend {
+
+    /**
+     * System property defining the latency of each request in milliseconds.
+     */
+    public static final String REQUEST_LATENCY_PROPERTY = "ecutest.com.sim.requestLatency";
+    /**
+     * System property defining the duration of each execution in milliseconds.
+     */
+    public static final String EXECUTION_TIME_PROPERTY = "ecutest.com.sim.executionTime";
+    /**
+     * System property defining the result of each execution.
+     */
+    public static final String RESULT_PROPERTY = "ecutest.com.sim.result";
+    /**
+     * System property defining the directory to write the synthetic outputs to.
+     */
+    public static final String OUTPUT_DIR_PROPERTY = "ecutest.com.sim.outputDir";
+    /**
+     * Default latency of each request in milliseconds.
+     */
+    public static final long DEFAULT_REQUEST_LATENCY = 0L;
+    /**
+     * Default duration of each execution in milliseconds.
+     */
+    public static final long DEFAULT_EXECUTION_TIME = 1000L;
+    /**
+     * Default result of each execution.
+     */
+    public static final String DEFAULT_RESULT = "SUCCESS";
+    /**
+     * Version reported by the simulated application.
+     */
+    public static final String VERSION = "8.0.0";
+
+    private final long requestLatency;
+    private final long executionTime;
+    private final String result;
+    private final File outputDir;
+
+    private final AtomicInteger reportCount = new AtomicInteger();
+    private final AtomicReference<SimExecutionInfo> testExecution = new AtomicReference<>();
+    private final AtomicReference<SimExecutionInfo> analysisExecution = new AtomicReference<>();
+    private final Map<String, String> globalConstants = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<CacheType, List<String>> cacheFiles = Collections.synchronizedMap(
+        new EnumMap<>(CacheType.class));
+    private volatile String testConfiguration = "";
+    private volatile String testBenchConfiguration = "";
+
+    /**
+     * Instantiates a new {@link SimComBackend} configured by the system properties.
+     */
+    public SimComBackend() {
+        this(Long.getLong(REQUEST_LATENCY_PROPERTY, DEFAULT_REQUEST_LATENCY),
+            Long.getLong(EXECUTION_TIME_PROPERTY, DEFAULT_EXECUTION_TIME),
+            System.getProperty(RESULT_PROPERTY, DEFAULT_RESULT),
+            new File(System.getProperty(OUTPUT_DIR_PROPERTY,
+                new File(System.getProperty("java.io.tmpdir"), "ecutest-sim").getPath())));
+    }
+
+    /**
+     * Instantiates a new {@link SimComBackend}.
+     *
+     * @param requestLatency the latency of each request in milliseconds
+     * @param executionTime  the duration of each execution in milliseconds
+     * @param result         the result of each execution
+     * @param outputDir      the directory to write the synthetic outputs to
+     */
+    public SimComBackend(final long requestLatency, final long executionTime, final String result,
+                         final File outputDir) {
+        this.requestLatency = Math.max(0L, requestLatency);
+        this.executionTime = Math.max(0L, executionTime);
+        this.result = result;
+        this.outputDir = outputDir;
+    }
+
+    @Override
+    public ComClient createClient(final ETComContext comContext, final int timeout) throws ETComException {
+        simulateLatency();
+        return new SimComClient(this);
+    }
+
+    @Override
+    public boolean isNative() {
+        return false;
+    }
+
+    /**
+     * @return the latency of each request in milliseconds
+     */
+    public long getRequestLatency() {
+        return requestLatency;
+    }
+
+    /**
+     * @return the duration of each execution in milliseconds
+     */
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * @return the result of each execution
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * @return the directory to write the synthetic outputs to
+     */
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    /**
+     * @return the number of started executions
+     */
+    public int getExecutionCount() {
+        return reportCount.get();
+    }
+
+    /**
+     * Delays the current request by the configured request latency.
+     *
+     * @throws ETComException if interrupted while waiting
+     */
+    void simulateLatency() throws ETComException {
+        if (requestLatency > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(requestLatency);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ETComException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Starts a new simulated test execution.
+     *
+     * @param path the path of the executed package or project
+     * @return the execution info
+     */
+    SimExecutionInfo startTestExecution(final String path) {
+        final SimExecutionInfo execInfo = newExecution(path);
+        testExecution.set(execInfo);
+        return execInfo;
+    }
+
+    /**
+     * Starts a new simulated analysis execution.
+     *
+     * @param path the path of the executed analysis job
+     * @return the execution info
+     */
+    SimExecutionInfo startAnalysisExecution(final String path) {
+        final SimExecutionInfo execInfo = newExecution(path);
+        analysisExecution.set(execInfo);
+        return execInfo;
+    }
+
+    private SimExecutionInfo newExecution(final String path) {
+        final String name = new File(path).getName().replaceFirst("\\.[^.]*$", "");
+        final File reportDir = new File(outputDir, String.format("%s_%d", name, reportCount.incrementAndGet()));
+        return new SimExecutionInfo(this, name, reportDir);
+    }
+
+    /**
+     * @return the last started test execution or {@code null} if none
+     */
+    SimExecutionInfo getTestExecution() {
+        return testExecution.get();
+    }
+
+    /**
+     * @return the last started analysis execution or {@code null} if none
+     */
+    SimExecutionInfo getAnalysisExecution() {
+        return analysisExecution.get();
+    }
+
+    /**
+     * @return the mutable global constants of the current test configuration
+     */
+    Map<String, String> getGlobalConstants() {
+        return globalConstants;
+    }
+
+    /**
+     * Gets the mutable list of cached files by cache type.
+     *
+     * @param type the cache type
+     * @return the cached files
+     */
+    List<String> getCacheFiles(final CacheType type) {
+        return cacheFiles.computeIfAbsent(type, key -> Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    String getTestConfiguration() {
+        return testConfiguration;
+    }
+
+    void setTestConfiguration(final String testConfiguration) {
+        this.testConfiguration = testConfiguration;
+    }
+
+    String getTestBenchConfiguration() {
+        return testBenchConfiguration;
+    }
+
+    void setTestBenchConfiguration(final String testBenchConfiguration) {
+        this.testBenchConfiguration = testBenchConfiguration;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCaches;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComPackage;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComProject;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
+
+import java.io.File;
+
+/**
+ * Simulated client performing requests on the state of the {@link SimComBackend}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimComClient implements ComClient {
+
+    private final SimComBackend backend;
+
+    /**
+     * Instantiates a new {@link SimComClient}.
+     *
+     * @param backend the simulated backend
+     */
+    SimComClient(final SimComBackend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public ComTestEnvironment start() throws ETComException {
+        return getTestEnvironment();
+    }
+
+    @Override
+    public ComTestEnvironment stop() throws ETComException {
+        return getTestEnvironment();
+    }
+
+    @Override
+    public ComTestEnvironment getTestEnvironment() throws ETComException {
+        backend.simulateLatency();
+        return new SimEnvironment(backend);
+    }
+
+    @Override
+    public ComAnalysisEnvironment getAnalysisEnvironment() throws ETComException {
+        backend.simulateLatency();
+        return new SimEnvironment(backend);
+    }
+
+    @Override
+    public ComTestManagement getTestManagement() throws ETComException {
+        backend.simulateLatency();
+        return new SimTestManagement(backend);
+    }
+
+    @Override
+    public ComCaches getCaches() throws ETComException {
+        backend.simulateLatency();
+        return new SimCaches(backend);
+    }
+
+    @Override
+    public boolean isApplicationRunning() throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public String getVersion() throws ETComException {
+        backend.simulateLatency();
+        return SimComBackend.VERSION;
+    }
+
+    @Override
+    public String getSetting(final String settingName) throws ETComException {
+        backend.simulateLatency();
+        return new File(backend.getOutputDir(), settingName).getAbsolutePath();
+    }
+
+    @Override
+    public boolean quit() throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public boolean exit() throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public ComPackage openPackage(final String path) throws ETComException {
+        backend.simulateLatency();
+        return new SimTestObject(backend, path);
+    }
+
+    @Override
+    public boolean closePackage(final String path) throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public ComProject openProject(final String path, final boolean execInCurrentPkgDir,
+                                  final String filterExpression) throws ETComException {
+        backend.simulateLatency();
+        return new SimTestObject(backend, path);
+    }
+
+    @Override
+    public boolean closeProject(final String path) throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public boolean importProject(final String path, final String importPath, final String importConfigPath,
+                                 final boolean replaceFiles) throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public boolean openTestbenchConfiguration(final String path) throws ETComException {
+        backend.simulateLatency();
+        backend.setTestBenchConfiguration(path);
+        return true;
+    }
+
+    @Override
+    public boolean openTestConfiguration(final String path) throws ETComException {
+        backend.simulateLatency();
+        backend.setTestConfiguration(path);
+        return true;
+    }
+
+    @Override
+    public ComTestConfiguration getCurrentTestConfiguration() throws ETComException {
+        backend.simulateLatency();
+        return new SimConfiguration(backend, backend.getTestConfiguration());
+    }
+
+    @Override
+    public ComTestBenchConfiguration getCurrentTestBenchConfiguration() throws ETComException {
+        backend.simulateLatency();
+        return new SimConfiguration(backend, backend.getTestBenchConfiguration());
+    }
+
+    @Override
+    public boolean waitForIdle(final int timeout) throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public boolean updateUserLibraries() throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+}
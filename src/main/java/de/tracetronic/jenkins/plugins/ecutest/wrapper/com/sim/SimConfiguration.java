@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComConstant;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComConstants;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated test or test bench configuration sharing the global constants of the {@link SimComBackend}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimConfiguration implements ComTestConfiguration, ComTestBenchConfiguration {
+
+    private final SimComBackend backend;
+    private final String fileName;
+
+    /**
+     * Instantiates a new {@link SimConfiguration}.
+     *
+     * @param backend  the simulated backend
+     * @param fileName the file name of the loaded configuration
+     */
+    SimConfiguration(final SimComBackend backend, final String fileName) {
+        this.backend = backend;
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void setGlobalConstant(final String name, final String value) throws ETComException {
+        backend.simulateLatency();
+        backend.getGlobalConstants().put(name, value);
+    }
+
+    @Override
+    public ComConstants getGlobalConstants() throws ETComException {
+        backend.simulateLatency();
+        final Map<String, String> constants = backend.getGlobalConstants();
+        synchronized (constants) {
+            return new SimConstants(backend, new ArrayList<>(constants.keySet()), constants);
+        }
+    }
+
+    @Override
+    public String getFileName() throws ETComException {
+        backend.simulateLatency();
+        return fileName;
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    /**
+     * Simulated snapshot of the global constants.
+     */
+    private static final class SimConstants implements ComConstants {
+
+        private final SimComBackend backend;
+        private final List<String> names;
+        private final Map<String, String> constants;
+
+        SimConstants(final SimComBackend backend, final List<String> names, final Map<String, String> constants) {
+            this.backend = backend;
+            this.names = names;
+            this.constants = constants;
+        }
+
+        @Override
+        public int getCount() throws ETComException {
+            backend.simulateLatency();
+            return names.size();
+        }
+
+        @Override
+        public ComConstant item(final int id) throws ETComException {
+            if (id < 0 || id >= names.size()) {
+                throw new ETComException("Invalid constant index: " + id);
+            }
+            return item(names.get(id));
+        }
+
+        @Override
+        public ComConstant item(final String name) throws ETComException {
+            backend.simulateLatency();
+            return new SimConstant(name, constants.get(name));
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
+
+    /**
+     * Simulated global constant.
+     */
+    private static final class SimConstant implements ComConstant {
+
+        private final String name;
+        private final String value;
+
+        SimConstant(final String name, final String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return "";
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated test and analysis environment starting {@link SimExecutionInfo} executions.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimEnvironment implements ComTestEnvironment, ComAnalysisEnvironment {
+
+    private final SimComBackend backend;
+
+    /**
+     * Instantiates a new {@link SimEnvironment}.
+     *
+     * @param backend the simulated backend
+     */
+    SimEnvironment(final SimComBackend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public ComTestExecutionInfo getTestExecutionInfo() throws ETComException {
+        backend.simulateLatency();
+        return getExecution(backend.getTestExecution());
+    }
+
+    @Override
+    public ComTestExecutionInfo executePackage(final String path, final boolean runTraceAnalysis,
+                                               final boolean runTest, final Map<String, String> parameters)
+        throws ETComException {
+        backend.simulateLatency();
+        return backend.startTestExecution(path);
+    }
+
+    @Override
+    public ComTestExecutionInfo executeProject(final String path, final boolean closeProgressDialog,
+                                               final int jobExecutionMode) throws ETComException {
+        backend.simulateLatency();
+        return backend.startTestExecution(path);
+    }
+
+    @Override
+    public boolean generateTestReportDocumentFromDB(final String dbFile, final String reportDir,
+                                                    final String reportFormat, final boolean waitUntilFinished,
+                                                    final Map<String, String> parameters) throws ETComException {
+        backend.simulateLatency();
+        try {
+            Files.createDirectories(new File(reportDir).toPath());
+            Files.write(new File(reportDir, reportFormat + ".txt").toPath(),
+                String.format("Simulated %s report of %s%n", reportFormat, dbFile).getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            throw new ETComException(e.getMessage(), e);
+        }
+        return true;
+    }
+
+    @Override
+    public ComAnalysisExecutionInfo getAnalysisExecutionInfo() throws ETComException {
+        backend.simulateLatency();
+        return getExecution(backend.getAnalysisExecution());
+    }
+
+    @Override
+    public ComAnalysisExecutionInfo executeJob(final String jobFile, final boolean createReportDir)
+        throws ETComException {
+        backend.simulateLatency();
+        return backend.startAnalysisExecution(jobFile);
+    }
+
+    @Override
+    public boolean mergeJobReports(final String mainReportFilename, final List<String> jobReports)
+        throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    private static SimExecutionInfo getExecution(final SimExecutionInfo execInfo) throws ETComException {
+        if (execInfo == null) {
+            throw new ETComException("No execution has been started yet!");
+        }
+        return execInfo;
+    }
+}
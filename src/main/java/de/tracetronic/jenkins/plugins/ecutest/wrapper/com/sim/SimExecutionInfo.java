@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated test or analysis execution which is running for a fixed duration after being started.
+ * <p>
+ * Once finished or aborted the synthetic test report database and the ECU-TEST log files are written to the
+ * report directory. The test report is a minimal SQLite TRF containing the report info, the project and the
+ * executed package, so that it can be read by the report publishers like a real one.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimExecutionInfo implements ComTestExecutionInfo, ComAnalysisExecutionInfo {
+
+    /**
+     * Name of the info log file.
+     */
+    public static final String INFO_LOG_NAME = "ECU_TEST_OUT.log";
+    /**
+     * Name of the error log file.
+     */
+    public static final String ERROR_LOG_NAME = "ECU_TEST_ERR.log";
+
+    private final SimComBackend backend;
+    private final String name;
+    private final File reportDir;
+    private final long startNanos;
+    private volatile boolean aborted;
+    private boolean written;
+
+    /**
+     * Instantiates a new {@link SimExecutionInfo} and starts the simulated execution.
+     *
+     * @param backend   the simulated backend
+     * @param name      the name of the executed file
+     * @param reportDir the report directory
+     */
+    SimExecutionInfo(final SimComBackend backend, final String name, final File reportDir) {
+        this.backend = backend;
+        this.name = name;
+        this.reportDir = reportDir;
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public boolean abort() throws ETComException {
+        backend.simulateLatency();
+        aborted = !isFinished();
+        return true;
+    }
+
+    @Override
+    public String getReportDb() throws ETComException {
+        backend.simulateLatency();
+        writeOutputs();
+        return new File(reportDir, name + ".trf").getAbsolutePath();
+    }
+
+    @Override
+    public String getLogFolder() throws ETComException {
+        backend.simulateLatency();
+        return reportDir.getAbsolutePath();
+    }
+
+    @Override
+    public String getResult() throws ETComException {
+        backend.simulateLatency();
+        if (aborted) {
+            return "ERROR";
+        }
+        return isFinished() ? backend.getResult() : "NONE";
+    }
+
+    @Override
+    public String getState() throws ETComException {
+        backend.simulateLatency();
+        if (aborted) {
+            return "ABORTED";
+        }
+        return isFinished() ? "FINISHED" : "RUNNING";
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    private boolean isFinished() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= backend.getExecutionTime();
+    }
+
+    /**
+     * Writes the synthetic outputs of this execution once.
+     *
+     * @throws ETComException if the outputs could not be written
+     */
+    private synchronized void writeOutputs() throws ETComException {
+        if (written) {
+            return;
+        }
+        try {
+            Files.createDirectories(reportDir.toPath());
+            writeReportDb(new File(reportDir, name + ".trf"));
+            final String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
+            try (PrintWriter out = newLogWriter(INFO_LOG_NAME)) {
+                out.printf("%s 1 MainThread INFO:%n    Executing %s%n", timestamp, name);
+                out.printf("%s 1 MainThread INFO:%n    Finished %s with result %s%n", timestamp, name, getResult());
+            }
+            try (PrintWriter err = newLogWriter(ERROR_LOG_NAME)) {
+                if (aborted || "ERROR".equals(backend.getResult())) {
+                    err.printf("%s 1 MainThread ERROR:%n    Execution of %s failed%n", timestamp, name);
+                }
+            }
+            written = true;
+        } catch (final IOException e) {
+            throw new ETComException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the synthetic test report database.
+     *
+     * @param reportDb the test report database file
+     * @throws IOException    if the previous test report database could not be deleted
+     * @throws ETComException if the test report database could not be written
+     */
+    private void writeReportDb(final File reportDb) throws IOException, ETComException {
+        Files.deleteIfExists(reportDb.toPath());
+        final String result = getResult();
+        final double duration = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        try {
+            Class.forName("org.sqlite.JDBC");
+            try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + reportDb.getAbsolutePath())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("CREATE TABLE info (id INTEGER PRIMARY KEY, name TEXT, version TEXT, "
+                        + "execution_time TEXT, duration REAL, result TEXT)");
+                    statement.executeUpdate("CREATE TABLE prj (id INTEGER PRIMARY KEY, name TEXT)");
+                    statement.executeUpdate("CREATE TABLE pkg (id INTEGER PRIMARY KEY, name TEXT, duration REAL, "
+                        + "result TEXT)");
+                }
+                try (PreparedStatement info = connection.prepareStatement(
+                    "INSERT INTO info (name, version, execution_time, duration, result) VALUES (?, ?, ?, ?, ?)")) {
+                    info.setString(1, name);
+                    info.setString(2, SimComBackend.VERSION);
+                    info.setString(3, new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+                    info.setDouble(4, duration);
+                    info.setString(5, result);
+                    info.executeUpdate();
+                }
+                try (PreparedStatement prj = connection.prepareStatement("INSERT INTO prj (name) VALUES (?)")) {
+                    prj.setString(1, name);
+                    prj.executeUpdate();
+                }
+                try (PreparedStatement pkg = connection.prepareStatement(
+                    "INSERT INTO pkg (name, duration, result) VALUES (?, ?, ?)")) {
+                    pkg.setString(1, name);
+                    pkg.setDouble(2, duration);
+                    pkg.setString(3, result);
+                    pkg.executeUpdate();
+                }
+            }
+        } catch (final ClassNotFoundException | SQLException e) {
+            throw new ETComException(String.format("Could not write simulated test report %s: %s",
+                reportDb, e.getMessage()), e);
+        }
+    }
+
+    private PrintWriter newLogWriter(final String logName) throws IOException {
+        return new PrintWriter(new OutputStreamWriter(Files.newOutputStream(new File(reportDir, logName).toPath()),
+            StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
+
+/**
+ * Simulated test management module succeeding all requests.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimTestManagement implements ComTestManagement {
+
+    private final SimComBackend backend;
+
+    /**
+     * Instantiates a new {@link SimTestManagement}.
+     *
+     * @param backend the simulated backend
+     */
+    SimTestManagement(final SimComBackend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public boolean login(final String user, final String password) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean logout() throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importPackage(final String tmPackagePath, final String importPath, final int timeout)
+        throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importPackageDirectory(final String tmDirectoryPath, final String importPath, final int timeout)
+        throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importProject(final String tmProjectPath, final String importPath,
+                                 final boolean importMissingPackages, final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importProjectDirectory(final String tmDirectoryPath, final String importPath, final int timeout)
+        throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importPackageAttributes(final String filePath, final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean importProjectAttributes(final String filePath, final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean exportPackage(final String filePath, final String exportPath, final boolean createNewPath,
+                                 final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean exportProject(final String filePath, final String exportPath, final boolean createNewPath,
+                                 final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean exportPackageAttributes(final String filePath, final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean exportProjectAttributes(final String filePath, final int timeout) throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public boolean exportReport(final String filePath, final String archivePath, final int timeout)
+        throws ETComException {
+        return succeed();
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    private boolean succeed() throws ETComException {
+        backend.simulateLatency();
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.CheckInfoHolder;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComPackage;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComProject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulated opened package or project without any check findings.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimTestObject implements ComPackage, ComProject {
+
+    private final SimComBackend backend;
+    private final String path;
+
+    /**
+     * Instantiates a new {@link SimTestObject}.
+     *
+     * @param backend the simulated backend
+     * @param path    the path of the opened package or project
+     */
+    SimTestObject(final SimComBackend backend, final String path) {
+        this.backend = backend;
+        this.path = path;
+    }
+
+    @Override
+    public String getName() throws ETComException {
+        backend.simulateLatency();
+        return new File(path).getName();
+    }
+
+    @Override
+    public String getDescription() throws ETComException {
+        backend.simulateLatency();
+        return "Simulated " + path;
+    }
+
+    @Override
+    public String getPackages() throws ETComException {
+        backend.simulateLatency();
+        return "";
+    }
+
+    @Override
+    public List<CheckInfoHolder> check() throws ETComException {
+        backend.simulateLatency();
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.env;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import hudson.FilePath;
+import hudson.model.FreeStyleBuild;
+import hudson.slaves.DumbSlave;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Integration tests for {@link ToolEnvInvisibleAction}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ToolEnvInvisibleActionIT extends IntegrationTestBase {
+
+    @Test
+    public void testResolveDefaultComContext() throws Exception {
+        final FreeStyleBuild build = jenkins.createFreeStyleProject().scheduleBuild2(0).get();
+        assertEquals("Default COM context should be resolved without started instance",
+            ETComContext.getDefault().getProgId(),
+            ToolEnvInvisibleAction.resolveComContext(build, jenkins.jenkins.getRootPath()).getProgId());
+    }
+
+    @Test
+    public void testResolveComContextPerNode() throws Exception {
+        final FreeStyleBuild build = jenkins.createFreeStyleProject().scheduleBuild2(0).get();
+        final DumbSlave slave = jenkins.createOnlineSlave();
+        final FilePath masterWorkspace = jenkins.jenkins.getRootPath();
+        final FilePath slaveWorkspace = slave.getRootPath();
+
+        build.addAction(new ToolEnvInvisibleAction(0, newClient("ECU-TEST.Master"),
+            ToolEnvInvisibleAction.getNodeName(masterWorkspace)));
+        build.addAction(new ToolEnvInvisibleAction(1, newClient("ECU-TEST.Slave"),
+            ToolEnvInvisibleAction.getNodeName(slaveWorkspace)));
+
+        assertEquals("COM context of instance started on master should be resolved", "ECU-TEST.Master",
+            ToolEnvInvisibleAction.resolveComContext(build, masterWorkspace).getProgId());
+        assertEquals("COM context of instance started on slave should be resolved", "ECU-TEST.Slave",
+            ToolEnvInvisibleAction.resolveComContext(build, slaveWorkspace).getProgId());
+    }
+
+    @Test
+    public void testResolveComContextWithoutNode() throws Exception {
+        final FreeStyleBuild build = jenkins.createFreeStyleProject().scheduleBuild2(0).get();
+        build.addAction(new ToolEnvInvisibleAction(0, newClient("ECU-TEST.Legacy")));
+
+        assertEquals("COM context of actions without node should be resolved on any node", "ECU-TEST.Legacy",
+            ToolEnvInvisibleAction.resolveComContext(build, jenkins.createOnlineSlave().getRootPath()).getProgId());
+    }
+
+    private static ETClient newClient(final String progId) {
+        final ETClient etClient = new ETClient("ECU-TEST", "ECU-TEST", "workspace", "settings", 0, false);
+        etClient.setComContext(new ETComContext(progId, 0, null));
+        return etClient;
+    }
+}
@@ -83,6 +83,7 @@ public class TestBuilderDslExtensionIT extends AbstractDslExtensionIT {
         final TestPackageBuilder builder = builders.get(TestPackageBuilder.class);
         assertNotNull("Test package builder should exist", builder);
         assertThat(builder.getTestFile(), is("test.pkg"));
+        assertThat(builder.isIncremental(), is(true));
         testConfigWithDsl(builder.getTestConfig());
         testPackageConfigWithDsl(builder.getPackageConfig());
         testExecutionConfigWithDsl(builder.getExecutionConfig());
@@ -109,6 +110,12 @@ public class TestBuilderDslExtensionIT extends AbstractDslExtensionIT {
         final TestFolderBuilder builder = builders.get(TestFolderBuilder.class);
         assertNotNull("Test folder builder should exist", builder);
         assertThat(builder.getTestFile(), is("test"));
+        assertThat(builder.getIncludePattern(), is("regression/**"));
+        assertThat(builder.getExcludePattern(), is("draft/**"));
+        assertThat(builder.getScheduleMode(), is(TestFolderBuilder.ScheduleMode.FAILED_FIRST));
+        assertThat(builder.isIncremental(), is(true));
+        assertThat(builder.getShardCount(), is(4));
+        assertThat(builder.getShardIndex(), is(2));
         testConfigWithDsl(builder.getTestConfig());
         testPackageConfigWithDsl(builder.getPackageConfig());
         testProjectConfigWithDsl(builder.getProjectConfig());
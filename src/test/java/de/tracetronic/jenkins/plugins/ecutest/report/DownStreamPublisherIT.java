@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import hudson.AbortException;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.model.Result;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import org.junit.Test;
+import org.jvnet.hudson.test.TestBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for parallel mode of {@link DownStreamPublisher}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class DownStreamPublisherIT extends IntegrationTestBase {
+
+    @Test
+    public void testParallelLanes() throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final StubPublisher firstToolPublisher = new StubPublisher("tool1", true);
+        final StubPublisher secondToolPublisher = new StubPublisher("tool2", true);
+        final StubPublisher firstPublisher = new StubPublisher("first", false).awaiting(barrier);
+        final StubPublisher secondPublisher = new StubPublisher("second", false).awaiting(barrier);
+
+        final FreeStyleBuild build = performParallel(null, firstToolPublisher, firstPublisher, secondToolPublisher,
+            secondPublisher);
+        jenkins.assertBuildStatus(Result.SUCCESS, build);
+        jenkins.assertLogContains("Performing 4 publisher(s) in 3 lane(s) with up to 3 concurrent lane(s)", build);
+        assertEquals("Publishers requiring ECU-TEST should share a lane", firstToolPublisher.thread,
+            secondToolPublisher.thread);
+        assertNotEquals("Independent publishers should run in separate lanes", firstPublisher.thread,
+            secondPublisher.thread);
+    }
+
+    @Test
+    public void testParallelBuildResult() throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final StubPublisher unstablePublisher = new StubPublisher("unstable", false)
+            .awaiting(barrier).withResult(Result.UNSTABLE);
+        final StubPublisher failurePublisher = new StubPublisher("failure", false)
+            .awaiting(barrier).withResult(Result.FAILURE);
+
+        final FreeStyleBuild build = performParallel(null, unstablePublisher, failurePublisher);
+        jenkins.assertBuildStatus(Result.FAILURE, build);
+    }
+
+    @Test
+    public void testParallelIOException() throws Exception {
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final StubPublisher firstPublisher = new StubPublisher("first", false)
+            .withException(new IOException("first failure"));
+        final StubPublisher secondPublisher = new StubPublisher("second", false)
+            .withException(new IOException("second failure"));
+        final StubPublisher thirdPublisher = new StubPublisher("third", false).withDelay(500);
+
+        final FreeStyleBuild build = performParallel(failure, firstPublisher, secondPublisher, thirdPublisher);
+        assertNotNull("Failure should be rethrown", failure.get());
+        assertEquals("First failure should be rethrown", "first failure", failure.get().getMessage());
+        assertNotNull("All lanes should be finished", thirdPublisher.thread);
+        jenkins.assertLogContains("third: finished", build);
+    }
+
+    @Test
+    public void testParallelAbortException() throws Exception {
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final StubPublisher abortPublisher = new StubPublisher("abort", false)
+            .withException(new AbortException("aborted publisher"));
+        final StubPublisher otherPublisher = new StubPublisher("other", false).withDelay(500);
+
+        final FreeStyleBuild build = performParallel(failure, abortPublisher, otherPublisher);
+        assertTrue("Abort exception should be rethrown", failure.get() instanceof AbortException);
+        assertEquals("aborted publisher", failure.get().getMessage());
+        jenkins.assertLogContains("other: finished", build);
+    }
+
+    @Test
+    public void testParallelConsoleOutput() throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final StubPublisher firstPublisher = new StubPublisher("first", false).awaiting(barrier).withDelay(200);
+        final StubPublisher secondPublisher = new StubPublisher("second", false).awaiting(barrier).withDelay(200);
+
+        final FreeStyleBuild build = performParallel(null, firstPublisher, secondPublisher);
+        final String log = jenkins.getLog(build);
+        assertTrue("Console output of first publisher should be grouped",
+            log.contains(String.format("first: started%nfirst: finished")));
+        assertTrue("Console output of second publisher should be grouped",
+            log.contains(String.format("second: started%nsecond: finished")));
+    }
+
+    /**
+     * Builds a project performing the given publishers in parallel mode while the build is running.
+     *
+     * @param failure    holds the exception thrown by the downstream publisher, {@code null} to fail the build
+     * @param publishers the publishers
+     * @return the finished build
+     * @throws Exception signals that an exception has occurred
+     */
+    private FreeStyleBuild performParallel(final AtomicReference<IOException> failure,
+                                           final AbstractReportPublisher... publishers) throws Exception {
+        final DownStreamPublisher downStreamPublisher = new DownStreamPublisher("");
+        downStreamPublisher.setPublishers(Arrays.asList(publishers));
+        downStreamPublisher.setParallel(true);
+
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        project.getBuildersList().add(new TestBuilder() {
+
+            @Override
+            public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                   final BuildListener listener) throws InterruptedException, IOException {
+                try {
+                    downStreamPublisher.perform(build, build.getWorkspace(), launcher, listener);
+                } catch (final IOException e) {
+                    if (failure == null) {
+                        throw e;
+                    }
+                    failure.set(e);
+                }
+                return true;
+            }
+        });
+        return project.scheduleBuild2(0).get();
+    }
+
+    /**
+     * Report publisher stub recording the performing thread.
+     */
+    private static final class StubPublisher extends AbstractReportPublisher {
+
+        private final String name;
+        private final boolean toolRequired;
+        private CyclicBarrier barrier;
+        private long delayMillis;
+        private Result result;
+        private IOException exception;
+        private volatile Thread thread;
+
+        StubPublisher(final String name, final boolean toolRequired) {
+            super();
+            this.name = name;
+            this.toolRequired = toolRequired;
+        }
+
+        StubPublisher awaiting(final CyclicBarrier barrier) {
+            this.barrier = barrier;
+            return this;
+        }
+
+        StubPublisher withDelay(final long delayMillis) {
+            this.delayMillis = delayMillis;
+            return this;
+        }
+
+        StubPublisher withResult(final Result result) {
+            this.result = result;
+            return this;
+        }
+
+        StubPublisher withException(final IOException exception) {
+            this.exception = exception;
+            return this;
+        }
+
+        @Override
+        protected void performReport(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                     final TaskListener listener) throws InterruptedException, IOException {
+            thread = Thread.currentThread();
+            listener.getLogger().println(name + ": started");
+            if (barrier != null) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (final BrokenBarrierException | TimeoutException e) {
+                    throw new IOException(name + " was not performed concurrently", e);
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            Thread.sleep(delayMillis);
+            if (result != null) {
+                updateBuildResult(run, result);
+            }
+            listener.getLogger().println(name + ": finished");
+        }
+
+        @Override
+        protected boolean isToolRequired() {
+            return toolRequired;
+        }
+
+        @Override
+        protected String getUrlName() {
+            return name;
+        }
+    }
+}
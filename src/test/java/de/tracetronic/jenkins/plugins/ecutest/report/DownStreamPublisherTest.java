@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link DownStreamPublisher}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class DownStreamPublisherTest {
+
+    @Test
+    public void testDefaultPublisher() {
+        final DownStreamPublisher publisher = new DownStreamPublisher(null);
+        assertEquals("", publisher.getWorkspace());
+        assertNotNull(publisher.getPublishers());
+        assertTrue(publisher.getPublishers().isEmpty());
+        assertFalse(publisher.isParallel());
+    }
+
+    @Test
+    public void testParallelPublisher() {
+        final DownStreamPublisher publisher = new DownStreamPublisher("downstream");
+        publisher.setPublishers(Arrays.<AbstractReportPublisher>asList(new TRFPublisher(), new ETLogPublisher()));
+        publisher.setParallel(true);
+        assertEquals("downstream", publisher.getWorkspace());
+        assertEquals(2, publisher.getPublishers().size());
+        assertTrue(publisher.isParallel());
+    }
+
+    @Test
+    public void testNullPublishers() {
+        final DownStreamPublisher publisher = new DownStreamPublisher("");
+        publisher.setPublishers(null);
+        assertNotNull(publisher.getPublishers());
+        assertTrue(publisher.getPublishers().isEmpty());
+    }
+
+    @Test
+    public void testToolRequired() {
+        final AbstractReportPublisher trfPublisher = new TRFPublisher();
+        final AbstractReportPublisher logPublisher = new ETLogPublisher();
+        assertFalse(trfPublisher.isToolRequired());
+        assertFalse(logPublisher.isToolRequired());
+    }
+}
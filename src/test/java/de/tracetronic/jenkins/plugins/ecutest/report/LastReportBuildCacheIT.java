@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFBuildAction;
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import org.junit.Test;
+import org.jvnet.hudson.test.TestBuilder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Integration tests for {@link LastReportBuildCache}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class LastReportBuildCacheIT extends IntegrationTestBase {
+
+    @Test
+    public void testLastReportBuild() throws Exception {
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        jenkins.buildAndAssertSuccess(project);
+        assertNull(LastReportBuildCache.getLastReportBuild(project, TRFBuildAction.class));
+
+        project.getBuildersList().add(new TestBuilder() {
+
+            @Override
+            public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                   final BuildListener listener) {
+                build.addAction(new TRFBuildAction(false));
+                return true;
+            }
+        });
+        final FreeStyleBuild reportBuild = jenkins.buildAndAssertSuccess(project);
+        assertEquals(reportBuild, LastReportBuildCache.getLastReportBuild(project, TRFBuildAction.class));
+
+        project.getBuildersList().clear();
+        jenkins.buildAndAssertSuccess(project);
+        assertEquals(reportBuild, LastReportBuildCache.getLastReportBuild(project, TRFBuildAction.class));
+
+        reportBuild.delete();
+        assertNull(LastReportBuildCache.getLastReportBuild(project, TRFBuildAction.class));
+    }
+}
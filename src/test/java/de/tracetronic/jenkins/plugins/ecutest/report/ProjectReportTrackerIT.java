@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFBuildAction;
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import org.junit.Test;
+import org.jvnet.hudson.test.TestBuilder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link ProjectReportTracker}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ProjectReportTrackerIT extends IntegrationTestBase {
+
+    @Test
+    public void testTransferProjectReports() throws Exception {
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        project.getBuildersList().add(new TestBuilder() {
+
+            @Override
+            public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                   final BuildListener listener) throws IOException {
+                AbstractReportPublisher.removePreviousReports(build, TRFBuildAction.class);
+                build.addAction(new TRFBuildAction(true));
+                return true;
+            }
+        });
+
+        final FreeStyleBuild firstBuild = jenkins.buildAndAssertSuccess(project);
+        assertTrue(new File(project.getRootDir(), ProjectReportTracker.STATE_FILE_NAME).exists());
+        assertNotNull(firstBuild.getAction(TRFBuildAction.class));
+
+        final FreeStyleBuild secondBuild = jenkins.buildAndAssertSuccess(project);
+        assertNull(firstBuild.getAction(TRFBuildAction.class));
+        assertNotNull(secondBuild.getAction(TRFBuildAction.class));
+
+        final FreeStyleBuild thirdBuild = jenkins.buildAndAssertSuccess(project);
+        assertNull(secondBuild.getAction(TRFBuildAction.class));
+        assertNotNull(thirdBuild.getAction(TRFBuildAction.class));
+    }
+
+    @Test
+    public void testOlderBuildFinishingLater() throws Exception {
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        final FreeStyleBuild firstBuild = jenkins.buildAndAssertSuccess(project);
+        final FreeStyleBuild secondBuild = jenkins.buildAndAssertSuccess(project);
+
+        assertTrue(ProjectReportTracker.transferProjectReports(secondBuild, TRFBuildAction.class));
+        secondBuild.addAction(new TRFBuildAction(true));
+        assertFalse("Older build should not publish at project level",
+            ProjectReportTracker.transferProjectReports(firstBuild, TRFBuildAction.class));
+        assertNull(firstBuild.getAction(TRFBuildAction.class));
+        assertNotNull("Reports of newer build should be kept", secondBuild.getAction(TRFBuildAction.class));
+
+        final FreeStyleBuild thirdBuild = jenkins.buildAndAssertSuccess(project);
+        assertTrue(ProjectReportTracker.transferProjectReports(thirdBuild, TRFBuildAction.class));
+        thirdBuild.addAction(new TRFBuildAction(true));
+        assertNull("Newer build should still be the holder", secondBuild.getAction(TRFBuildAction.class));
+        assertNull("Older build should not hold any reports", firstBuild.getAction(TRFBuildAction.class));
+        assertNotNull(thirdBuild.getAction(TRFBuildAction.class));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.FilePath;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReportDirectory}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ReportDirectoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testScan() throws Exception {
+        final FilePath reportDir = new FilePath(folder.newFolder("Report"));
+        reportDir.child("test.trf").write("12345", "UTF-8");
+        reportDir.child("Report Sub/sub.trf").write("123", "UTF-8");
+
+        final ReportDirectory dir = ReportDirectory.scan(reportDir);
+        assertEquals("Report", dir.getName());
+        assertEquals("", dir.getPath());
+        assertEquals(8L, dir.getSize());
+        assertTrue(dir.hasFile("test.trf"));
+        assertEquals(5L, dir.getFileSize("test.trf"));
+        assertEquals(1, dir.getSubDirectories().size());
+
+        final ReportDirectory subDir = dir.getSubDirectory("Report Sub");
+        assertNotNull(subDir);
+        assertEquals("Report Sub", subDir.getPath());
+        assertEquals("Report Sub/sub.trf", subDir.getFilePath("sub.trf"));
+        assertEquals(3L, subDir.getSize());
+        assertNull(dir.getSubDirectory("missing"));
+    }
+
+    @Test
+    public void testScanMissingDirectory() throws Exception {
+        final ReportDirectory dir = ReportDirectory.scan(new FilePath(new File(folder.getRoot(), "missing")));
+        assertEquals(0L, dir.getSize());
+        assertFalse(dir.hasFile("test.trf"));
+        assertTrue(dir.getSubDirectories().isEmpty());
+    }
+}
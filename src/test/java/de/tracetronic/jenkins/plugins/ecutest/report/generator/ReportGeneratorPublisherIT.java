@@ -8,8 +8,13 @@ package de.tracetronic.jenkins.plugins.ecutest.report.generator;
 import com.gargoylesoftware.htmlunit.WebAssert;
 import com.gargoylesoftware.htmlunit.html.HtmlPage;
 import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
+import de.tracetronic.jenkins.plugins.ecutest.test.TestPackageBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim.SimComBackend;
 import hudson.EnvVars;
+import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.AbstractBuild;
 import hudson.model.BuildListener;
@@ -28,16 +33,21 @@ import org.junit.Test;
 import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.TestBuilder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Integration tests for {@link ReportGeneratorPublisher}.
@@ -151,6 +161,56 @@ public class ReportGeneratorPublisherIT extends IntegrationTestBase {
             containsString("Skipping publisher"));
     }
 
+    @Test
+    public void testSimulatedArchiving() throws Exception {
+        final SimComBackend backend = new SimComBackend(0L, 100L, "SUCCESS",
+            new File(jenkins.jenkins.getRootDir(), "ecutest-sim"));
+        ETComClientFactory.setBackend(backend);
+        try {
+            final FreeStyleProject project = createSimulatedProject(false, "HTML", "XML");
+            final FreeStyleBuild build = jenkins.buildAndAssertSuccess(project);
+            final String reportDirName = getReportDirName(build);
+
+            final File archiveDir = new File(build.getRootDir(), ReportGeneratorPublisher.URL_NAME);
+            assertTrue("HTML report should be archived per template",
+                new File(archiveDir, String.format("HTML/%s/HTML/HTML.txt", reportDirName)).exists());
+            assertTrue("XML report should be archived per template",
+                new File(archiveDir, String.format("XML/%s/XML/XML.txt", reportDirName)).exists());
+            assertArchivedTemplates(archiveDir, "HTML", "XML");
+
+            final ReportGeneratorBuildAction action = build.getAction(ReportGeneratorBuildAction.class);
+            assertNotNull("Generator report action should exist", action);
+            assertEquals("Reports of both templates should be added", 2, action.getGeneratorReports().size());
+        } finally {
+            ETComClientFactory.setBackend(null);
+        }
+    }
+
+    @Test
+    public void testSimulatedArchivingWithFailedTemplate() throws Exception {
+        final SimComBackend backend = new SimComBackend(0L, 100L, "SUCCESS",
+            new File(jenkins.jenkins.getRootDir(), "ecutest-sim"));
+        ETComClientFactory.setBackend(backend);
+        try {
+            final FreeStyleProject project = createSimulatedProject(true, "HTML", "FAIL");
+            final FreeStyleBuild build = project.scheduleBuild2(0).get();
+            jenkins.assertLogContains("Generating FAIL report failed!", build);
+            final String reportDirName = getReportDirName(build);
+
+            final File archiveDir = new File(build.getRootDir(), ReportGeneratorPublisher.URL_NAME);
+            assertTrue("HTML report should be archived despite failed template",
+                new File(archiveDir, String.format("HTML/%s/HTML/HTML.txt", reportDirName)).exists());
+            assertArchivedTemplates(archiveDir, "HTML");
+
+            final ReportGeneratorBuildAction action = build.getAction(ReportGeneratorBuildAction.class);
+            assertNotNull("Generator report action should exist", action);
+            assertEquals("Only reports of the successful template should be added", 1,
+                action.getGeneratorReports().size());
+        } finally {
+            ETComClientFactory.setBackend(null);
+        }
+    }
+
     @Test
     public void testParameterizedToolName() throws Exception {
         final FreeStyleProject project = jenkins.createFreeStyleProject();
@@ -215,4 +275,78 @@ public class ReportGeneratorPublisherIT extends IntegrationTestBase {
             jenkins.assertLogContains("Empty test results are not allowed, setting build status to FAILURE!", run);
         }
     }
+
+    /**
+     * Creates a project executing a test package on the simulated backend and generating reports
+     * with the given templates.
+     *
+     * @param failLast      specifies whether generating the report of the last template should fail
+     * @param templateNames the names of the report templates
+     * @return the project
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private FreeStyleProject createSimulatedProject(final boolean failLast, final String... templateNames)
+        throws IOException {
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        project.getBuildersList().add(new TestBuilder() {
+
+            @Override
+            public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                   final BuildListener listener) throws InterruptedException, IOException {
+                build.getWorkspace().child("test.pkg").write("", "UTF-8");
+                return true;
+            }
+        });
+        project.getBuildersList().add(new TestPackageBuilder("${WORKSPACE}/test.pkg"));
+        if (failLast) {
+            project.getBuildersList().add(new TestBuilder() {
+
+                @Override
+                public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                       final BuildListener listener) throws InterruptedException, IOException {
+                    // Block the output directory of the last template by a regular file
+                    final TestEnvInvisibleAction testEnvAction = build.getAction(TestEnvInvisibleAction.class);
+                    new FilePath(new File(testEnvAction.getTestReportDir()))
+                        .child(templateNames[templateNames.length - 1]).write("", "UTF-8");
+                    return true;
+                }
+            });
+        }
+        final List<ReportGeneratorConfig> generators = new ArrayList<>();
+        for (final String templateName : templateNames) {
+            generators.add(new ReportGeneratorConfig(templateName, null));
+        }
+        final ReportGeneratorPublisher publisher = new ReportGeneratorPublisher("ECU-TEST");
+        publisher.setCustomGenerators(generators);
+        project.getPublishersList().add(publisher);
+        return project;
+    }
+
+    /**
+     * Gets the name of the test report directory of the given build.
+     *
+     * @param build the build
+     * @return the report directory name
+     */
+    private String getReportDirName(final FreeStyleBuild build) {
+        final TestEnvInvisibleAction testEnvAction = build.getAction(TestEnvInvisibleAction.class);
+        assertNotNull("Test env action should exist", testEnvAction);
+        return new File(testEnvAction.getTestReportDir()).getName();
+    }
+
+    /**
+     * Asserts that the archive directory only contains the given template directories,
+     * i.e. that the staging directory has been removed.
+     *
+     * @param archiveDir    the archive directory
+     * @param templateNames the names of the expected templates
+     */
+    private void assertArchivedTemplates(final File archiveDir, final String... templateNames) {
+        final String[] archivedNames = archiveDir.list();
+        assertNotNull("Archive directory should exist", archivedNames);
+        Arrays.sort(archivedNames);
+        final String[] expectedNames = templateNames.clone();
+        Arrays.sort(expectedNames);
+        assertArrayEquals("Archive should only contain template directories", expectedNames, archivedNames);
+    }
 }
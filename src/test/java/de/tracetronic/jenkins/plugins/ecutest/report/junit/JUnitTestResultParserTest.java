@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -86,4 +87,22 @@ public class JUnitTestResultParserTest {
 
         assertEquals("One skipped test should be found", 1, testResult.getSkipCount());
     }
+
+    @Test
+    public void testMultipleTestReports() throws Exception {
+        final List<FilePath> xmlFiles = new ArrayList<>();
+        for (final String reportName : Arrays.asList("PassedTestReport", "FailedTestReport", "SkippedTestReport")) {
+            final File testReportDir = new File(this.getClass().getResource(reportName).getFile());
+            xmlFiles.add(new FilePath(new File(testReportDir, REPORT_FILE)));
+        }
+        xmlFiles.add(new FilePath(new File("notfound", REPORT_FILE)));
+
+        final JUnitTestResultParser parser = new JUnitTestResultParser();
+        final TestResult testResult = parser.parseResult(xmlFiles, TaskListener.NULL);
+
+        assertEquals("Three tests should be found", 3, testResult.getTotalCount());
+        assertEquals("One passed test should be found", 1, testResult.getPassCount());
+        assertEquals("One failed test should be found", 1, testResult.getFailCount());
+        assertEquals("One skipped test should be found", 1, testResult.getSkipCount());
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.junit;
+
+import hudson.FilePath;
+import hudson.model.TaskListener;
+import hudson.tasks.junit.TestResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link TRFJUnitConverter}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TRFJUnitConverterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPassedPackageReport() throws Exception {
+        final TestResult testResult = convertAndParse(copyReport("package.trf"));
+
+        assertEquals("Test count should match", 1, testResult.getTotalCount());
+        assertEquals("Passed test count should match", 1, testResult.getPassCount());
+        assertEquals("Test suite should be named after package", "Package",
+            testResult.getSuites().iterator().next().getName());
+    }
+
+    @Test
+    public void testFailedProjectReport() throws Exception {
+        final TestResult testResult = convertAndParse(copyReport("project.trf"));
+
+        assertEquals("Test count should match", 7, testResult.getTotalCount());
+        assertEquals("Passed test count should match", 1, testResult.getPassCount());
+        assertEquals("Failed test count should include unknown and missing verdicts", 5,
+            testResult.getFailCount());
+        assertEquals("Skipped test count should match", 1, testResult.getSkipCount());
+        assertEquals("Test suite should be named after project", "Project",
+            testResult.getSuites().iterator().next().getName());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReportWithoutVerdicts() throws Exception {
+        final File trfFile = copyReport("noVerdict.trf");
+        TRFJUnitConverter.convert(trfFile, new File(trfFile.getParentFile(), JUnitPublisher.JUNIT_REPORT_FILE));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidReport() throws Exception {
+        final File trfFile = folder.newFile("invalid.trf");
+        TRFJUnitConverter.convert(trfFile, new File(folder.getRoot(), JUnitPublisher.JUNIT_REPORT_FILE));
+    }
+
+    @Test
+    public void testVerdict() {
+        assertEquals(TRFJUnitConverter.Verdict.SUCCESS, TRFJUnitConverter.Verdict.fromString("success"));
+        assertEquals(TRFJUnitConverter.Verdict.NONE, TRFJUnitConverter.Verdict.fromString("NONE"));
+        assertEquals(TRFJUnitConverter.Verdict.ERROR, TRFJUnitConverter.Verdict.fromString("unknown"));
+        assertEquals(TRFJUnitConverter.Verdict.ERROR, TRFJUnitConverter.Verdict.fromString(null));
+    }
+
+    /**
+     * Converts the given TRF report and parses the resulting JUnit report.
+     *
+     * @param trfFile the TRF report
+     * @return the parsed test result
+     * @throws Exception in case of conversion or parsing errors
+     */
+    private TestResult convertAndParse(final File trfFile) throws Exception {
+        final File xmlFile = new File(new File(trfFile.getParentFile(), JUnitPublisher.UNIT_TEMPLATE_NAME),
+            JUnitPublisher.JUNIT_REPORT_FILE);
+        TRFJUnitConverter.convert(trfFile, xmlFile);
+
+        final JUnitTestResultParser parser = new JUnitTestResultParser();
+        return parser.parseResult(Collections.singletonList(new FilePath(xmlFile)), TaskListener.NULL);
+    }
+
+    /**
+     * Copies the TRF report fixture with given name into a new temporary folder.
+     *
+     * @param fileName the fixture file name
+     * @return the copied TRF report
+     * @throws Exception in case of copy errors
+     */
+    private File copyReport(final String fileName) throws Exception {
+        final URL url = this.getClass().getResource("TRFJUnitConverterTest/" + fileName);
+        final File trfFile = new File(folder.newFolder(), fileName);
+        Files.copy(Paths.get(url.toURI()), trfFile.toPath());
+        return trfFile;
+    }
+}
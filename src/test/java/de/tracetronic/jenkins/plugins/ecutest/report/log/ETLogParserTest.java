@@ -7,6 +7,7 @@ package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.junit.JUnitTestResultParser;
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogParser.ParseResult;
 import hudson.FilePath;
 import org.junit.Test;
 
@@ -80,6 +81,18 @@ public class ETLogParserTest {
         assertEquals(2, warningLogCount);
     }
 
+    @Test
+    public void testSinglePassParse() throws Exception {
+        final ETLogParser parser = getLogParser("ECU_TEST_ERR.log");
+        final ParseResult result = parser.parseLog();
+        assertEquals(2, result.getAnnotations().size());
+        assertEquals(0, result.getWarningCount());
+        assertEquals(2, result.getErrorCount());
+        assertEquals(2, result.getLogCount(Severity.ERROR));
+        assertThat(result.getAnnotations().get(0).getLineNumber(), is(19));
+        assertThat(result.getAnnotations().get(1).getLineNumber(), is(29));
+    }
+
     private ETLogParser getLogParser(final String fileName) {
         final URL url = this.getClass().getResource(fileName);
         final FilePath logFile = new FilePath(new File(url.getFile()));
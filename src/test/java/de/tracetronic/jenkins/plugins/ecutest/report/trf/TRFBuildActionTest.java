@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link TRFBuildAction}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TRFBuildActionTest {
+
+    @Test
+    public void testGetDynamic() {
+        final TRFBuildAction action = new TRFBuildAction(false);
+        final TRFReport report = new TRFReport("1", "report", "report.trf", 0);
+        final TRFReport subReport = new TRFReport("2", "subReport", "subReport.trf", 0);
+        report.addSubReport(subReport);
+        action.add(report);
+
+        assertSame(report, action.getDynamic("1"));
+        assertSame(subReport, action.getDynamic("2"));
+        assertNull(action.getDynamic("3"));
+    }
+
+    @Test
+    public void testGetDynamicAfterAdd() {
+        final TRFBuildAction action = new TRFBuildAction(false);
+        final TRFReport report = new TRFReport("1", "report", "report.trf", 0);
+        action.add(report);
+        assertNull(action.getDynamic("2"));
+
+        final TRFReport otherReport = new TRFReport("2", "otherReport", "otherReport.trf", 0);
+        action.addAll(Collections.singletonList(otherReport));
+        assertSame(otherReport, action.getDynamic("2"));
+    }
+}
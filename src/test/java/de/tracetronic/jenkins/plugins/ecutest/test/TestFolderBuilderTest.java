@@ -5,18 +5,26 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.test;
 
+import de.tracetronic.jenkins.plugins.ecutest.test.TestFolderBuilder.ScheduleMode;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig.JobExecutionMode;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -52,6 +60,76 @@ public class TestFolderBuilderTest {
         assertBuilder(builder);
     }
 
+    @Test
+    public void testInvalidShardSettings() {
+        final TestFolderBuilder builder = new TestFolderBuilder("");
+        builder.setShardCount(0);
+        builder.setShardIndex(-1);
+        assertEquals(1, builder.getShardCount());
+        assertEquals(0, builder.getShardIndex());
+    }
+
+    @Test
+    public void testNullScheduleMode() {
+        final TestFolderBuilder builder = new TestFolderBuilder("");
+        builder.setScheduleMode(null);
+        assertEquals(ScheduleMode.SCANNER_ORDER, builder.getScheduleMode());
+    }
+
+    @Test
+    public void testGetShard() {
+        final List<String> testFiles = Arrays.asList("a.pkg", "b.pkg", "c.pkg", "d.pkg", "e.pkg");
+        assertEquals(Arrays.asList("a.pkg", "c.pkg", "e.pkg"), TestFolderBuilder.getShard(testFiles, 2, 0));
+        assertEquals(Arrays.asList("b.pkg", "d.pkg"), TestFolderBuilder.getShard(testFiles, 2, 1));
+        assertEquals(Collections.emptyList(), TestFolderBuilder.getShard(testFiles, 6, 5));
+    }
+
+    @Test
+    public void testGetShardKey() {
+        final ETComContext comContext = new ETComContext("ECU-TEST.Application");
+        final String shardKey = TestFolderBuilder.getShardKey("job#1", "node", comContext);
+        assertEquals(shardKey, TestFolderBuilder.getShardKey("job#1", "node", comContext));
+        assertNotEquals(shardKey, TestFolderBuilder.getShardKey("job#1", "other", comContext));
+        assertNotEquals(shardKey, TestFolderBuilder.getShardKey("job#2", "node", comContext));
+        assertNotEquals(shardKey, TestFolderBuilder.getShardKey("job#1", "node",
+            new ETComContext("ECU-TEST.Application.8.0")));
+    }
+
+    @Test
+    public void testSchedule() {
+        final List<String> testFiles = Arrays.asList("a.pkg", "b.pkg", "c.pkg", "d.pkg");
+        final Map<String, TestHistoryIndex.Entry> history = new HashMap<>();
+        history.put("a.pkg", new TestHistoryIndex.Entry(3000, "SUCCESS"));
+        history.put("b.pkg", new TestHistoryIndex.Entry(1000, "FAILED"));
+        history.put("c.pkg", new TestHistoryIndex.Entry(2000, "ERROR"));
+
+        assertEquals(testFiles, TestFolderBuilder.schedule(testFiles, ScheduleMode.SCANNER_ORDER, history));
+        assertEquals(Arrays.asList("d.pkg", "b.pkg", "c.pkg", "a.pkg"),
+            TestFolderBuilder.schedule(testFiles, ScheduleMode.FAILED_FIRST, history));
+        assertEquals(Arrays.asList("d.pkg", "a.pkg", "c.pkg", "b.pkg"),
+            TestFolderBuilder.schedule(testFiles, ScheduleMode.LONGEST_FIRST, history));
+        assertEquals(Arrays.asList("d.pkg", "b.pkg", "c.pkg", "a.pkg"),
+            TestFolderBuilder.schedule(testFiles, ScheduleMode.SHORTEST_FIRST, history));
+    }
+
+    @Test
+    public void testOrderTestsOnDifferentNodes() {
+        final Map<String, TestHistoryIndex.Entry> history = new HashMap<>();
+        history.put("sub/b.pkg", new TestHistoryIndex.Entry(1000, "FAILED"));
+        history.put("c.pkg", new TestHistoryIndex.Entry(2000, "SUCCESS"));
+        final List<String> firstNode = TestFolderBuilder.orderTests("C:\\ws1\\tests",
+            Arrays.asList("C:\\ws1\\tests\\c.pkg", "C:\\ws1\\tests\\a.pkg", "C:\\ws1\\tests\\sub\\b.pkg"),
+            true, ScheduleMode.FAILED_FIRST, history);
+        final List<String> secondNode = TestFolderBuilder.orderTests("D:/agent/ws2/tests/",
+            Arrays.asList("D:/agent/ws2/tests/sub/b.pkg", "D:/agent/ws2/tests/a.pkg", "D:/agent/ws2/tests/c.pkg"),
+            true, ScheduleMode.FAILED_FIRST, history);
+
+        assertEquals(Arrays.asList("C:\\ws1\\tests\\a.pkg", "C:\\ws1\\tests\\sub\\b.pkg",
+            "C:\\ws1\\tests\\c.pkg"), firstNode);
+        assertEquals(Arrays.asList("D:/agent/ws2/tests/a.pkg", "D:/agent/ws2/tests/sub/b.pkg",
+            "D:/agent/ws2/tests/c.pkg"), secondNode);
+    }
+
     /**
      * Asserts the builder properties.
      *
@@ -61,6 +139,9 @@ public class TestFolderBuilderTest {
         assertNotNull(builder);
         assertNotNull(builder.getTestFile());
         assertTrue(builder.getTestFile().isEmpty());
+        assertFalse(builder.isIncremental());
+        assertEquals(1, builder.getShardCount());
+        assertEquals(0, builder.getShardIndex());
         assertNotNull(builder.getTestConfig().getTbcFile());
         assertTrue(builder.getTestConfig().getTbcFile().isEmpty());
         assertNotNull(builder.getTestConfig().getTcfFile());
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TestHistoryIndex}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TestHistoryIndexTest {
+
+    @Test
+    public void testPassedEntry() {
+        final TestHistoryIndex.Entry entry = new TestHistoryIndex.Entry(1000, "SUCCESS", "hash", "test",
+            "description", "reportDir");
+        assertTrue(entry.isPassed());
+        assertFalse(entry.isFailed());
+        assertEquals(1000, entry.getDuration());
+        assertEquals("hash", entry.getInputHash());
+        assertEquals("test", entry.getTestName());
+        assertEquals("description", entry.getTestDescription());
+        assertEquals("reportDir", entry.getTestReportDir());
+    }
+
+    @Test
+    public void testFailedEntry() {
+        assertTrue(new TestHistoryIndex.Entry(0, "FAILED").isFailed());
+        assertTrue(new TestHistoryIndex.Entry(0, "ERROR").isFailed());
+        assertFalse(new TestHistoryIndex.Entry(0, "INCONCLUSIVE").isFailed());
+        assertFalse(new TestHistoryIndex.Entry(0, "INCONCLUSIVE").isPassed());
+    }
+
+    @Test
+    public void testEntryWithoutInputHash() {
+        final TestHistoryIndex.Entry entry = new TestHistoryIndex.Entry(0, null);
+        assertFalse(entry.isPassed());
+        assertFalse(entry.isFailed());
+        assertNull(entry.getInputHash());
+    }
+
+    @Test
+    public void testKey() {
+        assertEquals("sub/test.pkg", TestHistoryIndex.getKey("C:\\ws\\tests", "C:\\ws\\tests\\sub\\test.pkg"));
+        assertEquals("test.pkg", TestHistoryIndex.getKey("/ws/tests/", "/ws/tests/test.pkg"));
+        assertEquals("/other/test.pkg", TestHistoryIndex.getKey("/ws/tests", "/other/test.pkg"));
+        assertEquals("/ws/testsuite/test.pkg", TestHistoryIndex.getKey("/ws/tests", "/ws/testsuite/test.pkg"));
+    }
+}
@@ -8,9 +8,15 @@ package de.tracetronic.jenkins.plugins.ecutest.test;
 import com.gargoylesoftware.htmlunit.WebAssert;
 import com.gargoylesoftware.htmlunit.html.HtmlPage;
 import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim.SimComBackend;
+import hudson.Launcher;
+import hudson.model.AbstractBuild;
+import hudson.model.BuildListener;
 import hudson.model.FreeStyleBuild;
 import hudson.model.FreeStyleProject;
 import hudson.model.Result;
@@ -20,11 +26,20 @@ import org.jenkinsci.plugins.workflow.job.WorkflowJob;
 import org.jenkinsci.plugins.workflow.job.WorkflowRun;
 import org.jenkinsci.plugins.workflow.steps.CoreStep;
 import org.jenkinsci.plugins.workflow.steps.StepConfigTester;
+import org.junit.After;
 import org.junit.Test;
+import org.jvnet.hudson.test.TestBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +50,11 @@ import static org.mockito.Mockito.when;
  */
 public class TestPackageBuilderIT extends IntegrationTestBase {
 
+    @After
+    public void tearDown() {
+        ETComClientFactory.setBackend(null);
+    }
+
     @Test
     public void testDefaultConfigRoundTripStep() throws Exception {
         final TestPackageBuilder before = new TestPackageBuilder("test.pkg");
@@ -109,6 +129,156 @@ public class TestPackageBuilderIT extends IntegrationTestBase {
         assertEquals("Test id should be 0", 0, builder.getTestId(build));
     }
 
+    @Test
+    public void testSimulatedBuild() throws Exception {
+        final SimComBackend backend = useSimulatedBackend();
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        project.getBuildersList().add(new TestBuilder() {
+
+            @Override
+            public boolean perform(final AbstractBuild<?, ?> build, final Launcher launcher,
+                                   final BuildListener listener) throws InterruptedException, IOException {
+                build.getWorkspace().child("test.pkg").write("", "UTF-8");
+                return true;
+            }
+        });
+        project.getBuildersList().add(new TestPackageBuilder("${WORKSPACE}/test.pkg"));
+
+        final FreeStyleBuild build = jenkins.buildAndAssertSuccess(project);
+        jenkins.assertLogContains("Package executed successfully.", build);
+        assertEquals("Package should be executed by simulated backend", 1, backend.getExecutionCount());
+
+        final TestEnvInvisibleAction testEnvAction = build.getAction(TestEnvInvisibleAction.class);
+        assertNotNull("Test env action should exist", testEnvAction);
+        assertEquals("Test result should match", "SUCCESS", testEnvAction.getTestResult());
+        assertTrue("Test report should be written",
+            new File(testEnvAction.getTestReportDir(), "test.trf").exists());
+    }
+
+    @Test
+    public void testIncrementalUnchangedPackage() throws Exception {
+        final SimComBackend backend = useSimulatedBackend();
+        final File testDir = createTestFiles();
+        final FreeStyleProject project = createIncrementalProject(testDir, false);
+
+        final FreeStyleBuild firstBuild = jenkins.buildAndAssertSuccess(project);
+        final FreeStyleBuild secondBuild = jenkins.buildAndAssertSuccess(project);
+        jenkins.assertLogContains("Skipping unchanged test", secondBuild);
+        assertEquals("Unchanged package should not be executed again", 1, backend.getExecutionCount());
+
+        final TestEnvInvisibleAction firstAction = firstBuild.getAction(TestEnvInvisibleAction.class);
+        final TestEnvInvisibleAction secondAction = secondBuild.getAction(TestEnvInvisibleAction.class);
+        assertNotNull("Test env action of skipped package should exist", secondAction);
+        assertEquals("Verdict should be carried forward", "SUCCESS", secondAction.getTestResult());
+        assertEquals("Test report directory should be carried forward", firstAction.getTestReportDir(),
+            secondAction.getTestReportDir());
+    }
+
+    @Test
+    public void testIncrementalChangedPackage() throws Exception {
+        assertIncrementalRerun("test.pkg");
+    }
+
+    @Test
+    public void testIncrementalChangedTbc() throws Exception {
+        assertIncrementalRerun("test.tbc");
+    }
+
+    @Test
+    public void testIncrementalChangedTcf() throws Exception {
+        assertIncrementalRerun("test.tcf");
+    }
+
+    @Test
+    public void testIncrementalChangedSettings() throws Exception {
+        final SimComBackend backend = useSimulatedBackend();
+        final FreeStyleProject project = createIncrementalProject(createTestFiles(), false);
+
+        jenkins.buildAndAssertSuccess(project);
+        project.getBuildersList().get(TestPackageBuilder.class).setPackageConfig(new PackageConfig(true, false));
+        final FreeStyleBuild build = jenkins.buildAndAssertSuccess(project);
+        jenkins.assertLogNotContains("Skipping unchanged test", build);
+        assertEquals("Package with changed settings should be executed again", 2, backend.getExecutionCount());
+    }
+
+    @Test
+    public void testIncrementalKeepConfig() throws Exception {
+        final SimComBackend backend = useSimulatedBackend();
+        final FreeStyleProject project = createIncrementalProject(createTestFiles(), true);
+
+        jenkins.buildAndAssertSuccess(project);
+        final FreeStyleBuild build = jenkins.buildAndAssertSuccess(project);
+        jenkins.assertLogNotContains("Skipping unchanged test", build);
+        assertEquals("Package keeping the loaded configurations should be executed again", 2,
+            backend.getExecutionCount());
+    }
+
+    /**
+     * Asserts that the package is executed again after changing the given input file.
+     *
+     * @param fileName the name of the changed input file
+     * @throws Exception signals that an exception has occurred
+     */
+    private void assertIncrementalRerun(final String fileName) throws Exception {
+        final SimComBackend backend = useSimulatedBackend();
+        final File testDir = createTestFiles();
+        final FreeStyleProject project = createIncrementalProject(testDir, false);
+
+        jenkins.buildAndAssertSuccess(project);
+        Files.write(new File(testDir, fileName).toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        final FreeStyleBuild build = jenkins.buildAndAssertSuccess(project);
+        jenkins.assertLogNotContains("Skipping unchanged test", build);
+        assertEquals(String.format("Package with changed %s should be executed again", fileName), 2,
+            backend.getExecutionCount());
+    }
+
+    /**
+     * Selects the simulated COM backend for this test.
+     *
+     * @return the simulated backend
+     */
+    private SimComBackend useSimulatedBackend() {
+        final SimComBackend backend = new SimComBackend(0L, 100L, "SUCCESS",
+            new File(jenkins.jenkins.getRootDir(), "ecutest-sim"));
+        ETComClientFactory.setBackend(backend);
+        return backend;
+    }
+
+    /**
+     * Creates the package, test bench configuration and test configuration files.
+     *
+     * @return the directory containing the created files
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private File createTestFiles() throws IOException {
+        final File testDir = new File(jenkins.jenkins.getRootDir(), "tests");
+        for (final String fileName : new String[]{"test.pkg", "test.tbc", "test.tcf"}) {
+            Files.createDirectories(testDir.toPath());
+            Files.write(new File(testDir, fileName).toPath(), fileName.getBytes(StandardCharsets.UTF_8));
+        }
+        return testDir;
+    }
+
+    /**
+     * Creates a project executing the created package incrementally.
+     *
+     * @param testDir    the directory containing the test files
+     * @param keepConfig specifies whether to keep the previously loaded configurations
+     * @return the project
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private FreeStyleProject createIncrementalProject(final File testDir, final boolean keepConfig)
+        throws IOException {
+        final TestPackageBuilder builder = new TestPackageBuilder(new File(testDir, "test.pkg").getPath());
+        builder.setTestConfig(new TestConfig(new File(testDir, "test.tbc").getPath(),
+            new File(testDir, "test.tcf").getPath(), false, false, keepConfig, null));
+        builder.setPackageConfig(new PackageConfig(true, true));
+        builder.setIncremental(true);
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        project.getBuildersList().add(builder);
+        return project;
+    }
+
     @Test
     public void testPipelineStep() throws Exception {
         assertPipelineStep("classicStep.groovy");
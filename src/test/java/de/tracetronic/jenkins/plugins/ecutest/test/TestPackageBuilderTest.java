@@ -56,6 +56,7 @@ public class TestPackageBuilderTest {
         assertNotNull(builder);
         assertNotNull(builder.getTestFile());
         assertTrue(builder.getTestFile().isEmpty());
+        assertFalse(builder.isIncremental());
         assertNotNull(builder.getTestConfig().getTbcFile());
         assertTrue(builder.getTestConfig().getTbcFile().isEmpty());
         assertNotNull(builder.getTestConfig().getTcfFile());
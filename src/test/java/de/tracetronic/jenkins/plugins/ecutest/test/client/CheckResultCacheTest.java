@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.CheckInfoHolder;
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.CheckInfoHolder.Seriousness;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit tests for {@link CheckResultCache}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class CheckResultCacheTest {
+
+    private static final long MAX_AGE = 60000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        CheckResultCache.invalidateAll();
+    }
+
+    @Test
+    public void testReplayUnchangedPackage() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final String key = CheckResultCache.getKey(pkgFile.getPath(), "2019.1", "");
+        final List<CheckInfoHolder> checks = Collections.singletonList(
+            new CheckInfoHolder(pkgFile.getPath(), Seriousness.WARNING, "warning", "1"));
+        CheckResultCache.put(key, pkgFile.getPath(), checks, MAX_AGE);
+
+        final List<CheckInfoHolder> cachedChecks = CheckResultCache.get(key, pkgFile.getPath(), MAX_AGE);
+        assertNotNull("Check results should be cached", cachedChecks);
+        assertEquals("Cached check results should match", 1, cachedChecks.size());
+    }
+
+    @Test
+    public void testChangedPackage() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final String key = CheckResultCache.getKey(pkgFile.getPath(), "2019.1", "");
+        CheckResultCache.put(key, pkgFile.getPath(), Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+        Files.write(pkgFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+
+        assertNull("Check results of changed package should not be replayed",
+            CheckResultCache.get(key, pkgFile.getPath(), MAX_AGE));
+    }
+
+    @Test
+    public void testChangedReferencedFile() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final File libFile = createFile("library.pkg", "content");
+        final String key = CheckResultCache.getKey(pkgFile.getPath(), "2019.1", "");
+        CheckResultCache.put(key, pkgFile.getPath(), Collections.singletonList(
+            new CheckInfoHolder(libFile.getPath(), Seriousness.NOTE, "note", "1")), MAX_AGE);
+        Files.write(libFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+
+        assertNull("Check results with changed references should not be replayed",
+            CheckResultCache.get(key, pkgFile.getPath(), MAX_AGE));
+    }
+
+    @Test
+    public void testChangedLibrary() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final File libDir = folder.newFolder("UserPyModules");
+        final File libFile = new File(libDir, "library.py");
+        Files.write(libFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        final String key = CheckResultCache.getKey(pkgFile.getPath(), "2019.1",
+            CheckResultCache.getLibraryDigest(libDir.getPath()));
+        CheckResultCache.put(key, pkgFile.getPath(), Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+        assertNotNull("Check results with unchanged library should be replayed",
+            CheckResultCache.get(key, pkgFile.getPath(), MAX_AGE));
+
+        Files.write(libFile.toPath(), "changed content".getBytes(StandardCharsets.UTF_8));
+        final String changedKey = CheckResultCache.getKey(pkgFile.getPath(), "2019.1",
+            CheckResultCache.getLibraryDigest(libDir.getPath()));
+        assertNull("Check results with changed library should not be replayed",
+            CheckResultCache.get(changedKey, pkgFile.getPath(), MAX_AGE));
+    }
+
+    @Test
+    public void testErroneousChecks() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final String key = CheckResultCache.getKey(pkgFile.getPath(), "2019.1", "");
+        CheckResultCache.put(key, pkgFile.getPath(), Collections.singletonList(
+            new CheckInfoHolder(pkgFile.getPath(), Seriousness.ERROR, "error", "1")), MAX_AGE);
+
+        assertNull("Erroneous check results should not be cached",
+            CheckResultCache.get(key, pkgFile.getPath(), MAX_AGE));
+    }
+
+    @Test
+    public void testDifferentVersion() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        CheckResultCache.put(CheckResultCache.getKey(pkgFile.getPath(), "2019.1", ""), pkgFile.getPath(),
+            Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+
+        assertNull("Check results of other ECU-TEST versions should not be replayed",
+            CheckResultCache.get(CheckResultCache.getKey(pkgFile.getPath(), "2019.2", ""), pkgFile.getPath(),
+                MAX_AGE));
+    }
+
+    @Test
+    public void testReplaceSupersededResults() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final String oldKey = CheckResultCache.getKey(pkgFile.getPath(), "2019.1", "");
+        final String newKey = CheckResultCache.getKey(pkgFile.getPath(), "2019.2", "");
+        CheckResultCache.put(oldKey, pkgFile.getPath(), Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+        CheckResultCache.put(newKey, pkgFile.getPath(), Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+
+        assertEquals("Only the most recent results per test file should be kept", 1, CheckResultCache.size());
+        assertNull(CheckResultCache.get(oldKey, pkgFile.getPath(), MAX_AGE));
+        assertNotNull(CheckResultCache.get(newKey, pkgFile.getPath(), MAX_AGE));
+    }
+
+    @Test
+    public void testEvictExpiredResults() throws Exception {
+        final File pkgFile = createFile("test.pkg", "content");
+        final File otherPkgFile = createFile("other.pkg", "content");
+        CheckResultCache.put(CheckResultCache.getKey(pkgFile.getPath(), "2019.1", ""), pkgFile.getPath(),
+            Collections.<CheckInfoHolder>emptyList(), MAX_AGE);
+        Thread.sleep(10);
+        CheckResultCache.put(CheckResultCache.getKey(otherPkgFile.getPath(), "2019.1", ""), otherPkgFile.getPath(),
+            Collections.<CheckInfoHolder>emptyList(), 1);
+
+        assertEquals("Expired results should be evicted when caching new results", 1, CheckResultCache.size());
+    }
+
+    /**
+     * Creates a file with given content.
+     *
+     * @param name    the file name
+     * @param content the file content
+     * @return the created file
+     * @throws Exception in case of I/O errors
+     */
+    private File createFile(final String name, final String content) throws Exception {
+        final File file = folder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim.SimComBackend;
+import hudson.Launcher;
+import hudson.model.TaskListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for the invalidation of the {@link LoadedConfigCache} by the {@link ETClient}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class LoadedConfigCacheIT extends IntegrationTestBase {
+
+    private static final String PROG_ID = ETComContext.getDefault().getProgId();
+
+    private Launcher launcher;
+
+    @Before
+    public void setUp() throws Exception {
+        ETComClientFactory.setBackend(new SimComBackend(0L, 0L, "SUCCESS",
+            new File(jenkins.jenkins.getRootDir(), "ecutest-sim")));
+        launcher = jenkins.createLocalLauncher();
+        LoadedConfigCache.setLoaded(PROG_ID, "fingerprint");
+        assertTrue(LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+
+    @After
+    public void tearDown() {
+        ETComClientFactory.setBackend(null);
+        LoadedConfigCache.invalidateAll();
+    }
+
+    @Test
+    public void testInvalidateOnStart() throws Exception {
+        final ETClient etClient = new ETClient("ECU-TEST", "ECU-TEST", "workspace", "settings", 0, false);
+        etClient.start(false, jenkins.jenkins.getRootPath(), launcher, TaskListener.NULL);
+
+        assertFalse("Loaded configurations should be invalidated by starting ECU-TEST",
+            LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+
+    @Test
+    public void testInvalidateOnStop() throws Exception {
+        ETClient.stopProcesses(ETComContext.getDefault(), launcher, TaskListener.NULL, false);
+
+        assertFalse("Loaded configurations should be invalidated by stopping ECU-TEST",
+            LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+
+    @Test
+    public void testInvalidateOnKill() throws Exception {
+        ETClient.checkProcesses(launcher, true);
+
+        assertFalse("Loaded configurations should be invalidated by killing ECU-TEST",
+            LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+
+    @Test
+    public void testKeepOnCheck() throws Exception {
+        ETClient.checkProcesses(launcher, false);
+
+        assertTrue("Loaded configurations should be kept by checking ECU-TEST processes",
+            LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient.LoadConfigCallable;
+import de.tracetronic.jenkins.plugins.ecutest.test.config.GlobalConstant;
+import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim.SimComBackend;
+import hudson.model.TaskListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link LoadedConfigCache}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class LoadedConfigCacheTest {
+
+    private static final String PROG_ID = "ECU-TEST.Application";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ComClient comClient;
+    private File tbcFile;
+    private File tcfFile;
+
+    @Before
+    public void setUp() throws Exception {
+        final SimComBackend backend = new SimComBackend(0L, 0L, "SUCCESS", folder.newFolder("sim"));
+        comClient = spy(backend.createClient(new ETComContext(PROG_ID), 0));
+        tbcFile = createFile("test.tbc", "tbc");
+        tcfFile = createFile("test.tcf", "tcf");
+    }
+
+    @After
+    public void tearDown() {
+        LoadedConfigCache.invalidateAll();
+    }
+
+    @Test
+    public void testLoadedConfig() {
+        assertFalse(LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+        LoadedConfigCache.setLoaded(PROG_ID, "fingerprint");
+        assertTrue(LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+        assertFalse(LoadedConfigCache.isLoaded(PROG_ID, "changed"));
+        assertFalse(LoadedConfigCache.isLoaded("ECU-TEST.Application.8.0", "fingerprint"));
+    }
+
+    @Test
+    public void testGetLoaded() {
+        assertNull("Unknown configurations should have no fingerprint", LoadedConfigCache.getLoaded(PROG_ID));
+        LoadedConfigCache.setLoaded(PROG_ID, "fingerprint");
+        assertEquals("fingerprint", LoadedConfigCache.getLoaded(PROG_ID));
+        LoadedConfigCache.invalidate(PROG_ID);
+        assertNull(LoadedConfigCache.getLoaded(PROG_ID));
+    }
+
+    @Test
+    public void testInvalidate() {
+        LoadedConfigCache.setLoaded(PROG_ID, "fingerprint");
+        LoadedConfigCache.invalidate(PROG_ID);
+        assertFalse(LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+
+        LoadedConfigCache.setLoaded(PROG_ID, "fingerprint");
+        LoadedConfigCache.invalidateAll();
+        assertFalse(LoadedConfigCache.isLoaded(PROG_ID, "fingerprint"));
+    }
+
+    @Test
+    public void testSkipUnchangedConfig() throws Exception {
+        final TestConfig testConfig = newTestConfig(Collections.singletonList(new GlobalConstant("name", "value")));
+        assertTrue("Configurations should be loaded", loadConfig(testConfig));
+        assertTrue("Unchanged configurations should be loaded", loadConfig(testConfig));
+
+        verify(comClient, times(1)).openTestbenchConfiguration(anyString());
+        verify(comClient, times(1)).openTestConfiguration(anyString());
+    }
+
+    @Test
+    public void testReloadChangedTbc() throws Exception {
+        final TestConfig testConfig = newTestConfig(Collections.<GlobalConstant>emptyList());
+        assertTrue(loadConfig(testConfig));
+        Files.write(tbcFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        assertTrue(loadConfig(testConfig));
+
+        verify(comClient, times(2)).openTestbenchConfiguration(anyString());
+    }
+
+    @Test
+    public void testReloadChangedTcf() throws Exception {
+        final TestConfig testConfig = newTestConfig(Collections.<GlobalConstant>emptyList());
+        assertTrue(loadConfig(testConfig));
+        Files.write(tcfFile.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        assertTrue(loadConfig(testConfig));
+
+        verify(comClient, times(2)).openTestConfiguration(anyString());
+    }
+
+    @Test
+    public void testReloadChangedConstants() throws Exception {
+        assertTrue(loadConfig(newTestConfig(Collections.singletonList(new GlobalConstant("name", "value")))));
+        assertTrue(loadConfig(newTestConfig(Collections.singletonList(new GlobalConstant("name", "changed")))));
+
+        verify(comClient, times(2)).openTestConfiguration(anyString());
+    }
+
+    @Test
+    public void testReloadInvalidatedConfig() throws Exception {
+        final TestConfig testConfig = newTestConfig(Collections.<GlobalConstant>emptyList());
+        assertTrue(loadConfig(testConfig));
+        LoadedConfigCache.invalidate(PROG_ID);
+        assertTrue(loadConfig(testConfig));
+
+        verify(comClient, times(2)).openTestbenchConfiguration(anyString());
+    }
+
+    /**
+     * Loads the given configurations using the simulated COM client.
+     *
+     * @param testConfig the test configuration
+     * @return {@code true} if the configurations are loaded successfully, {@code false} otherwise
+     */
+    private boolean loadConfig(final TestConfig testConfig) {
+        return new LoadConfigCallable(testConfig, new ETComContext(PROG_ID), TaskListener.NULL).loadConfig(comClient);
+    }
+
+    /**
+     * Creates a new test configuration referencing the created configuration files.
+     *
+     * @param constants the global constants
+     * @return the test configuration
+     */
+    private TestConfig newTestConfig(final List<GlobalConstant> constants) {
+        return new TestConfig(tbcFile.getPath(), tcfFile.getPath(), false, false, false, constants);
+    }
+
+    /**
+     * Creates a file with given content.
+     *
+     * @param name    the file name
+     * @param content the file content
+     * @return the created file
+     * @throws Exception in case of I/O errors
+     */
+    private File createFile(final String name, final String content) throws Exception {
+        final File file = folder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import hudson.Launcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvnet.hudson.test.WithoutJenkins;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link TestFolderScanner}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class TestFolderScannerIT extends IntegrationTestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    @After
+    public void clearIndex() {
+        TestFolderScanner.clearIndex();
+    }
+
+    @Test
+    public void testNoTests() throws Exception {
+        final Launcher launcher = jenkins.createOnlineSlave().createLauncher(jenkins.createTaskListener());
+        final TestFolderScanner scanner = new TestFolderScanner(folder.newFolder().getAbsolutePath(), true, launcher);
+        final TestFolderScanner.ScanResult result = scanner.scanTestFiles(true, true);
+        assertTrue("No packages should be found", result.getPackages().isEmpty());
+        assertTrue("No projects should be found", result.getProjects().isEmpty());
+    }
+
+    @Test
+    public void testScanTests() throws Exception {
+        createTestFiles();
+        final Launcher launcher = jenkins.createOnlineSlave().createLauncher(jenkins.createTaskListener());
+        final TestFolderScanner scanner = new TestFolderScanner(folder.getRoot().getAbsolutePath(), false, launcher);
+        final TestFolderScanner.ScanResult result = scanner.scanTestFiles(true, true);
+        assertEquals("One package should be found", 1, result.getPackages().size());
+        assertEquals("One project should be found", 1, result.getProjects().size());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testRecursiveScanTests() throws Exception {
+        createTestFiles();
+        final TestFolderScanner.ScanResult result = scan(true, "", "", false);
+        assertEquals("Three packages should be found recursively", 3, result.getPackages().size());
+        assertEquals("Two projects should be found recursively", 2, result.getProjects().size());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testScanPackagesOnly() throws Exception {
+        createTestFiles();
+        final TestFolderScanner.ScanResult result = TestFolderScanner.scan(folder.getRoot().getAbsolutePath(), true,
+            "", "", true, false, false);
+        assertEquals("Three packages should be found recursively", 3, result.getPackages().size());
+        assertTrue("No projects should be collected", result.getProjects().isEmpty());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testIncludeExcludePatterns() throws Exception {
+        createTestFiles();
+        final TestFolderScanner.ScanResult result = scan(true, "tests/**", "**/draft*", false);
+        assertEquals("One package should be included", 1, result.getPackages().size());
+        assertTrue("Wrong package included", result.getPackages().get(0).endsWith("test2.pkg"));
+        assertEquals("One project should be included", 1, result.getProjects().size());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testSortedResult() throws Exception {
+        createTestFiles();
+        final TestFolderScanner.ScanResult result = scan(true, "", "", false);
+        final String[] packages = result.getPackages().toArray(new String[0]);
+        for (int i = 1; i < packages.length; i++) {
+            assertTrue("Packages should be sorted by path", packages[i - 1].compareTo(packages[i]) < 0);
+        }
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testIndexedScanTests() throws Exception {
+        createTestFiles();
+        assertEquals("Indexed scan should match file tree walk",
+            scan(true, "", "", false).getPackages(), scan(true, "", "", true).getPackages());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testIndexInvalidation() throws Exception {
+        createTestFiles();
+        final File subFolder = new File(folder.getRoot(), "tests");
+        final FileTime lastModified = Files.getLastModifiedTime(subFolder.toPath());
+        assertEquals("Three packages should be indexed", 3, scan(true, "", "", true).getPackages().size());
+
+        new File(subFolder, "test3.pkg").createNewFile();
+        Files.setLastModifiedTime(subFolder.toPath(), lastModified);
+        assertEquals("Unchanged folder should be taken from index", 3,
+            scan(true, "", "", true).getPackages().size());
+
+        Files.setLastModifiedTime(subFolder.toPath(), FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertEquals("Modified folder should be scanned again", 4, scan(true, "", "", true).getPackages().size());
+    }
+
+    @Test
+    @WithoutJenkins
+    public void testIndexEviction() throws Exception {
+        createTestFiles();
+        final File subFolder = new File(folder.getRoot(), "tests");
+        final File nestedFolder = new File(subFolder, "nested");
+        assertTrue(nestedFolder.mkdir());
+        scan(true, "", "", true);
+        assertEquals("All folders should be indexed", 3, TestFolderScanner.getIndexSize());
+
+        assertTrue(nestedFolder.delete());
+        for (final File file : subFolder.listFiles()) {
+            assertTrue(file.delete());
+        }
+        assertTrue(subFolder.delete());
+        Files.setLastModifiedTime(folder.getRoot().toPath(), FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        assertEquals("Removed folders should not be scanned", 1, scan(true, "", "", true).getPackages().size());
+        assertEquals("Removed folders should be evicted from index", 1, TestFolderScanner.getIndexSize());
+    }
+
+    private TestFolderScanner.ScanResult scan(final boolean recursive, final String includes,
+                                              final String excludes, final boolean useIndex) throws Exception {
+        return TestFolderScanner.scan(folder.getRoot().getAbsolutePath(), recursive, includes, excludes,
+            true, true, useIndex);
+    }
+
+    private void createTestFiles() throws Exception {
+        folder.newFile("test.pkg");
+        folder.newFile("test.prj");
+        folder.newFile("test.txt");
+        final File subFolder = folder.newFolder("tests");
+        new File(subFolder, "draft.pkg").createNewFile();
+        new File(subFolder, "test2.pkg").createNewFile();
+        new File(subFolder, "test2.prj").createNewFile();
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertTrue;
  *
  * @author Christian Pönisch <christian.poenisch@tracetronic.de>
  */
+@SuppressWarnings("deprecation")
 public class TestPackageScannerIT extends IntegrationTestBase {
 
     @Rule
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.FreeStyleBuild;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.remoting.Channel;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ETInstanceService}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETInstanceServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSingleton() {
+        assertSame(ETInstanceService.getInstance(), ETInstanceService.getInstance());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse(new ETInstanceService(ETInstanceService.DEFAULT_IDLE_TIMEOUT).isEnabled());
+        assertFalse(new ETInstanceService(-1).isEnabled());
+        assertTrue(new ETInstanceService(60).isEnabled());
+        assertFalse(new ETInstanceService(0).isWarmStartEnabled());
+        assertFalse(new ETInstanceService(0, -1, 0, new StubHealthCheck(0L)).isWarmStartEnabled());
+        assertTrue(new ETInstanceService(0, 10, 0, new StubHealthCheck(0L)).isWarmStartEnabled());
+    }
+
+    @Test
+    public void testKey() {
+        final ETClient client = new ETClient("ECU-TEST", "C:\\ECU-TEST\\ECU-TEST.exe", "C:\\workspace",
+            "C:\\settings", 120, false);
+        final ETClient sameClient = new ETClient("ECU-TEST", "C:\\ECU-TEST\\ECU-TEST.exe", "C:\\workspace",
+            "C:\\settings", 60, false);
+        final ETClient otherClient = new ETClient("ECU-TEST", "C:\\ECU-TEST\\ECU-TEST.exe", "C:\\workspace",
+            "C:\\otherSettings", 120, false);
+
+        assertEquals(ETInstanceService.getKey(client), ETInstanceService.getKey(sameClient));
+        assertNotEquals(ETInstanceService.getKey(client), ETInstanceService.getKey(otherClient));
+    }
+
+    @Test
+    public void testReleaseWarmWithoutInstance() {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(0L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+
+        assertFalse(service.releaseWarm(newRun(true), launcher, TaskListener.NULL));
+        assertEquals(0, service.getInstanceCount());
+        assertEquals(0, service.getRecycleCount());
+    }
+
+    @Test
+    public void testWarmInstanceOwnership() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(0L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        final Run<?, ?> firstRun = newRun(true);
+        final Run<?, ?> secondRun = newRun(true);
+        service.register(client, firstRun, null, launcher);
+
+        assertNull("Instance owned by running build should not be acquired",
+            service.acquireWarm(new StubClient(true), secondRun, null, launcher, TaskListener.NULL));
+        assertFalse("Only owning run should release instance",
+            service.releaseWarm(secondRun, launcher, TaskListener.NULL));
+        assertTrue(service.releaseWarm(firstRun, launcher, TaskListener.NULL));
+
+        assertSame(client, service.acquireWarm(new StubClient(true), secondRun, null, launcher, TaskListener.NULL));
+        assertFalse("Previous owner should not release instance again",
+            service.releaseWarm(firstRun, launcher, TaskListener.NULL));
+        assertTrue(service.releaseWarm(secondRun, launcher, TaskListener.NULL));
+        assertEquals(1, service.getInstanceCount());
+        assertEquals(1, service.getHitCount());
+        assertEquals(1, service.getMissCount());
+        assertEquals(0, client.stopCount.get());
+    }
+
+    @Test
+    public void testRecycleAtMaxUses() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 2, 0, new StubHealthCheck(0L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        final Run<?, ?> firstRun = newRun(true);
+        final Run<?, ?> secondRun = newRun(true);
+        service.register(client, firstRun, null, launcher);
+        assertTrue(service.releaseWarm(firstRun, launcher, TaskListener.NULL));
+
+        assertSame(client, service.acquireWarm(new StubClient(true), secondRun, null, launcher, TaskListener.NULL));
+        assertFalse("Exhausted instance should be stopped by caller",
+            service.releaseWarm(secondRun, launcher, TaskListener.NULL));
+        assertEquals(0, service.getInstanceCount());
+        assertEquals(1, service.getRecycleCount());
+    }
+
+    @Test
+    public void testAcquireInstanceOfFinishedRun() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(0L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        service.register(client, newRun(false), null, launcher);
+
+        final Run<?, ?> run = newRun(true);
+        assertSame("Instance of finished run should be acquired", client,
+            service.acquireWarm(new StubClient(true), run, null, launcher, TaskListener.NULL));
+        assertTrue(service.releaseWarm(run, launcher, TaskListener.NULL));
+    }
+
+    @Test
+    public void testRecycleIncompatibleInstance() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(0L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        service.register(client, newRun(false), null, launcher);
+
+        final ETClient otherClient = new ETClient("ECU-TEST", "ECU-TEST", "workspace", "otherSettings", 0, false);
+        assertNull(service.acquireWarm(otherClient, newRun(true), null, launcher, TaskListener.NULL));
+        assertEquals(1, client.stopCount.get());
+        assertEquals(0, service.getInstanceCount());
+        assertEquals(1, service.getRecycleCount());
+    }
+
+    @Test
+    public void testRecycleUnhealthyInstance() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(null));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        service.register(new StubClient(true), newRun(false), null, launcher);
+
+        assertNull(service.acquireWarm(new StubClient(true), newRun(true), null, launcher, TaskListener.NULL));
+        assertEquals(0, service.getInstanceCount());
+        assertEquals(1, service.getRecycleCount());
+    }
+
+    @Test
+    public void testRecycleAtMaxMemory() throws Exception {
+        final ETInstanceService service = new ETInstanceService(0, 10, 1,
+            new StubHealthCheck(2L * 1024L * 1024L));
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        service.register(client, newRun(false), null, launcher);
+
+        assertNull(service.acquireWarm(new StubClient(true), newRun(true), null, launcher, TaskListener.NULL));
+        assertEquals(1, client.stopCount.get());
+        assertEquals(0, service.getInstanceCount());
+        assertEquals(1, service.getRecycleCount());
+    }
+
+    @Test
+    public void testAcquireExternalInstance() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final ETInstanceService.Lease lease = service.acquireRunning(null, TaskListener.NULL);
+
+        assertEquals(ETInstanceService.Lease.Type.EXTERNAL, lease.getType());
+        assertTrue(lease.isStarted());
+        assertNull(lease.getClient());
+        assertTrue(service.release(lease, null, null, TaskListener.NULL));
+        assertEquals(0, service.getHitCount());
+        assertEquals(0, service.getMissCount());
+        assertEquals(0, service.getInstanceCount());
+    }
+
+    @Test
+    public void testStopIdleInstancesWithoutInstances() {
+        final ETInstanceService service = new ETInstanceService(60);
+        service.invalidate(null);
+        service.stopIdleInstances(TaskListener.NULL);
+
+        assertEquals(0, service.getEvictionCount());
+        assertEquals(0, service.getInstanceCount());
+    }
+
+    @Test
+    public void testConcurrentAcquireStartsSingleInstance() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient firstClient = new StubClient(true);
+        final StubClient secondClient = new StubClient(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<ETInstanceService.Lease> firstLease = executor.submit(acquire(service, firstClient, launcher));
+            assertTrue("First client should be starting", firstClient.starting.await(10, TimeUnit.SECONDS));
+            final Future<ETInstanceService.Lease> secondLease = executor.submit(
+                acquire(service, secondClient, launcher));
+            firstClient.release.countDown();
+
+            assertSame(firstClient, firstLease.get(10, TimeUnit.SECONDS).getClient());
+            assertSame("Pending instance should be reused", firstClient,
+                secondLease.get(10, TimeUnit.SECONDS).getClient());
+            assertEquals(1, firstClient.startCount.get());
+            assertEquals("Second client should not be started", 0, secondClient.startCount.get());
+            assertEquals(1, service.getInstanceCount());
+            assertEquals(1, service.getMissCount());
+            assertEquals(1, service.getHitCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAcquireAfterFailedStart() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient failingClient = new StubClient(false);
+        failingClient.release.countDown();
+        final StubClient client = new StubClient(true);
+        client.release.countDown();
+
+        final ETInstanceService.Lease failedLease = service.acquire(failingClient, null, launcher, TaskListener.NULL);
+        assertFalse(failedLease.isStarted());
+        assertEquals(ETInstanceService.Lease.Type.DEDICATED, failedLease.getType());
+        assertEquals(0, service.getInstanceCount());
+
+        final ETInstanceService.Lease lease = service.acquire(client, null, launcher, TaskListener.NULL);
+        assertTrue(lease.isStarted());
+        assertNotNull(lease.getClient());
+        assertEquals(1, client.startCount.get());
+        assertEquals(1, service.getInstanceCount());
+    }
+
+    @Test
+    public void testInvalidateKeepsInstanceOfOtherClient() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient client = new StubClient(true);
+        client.release.countDown();
+        service.acquire(client, null, launcher, TaskListener.NULL);
+
+        service.invalidate(launcher.getChannel(), new StubClient(true));
+        assertEquals("Instance of other client should be kept", 1, service.getInstanceCount());
+        service.invalidate(launcher.getChannel(), client);
+        assertEquals(0, service.getInstanceCount());
+    }
+
+    @Test
+    public void testAcquireWaitsForPendingStop() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient idleClient = newStoppingClient(service, launcher);
+        final StubClient client = new StubClient(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> eviction = executor.submit(stopIdleInstances(service));
+            assertTrue("Idle client should be stopping", idleClient.stopping.await(10, TimeUnit.SECONDS));
+            final Future<ETInstanceService.Lease> lease = executor.submit(acquire(service, client, launcher));
+            assertFalse("Client should not be started while stopping",
+                client.starting.await(500, TimeUnit.MILLISECONDS));
+
+            idleClient.stopRelease.countDown();
+            client.release.countDown();
+            eviction.get(10, TimeUnit.SECONDS);
+            assertSame(client, lease.get(10, TimeUnit.SECONDS).getClient());
+            assertEquals(1, service.getInstanceCount());
+            assertEquals(1, service.getEvictionCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAcquireRunningDuringPendingStop() throws Exception {
+        final ETInstanceService service = new ETInstanceService(60);
+        final Launcher launcher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final StubClient idleClient = newStoppingClient(service, launcher);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> eviction = executor.submit(stopIdleInstances(service));
+            assertTrue("Idle client should be stopping", idleClient.stopping.await(10, TimeUnit.SECONDS));
+            final Future<ETInstanceService.Lease> lease = executor.submit(
+                new Callable<ETInstanceService.Lease>() {
+
+                    @Override
+                    public ETInstanceService.Lease call() throws Exception {
+                        return service.acquireRunning(launcher.getChannel(), TaskListener.NULL);
+                    }
+                });
+            try {
+                lease.get(500, TimeUnit.MILLISECONDS);
+                fail("Stopping instance should not be acquired");
+            } catch (final TimeoutException e) {
+                idleClient.stopRelease.countDown();
+            }
+
+            eviction.get(10, TimeUnit.SECONDS);
+            assertNull("Stopped instance should not be acquired as external instance",
+                lease.get(10, TimeUnit.SECONDS));
+            assertEquals(0, service.getInstanceCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPruneClosedChannels() {
+        final ETInstanceService service = new ETInstanceService(0, 10, 0, new StubHealthCheck(0L));
+        final Launcher localLauncher = new Launcher.LocalLauncher(TaskListener.NULL);
+        final Channel channel = mock(Channel.class);
+        final Launcher remoteLauncher = mock(Launcher.class);
+        when(remoteLauncher.getChannel()).thenReturn(channel);
+        service.register(new StubClient(true), newRun(false), null, localLauncher);
+        service.register(new StubClient(true), newRun(false), null, remoteLauncher);
+
+        service.pruneClosedChannels();
+        assertEquals("Instance of connected node should be kept", 2, service.getInstanceCount());
+
+        when(channel.isClosingOrClosed()).thenReturn(true);
+        service.pruneClosedChannels();
+        assertEquals("Instance of disconnected node should be discarded", 1, service.getInstanceCount());
+    }
+
+    private StubClient newStoppingClient(final ETInstanceService service, final Launcher launcher)
+        throws Exception {
+        final StubClient client = new StubClient(true);
+        client.release.countDown();
+        client.stopRelease = new CountDownLatch(1);
+        final FilePath workspace = new FilePath(folder.getRoot());
+        final ETInstanceService.Lease lease = service.acquire(client, workspace, launcher, TaskListener.NULL);
+        assertTrue(service.release(lease, workspace, launcher, TaskListener.NULL));
+        return client;
+    }
+
+    private static Runnable stopIdleInstances(final ETInstanceService service) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                service.stopIdleInstances(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2),
+                    TaskListener.NULL);
+            }
+        };
+    }
+
+    private static Run<?, ?> newRun(final boolean building) {
+        final FreeStyleBuild run = mock(FreeStyleBuild.class);
+        when(run.isBuilding()).thenReturn(building);
+        return run;
+    }
+
+    private static Callable<ETInstanceService.Lease> acquire(final ETInstanceService service, final ETClient client,
+                                                            final Launcher launcher) {
+        return new Callable<ETInstanceService.Lease>() {
+
+            @Override
+            public ETInstanceService.Lease call() throws Exception {
+                return service.acquire(client, null, launcher, TaskListener.NULL);
+            }
+        };
+    }
+
+    /**
+     * {@link ETClient} stub whose start and optionally stop block until released.
+     */
+    private static final class StubClient extends ETClient {
+
+        private final boolean startResult;
+        private final CountDownLatch starting = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger startCount = new AtomicInteger();
+        private final AtomicInteger stopCount = new AtomicInteger();
+        private final CountDownLatch stopping = new CountDownLatch(1);
+        private CountDownLatch stopRelease = new CountDownLatch(0);
+
+        StubClient(final boolean startResult) {
+            super("ECU-TEST", "ECU-TEST", "workspace", "settings", 0, false);
+            this.startResult = startResult;
+        }
+
+        @Override
+        public boolean start(final boolean checkProcesses, final FilePath workspace, final Launcher launcher,
+                             final TaskListener listener) throws InterruptedException {
+            startCount.incrementAndGet();
+            starting.countDown();
+            release.await();
+            return startResult;
+        }
+
+        @Override
+        public boolean stop(final boolean checkProcesses, final FilePath workspace, final Launcher launcher,
+                            final TaskListener listener) throws InterruptedException {
+            stopCount.incrementAndGet();
+            stopping.countDown();
+            stopRelease.await();
+            return true;
+        }
+    }
+
+    /**
+     * Health check stub reporting a fixed memory usage.
+     */
+    private static final class StubHealthCheck implements ETInstanceService.HealthCheck {
+
+        private final Long memoryUsage;
+
+        StubHealthCheck(final Long memoryUsage) {
+            this.memoryUsage = memoryUsage;
+        }
+
+        @Override
+        public Long check(final ETClient client, final FilePath workspace, final Launcher launcher,
+                          final TaskListener listener) {
+            return memoryUsage;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import com.gargoylesoftware.htmlunit.html.HtmlPage;
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import hudson.model.ManagementLink;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for {@link ETInstanceStatisticsLink}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETInstanceStatisticsLinkIT extends IntegrationTestBase {
+
+    @Test
+    public void testRegisteredLink() {
+        assertNotNull("Statistics link should be registered",
+            ManagementLink.all().get(ETInstanceStatisticsLink.class));
+    }
+
+    @Test
+    public void testStatisticsPage() throws Exception {
+        final HtmlPage page = getWebClient().goTo(ETInstanceStatisticsLink.URL_NAME);
+        final String text = page.asText();
+        assertTrue("Page should show the number of reused instances",
+            text.contains("Acquisitions reusing an instance"));
+        assertTrue("Page should show the number of started instances",
+            text.contains("Acquisitions starting an instance"));
+        assertTrue("Page should show the number of timed out COM requests",
+            text.contains("Timed out requests"));
+        assertTrue("Page should show the number of established COM connections",
+            text.contains("COM connections"));
+    }
+
+    @Test
+    public void testComStatistics() {
+        final ETInstanceStatisticsLink link = ManagementLink.all().get(ETInstanceStatisticsLink.class);
+        assertNotNull(link);
+        assertEquals("COM statistics of the controller should be read", 1, link.getComStatistics().size());
+    }
+}
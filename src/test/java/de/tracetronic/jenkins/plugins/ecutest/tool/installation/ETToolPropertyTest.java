@@ -36,4 +36,19 @@ public class ETToolPropertyTest {
         assertEquals("ECU-TEST6.Application", property.getProgId());
         assertEquals(120, property.getTimeout());
     }
+
+    @Test
+    public void testDefaultPollingIntervals() {
+        final ETToolProperty property = new ETToolProperty("ECU-TEST6.Application", 120, 0, 0);
+        assertEquals(ETToolProperty.DescriptorImpl.getDefaultInitialPollingInterval(),
+            property.getInitialPollingInterval());
+        assertEquals(ETToolProperty.DescriptorImpl.getDefaultMaxPollingInterval(), property.getMaxPollingInterval());
+    }
+
+    @Test
+    public void testPollingIntervals() {
+        final ETToolProperty property = new ETToolProperty("ECU-TEST6.Application", 120, 100, 2000);
+        assertEquals(100, property.getPollingPolicy().getInitialInterval());
+        assertEquals(2000, property.getPollingPolicy().getMaxInterval());
+    }
 }
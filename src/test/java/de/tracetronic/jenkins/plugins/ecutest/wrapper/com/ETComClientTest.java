@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the connection handoff of {@link ETComClient}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETComClientTest {
+
+    @Test
+    public void testAttachAndRelease() throws Exception {
+        final ETComClient.DispatchHandoff handoff = new ETComClient.DispatchHandoff();
+        final CountDownLatch released = new CountDownLatch(1);
+        final Thread initThread = new InitThread(handoff, released);
+        initThread.start();
+
+        assertTrue("Dispatch should be attached", handoff.awaitAttach(10, TimeUnit.SECONDS));
+        assertNull(handoff.getThrowable());
+        assertFalse("Init thread should be parked until released", released.await(200, TimeUnit.MILLISECONDS));
+
+        handoff.release();
+        assertTrue("Init thread should be released", released.await(10, TimeUnit.SECONDS));
+        initThread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(initThread.isAlive());
+    }
+
+    @Test
+    public void testReleaseBeforeAttach() throws Exception {
+        final ETComClient.DispatchHandoff handoff = new ETComClient.DispatchHandoff();
+        assertFalse("Dispatch should not be attached", handoff.awaitAttach(100, TimeUnit.MILLISECONDS));
+        handoff.release();
+
+        final CountDownLatch released = new CountDownLatch(1);
+        final Thread initThread = new InitThread(handoff, released);
+        initThread.start();
+        assertTrue("Init thread attaching late should not be parked", released.await(10, TimeUnit.SECONDS));
+        initThread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(initThread.isAlive());
+    }
+
+    @Test
+    public void testInitFailure() throws Exception {
+        final ETComClient.DispatchHandoff handoff = new ETComClient.DispatchHandoff();
+        final IllegalStateException failure = new IllegalStateException("COM server not registered");
+        final Thread initThread = new Thread() {
+
+            @Override
+            public void run() {
+                throw failure;
+            }
+        };
+        initThread.setUncaughtExceptionHandler(new ETComClient.InitDispatchExceptionHandler(handoff));
+        initThread.start();
+
+        assertTrue("Failure should be signaled", handoff.awaitAttach(10, TimeUnit.SECONDS));
+        assertSame(failure, handoff.getThrowable());
+        initThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Thread attaching like the init dispatch thread and parking until released.
+     */
+    private static final class InitThread extends Thread {
+
+        private final ETComClient.DispatchHandoff handoff;
+        private final CountDownLatch released;
+
+        InitThread(final ETComClient.DispatchHandoff handoff, final CountDownLatch released) {
+            super();
+            this.handoff = handoff;
+            this.released = released;
+        }
+
+        @Override
+        public void run() {
+            handoff.attach();
+            try {
+                handoff.awaitRelease();
+                released.countDown();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
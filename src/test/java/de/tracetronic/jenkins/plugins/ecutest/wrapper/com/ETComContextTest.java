@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Unit tests for {@link ETComContext}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETComContextTest {
+
+    @Test
+    public void testDefaultContext() {
+        final ETComContext context = ETComContext.getDefault();
+        assertEquals(ETComProperty.DEFAULT_PROG_ID, context.getProgId());
+        assertEquals(ETComProperty.DEFAULT_TIMEOUT, context.getTimeout());
+        assertNotNull(context.getPollingPolicy());
+    }
+
+    @Test
+    public void testBlankProgId() {
+        final ETComContext context = new ETComContext(" ", -1, null);
+        assertEquals(ETComProperty.DEFAULT_PROG_ID, context.getProgId());
+        assertEquals(0, context.getTimeout());
+        assertNotNull(context.getPollingPolicy());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final ETComContext context = new ETComContext("ECU-TEST6.Application", 120, null);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(context);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final ETComContext copy = (ETComContext) in.readObject();
+            assertEquals("ECU-TEST6.Application", copy.getProgId());
+            assertEquals(120, copy.getTimeout());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComPollingPolicy.Poller;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ETComPollingPolicy}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETComPollingPolicyTest {
+
+    @Test
+    public void testDefaultPolicy() {
+        final ETComPollingPolicy policy = ETComPollingPolicy.getDefault();
+        assertEquals(ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL, policy.getInitialInterval());
+        assertEquals(ETComPollingPolicy.DEFAULT_MAX_INTERVAL, policy.getMaxInterval());
+    }
+
+    @Test
+    public void testInvalidIntervals() {
+        final ETComPollingPolicy policy = new ETComPollingPolicy(0, -1);
+        assertEquals(ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL, policy.getInitialInterval());
+        assertEquals(ETComPollingPolicy.DEFAULT_MAX_INTERVAL, policy.getMaxInterval());
+    }
+
+    @Test
+    public void testMaxIntervalNotLessThanInitial() {
+        final ETComPollingPolicy policy = new ETComPollingPolicy(500, 100);
+        assertEquals(500, policy.getInitialInterval());
+        assertEquals(500, policy.getMaxInterval());
+    }
+
+    @Test
+    public void testExponentialBackoff() throws InterruptedException {
+        final Poller poller = new ETComPollingPolicy(1, 4).newPoller();
+        assertEquals(0, poller.getDetectionMillis());
+        poller.await();
+        assertEquals(1, poller.getDetectionMillis());
+        poller.await();
+        assertEquals(2, poller.getDetectionMillis());
+        poller.await();
+        assertEquals(4, poller.getDetectionMillis());
+        poller.await();
+        assertEquals(4, poller.getDetectionMillis());
+        assertEquals(4, poller.getPollCount());
+    }
+
+    @Test
+    public void testTick() {
+        final Poller poller = ETComPollingPolicy.getDefault().newPoller();
+        assertTrue(poller.isTickDue());
+        assertFalse(poller.isTickDue());
+    }
+}
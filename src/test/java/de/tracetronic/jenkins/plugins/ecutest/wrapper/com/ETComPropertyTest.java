@@ -59,6 +59,14 @@ public class ETComPropertyTest {
         prop.setTimeout(ETComProperty.DEFAULT_TIMEOUT);
     }
 
+    @Test
+    public void testDefaultPollingPolicy() {
+        final ETComProperty prop = ETComProperty.getInstance();
+        prop.setPollingPolicy(null);
+        assertEquals(ETComPollingPolicy.DEFAULT_INITIAL_INTERVAL, prop.getPollingPolicy().getInitialInterval());
+        assertEquals(ETComPollingPolicy.DEFAULT_MAX_INTERVAL, prop.getPollingPolicy().getMaxInterval());
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         final File tempFile = File.createTempFile("test", ".ser");
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link ETComRequestExecutor}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class ETComRequestExecutorTest {
+
+    @Test
+    public void testSingleton() {
+        assertSame(ETComRequestExecutor.getInstance(), ETComRequestExecutor.getInstance());
+    }
+
+    @Test
+    public void testExecute() throws ETComException {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        final String result = executor.execute(new Callable<String>() {
+            @Override
+            public String call() {
+                return "result";
+            }
+        }, 10);
+        assertEquals("result", result);
+        assertEquals(1, executor.getRequestCount());
+        assertEquals(0, executor.getTimeoutCount());
+    }
+
+    @Test(expected = ETComException.class)
+    public void testExecuteFailure() throws ETComException {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        executor.execute(new Callable<String>() {
+            @Override
+            public String call() throws ETComException {
+                throw new ETComException("failure");
+            }
+        }, 10);
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        try {
+            executor.execute(new BlockingRequest(new CountDownLatch(1)), 1);
+        } catch (final ETComTimeoutException e) {
+            assertEquals(1, executor.getTimeoutCount());
+            return;
+        } catch (final ETComException e) {
+            throw new AssertionError("Expected timeout exception", e);
+        }
+        throw new AssertionError("Expected timeout exception");
+    }
+
+    @Test
+    public void testTimeoutStartsWithExecution() throws Exception {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread first = new BlockingThread(executor, latch);
+        first.start();
+        waitFor(executor, 1, 0);
+        final Thread releaser = new Thread() {
+
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(1500L);
+                } catch (final InterruptedException e) {
+                    // noop
+                } finally {
+                    latch.countDown();
+                }
+            }
+        };
+        releaser.start();
+        try {
+            assertEquals("Waiting in queue should not exceed timeout", "result", executor.execute(
+                new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return "result";
+                    }
+                }, 1));
+            assertEquals(0, executor.getTimeoutCount());
+        } finally {
+            latch.countDown();
+            releaser.join();
+            first.join();
+        }
+    }
+
+    @Test
+    public void testRetireBlockedThread() throws Exception {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(new UninterruptibleRequest(latch), 1);
+            throw new AssertionError("Expected timeout exception");
+        } catch (final ETComTimeoutException e) {
+            assertEquals(1, executor.getRetiredCount());
+            assertEquals(1, executor.getBlockedCount());
+        }
+        try {
+            assertEquals("Request should be performed by replacing thread", "result", executor.execute(
+                new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return "result";
+                    }
+                }, 10));
+        } finally {
+            latch.countDown();
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getBlockedCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals("Released thread should no longer be blocked", 0, executor.getBlockedCount());
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        final ETComRequestExecutor executor = new ETComRequestExecutor(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread first = new BlockingThread(executor, latch);
+        final Thread second = new BlockingThread(executor, latch);
+        first.start();
+        waitFor(executor, 1, 0);
+        second.start();
+        waitFor(executor, 1, 1);
+        try {
+            executor.execute(new BlockingRequest(latch), 10);
+            throw new AssertionError("Expected rejected request");
+        } catch (final ETComException e) {
+            assertEquals(1, executor.getRejectedCount());
+        } finally {
+            latch.countDown();
+            first.join();
+            second.join();
+        }
+    }
+
+    private static void waitFor(final ETComRequestExecutor executor, final int active, final int queued)
+        throws InterruptedException {
+        while (executor.getActiveCount() < active || executor.getQueueDepth() < queued) {
+            Thread.sleep(10L);
+        }
+    }
+
+    /**
+     * Request blocking until the given latch is released.
+     */
+    private static final class BlockingRequest implements Callable<Boolean> {
+
+        private final CountDownLatch latch;
+
+        BlockingRequest(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Boolean call() throws InterruptedException {
+            latch.await();
+            return true;
+        }
+    }
+
+    /**
+     * Request ignoring interrupts like a native COM call, blocking until the given latch is released.
+     */
+    private static final class UninterruptibleRequest implements Callable<Boolean> {
+
+        private final CountDownLatch latch;
+
+        UninterruptibleRequest(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Boolean call() {
+            while (true) {
+                try {
+                    latch.await();
+                    return true;
+                } catch (final InterruptedException e) {
+                    // ignore like a native call
+                }
+            }
+        }
+    }
+
+    /**
+     * Thread submitting a {@link BlockingRequest}.
+     */
+    private static final class BlockingThread extends Thread {
+
+        private final ETComRequestExecutor executor;
+        private final CountDownLatch latch;
+
+        BlockingThread(final ETComRequestExecutor executor, final CountDownLatch latch) {
+            super();
+            this.executor = executor;
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                executor.execute(new BlockingRequest(latch), 10);
+            } catch (final ETComException e) {
+                // noop
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2015-2019 TraceTronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com.sim;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFDatabase;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClientFactory;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComContext;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCache;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComClient;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SimComBackend}.
+ *
+ * @author Christian Pönisch <christian.poenisch@tracetronic.de>
+ */
+public class SimComBackendTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        ETComClientFactory.setBackend(null);
+    }
+
+    @Test
+    public void testSimulatedBackend() throws ETComException {
+        final SimComBackend backend = new SimComBackend(0L, 0L, "SUCCESS", folder.getRoot());
+        ETComClientFactory.setBackend(backend);
+        try (ComClient comClient = ETComClientFactory.newClient("ECU-TEST.Application");
+             ComTestEnvironment testEnv = comClient.getTestEnvironment();
+             ComTestExecutionInfo execInfo = testEnv.executePackage("test.pkg", true, true,
+                 Collections.emptyMap())) {
+            assertEquals(SimComBackend.VERSION, comClient.getVersion());
+            assertEquals("FINISHED", execInfo.getState());
+            assertEquals("SUCCESS", execInfo.getResult());
+            final File reportDb = new File(execInfo.getReportDb());
+            assertTrue(reportDb.exists());
+            assertEquals("test.trf", reportDb.getName());
+            assertTrue(new File(reportDb.getParentFile(), SimExecutionInfo.INFO_LOG_NAME).exists());
+            assertTrue(new File(reportDb.getParentFile(), SimExecutionInfo.ERROR_LOG_NAME).exists());
+        }
+        assertEquals(1, backend.getExecutionCount());
+    }
+
+    @Test
+    public void testReportDb() throws Exception {
+        final SimComBackend backend = new SimComBackend(0L, 0L, "FAILED", folder.getRoot());
+        try (ComClient comClient = backend.createClient(ETComContext.getDefault(), 0);
+             ComTestEnvironment testEnv = comClient.getTestEnvironment();
+             ComTestExecutionInfo execInfo = testEnv.executePackage("test.pkg", true, true,
+                 Collections.emptyMap());
+             TRFDatabase sql = new TRFDatabase(execInfo.getReportDb())) {
+            ResultSet rs = sql.query("SELECT version, result FROM info");
+            assertTrue(rs.next());
+            assertEquals(SimComBackend.VERSION, rs.getString("version"));
+            assertEquals("FAILED", rs.getString("result"));
+            rs = sql.query("SELECT name, result FROM pkg");
+            assertTrue(rs.next());
+            assertEquals("test", rs.getString("name"));
+            assertEquals("FAILED", rs.getString("result"));
+        }
+    }
+
+    @Test
+    public void testAbortExecution() throws ETComException {
+        final SimComBackend backend = new SimComBackend(0L, 60000L, "SUCCESS", folder.getRoot());
+        try (ComClient comClient = backend.createClient(ETComContext.getDefault(), 0);
+             ComTestEnvironment testEnv = comClient.getTestEnvironment()) {
+            final ComTestExecutionInfo execInfo = testEnv.executeProject("test.prj", true, 1);
+            assertEquals("RUNNING", execInfo.getState());
+            assertEquals("NONE", execInfo.getResult());
+            execInfo.abort();
+            assertEquals("ABORTED", testEnv.getTestExecutionInfo().getState());
+            assertEquals("ERROR", execInfo.getResult());
+        }
+    }
+
+    @Test
+    public void testCaches() throws ETComException {
+        final SimComBackend backend = new SimComBackend(0L, 0L, "SUCCESS", folder.getRoot());
+        try (ComClient comClient = backend.createClient(ETComContext.getDefault(), 0)) {
+            final ComCache cache = comClient.getCaches().getCacheByType(CacheType.A2L);
+            cache.insert("test.a2l", "");
+            assertEquals(Collections.singletonList("test.a2l"), comClient.getCaches().getA2lCache().getFiles());
+            cache.clear(true);
+            assertTrue(cache.getFiles().isEmpty());
+        }
+    }
+
+    @Test
+    public void testResolveBackend() {
+        System.setProperty(ETComClientFactory.BACKEND_PROPERTY, ETComClientFactory.SIMULATED_BACKEND);
+        try {
+            ETComClientFactory.setBackend(null);
+            assertTrue(ETComClientFactory.getBackend() instanceof SimComBackend);
+        } finally {
+            System.clearProperty(ETComClientFactory.BACKEND_PROPERTY);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 freeStyleJob("testBuilder") {
     steps {
         testPackage("test.pkg") {
+            incremental(true)
             testConfig {
                 tbcFile("test.tbc")
                 tcfFile("test.tcf")
@@ -61,6 +62,12 @@ freeStyleJob("testBuilder") {
         testFolder("test") {
             scanMode("PACKAGES_ONLY")
             recursiveScan(true)
+            includePattern("regression/**")
+            excludePattern("draft/**")
+            scheduleMode("FAILED_FIRST")
+            incremental(true)
+            shardCount(4)
+            shardIndex(2)
             testConfig {
                 tbcFile("test.tbc")
                 tcfFile("test.tcf")